@@ -17,8 +17,12 @@
 package com.badlogic.gdx.backends.android;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 
 import android.content.res.AssetFileDescriptor;
 import android.content.res.AssetManager;
@@ -165,4 +169,27 @@ public class AndroidFileHandle extends FileHandle {
 	public long lastModified () {
 		return super.lastModified();
 	}
+
+	public ByteBuffer map (FileChannel.MapMode mode) {
+		if (type == FileType.Internal) {
+			FileInputStream input = null;
+			try {
+				AssetFileDescriptor fileDescriptor = assets.openFd(file.getPath());
+				long startOffset = fileDescriptor.getStartOffset();
+				long declaredLength = fileDescriptor.getDeclaredLength();
+				input = fileDescriptor.createInputStream();
+				ByteBuffer map = input.getChannel().map(mode, startOffset, declaredLength);
+				map.order(ByteOrder.nativeOrder());
+				return map;
+			} catch (Exception ex) {
+				throw new GdxRuntimeException("Error memory mapping file: " + this + " (" + type + ")", ex);
+			} finally {
+				try {
+					if (input != null) input.close();
+				} catch (IOException ignored) {
+				}
+			}
+		}
+		return super.map(mode);
+	}
 }
@@ -68,6 +68,7 @@ public class Pixmap implements Disposable {
 	float a;
 	String color = make(r, g, b, a);
 	static Blending blending;
+	static Filter filter = Filter.BiLinear;
 	CanvasPixelArray pixels;
 
 	public Pixmap (FileHandle file) {
@@ -131,6 +132,12 @@ public class Pixmap implements Disposable {
 	 * {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)}.
 	 * @param filter the filter. */
 	public static void setFilter (Filter filter) {
+		Pixmap.filter = filter;
+	}
+
+	/** @return the currently set {@link Filter} */
+	public static Filter getFilter () {
+		return filter;
 	}
 
 	public Format getFormat () {
@@ -32,6 +32,8 @@ import com.badlogic.gdx.math.Polyline;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Base64Coder;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.XmlReader;
 import com.badlogic.gdx.utils.XmlReader.Element;
@@ -55,8 +57,10 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 	protected static final int FLAG_FLIP_DIAGONALLY = 0x20000000;
 	protected static final int MASK_CLEAR = 0xE0000000;
 
-	protected XmlReader xml = new XmlReader();
+	protected XmlReader xml = new TmxReader();
 	protected Element root;
+	/** The tile ids of the layers that were decoded while parsing, by their 'data' element. */
+	protected IdentityMap<Element, int[]> tileIds = new IdentityMap<Element, int[]>();
 	protected boolean yUp;
 
 	protected int mapWidthInPixels;
@@ -93,6 +97,7 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		try {
 			this.yUp = parameters.yUp;
 			FileHandle tmxFile = resolve(fileName);
+			tileIds.clear();
 			root = xml.parse(tmxFile);
 			ObjectMap<String, Texture> textures = new ObjectMap<String, Texture>();
 			for (FileHandle textureFile : loadTilesets(root, tmxFile)) {
@@ -141,6 +146,7 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		Array<AssetDescriptor> dependencies = new Array<AssetDescriptor>();
 		try {
 			FileHandle tmxFile = resolve(fileName);
+			tileIds.clear();
 			root = xml.parse(tmxFile);
 			boolean generateMipMaps = (parameter != null ? parameter.generateMipMaps : false);
 			TextureLoader.TextureParameter texParams = new TextureParameter();
@@ -364,67 +370,24 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 
 			TiledMapTileSets tilesets = map.getTileSets();
 
-			Element data = element.getChildByName("data");
-			String encoding = data.getAttribute("encoding", null);
-			String compression = data.getAttribute("compression", null);
-			if (encoding == null) { // no 'encoding' attribute means that the encoding is XML
-				throw new GdxRuntimeException("Unsupported encoding (XML) for TMX Layer Data");
-			}
-			if (encoding.equals("csv")) {
-				String[] array = data.getText().split(",");
-				for (int y = 0; y < height; y++) {
-					for (int x = 0; x < width; x++) {
-						int id = (int)Long.parseLong(array[y * width + x].trim());
-
-						final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-						final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-						final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-						id = id & ~MASK_CLEAR;
-
-						tilesets.getTile(id);
-						TiledMapTile tile = tilesets.getTile(id);
-						if (tile != null) {
-							Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-							cell.setTile(tile);
-							layer.setCell(x, yUp ? height - 1 - y : y, cell);
-						}
-					}
-				}
-			} else {
-				if (encoding.equals("base64")) {
-					byte[] bytes = Base64Coder.decode(data.getText());
-					if (compression == null) {
-						int read = 0;
-						for (int y = 0; y < height; y++) {
-							for (int x = 0; x < width; x++) {
-
-								int id = unsignedByteToInt(bytes[read++]) | unsignedByteToInt(bytes[read++]) << 8
-									| unsignedByteToInt(bytes[read++]) << 16 | unsignedByteToInt(bytes[read++]) << 24;
-
-								final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-								final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-								final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-								id = id & ~MASK_CLEAR;
-
-								tilesets.getTile(id);
-								TiledMapTile tile = tilesets.getTile(id);
-								if (tile != null) {
-									Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-									cell.setTile(tile);
-									layer.setCell(x, yUp ? height - 1 - y : y, cell);
-								}
-							}
-						}
-					} else if (compression.equals("gzip")) {
-						throw new GdxRuntimeException("GZIP compression not supported in GWT backend");
-					} else if (compression.equals("zlib")) {
-						throw new GdxRuntimeException("ZLIB compression not supported in GWT backend");
+			int[] ids = getTileIds(element.getChildByName("data"));
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int index = y * width + x;
+					int id = index < ids.length ? ids[index] : 0;
+
+					final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
+					final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
+					final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
+
+					id = id & ~MASK_CLEAR;
+
+					TiledMapTile tile = tilesets.getTile(id);
+					if (tile != null) {
+						Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
+						cell.setTile(tile);
+						layer.setCell(x, yUp ? height - 1 - y : y, cell);
 					}
-				} else {
-					// any other value of 'encoding' is one we're not aware of, probably a feature of a future version of Tiled
-					throw new GdxRuntimeException("Unrecognised encoding (" + encoding + ") for TMX Layer Data");
 				}
 			}
 			Element properties = element.getChildByName("properties");
@@ -435,6 +398,64 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		}
 	}
 
+	/** Returns the global tile ids of a layer, with the flip flags, row by row.
+	 * @param data the 'data' element of the layer */
+	protected int[] getTileIds (Element data) {
+		int[] ids = tileIds.get(data);
+		if (ids != null) return ids;
+		// Not parsed by the TmxReader.
+		IntArray result = new IntArray();
+		String encoding = data.getAttribute("encoding", null);
+		if (encoding == null) { // no 'encoding' attribute means that the encoding is XML
+			for (Element tile : data.getChildrenByName("tile"))
+				result.add((int)Long.parseLong(tile.getAttribute("gid")));
+		} else if (data.getText() != null) {
+			decodeTileIds(encoding, data.getAttribute("compression", null), data.getText(), result);
+		}
+		return result.toArray();
+	}
+
+	/** Adds the tile ids of the text of a layer with CSV or base64 encoding. */
+	static protected void decodeTileIds (String encoding, String compression, String text, IntArray ids) {
+		if (encoding.equals("csv")) {
+			long id = 0;
+			boolean digits = false;
+			for (int i = 0, n = text.length(); i < n; i++) {
+				char c = text.charAt(i);
+				if (c >= '0' && c <= '9') {
+					id = id * 10 + (c - '0');
+					digits = true;
+				} else if (c == ',') {
+					ids.add((int)id);
+					id = 0;
+					digits = false;
+				} else if (c > ' ') {
+					throw new GdxRuntimeException("Invalid character in CSV TMX Layer Data: " + c);
+				}
+			}
+			if (digits) ids.add((int)id);
+		} else if (encoding.equals("base64")) {
+			byte[] bytes = Base64Coder.decode(text.trim());
+			if (compression == null) {
+				ids.ensureCapacity(bytes.length / 4);
+				for (int i = 0; i + 3 < bytes.length; i += 4)
+					ids.add(toTileId(bytes, i));
+			} else if (compression.equals("gzip")) {
+				throw new GdxRuntimeException("GZIP compression not supported in GWT backend");
+			} else if (compression.equals("zlib")) {
+				throw new GdxRuntimeException("ZLIB compression not supported in GWT backend");
+			}
+		} else {
+			// any other value of 'encoding' is one we're not aware of, probably a feature of a future version of Tiled
+			throw new GdxRuntimeException("Unrecognised encoding (" + encoding + ") for TMX Layer Data");
+		}
+	}
+
+	static private int toTileId (byte[] bytes, int offset) {
+		return unsignedByteToInt(bytes[offset]) | unsignedByteToInt(bytes[offset + 1]) << 8
+			| unsignedByteToInt(bytes[offset + 2]) << 16 | unsignedByteToInt(bytes[offset + 3]) << 24;
+	}
+
 	protected void loadObjectGroup (TiledMap map, Element element) {
 		if (element.getName().equals("objectgroup")) {
 			String name = element.getAttribute("name", null);
@@ -572,4 +593,67 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		return (int)b & 0xFF;
 	}
 
+	/** Builds the elements of a TMX file, except for the tiles of the layers. The tile ids are decoded as the 'data' elements
+	 * are parsed, without an element for each tile with XML encoding and without splitting the text with CSV encoding. */
+	protected class TmxReader extends XmlReader {
+		private Element data;
+		private IntArray ids;
+		private int depth;
+
+		@Override
+		protected void open (String name) {
+			if (data != null) {
+				depth++;
+				return;
+			}
+			Element parent = getCurrentElement();
+			super.open(name);
+			if (name.equals("data")) {
+				data = getCurrentElement();
+				// The size of the layer, its attributes are parsed before its children.
+				ids = new IntArray(parent == null ? 16 : Math.max(16, parent.getIntAttribute("width", 0)
+					* parent.getIntAttribute("height", 0)));
+			}
+		}
+
+		@Override
+		protected void attribute (String name, String value) {
+			if (data == null || depth == 0)
+				super.attribute(name, value);
+			else if (depth == 1 && name.equals("gid")) //
+				ids.add((int)Long.parseLong(value));
+		}
+
+		@Override
+		protected void text (String text) {
+			if (data == null)
+				super.text(text);
+			else if (depth == 0) {
+				if ("csv".equals(data.getAttribute("encoding", null)))
+					decodeTileIds("csv", null, text, ids);
+				else
+					super.text(text);
+			}
+		}
+
+		@Override
+		protected void close () {
+			if (data != null) {
+				if (depth > 0) {
+					depth--;
+					return;
+				}
+				String text = data.getText();
+				if (text != null) {
+					decodeTileIds(data.getAttribute("encoding", null), data.getAttribute("compression", null), text, ids);
+					data.setText(null);
+				}
+				tileIds.put(data, ids.size == ids.items.length ? ids.items : ids.toArray());
+				data = null;
+				ids = null;
+			}
+			super.close();
+		}
+	}
+
 }
@@ -21,7 +21,7 @@ import java.io.Writer;
 
 /** Builder style API for emitting JSON.
  * @author Nathan Sweet */
-public class JsonWriter extends Writer {
+public class JsonWriter extends Writer implements BaseJsonWriter {
 	final Writer writer;
 	private final Array<JsonObject> stack = new Array();
 	private JsonObject current;
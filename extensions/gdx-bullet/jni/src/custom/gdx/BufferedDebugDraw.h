@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+#ifndef BufferedDebugDraw_H
+#define BufferedDebugDraw_H
+
+#include <string.h>
+
+/** Debug drawer that collects the lines drawn by Bullet in native memory, instead of calling back into Java for each line.
+ * Each vertex is 4 floats: the position and the color packed like Color#toFloatBits, so the vertices of a frame can be
+ * copied to a mesh with lines as primitive type at once. When culling is enabled, lines that don't overlap the culling
+ * box are skipped. */
+class BufferedDebugDraw : public btIDebugDraw {
+#ifndef SWIG
+	btAlignedObjectArray<float> vertices;
+	btVector3 cullingMin;
+	btVector3 cullingMax;
+	bool culling;
+	int debugMode;
+
+	void addVertex(const btVector3 &position, const float color) {
+		// push_back doubles the capacity, resize would reallocate to the exact size every time.
+		vertices.push_back(position.x());
+		vertices.push_back(position.y());
+		vertices.push_back(position.z());
+		vertices.push_back(color);
+	}
+
+	static float packColor(const btVector3 &color) {
+		const int r = (int)(255 * btMin(btMax(color.x(), btScalar(0)), btScalar(1)));
+		const int g = (int)(255 * btMin(btMax(color.y(), btScalar(0)), btScalar(1)));
+		const int b = (int)(255 * btMin(btMax(color.z(), btScalar(0)), btScalar(1)));
+		// Opaque, with the lowest bit of alpha cleared to avoid NaN, like NumberUtils#intToFloatColor.
+		const unsigned int bits = (0xfeu << 24) | (b << 16) | (g << 8) | r;
+		float result;
+		memcpy(&result, &bits, sizeof(float));
+		return result;
+	}
+#endif // SWIG
+public:
+	BufferedDebugDraw() : culling(false), debugMode(0) {}
+
+#ifndef SWIG
+	virtual void drawLine(const btVector3 &from, const btVector3 &to, const btVector3 &color) {
+		drawLine(from, to, color, color);
+	}
+
+	virtual void drawLine(const btVector3 &from, const btVector3 &to, const btVector3 &fromColor, const btVector3 &toColor) {
+		if (culling) {
+			btVector3 min = from, max = from;
+			min.setMin(to);
+			max.setMax(to);
+			if (!TestAabbAgainstAabb2(min, max, cullingMin, cullingMax))
+				return;
+		}
+		addVertex(from, packColor(fromColor));
+		addVertex(to, packColor(toColor));
+	}
+
+	/** Draws a line of unit length along the normal, like the Bullet demos do. */
+	virtual void drawContactPoint(const btVector3 &PointOnB, const btVector3 &normalOnB, btScalar distance, int lifeTime, const btVector3 &color) {
+		drawLine(PointOnB, PointOnB + normalOnB, color);
+	}
+
+	virtual void reportErrorWarning(const char *warningString) {}
+
+	virtual void draw3dText(const btVector3 &location, const char *textString) {}
+
+	virtual void setDebugMode(int debugMode) {
+		this->debugMode = debugMode;
+	}
+
+	virtual int getDebugMode() const {
+		return debugMode;
+	}
+#endif // SWIG
+
+	/** Only keeps the lines that overlap the box, for example the bounds of the camera frustum. */
+	void setCulling(const btVector3 &min, const btVector3 &max) {
+		cullingMin = min;
+		cullingMax = max;
+		culling = true;
+	}
+
+	void disableCulling() {
+		culling = false;
+	}
+
+	bool isCulling() const {
+		return culling;
+	}
+
+	/** Removes the vertices, call this before each btCollisionWorld::debugDrawWorld. */
+	void clear() {
+		vertices.resize(0);
+	}
+
+	/** @return The number of vertices drawn since the last clear, two per line. */
+	int getNumVertices() const {
+		return vertices.size() / 4;
+	}
+
+	/** Copies at most count vertices, starting at the vertex offset, 4 floats per vertex.
+	 * @return The number of vertices copied. */
+	int getVertices(float *buffer, int offset, int count) const {
+		count = btMin(count, getNumVertices() - offset);
+		if (count <= 0)
+			return 0;
+		memcpy(buffer, &vertices[offset * 4], count * 4 * sizeof(float));
+		return count;
+	}
+};
+
+#endif // BufferedDebugDraw_H
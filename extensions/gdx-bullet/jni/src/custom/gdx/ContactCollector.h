@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+#ifndef ContactCollector_H
+#define ContactCollector_H
+
+#ifndef SWIG
+/** The contact points of a pair of collision objects, ordered by their addresses. */
+struct GdxContactPair {
+	const btCollisionObject *object0;
+	const btCollisionObject *object1;
+	int type;
+	int userValue0;
+	int userValue1;
+	int flags;
+	int points;
+	btVector3 position;
+	btVector3 normal;
+	btScalar impulse;
+	btScalar distance;
+};
+
+inline bool gdxContactPairLess(const GdxContactPair &a, const GdxContactPair &b) {
+	return a.object0 < b.object0 || (a.object0 == b.object0 && a.object1 < b.object1);
+}
+
+class GdxContactPairPredicate {
+public:
+	bool operator() (const GdxContactPair &a, const GdxContactPair &b) const {
+		return gdxContactPairLess(a, b);
+	}
+};
+#endif // SWIG
+
+/** Collects the contacts between collision objects after a step, without calling back into Java per contact point. Each
+ * pair of objects in contact is reported once per update: as begun, persisted or ended compared to the previous update.
+ * Pairs are only reported if the contact callback filter of one object matches the flag of the other, see
+ * gdxCheckFilter. */
+class ContactCollector {
+#ifndef SWIG
+	btAlignedObjectArray<GdxContactPair> pairs[2];
+	btAlignedObjectArray<GdxContactPair> events;
+	int current;
+
+	void addEvent(const GdxContactPair &pair, int type) {
+		GdxContactPair &event = events.expand();
+		event = pair;
+		event.type = type;
+	}
+#endif // SWIG
+public:
+	ContactCollector() : current(0) {}
+
+	/** Compares the contacts in the world with those of the previous update.
+	 * @return The number of events, which can be retrieved with getEvents. */
+	int update(btCollisionWorld *world) {
+		const btAlignedObjectArray<GdxContactPair> &previous = pairs[current];
+		current = 1 - current;
+		btAlignedObjectArray<GdxContactPair> &found = pairs[current];
+		found.resize(0);
+
+		btDispatcher *dispatcher = world->getDispatcher();
+		const int n = dispatcher->getNumManifolds();
+		for (int i = 0; i < n; i++) {
+			btPersistentManifold *manifold = dispatcher->getManifoldByIndexInternal(i);
+			const int points = manifold->getNumContacts();
+			if (points == 0)
+				continue;
+			const btCollisionObject *object0 = manifold->getBody0();
+			const btCollisionObject *object1 = manifold->getBody1();
+			// The normal points from object 1 to object 0, swapped along with the objects.
+			const btScalar sign = object1 < object0 ? -1 : 1;
+			if (sign < 0)
+				btSwap(object0, object1);
+			const bool match0 = gdxCheckFilter(object0, object1);
+			const bool match1 = gdxCheckFilter(object1, object0);
+			if (!match0 && !match1)
+				continue;
+
+			GdxContactPair &pair = found.expand();
+			pair.object0 = object0;
+			pair.object1 = object1;
+			pair.userValue0 = ((GdxCollisionObjectBridge*)object0->getUserPointer())->userValue;
+			pair.userValue1 = ((GdxCollisionObjectBridge*)object1->getUserPointer())->userValue;
+			pair.flags = (match0 ? 1 : 0) | (match1 ? 2 : 0);
+			pair.points = points;
+			pair.position.setZero();
+			pair.impulse = 0;
+			pair.distance = BT_LARGE_FLOAT;
+			for (int j = 0; j < points; j++) {
+				const btManifoldPoint &point = manifold->getContactPoint(j);
+				pair.position += point.getPositionWorldOnB();
+				pair.impulse += point.getAppliedImpulse();
+				if (point.getDistance() < pair.distance) {
+					pair.distance = point.getDistance();
+					pair.normal = point.m_normalWorldOnB * sign;
+				}
+			}
+			pair.position /= btScalar(points);
+		}
+
+		// Objects with compound shapes have a manifold per child shape, merge them into one pair.
+		found.quickSort(GdxContactPairPredicate());
+		int count = 0;
+		for (int i = 0; i < found.size(); i++) {
+			const GdxContactPair &pair = found[i];
+			if (count > 0 && !gdxContactPairLess(found[count - 1], pair)) {
+				GdxContactPair &merged = found[count - 1];
+				merged.position = (merged.position * btScalar(merged.points) + pair.position * btScalar(pair.points))
+					/ btScalar(merged.points + pair.points);
+				merged.points += pair.points;
+				merged.impulse += pair.impulse;
+				if (pair.distance < merged.distance) {
+					merged.distance = pair.distance;
+					merged.normal = pair.normal;
+				}
+			} else
+				found[count++] = pair;
+		}
+		found.resize(count);
+
+		// Both arrays are sorted, so the pairs that began, persisted and ended are found by merging them.
+		events.resize(0);
+		const int previousCount = previous.size();
+		int i = 0, j = 0;
+		while (i < count || j < previousCount) {
+			if (j == previousCount || (i < count && gdxContactPairLess(found[i], previous[j])))
+				addEvent(found[i++], 0);
+			else if (i == count || gdxContactPairLess(previous[j], found[i]))
+				addEvent(previous[j++], 2);
+			else {
+				addEvent(found[i++], 1);
+				j++;
+			}
+		}
+		return events.size();
+	}
+
+	/** Copies events of the last update, 5 ints per event: type (0 begun, 1 persisted, 2 ended), user value 0, user value 1,
+	 * filter flags (1 if the filter of object 0 matches, 2 if the filter of object 1 matches) and number of contact points.
+	 * And 8 floats per event: average contact position, normal of the deepest point pointing towards object 0, sum of the
+	 * applied impulses and distance of the deepest point. Ended events have the values of the update before. */
+	void getEvents(int *ints, float *floats, int offset, int count) {
+		for (int i = 0; i < count; i++) {
+			const GdxContactPair &event = events[offset + i];
+			int *eventInts = &ints[i * 5];
+			eventInts[0] = event.type;
+			eventInts[1] = event.userValue0;
+			eventInts[2] = event.userValue1;
+			eventInts[3] = event.flags;
+			eventInts[4] = event.points;
+			float *eventFloats = &floats[i * 8];
+			eventFloats[0] = event.position.x();
+			eventFloats[1] = event.position.y();
+			eventFloats[2] = event.position.z();
+			eventFloats[3] = event.normal.x();
+			eventFloats[4] = event.normal.y();
+			eventFloats[5] = event.normal.z();
+			eventFloats[6] = event.impulse;
+			eventFloats[7] = event.distance;
+		}
+	}
+};
+
+#endif // ContactCollector_H
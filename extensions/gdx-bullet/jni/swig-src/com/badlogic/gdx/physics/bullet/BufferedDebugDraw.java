@@ -0,0 +1,89 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 2.0.10
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package com.badlogic.gdx.physics.bullet;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Matrix3;
+import com.badlogic.gdx.math.Matrix4;
+
+public class BufferedDebugDraw extends btIDebugDraw {
+  private long swigCPtr;
+
+  protected BufferedDebugDraw(long cPtr, boolean cMemoryOwn) {
+    super(gdxBulletJNI.BufferedDebugDraw_SWIGUpcast(cPtr), cMemoryOwn);
+    swigCPtr = cPtr;
+  }
+
+  public static long getCPtr(BufferedDebugDraw obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        gdxBulletJNI.delete_BufferedDebugDraw(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+    super.delete();
+  }
+
+	/** The number of floats per vertex: the position and the color packed like {@link com.badlogic.gdx.graphics.Color#toFloatBits()}. */
+	public final static int VERTEX_SIZE = 4;
+
+	/** Copies the lines drawn since the last {@link #clear()} to the vertices of the mesh, with a single native call. The mesh
+	 * needs a {@link com.badlogic.gdx.graphics.VertexAttributes.Usage#Position} attribute with 3 components followed by a
+	 * {@link com.badlogic.gdx.graphics.VertexAttributes.Usage#ColorPacked} attribute. Lines that don't fit are dropped.
+	 * @return The number of vertices copied, to render as {@link com.badlogic.gdx.graphics.GL10#GL_LINES}. */
+	public int copyTo(final com.badlogic.gdx.graphics.Mesh mesh) {
+		final java.nio.FloatBuffer buffer = mesh.getVerticesBuffer();
+		final int count = getVertices(buffer, 0, buffer.capacity() / VERTEX_SIZE);
+		buffer.position(0);
+		buffer.limit(count * VERTEX_SIZE);
+		return count;
+	}
+
+  public BufferedDebugDraw() {
+    this(gdxBulletJNI.new_BufferedDebugDraw(), true);
+  }
+
+  public void setCulling(Vector3 min, Vector3 max) {
+    gdxBulletJNI.BufferedDebugDraw_setCulling(swigCPtr, this, min, max);
+  }
+
+  public void disableCulling() {
+    gdxBulletJNI.BufferedDebugDraw_disableCulling(swigCPtr, this);
+  }
+
+  public boolean isCulling() {
+    return gdxBulletJNI.BufferedDebugDraw_isCulling(swigCPtr, this);
+  }
+
+  public void clear() {
+    gdxBulletJNI.BufferedDebugDraw_clear(swigCPtr, this);
+  }
+
+  public int getNumVertices() {
+    return gdxBulletJNI.BufferedDebugDraw_getNumVertices(swigCPtr, this);
+  }
+
+  public int getVertices(java.nio.FloatBuffer buffer, int offset, int count) {
+    assert buffer.isDirect() : "Buffer must be allocated direct.";
+    {
+      return gdxBulletJNI.BufferedDebugDraw_getVertices(swigCPtr, this, buffer, offset, count);
+    }
+  }
+
+}
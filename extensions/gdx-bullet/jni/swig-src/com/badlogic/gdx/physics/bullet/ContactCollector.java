@@ -0,0 +1,143 @@
+/* ----------------------------------------------------------------------------
+ * This file was automatically generated by SWIG (http://www.swig.org).
+ * Version 2.0.10
+ *
+ * Do not make changes to this file unless you know what you are doing--modify
+ * the SWIG interface file instead.
+ * ----------------------------------------------------------------------------- */
+
+package com.badlogic.gdx.physics.bullet;
+
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.Quaternion;
+import com.badlogic.gdx.math.Matrix3;
+import com.badlogic.gdx.math.Matrix4;
+
+public class ContactCollector {
+  private long swigCPtr;
+  protected boolean swigCMemOwn;
+
+  protected ContactCollector(long cPtr, boolean cMemoryOwn) {
+    swigCMemOwn = cMemoryOwn;
+    swigCPtr = cPtr;
+  }
+
+  public static long getCPtr(ContactCollector obj) {
+    return (obj == null) ? 0 : obj.swigCPtr;
+  }
+
+  protected void finalize() {
+    delete();
+  }
+
+  public synchronized void delete() {
+    if (swigCPtr != 0) {
+      if (swigCMemOwn) {
+        swigCMemOwn = false;
+        gdxBulletJNI.delete_ContactCollector(swigCPtr);
+      }
+      swigCPtr = 0;
+    }
+  }
+
+	/** Event types, see {@link #getType(int)}. */
+	public final static int BEGIN = 0, PERSIST = 1, END = 2;
+	private final static int INTS = 5, FLOATS = 8;
+
+	private java.nio.IntBuffer ints;
+	private java.nio.FloatBuffer floats;
+	private int capacity, size;
+
+	/** Finds the pairs of collision objects in contact and compares them with the previous call. Call this once after each
+	 * {@link btDynamicsWorld#stepSimulation(float, int, float)}. A pair is only reported if the contact callback filter of one
+	 * object matches the contact callback flag of the other, see {@link btCollisionObject#setContactCallbackFilter(int)}.
+	 * @return The number of events, one for each pair that began, persisted or ended contact. */
+	public int collect(final btCollisionWorld world) {
+		size = update(world);
+		if (size > capacity) {
+			capacity = Math.max(size, capacity * 2);
+			ints = com.badlogic.gdx.utils.BufferUtils.newIntBuffer(capacity * INTS);
+			floats = com.badlogic.gdx.utils.BufferUtils.newFloatBuffer(capacity * FLOATS);
+		}
+		if (size > 0)
+			getEvents(ints, floats, 0, size);
+		return size;
+	}
+
+	/** @return The number of events of the last {@link #collect(btCollisionWorld)}. */
+	public int size() {
+		return size;
+	}
+
+	/** @return {@link #BEGIN} if the objects were not in contact before, {@link #PERSIST} if they were, or {@link #END} if they
+	 * are not in contact anymore. Ended events have the values of the previous call. */
+	public int getType(final int index) {
+		return ints.get(index * INTS);
+	}
+
+	/** @return The user value of the first object, see {@link btCollisionObject#setUserValue(int)}. */
+	public int getUserValue0(final int index) {
+		return ints.get(index * INTS + 1);
+	}
+
+	/** @return The user value of the second object, see {@link btCollisionObject#setUserValue(int)}. */
+	public int getUserValue1(final int index) {
+		return ints.get(index * INTS + 2);
+	}
+
+	/** @return Whether the contact callback filter of the first object matches the flag of the second object. */
+	public boolean getMatch0(final int index) {
+		return (ints.get(index * INTS + 3) & 1) != 0;
+	}
+
+	/** @return Whether the contact callback filter of the second object matches the flag of the first object. */
+	public boolean getMatch1(final int index) {
+		return (ints.get(index * INTS + 3) & 2) != 0;
+	}
+
+	/** @return The number of contact points between the objects. */
+	public int getNumPoints(final int index) {
+		return ints.get(index * INTS + 4);
+	}
+
+	/** @param out Set to the average world position of the contact points.
+	 * @return The out vector. */
+	public Vector3 getPosition(final int index, final Vector3 out) {
+		final int offset = index * FLOATS;
+		return out.set(floats.get(offset), floats.get(offset + 1), floats.get(offset + 2));
+	}
+
+	/** @param out Set to the normal of the deepest contact point, pointing towards the first object.
+	 * @return The out vector. */
+	public Vector3 getNormal(final int index, final Vector3 out) {
+		final int offset = index * FLOATS + 3;
+		return out.set(floats.get(offset), floats.get(offset + 1), floats.get(offset + 2));
+	}
+
+	/** @return The sum of the impulses applied at the contact points during the last step. */
+	public float getImpulse(final int index) {
+		return floats.get(index * FLOATS + 6);
+	}
+
+	/** @return The distance of the deepest contact point, negative when the objects penetrate. */
+	public float getDistance(final int index) {
+		return floats.get(index * FLOATS + 7);
+	}
+
+  public ContactCollector() {
+    this(gdxBulletJNI.new_ContactCollector(), true);
+  }
+
+  public int update(btCollisionWorld world) {
+    return gdxBulletJNI.ContactCollector_update(swigCPtr, this, btCollisionWorld.getCPtr(world), world);
+  }
+
+  public void getEvents(java.nio.IntBuffer ints, java.nio.FloatBuffer floats, int offset, int count) {
+    assert ints.isDirect() : "Buffer must be allocated direct.";
+    assert floats.isDirect() : "Buffer must be allocated direct.";
+    {
+      gdxBulletJNI.ContactCollector_getEvents(swigCPtr, this, ints, floats, offset, count);
+    }
+  }
+
+}
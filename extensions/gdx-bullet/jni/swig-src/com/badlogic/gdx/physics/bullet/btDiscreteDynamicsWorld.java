@@ -135,4 +135,12 @@ public class btDiscreteDynamicsWorld extends btDynamicsWorld {
     return gdxBulletJNI.btDiscreteDynamicsWorld_getApplySpeculativeContactRestitution(swigCPtr, this);
   }
 
+  public int getRigidBodyTransforms(java.nio.FloatBuffer transforms, java.nio.IntBuffer info, int max, boolean activeOnly) {
+    assert transforms.isDirect() : "Buffer must be allocated direct.";
+    assert info.isDirect() : "Buffer must be allocated direct.";
+    {
+      return gdxBulletJNI.btDiscreteDynamicsWorld_getRigidBodyTransforms(swigCPtr, this, transforms, info, max, activeOnly);
+    }
+  }
+
 }
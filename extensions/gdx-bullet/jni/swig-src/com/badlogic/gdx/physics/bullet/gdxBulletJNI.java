@@ -2564,6 +2564,18 @@ public class gdxBulletJNI {
   public final static native boolean ContactDestroyedListener_isEnabled(long jarg1, ContactDestroyedListener jarg1_);
   public final static native void ContactDestroyedListener_director_connect(ContactDestroyedListener obj, long cptr, boolean mem_own, boolean weak_global);
   public final static native void ContactDestroyedListener_change_ownership(ContactDestroyedListener obj, long cptr, boolean take_or_release);
+  public final static native long new_ContactCollector();
+  public final static native int ContactCollector_update(long jarg1, ContactCollector jarg1_, long jarg2, btCollisionWorld jarg2_);
+  public final static native void ContactCollector_getEvents(long jarg1, ContactCollector jarg1_, java.nio.IntBuffer jarg2, java.nio.FloatBuffer jarg3, int jarg4, int jarg5);
+  public final static native void delete_ContactCollector(long jarg1);
+  public final static native long new_BufferedDebugDraw();
+  public final static native void BufferedDebugDraw_setCulling(long jarg1, BufferedDebugDraw jarg1_, Vector3 jarg2, Vector3 jarg3);
+  public final static native void BufferedDebugDraw_disableCulling(long jarg1, BufferedDebugDraw jarg1_);
+  public final static native boolean BufferedDebugDraw_isCulling(long jarg1, BufferedDebugDraw jarg1_);
+  public final static native void BufferedDebugDraw_clear(long jarg1, BufferedDebugDraw jarg1_);
+  public final static native int BufferedDebugDraw_getNumVertices(long jarg1, BufferedDebugDraw jarg1_);
+  public final static native int BufferedDebugDraw_getVertices(long jarg1, BufferedDebugDraw jarg1_, java.nio.FloatBuffer jarg2, int jarg3, int jarg4);
+  public final static native void delete_BufferedDebugDraw(long jarg1);
   public final static native long new_btCollisionObjectArray__SWIG_0();
   public final static native void delete_btCollisionObjectArray(long jarg1);
   public final static native long new_btCollisionObjectArray__SWIG_1(long jarg1, btCollisionObjectArray jarg1_);
@@ -3029,6 +3041,7 @@ public class gdxBulletJNI {
   public final static native boolean btDiscreteDynamicsWorld_getSynchronizeAllMotionStates(long jarg1, btDiscreteDynamicsWorld jarg1_);
   public final static native void btDiscreteDynamicsWorld_setApplySpeculativeContactRestitution(long jarg1, btDiscreteDynamicsWorld jarg1_, boolean jarg2);
   public final static native boolean btDiscreteDynamicsWorld_getApplySpeculativeContactRestitution(long jarg1, btDiscreteDynamicsWorld jarg1_);
+  public final static native int btDiscreteDynamicsWorld_getRigidBodyTransforms(long jarg1, btDiscreteDynamicsWorld jarg1_, java.nio.FloatBuffer jarg2, java.nio.IntBuffer jarg3, int jarg4, boolean jarg5);
   public final static native void delete_btCharacterControllerInterface(long jarg1);
   public final static native void btCharacterControllerInterface_setWalkDirection(long jarg1, btCharacterControllerInterface jarg1_, Vector3 jarg2);
   public final static native void btCharacterControllerInterface_setVelocityForTimeInterval(long jarg1, btCharacterControllerInterface jarg1_, Vector3 jarg2, float jarg3);
@@ -4917,6 +4930,7 @@ public class gdxBulletJNI {
   public final static native long btTriangleConvexcastCallback_SWIGUpcast(long jarg1);
   public final static native long btGjkEpaPenetrationDepthSolver_SWIGUpcast(long jarg1);
   public final static native long btMultiSphereShape_SWIGUpcast(long jarg1);
+  public final static native long BufferedDebugDraw_SWIGUpcast(long jarg1);
   public final static native long btRigidBody_SWIGUpcast(long jarg1);
   public final static native long btTypedConstraint_SWIGUpcast(long jarg1);
   public final static native long btDynamicsWorld_SWIGUpcast(long jarg1);
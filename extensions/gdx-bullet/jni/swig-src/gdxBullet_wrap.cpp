@@ -2016,6 +2016,12 @@ SWIGINTERN void btManifoldPoint_setUserValue(btManifoldPoint *self,int value){
 #include <gdx/ContactDestroyedListener.h>
 
 
+#include <gdx/ContactCollector.h>
+
+
+#include <gdx/BufferedDebugDraw.h>
+
+
 	// Inline (cached) method to retrieve the type's jclass
 	SWIGINTERN inline jclass gdx_getClassbtManifoldPoint(JNIEnv * jenv) {
 		static jclass cls = NULL;
@@ -2178,6 +2184,24 @@ typedef btTypedConstraint::btConstraintInfo2 btConstraintInfo2;
 
 #include <BulletDynamics/Dynamics/btDiscreteDynamicsWorld.h>
 
+SWIGINTERN int btDiscreteDynamicsWorld_getRigidBodyTransforms(btDiscreteDynamicsWorld *self,float *transforms,int *info,int max,bool activeOnly){
+		const btCollisionObjectArray &objects = self->getCollisionObjectArray();
+		const int n = objects.size();
+		int count = 0;
+		for (int i = 0; i < n && count < max; i++) {
+			btRigidBody *body = btRigidBody::upcast(objects[i]);
+			if (body == NULL || body->isStaticObject())
+				continue;
+			const bool active = body->isActive();
+			if (activeOnly && !active)
+				continue;
+			body->getWorldTransform().getOpenGLMatrix(&transforms[count * 16]);
+			info[count * 2] = ((GdxCollisionObjectBridge*)body->getUserPointer())->userValue;
+			info[count * 2 + 1] = active ? 1 : 0;
+			count++;
+		}
+		return count;
+	}
 
 #include <BulletDynamics/Character/btCharacterControllerInterface.h>
 
@@ -46998,6 +47022,199 @@ SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_Contac
 }
 
 
+SWIGEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_new_1ContactCollector(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  ContactCollector *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (ContactCollector *)new ContactCollector();
+  *(ContactCollector **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_ContactCollector_1update(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jlong jarg2, jobject jarg2_) {
+  jint jresult = 0 ;
+  ContactCollector *arg1 = (ContactCollector *) 0 ;
+  btCollisionWorld *arg2 = (btCollisionWorld *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  (void)jarg2_;
+  arg1 = *(ContactCollector **)&jarg1; 
+  arg2 = *(btCollisionWorld **)&jarg2; 
+  result = (int)(arg1)->update(arg2);
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_ContactCollector_1getEvents(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jobject jarg3, jint jarg4, jint jarg5) {
+  ContactCollector *arg1 = (ContactCollector *) 0 ;
+  int *arg2 = (int *) 0 ;
+  float *arg3 = (float *) 0 ;
+  int arg4 ;
+  int arg5 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(ContactCollector **)&jarg1; 
+  {
+    arg2 = (int*)jenv->GetDirectBufferAddress(jarg2);
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg3 = (float*)jenv->GetDirectBufferAddress(jarg3);
+    if (arg3 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  arg4 = (int)jarg4; 
+  arg5 = (int)jarg5; 
+  (arg1)->getEvents(arg2,arg3,arg4,arg5);
+  
+  
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_delete_1ContactCollector(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  ContactCollector *arg1 = (ContactCollector *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(ContactCollector **)&jarg1; 
+  delete arg1;
+}
+
+
+SWIGEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_new_1BufferedDebugDraw(JNIEnv *jenv, jclass jcls) {
+  jlong jresult = 0 ;
+  BufferedDebugDraw *result = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  result = (BufferedDebugDraw *)new BufferedDebugDraw();
+  *(BufferedDebugDraw **)&jresult = result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_BufferedDebugDraw_1setCulling(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jobject jarg3) {
+  BufferedDebugDraw *arg1 = (BufferedDebugDraw *) 0 ;
+  btVector3 *arg2 = 0 ;
+  btVector3 *arg3 = 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(BufferedDebugDraw **)&jarg1; 
+  btVector3 local_arg2;
+  gdx_setbtVector3FromVector3(jenv, local_arg2, jarg2);
+  arg2 = &local_arg2;
+  gdxAutoCommitVector3 auto_commit_arg2(jenv, jarg2, &local_arg2);
+  btVector3 local_arg3;
+  gdx_setbtVector3FromVector3(jenv, local_arg3, jarg3);
+  arg3 = &local_arg3;
+  gdxAutoCommitVector3 auto_commit_arg3(jenv, jarg3, &local_arg3);
+  (arg1)->setCulling((btVector3 const &)*arg2,(btVector3 const &)*arg3);
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_BufferedDebugDraw_1disableCulling(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  BufferedDebugDraw *arg1 = (BufferedDebugDraw *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(BufferedDebugDraw **)&jarg1; 
+  (arg1)->disableCulling();
+}
+
+
+SWIGEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_BufferedDebugDraw_1isCulling(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jboolean jresult = 0 ;
+  BufferedDebugDraw *arg1 = (BufferedDebugDraw *) 0 ;
+  bool result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(BufferedDebugDraw **)&jarg1; 
+  result = (bool)((BufferedDebugDraw const *)arg1)->isCulling();
+  jresult = (jboolean)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_BufferedDebugDraw_1clear(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  BufferedDebugDraw *arg1 = (BufferedDebugDraw *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(BufferedDebugDraw **)&jarg1; 
+  (arg1)->clear();
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_BufferedDebugDraw_1getNumVertices(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_) {
+  jint jresult = 0 ;
+  BufferedDebugDraw *arg1 = (BufferedDebugDraw *) 0 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(BufferedDebugDraw **)&jarg1; 
+  result = (int)((BufferedDebugDraw const *)arg1)->getNumVertices();
+  jresult = (jint)result; 
+  return jresult;
+}
+
+
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_BufferedDebugDraw_1getVertices(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jint jarg3, jint jarg4) {
+  jint jresult = 0 ;
+  BufferedDebugDraw *arg1 = (BufferedDebugDraw *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int arg3 ;
+  int arg4 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(BufferedDebugDraw **)&jarg1; 
+  {
+    arg2 = (float*)jenv->GetDirectBufferAddress(jarg2);
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  arg3 = (int)jarg3; 
+  arg4 = (int)jarg4; 
+  result = (int)((BufferedDebugDraw const *)arg1)->getVertices(arg2,arg3,arg4);
+  jresult = (jint)result; 
+  
+  return jresult;
+}
+
+
+SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_delete_1BufferedDebugDraw(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+  BufferedDebugDraw *arg1 = (BufferedDebugDraw *) 0 ;
+  
+  (void)jenv;
+  (void)jcls;
+  arg1 = *(BufferedDebugDraw **)&jarg1; 
+  delete arg1;
+}
+
+
 SWIGEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_new_1btCollisionObjectArray_1_1SWIG_10(JNIEnv *jenv, jclass jcls) {
   jlong jresult = 0 ;
   btAlignedObjectArray< btCollisionObject * > *result = 0 ;
@@ -53877,6 +54094,41 @@ SWIGEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_bt
 }
 
 
+SWIGEXPORT jint JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_btDiscreteDynamicsWorld_1getRigidBodyTransforms(JNIEnv *jenv, jclass jcls, jlong jarg1, jobject jarg1_, jobject jarg2, jobject jarg3, jint jarg4, jboolean jarg5) {
+  jint jresult = 0 ;
+  btDiscreteDynamicsWorld *arg1 = (btDiscreteDynamicsWorld *) 0 ;
+  float *arg2 = (float *) 0 ;
+  int *arg3 = (int *) 0 ;
+  int arg4 ;
+  bool arg5 ;
+  int result;
+  
+  (void)jenv;
+  (void)jcls;
+  (void)jarg1_;
+  arg1 = *(btDiscreteDynamicsWorld **)&jarg1; 
+  {
+    arg2 = (float*)jenv->GetDirectBufferAddress(jarg2);
+    if (arg2 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  {
+    arg3 = (int*)jenv->GetDirectBufferAddress(jarg3);
+    if (arg3 == NULL) {
+      SWIG_JavaThrowException(jenv, SWIG_JavaRuntimeException, "Unable to get address of direct buffer. Buffer must be allocated direct.");
+    }
+  }
+  arg4 = (int)jarg4; 
+  arg5 = jarg5 ? true : false; 
+  result = (int)btDiscreteDynamicsWorld_getRigidBodyTransforms(arg1,arg2,arg3,arg4,arg5);
+  jresult = (jint)result; 
+  
+  
+  return jresult;
+}
+
+
 SWIGEXPORT void JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_delete_1btCharacterControllerInterface(JNIEnv *jenv, jclass jcls, jlong jarg1) {
   btCharacterControllerInterface *arg1 = (btCharacterControllerInterface *) 0 ;
   
@@ -83296,6 +83548,14 @@ SWIGEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_btMul
     return baseptr;
 }
 
+SWIGEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_BufferedDebugDraw_1SWIGUpcast(JNIEnv *jenv, jclass jcls, jlong jarg1) {
+    jlong baseptr = 0;
+    (void)jenv;
+    (void)jcls;
+    *(btIDebugDraw **)&baseptr = *(BufferedDebugDraw **)&jarg1;
+    return baseptr;
+}
+
 SWIGEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_bullet_gdxBulletJNI_btRigidBody_1SWIGUpcast(JNIEnv *jenv, jclass jcls, jlong jarg1) {
     jlong baseptr = 0;
     (void)jenv;
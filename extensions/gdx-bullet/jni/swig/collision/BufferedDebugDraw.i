@@ -0,0 +1,26 @@
+%module BufferedDebugDraw
+
+/* The pure virtual methods of btIDebugDraw are implemented, but hidden from SWIG. */
+%feature("notabstract") BufferedDebugDraw;
+
+%typemap(javacode) BufferedDebugDraw %{
+	/** The number of floats per vertex: the position and the color packed like {@link com.badlogic.gdx.graphics.Color#toFloatBits()}. */
+	public final static int VERTEX_SIZE = 4;
+
+	/** Copies the lines drawn since the last {@link #clear()} to the vertices of the mesh, with a single native call. The mesh
+	 * needs a {@link com.badlogic.gdx.graphics.VertexAttributes.Usage#Position} attribute with 3 components followed by a
+	 * {@link com.badlogic.gdx.graphics.VertexAttributes.Usage#ColorPacked} attribute. Lines that don't fit are dropped.
+	 * @return The number of vertices copied, to render as {@link com.badlogic.gdx.graphics.GL10#GL_LINES}. */
+	public int copyTo(final com.badlogic.gdx.graphics.Mesh mesh) {
+		final java.nio.FloatBuffer buffer = mesh.getVerticesBuffer();
+		final int count = getVertices(buffer, 0, buffer.capacity() / VERTEX_SIZE);
+		buffer.position(0);
+		buffer.limit(count * VERTEX_SIZE);
+		return count;
+	}
+%}
+
+%{
+#include <gdx/BufferedDebugDraw.h>
+%}
+%include "gdx/BufferedDebugDraw.h"
@@ -461,6 +461,10 @@
 
 %include "./ContactListener.i"
 
+%include "./ContactCollector.i"
+
+%include "./BufferedDebugDraw.i"
+
 %template(btCollisionObjectArray) btAlignedObjectArray<btCollisionObject *>;
 %include "./btBroadphasePairArray.i"
 %template(btManifoldArray) btAlignedObjectArray<btPersistentManifold*>;
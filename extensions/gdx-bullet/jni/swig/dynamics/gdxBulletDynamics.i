@@ -31,6 +31,27 @@
 %}
 %include "BulletDynamics/Dynamics/btDiscreteDynamicsWorld.h"
 
+%extend btDiscreteDynamicsWorld {
+	int getRigidBodyTransforms(float *transforms, int *info, int max, bool activeOnly) {
+		const btCollisionObjectArray &objects = $self->getCollisionObjectArray();
+		const int n = objects.size();
+		int count = 0;
+		for (int i = 0; i < n && count < max; i++) {
+			btRigidBody *body = btRigidBody::upcast(objects[i]);
+			if (body == NULL || body->isStaticObject())
+				continue;
+			const bool active = body->isActive();
+			if (activeOnly && !active)
+				continue;
+			body->getWorldTransform().getOpenGLMatrix(&transforms[count * 16]);
+			info[count * 2] = ((GdxCollisionObjectBridge*)body->getUserPointer())->userValue;
+			info[count * 2 + 1] = active ? 1 : 0;
+			count++;
+		}
+		return count;
+	}
+};
+
 %{
 #include <BulletDynamics/Character/btCharacterControllerInterface.h>
 %}
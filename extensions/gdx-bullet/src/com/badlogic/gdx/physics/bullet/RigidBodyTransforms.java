@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.physics.bullet;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** Copies the world transforms of all non-static rigid bodies of a {@link btDiscreteDynamicsWorld} with a single native call
+ * per step, instead of a {@link btMotionState} callback per body. The bodies are identified by their user value, see
+ * {@link btCollisionObject#setUserValue(int)}. Bodies that use this don't need a motion state. A body without one reports the
+ * transform of the last internal step, which is not interpolated when the world is stepped with a fixed internal time step. */
+public class RigidBodyTransforms {
+	private FloatBuffer transforms;
+	private IntBuffer info;
+	private int capacity, size;
+
+	public RigidBodyTransforms () {
+		this(64);
+	}
+
+	/** @param capacity The initial number of bodies that fit, grows when the world has more collision objects. */
+	public RigidBodyTransforms (int capacity) {
+		ensureCapacity(capacity);
+	}
+
+	/** Copies the transforms of the rigid bodies in the world.
+	 * @param activeOnly If true, bodies that are sleeping are skipped, their transforms did not change since they fell asleep.
+	 * @return The number of bodies copied. */
+	public int update (btDiscreteDynamicsWorld world, boolean activeOnly) {
+		ensureCapacity(world.getNumCollisionObjects());
+		size = world.getRigidBodyTransforms(transforms, info, capacity, activeOnly);
+		return size;
+	}
+
+	/** Sets the transform of each model instance to the transform of the body whose user value is the index of the instance.
+	 * Bodies with user values outside the array are ignored. */
+	public void apply (Array<ModelInstance> instances) {
+		final FloatBuffer transforms = this.transforms;
+		for (int i = 0; i < size; i++) {
+			int index = info.get(i * 2);
+			if (index < 0 || index >= instances.size) continue;
+			transforms.position(i * 16);
+			transforms.get(instances.get(index).transform.val);
+		}
+		transforms.position(0);
+	}
+
+	/** @return The number of bodies copied by the last {@link #update(btDiscreteDynamicsWorld, boolean)}. */
+	public int size () {
+		return size;
+	}
+
+	/** @return The user value of the body at the index. */
+	public int getUserValue (int index) {
+		return info.get(index * 2);
+	}
+
+	/** @return Whether the body at the index was active, false if it was sleeping. */
+	public boolean isActive (int index) {
+		return info.get(index * 2 + 1) != 0;
+	}
+
+	/** Sets the matrix to the world transform of the body at the index.
+	 * @return The out matrix. */
+	public Matrix4 getTransform (int index, Matrix4 out) {
+		transforms.position(index * 16);
+		transforms.get(out.val);
+		transforms.position(0);
+		return out;
+	}
+
+	/** @return The transforms, 16 floats per body in the order of {@link Matrix4#val}. */
+	public FloatBuffer getTransforms () {
+		return transforms;
+	}
+
+	private void ensureCapacity (int capacity) {
+		if (transforms != null && capacity <= this.capacity) return;
+		this.capacity = Math.max(capacity, this.capacity * 2);
+		transforms = BufferUtils.newFloatBuffer(this.capacity * 16);
+		info = BufferUtils.newIntBuffer(this.capacity * 2);
+	}
+}
@@ -7,6 +7,10 @@ import java.io.IOException;
 
 import javax.imageio.ImageIO;
 
+import com.badlogic.gdx.graphics.DistanceField;
+import com.badlogic.gdx.graphics.PixmapExecutor;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
 /**
  * Generates a signed distance field image from a binary (black/white) source image.
  * 
@@ -27,6 +31,7 @@ public class DistanceFieldGenerator {
 	private Color color = Color.white;
 	private int downscale = 1;
 	private float spread = 1;
+	private PixmapExecutor executor;
 	
 	/** @see #setColor(Color) */
 	public Color getColor() {
@@ -81,20 +86,17 @@ public class DistanceFieldGenerator {
 		this.spread = spread;
 	}
 	
+	/** @see #setExecutor(PixmapExecutor) */
+	public PixmapExecutor getExecutor() {
+		return executor;
+	}
+	
 	/**
-	 * Caclulate the squared distance between two points
-	 * 
-	 * @param x1 The x coordinate of the first point
-	 * @param y1 The y coordiante of the first point
- 	 * @param x2 The x coordinate of the second point
-	 * @param y2 The y coordinate of the second point
-	 * @return The squared distance between the two points
+	 * Sets the executor used to split the distance field computation across several threads.
+	 * Defaults to null, which computes it on the calling thread.
 	 */
-	private static int squareDist(final int x1, final int y1, final int x2, final int y2)
-	{
-		final int dx = x1 - x2;
-		final int dy = y1 - y2;
-		return dx*dx + dy*dy;
+	public void setExecutor(PixmapExecutor executor) {
+		this.executor = executor;
 	}
 	
 	/**
@@ -119,23 +121,19 @@ public class DistanceFieldGenerator {
 		final int outHeight = inHeight / downscale;
 		final BufferedImage outImage = new BufferedImage(outWidth, outHeight, BufferedImage.TYPE_4BYTE_ABGR);
 		
-		// Note: coordinates reversed to mimic storage of BufferedImage, for memory locality
-		final boolean[][] bitmap = new boolean[inHeight][inWidth];
-		for (int y = 0; y < inHeight; ++y) {
-			for (int x = 0; x < inWidth; ++x) {
-				bitmap[y][x] = isInside(inImage.getRGB(x, y));
-			}
+		final int[] rgb = inImage.getRGB(0, 0, inWidth, inHeight, null, 0, inWidth);
+		final boolean[] bitmap = new boolean[inWidth * inHeight];
+		for (int i = 0; i < bitmap.length; ++i) {
+			bitmap[i] = isInside(rgb[i]);
 		}
 		
-		for (int y = 0; y < outHeight; ++y)
-		{
-			for (int x = 0; x < outWidth; ++x)
-			{
-				int centerX = (x * downscale) + (downscale / 2);
-				int centerY = (y * downscale) + (downscale / 2);
-				float signedDistance = findSignedDistance(centerX, centerY, bitmap);
-				outImage.setRGB(x, y, distanceToRGB(signedDistance));
-			}
+		final float[] distances = DistanceField.generate(bitmap, inWidth, inHeight, downscale, spread, null, executor);
+		final int[] outRGB = new int[outWidth * outHeight];
+		for (int i = 0; i < outRGB.length; ++i) {
+			outRGB[i] = distanceToRGB(distances[i]);
+		}
+		if (outRGB.length > 0) {
+			outImage.setRGB(0, 0, outWidth, outHeight, outRGB, 0, outWidth);
 		}
 		
 		return outImage;
@@ -153,7 +151,7 @@ public class DistanceFieldGenerator {
 	}
 	
 	/**
-	 * For a distance as returned by {@link #findSignedDistance}, returns the corresponding "RGB" (really ARGB) color value.
+	 * For a distance as returned by {@link DistanceField#generate}, returns the corresponding "RGB" (really ARGB) color value.
 	 *  
 	 * @param signedDistance the signed distance of a pixel
 	 * @return an ARGB color value suitable for {@link BufferedImage#setRGB}.
@@ -165,52 +163,6 @@ public class DistanceFieldGenerator {
 		return (alphaByte << 24) | (color.getRGB() & 0xFFFFFF);
 	}
 	
-	/**
-	 * Returns the signed distance for a given point.
-	 * 
-	 * For points "inside", this is the distance to the closest "outside" pixel.
-	 * For points "outside", this is the <em>negative</em> distance to the closest "inside" pixel.
-	 * If no pixel of different color is found within a radius of {@code spread}, returns
-	 * the {@code -spread} or {@code spread}, respectively.
-	 * 
-	 * @param centerX the x coordinate of the center point 
-	 * @param centerY the y coordinate of the center point
-	 * @param bitmap the array representation of an image, {@code true} representing "inside"
-	 * @return the signed distance 
-	 */
-	private float findSignedDistance(final int centerX, final int centerY, boolean[][] bitmap)
-	{
-		final int width = bitmap[0].length;
-		final int height = bitmap.length;
-		final boolean base = bitmap[centerY][centerX];
-		
-		final int delta = (int) Math.ceil(spread);
-		final int startX = Math.max(0, centerX - delta);
-		final int endX  = Math.min(width - 1, centerX + delta);
-		final int startY = Math.max(0, centerY - delta);
-		final int endY = Math.min(height - 1, centerY + delta);
-
-		int closestSquareDist = delta * delta;
-		
-		for (int y = startY; y <= endY; ++y)
-		{
-			for (int x = startX; x <= endX; ++x)
-			{
-				if (base != bitmap[y][x])
-				{
-					final int squareDist = squareDist(centerX, centerY, x, y);
-					if (squareDist < closestSquareDist)
-					{
-						closestSquareDist = squareDist;
-					}
-				}
-			}
-		}
-		
-		float closestDist = (float) Math.sqrt(closestSquareDist);
-		return (base ? 1 : -1) * Math.min(closestDist, spread);
-	}
-	
 	/** Prints usage information to standard output. */
 	private static void usage() {
 		System.out.println(
@@ -316,7 +268,11 @@ public class DistanceFieldGenerator {
 			System.err.println("Failed to load image: " + e.getMessage());
 		}
 		
+		GdxNativesLoader.load();
+		PixmapExecutor executor = new PixmapExecutor();
+		generator.setExecutor(executor);
 		BufferedImage output = generator.generateDistanceField(input);
+		executor.dispose();
 		
 		try {
 			ImageIO.write(output, outputFormat, new File(outputFile));
@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.hiero;
+
+import java.awt.AlphaComposite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl.LwjglFiles;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tools.hiero.unicodefont.Glyph;
+import com.badlogic.gdx.tools.hiero.unicodefont.GlyphPage;
+import com.badlogic.gdx.tools.hiero.unicodefont.HieroSettings;
+import com.badlogic.gdx.tools.hiero.unicodefont.UnicodeFont;
+import com.badlogic.gdx.tools.hiero.unicodefont.effects.Effect;
+import com.badlogic.gdx.tools.imagepacker.MaxRectsPacker;
+import com.badlogic.gdx.tools.imagepacker.TexturePacker2.Page;
+import com.badlogic.gdx.tools.imagepacker.TexturePacker2.Rect;
+import com.badlogic.gdx.tools.imagepacker.TexturePacker2.Settings;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Writes BMFont files without OpenGL, so fonts can be built from the command line or a build script. Unlike {@link BMFontUtil},
+ * which needs the glyphs loaded to the textures of the {@link UnicodeFont}, the queued glyphs are rendered with Java2D on several
+ * threads, packed with {@link MaxRectsPacker} and the pages are written in parallel. The pages all have the size of the largest
+ * one, a power of two no larger than the glyph page size of the font.
+ * <p>
+ * {@link #build(File, File, File)} also stores a hash of the settings, font and output files next to the output, fonts whose files
+ * did not change since they were last built are skipped. */
+public class BMFontBuilder {
+	private final UnicodeFont unicodeFont;
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	public BMFontBuilder (UnicodeFont unicodeFont) {
+		this.unicodeFont = unicodeFont;
+	}
+
+	/** Sets the number of threads glyphs are rendered and pages are written with. Defaults to the number of processors. */
+	public void setThreads (int threads) {
+		this.threads = Math.max(1, threads);
+	}
+
+	public int getThreads () {
+		return threads;
+	}
+
+	/** Renders the queued glyphs of the font and writes the .fnt file and its page images. The glyphs stay queued.
+	 * @return the number of glyphs written */
+	public int save (File outputBMFontFile) throws IOException {
+		File outputDir = outputBMFontFile.getAbsoluteFile().getParentFile();
+		String outputName = outputBMFontFile.getName();
+		if (outputName.endsWith(".fnt")) outputName = outputName.substring(0, outputName.length() - 4);
+
+		if (unicodeFont.getEffects().isEmpty())
+			throw new IllegalStateException("The UnicodeFont must have at least one effect before any glyphs can be rendered.");
+		List queuedGlyphs = unicodeFont.getQueuedGlyphs();
+		Glyph[] glyphs = (Glyph[])queuedGlyphs.toArray(new Glyph[queuedGlyphs.size()]);
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "BMFontBuilder");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		try {
+			BufferedImage[] images = renderGlyphs(glyphs, executor);
+			Array<Page> pages = pack(images);
+
+			int pageWidth = 1, pageHeight = 1;
+			for (Page page : pages) {
+				pageWidth = Math.max(pageWidth, MathUtils.nextPowerOfTwo(page.width));
+				pageHeight = Math.max(pageHeight, MathUtils.nextPowerOfTwo(page.height));
+			}
+
+			List pageGlyphs = new ArrayList(pages.size);
+			for (Page page : pages) {
+				List glyphList = new ArrayList(page.outputRects.size);
+				for (Rect rect : page.outputRects) {
+					Glyph glyph = glyphs[rect.index];
+					glyph.setTexture(null, rect.x / (float)pageWidth, rect.y / (float)pageHeight, (rect.x + rect.width)
+						/ (float)pageWidth, (rect.y + rect.height) / (float)pageHeight);
+					glyphList.add(glyph);
+				}
+				pageGlyphs.add(glyphList);
+			}
+			String[] pageFileNames = BMFontUtil.getPageFileNames(outputName, pages.size);
+			new BMFontUtil(unicodeFont).writeFont(new File(outputDir, outputName + ".fnt"), pageGlyphs, pageFileNames, pageWidth,
+				pageHeight);
+
+			writePages(pages, images, pageWidth, pageHeight, outputDir, pageFileNames, executor);
+			return glyphs.length;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/** Renders the glyphs on all threads, each thread takes the next glyph that was not rendered yet. */
+	private BufferedImage[] renderGlyphs (final Glyph[] glyphs, ExecutorService executor) throws IOException {
+		final BufferedImage[] images = new BufferedImage[glyphs.length];
+		final AtomicInteger nextIndex = new AtomicInteger();
+		Array<Future> futures = new Array();
+		for (int i = 0, n = Math.min(threads, glyphs.length); i < n; i++) {
+			futures.add(executor.submit(new Runnable() {
+				public void run () {
+					BufferedImage scratchImage = new BufferedImage(GlyphPage.MAX_GLYPH_SIZE, GlyphPage.MAX_GLYPH_SIZE,
+						BufferedImage.TYPE_INT_ARGB);
+					Graphics2D scratchGraphics = (Graphics2D)scratchImage.getGraphics();
+					scratchGraphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+					scratchGraphics.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+					int index;
+					while ((index = nextIndex.getAndIncrement()) < glyphs.length)
+						images[index] = renderGlyph(glyphs[index], scratchImage, scratchGraphics);
+					scratchGraphics.dispose();
+				}
+			}));
+		}
+		waitFor(futures);
+		return images;
+	}
+
+	/** Draws the glyph like {@link GlyphPage} does and returns a copy of it in an image of the glyph's size. */
+	private BufferedImage renderGlyph (Glyph glyph, BufferedImage scratchImage, Graphics2D scratchGraphics) {
+		scratchGraphics.setComposite(AlphaComposite.Clear);
+		scratchGraphics.fillRect(0, 0, GlyphPage.MAX_GLYPH_SIZE, GlyphPage.MAX_GLYPH_SIZE);
+		scratchGraphics.setComposite(AlphaComposite.SrcOver);
+		scratchGraphics.setColor(java.awt.Color.white);
+		if (unicodeFont.getNativeRendering()) {
+			scratchGraphics.setFont(unicodeFont.getFont());
+			scratchGraphics.drawString("" + (char)glyph.getCodePoint(), 0, unicodeFont.getAscent());
+		} else {
+			for (Iterator iter = unicodeFont.getEffects().iterator(); iter.hasNext();)
+				((Effect)iter.next()).draw(scratchImage, scratchGraphics, unicodeFont, glyph);
+		}
+
+		int width = Math.min(GlyphPage.MAX_GLYPH_SIZE, glyph.getWidth());
+		int height = Math.min(GlyphPage.MAX_GLYPH_SIZE, glyph.getHeight());
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		image.getRaster().setDataElements(0, 0, width, height, scratchImage.getRaster().getDataElements(0, 0, width, height, null));
+		return image;
+	}
+
+	/** Packs the glyph images, the index of each rect is the index of its glyph. Glyph sizes include a pixel of spacing, so no
+	 * padding is added. */
+	private Array<Page> pack (BufferedImage[] images) {
+		Settings settings = new Settings();
+		settings.paddingX = 0;
+		settings.paddingY = 0;
+		settings.edgePadding = false;
+		settings.duplicatePadding = false;
+		settings.rotation = false;
+		// Packing each page fully takes much longer than rendering the glyphs and rarely saves a page.
+		settings.fast = true;
+		settings.minWidth = Math.min(settings.minWidth, unicodeFont.getGlyphPageWidth());
+		settings.minHeight = Math.min(settings.minHeight, unicodeFont.getGlyphPageHeight());
+		settings.maxWidth = unicodeFont.getGlyphPageWidth();
+		settings.maxHeight = unicodeFont.getGlyphPageHeight();
+
+		Array<Rect> rects = new Array(images.length);
+		for (int i = 0; i < images.length; i++) {
+			Rect rect = new Rect();
+			rect.name = Integer.toString(i);
+			rect.index = i;
+			rect.width = images[i].getWidth();
+			rect.height = images[i].getHeight();
+			rects.add(rect);
+		}
+		if (rects.size == 0) return new Array();
+		return new MaxRectsPacker(settings).pack(rects);
+	}
+
+	private void writePages (Array<Page> pages, final BufferedImage[] images, final int pageWidth, final int pageHeight,
+		File outputDir, String[] pageFileNames, ExecutorService executor) throws IOException {
+		Array<Future> futures = new Array();
+		for (int i = 0; i < pages.size; i++) {
+			final Page page = pages.get(i);
+			final File file = new File(outputDir, pageFileNames[i]);
+			futures.add(executor.submit(new Runnable() {
+				public void run () {
+					BufferedImage pageImage = new BufferedImage(pageWidth, pageHeight, BufferedImage.TYPE_INT_ARGB);
+					for (Rect rect : page.outputRects) {
+						BufferedImage image = images[rect.index];
+						pageImage.getRaster().setDataElements(rect.x, rect.y, image.getRaster());
+					}
+					try {
+						ImageIO.write(pageImage, "png", file);
+					} catch (IOException ex) {
+						throw new GdxRuntimeException("Error writing page image: " + file, ex);
+					}
+				}
+			}));
+		}
+		waitFor(futures);
+	}
+
+	private void waitFor (Array<Future> futures) throws IOException {
+		try {
+			for (Future future : futures)
+				future.get();
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) throw (RuntimeException)ex.getCause();
+			throw new GdxRuntimeException(ex.getCause());
+		} catch (InterruptedException ex) {
+			throw new IOException("Interrupted while building font.");
+		}
+	}
+
+	/** Builds the font described by a Hiero settings file, unless the settings, font, .fnt and page files did not change since the
+	 * output was last built. Logs the number of glyphs rendered per second.
+	 * @param fontFile the TTF file of the font, or null to use the system font named in the settings, without kerning
+	 * @return the number of glyphs written, or -1 if the output was up to date */
+	static public int build (File settingsFile, File fontFile, File outputBMFontFile) throws IOException {
+		return build(settingsFile, fontFile, outputBMFontFile, Runtime.getRuntime().availableProcessors());
+	}
+
+	/** @see #build(File, File, File) */
+	static public int build (File settingsFile, File fontFile, File outputBMFontFile, int threads) throws IOException {
+		File hashFile = new File(outputBMFontFile.getPath() + ".md5");
+		String hash = hash(settingsFile, fontFile, outputBMFontFile);
+		if (hash != null && hashFile.exists() && hash.equals(read(hashFile))) {
+			System.out.println("Up to date: " + outputBMFontFile);
+			return -1;
+		}
+		hashFile.delete();
+		// The settings, font and kerning are read with Gdx.files.
+		if (Gdx.files == null) Gdx.files = new LwjglFiles();
+
+		long start = System.nanoTime();
+		HieroSettings settings = new HieroSettings(settingsFile.getAbsolutePath());
+		UnicodeFont unicodeFont;
+		if (fontFile != null)
+			unicodeFont = new UnicodeFont(fontFile.getAbsolutePath(), settings);
+		else
+			unicodeFont = new UnicodeFont(Font.decode(settings.getFontName()), settings);
+		unicodeFont.setNativeRendering(settings.getNativeRendering());
+		String glyphText = settings.getGlyphText();
+		unicodeFont.addGlyphs(glyphText.length() > 0 ? glyphText : Hiero.NEHE);
+
+		BMFontBuilder builder = new BMFontBuilder(unicodeFont);
+		builder.setThreads(threads);
+		int glyphs = builder.save(outputBMFontFile);
+		long time = Math.max(1, (System.nanoTime() - start) / 1000000);
+		System.out.println("Wrote " + glyphs + " glyphs in " + time + " ms, " + glyphs * 1000 / time + " glyphs/s: "
+			+ outputBMFontFile);
+
+		PrintStream out = new PrintStream(new FileOutputStream(hashFile));
+		out.println(hash(settingsFile, fontFile, outputBMFontFile));
+		out.close();
+		return glyphs;
+	}
+
+	/** Returns the MD5 of the settings, font, .fnt and page file contents, or null if the .fnt file or one of its pages is
+	 * missing. */
+	static private String hash (File settingsFile, File fontFile, File outputBMFontFile) throws IOException {
+		if (!outputBMFontFile.exists()) return null;
+		try {
+			MessageDigest digest = MessageDigest.getInstance("MD5");
+			update(digest, settingsFile);
+			if (fontFile != null) update(digest, fontFile);
+			update(digest, outputBMFontFile);
+			for (File pageFile : getPageFiles(outputBMFontFile)) {
+				if (!pageFile.exists()) return null;
+				update(digest, pageFile);
+			}
+			return new BigInteger(1, digest.digest()).toString(16);
+		} catch (java.security.NoSuchAlgorithmException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+	}
+
+	/** Returns the page image files named by the page lines of a .fnt file. */
+	static private Array<File> getPageFiles (File fntFile) throws IOException {
+		File dir = fntFile.getAbsoluteFile().getParentFile();
+		Array<File> files = new Array();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fntFile), "UTF-8"));
+		try {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (!line.startsWith("page ")) continue;
+				int start = line.indexOf("file=\"");
+				if (start == -1) continue;
+				start += 6;
+				int end = line.indexOf('"', start);
+				if (end != -1) files.add(new File(dir, line.substring(start, end)));
+			}
+		} finally {
+			reader.close();
+		}
+		return files;
+	}
+
+	static private void update (MessageDigest digest, File file) throws IOException {
+		InputStream input = new FileInputStream(file);
+		try {
+			byte[] buffer = new byte[16 * 1024];
+			int length;
+			while ((length = input.read(buffer)) != -1)
+				digest.update(buffer, 0, length);
+		} finally {
+			input.close();
+		}
+	}
+
+	static private String read (File file) throws IOException {
+		InputStream input = new FileInputStream(file);
+		try {
+			StringBuilder buffer = new StringBuilder();
+			int c;
+			while ((c = input.read()) != -1)
+				buffer.append((char)c);
+			return buffer.toString().trim();
+		} finally {
+			input.close();
+		}
+	}
+
+	/** Builds each Hiero settings file to a .fnt file with the same name in the output directory. A TTF file with the same name
+	 * next to the settings file is used if it exists, otherwise the system font named in the settings. */
+	public static void main (String[] args) throws Exception {
+		if (args.length < 2) {
+			System.out.println("BMFontBuilder outputDir settingsFile...");
+			System.exit(-1);
+		}
+		System.setProperty("java.awt.headless", "true");
+
+		File outputDir = new File(args[0]);
+		outputDir.mkdirs();
+		int glyphs = 0;
+		long start = System.nanoTime();
+		for (int i = 1; i < args.length; i++) {
+			File settingsFile = new File(args[i]);
+			String name = settingsFile.getName();
+			int dotIndex = name.lastIndexOf('.');
+			if (dotIndex != -1) name = name.substring(0, dotIndex);
+			File fontFile = new File(settingsFile.getAbsoluteFile().getParentFile(), name + ".ttf");
+			glyphs += Math.max(0, build(settingsFile, fontFile.exists() ? fontFile : null, new File(outputDir, name + ".fnt")));
+		}
+		long time = Math.max(1, (System.nanoTime() - start) / 1000000);
+		System.out.println("Wrote " + glyphs + " glyphs in " + time + " ms, " + glyphs * 1000 / time + " glyphs/s.");
+	}
+}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.hiero;
+
+import java.io.File;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.tools.hiero.unicodefont.HieroSettings;
+import com.badlogic.gdx.tools.hiero.unicodefont.effects.ColorEffect;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Builds a small font with {@link BMFontBuilder#build(File, File, File)} without setting up Gdx.files first. Checks that building
+ * it again is skipped, and that it is built again when a page image is deleted or the settings change. */
+public class BMFontBuilderTest {
+	public static void main (String[] args) throws Exception {
+		System.setProperty("java.awt.headless", "true");
+		File fontFile = new File(args.length > 0 ? args[0] : "../../tests/gdx-tests-android/assets/data/DroidSerif-Regular.ttf");
+		File dir = File.createTempFile("bmfont", "");
+		dir.delete();
+		dir.mkdirs();
+		try {
+			HieroSettings settings = new HieroSettings();
+			settings.setFontSize(24);
+			settings.setGlyphPageWidth(128);
+			settings.setGlyphPageHeight(128);
+			settings.setGlyphText("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789 AV To");
+			settings.getEffects().add(new ColorEffect(java.awt.Color.white));
+			File settingsFile = new File(dir, "font.hiero");
+			settings.save(settingsFile);
+			File fntFile = new File(dir, "font.fnt");
+
+			if (BMFontBuilder.build(settingsFile, fontFile, fntFile) <= 0) throw new GdxRuntimeException("Font was not built.");
+			if (BMFontBuilder.build(settingsFile, fontFile, fntFile) != -1) throw new GdxRuntimeException("Unchanged font was built.");
+
+			File page = new File(dir, "font1.png");
+			if (!page.exists()) page = new File(dir, "font.png");
+			page.delete();
+			if (BMFontBuilder.build(settingsFile, fontFile, fntFile) <= 0 || !page.exists())
+				throw new GdxRuntimeException("Font with a deleted page was not built.");
+
+			settings.setFontSize(20);
+			settings.save(settingsFile);
+			if (BMFontBuilder.build(settingsFile, fontFile, fntFile) <= 0)
+				throw new GdxRuntimeException("Font with changed settings was not built.");
+			if (BMFontBuilder.build(settingsFile, fontFile, fntFile) != -1) throw new GdxRuntimeException("Unchanged font was built.");
+			System.out.println("BMFontBuilderTest passed.");
+		} finally {
+			new FileHandle(dir).deleteDirectory();
+		}
+	}
+}
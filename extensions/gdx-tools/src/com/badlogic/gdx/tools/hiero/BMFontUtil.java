@@ -58,28 +58,68 @@ public class BMFontUtil {
 
 		unicodeFont.loadGlyphs();
 
-		PrintStream out = new PrintStream(new FileOutputStream(new File(outputDir, outputName + ".fnt")));
+		List pages = new ArrayList();
+		for (Iterator pageIter = unicodeFont.getGlyphPages().iterator(); pageIter.hasNext();)
+			pages.add(((GlyphPage)pageIter.next()).getGlyphs());
+		String[] pageFileNames = getPageFileNames(outputName, pages.size());
+		writeFont(new File(outputDir, outputName + ".fnt"), pages, pageFileNames, unicodeFont.getGlyphPageWidth(),
+			unicodeFont.getGlyphPageHeight());
+
+		int width = unicodeFont.getGlyphPageWidth();
+		int height = unicodeFont.getGlyphPageHeight();
+		IntBuffer buffer = BufferUtils.createIntBuffer(width * height);
+		BufferedImage pageImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		int[] row = new int[width];
+
+		int pageIndex = 0;
+		for (Iterator pageIter = unicodeFont.getGlyphPages().iterator(); pageIter.hasNext();) {
+			GlyphPage page = (GlyphPage)pageIter.next();
+
+			page.getTexture().bind();
+			buffer.clear();
+			GL11.glGetTexImage(GL11.GL_TEXTURE_2D, 0, GL12.GL_BGRA, GL11.GL_UNSIGNED_BYTE, buffer);
+			WritableRaster raster = pageImage.getRaster();
+			for (int y = 0; y < height; y++) {
+				buffer.get(row);
+				raster.setDataElements(0, y, width, 1, row);
+			}
+			File imageOutputFile = new File(outputDir, pageFileNames[pageIndex]);
+			ImageIO.write(pageImage, "png", imageOutputFile);
+
+			pageIndex++;
+		}
+	}
+
+	/** Returns the file names of the page images: the output name with ".png" for a single page, numbered from 1 otherwise. */
+	static String[] getPageFileNames (String outputName, int pageCount) {
+		String[] fileNames = new String[pageCount];
+		if (pageCount == 1)
+			fileNames[0] = outputName + ".png";
+		else {
+			for (int i = 0; i < pageCount; i++)
+				fileNames[i] = outputName + (i + 1) + ".png";
+		}
+		return fileNames;
+	}
+
+	/** Writes the .fnt file for the glyphs on the pages.
+	 * @param pages a list of glyphs for each page, the texture coordinates of the glyphs give their position on the page */
+	void writeFont (File fntFile, List pages, String[] pageFileNames, int pageWidth, int pageHeight) throws IOException {
+		PrintStream out = new PrintStream(new FileOutputStream(fntFile));
 		Font font = unicodeFont.getFont();
-		int pageWidth = unicodeFont.getGlyphPageWidth();
-		int pageHeight = unicodeFont.getGlyphPageHeight();
 		out.println("info face=\"" + font.getFontName() + "\" size=" + font.getSize() + " bold=" + (font.isBold() ? 1 : 0)
 			+ " italic=" + (font.isItalic() ? 1 : 0) + " charset=\"\" unicode=0 stretchH=100 smooth=1 aa=1 padding="
 			+ unicodeFont.getPaddingTop() + "," + unicodeFont.getPaddingLeft() + "," + unicodeFont.getPaddingBottom() + ","
 			+ unicodeFont.getPaddingRight() + " spacing=" + unicodeFont.getPaddingAdvanceX() + ","
 			+ unicodeFont.getPaddingAdvanceY());
 		out.println("common lineHeight=" + unicodeFont.getLineHeight() + " base=" + unicodeFont.getAscent() + " scaleW="
-			+ pageWidth + " scaleH=" + pageHeight + " pages=" + unicodeFont.getGlyphPages().size() + " packed=0");
+			+ pageWidth + " scaleH=" + pageHeight + " pages=" + pages.size() + " packed=0");
 
 		int pageIndex = 0, glyphCount = 0;
-		for (Iterator pageIter = unicodeFont.getGlyphPages().iterator(); pageIter.hasNext();) {
-			GlyphPage page = (GlyphPage)pageIter.next();
-			String fileName;
-			if (pageIndex == 0 && !pageIter.hasNext())
-				fileName = outputName + ".png";
-			else
-				fileName = outputName + (pageIndex + 1) + ".png";
-			out.println("page id=" + pageIndex + " file=\"" + fileName + "\"");
-			glyphCount += page.getGlyphs().size();
+		for (Iterator pageIter = pages.iterator(); pageIter.hasNext();) {
+			List pageGlyphs = (List)pageIter.next();
+			out.println("page id=" + pageIndex + " file=\"" + pageFileNames[pageIndex] + "\"");
+			glyphCount += pageGlyphs.size();
 			pageIndex++;
 		}
 
@@ -93,9 +133,9 @@ public class BMFontUtil {
 
 		pageIndex = 0;
 		List allGlyphs = new ArrayList(512);
-		for (Iterator pageIter = unicodeFont.getGlyphPages().iterator(); pageIter.hasNext();) {
-			GlyphPage page = (GlyphPage)pageIter.next();
-			for (Iterator glyphIter = page.getGlyphs().iterator(); glyphIter.hasNext();) {
+		for (Iterator pageIter = pages.iterator(); pageIter.hasNext();) {
+			List pageGlyphs = (List)pageIter.next();
+			for (Iterator glyphIter = pageGlyphs.iterator(); glyphIter.hasNext();) {
 				Glyph glyph = (Glyph)glyphIter.next();
 
 				glyphMetrics = getGlyphMetrics(font, glyph.getCodePoint());
@@ -107,7 +147,7 @@ public class BMFontUtil {
 					+ "     xoffset=" + xOffset + "     yoffset=" + glyph.getYOffset() + "    xadvance=" + xAdvance + "     page="
 					+ pageIndex + "  chnl=0 ");
 			}
-			allGlyphs.addAll(page.getGlyphs());
+			allGlyphs.addAll(pageGlyphs);
 			pageIndex++;
 		}
 
@@ -155,35 +195,6 @@ public class BMFontUtil {
 			}
 		}
 		out.close();
-
-		int width = unicodeFont.getGlyphPageWidth();
-		int height = unicodeFont.getGlyphPageHeight();
-		IntBuffer buffer = BufferUtils.createIntBuffer(width * height);
-		BufferedImage pageImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-		int[] row = new int[width];
-
-		pageIndex = 0;
-		for (Iterator pageIter = unicodeFont.getGlyphPages().iterator(); pageIter.hasNext();) {
-			GlyphPage page = (GlyphPage)pageIter.next();
-			String fileName;
-			if (pageIndex == 0 && !pageIter.hasNext())
-				fileName = outputName + ".png";
-			else
-				fileName = outputName + (pageIndex + 1) + ".png";
-
-			page.getTexture().bind();
-			buffer.clear();
-			GL11.glGetTexImage(GL11.GL_TEXTURE_2D, 0, GL12.GL_BGRA, GL11.GL_UNSIGNED_BYTE, buffer);
-			WritableRaster raster = pageImage.getRaster();
-			for (int y = 0; y < height; y++) {
-				buffer.get(row);
-				raster.setDataElements(0, y, width, 1, row);
-			}
-			File imageOutputFile = new File(outputDir, fileName);
-			ImageIO.write(pageImage, "png", imageOutputFile);
-
-			pageIndex++;
-		}
 	}
 
 	private int getGlyphCode (Font font, int codePoint) {
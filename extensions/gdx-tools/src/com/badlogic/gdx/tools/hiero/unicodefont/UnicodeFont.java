@@ -206,6 +206,35 @@ public class UnicodeFont {
 		if (effects.isEmpty())
 			throw new IllegalStateException("The UnicodeFont must have at least one effect before any glyphs can be loaded.");
 
+		prepareQueuedGlyphs();
+
+		// Add to existing pages.
+		for (Iterator iter = glyphPages.iterator(); iter.hasNext();) {
+			GlyphPage glyphPage = (GlyphPage)iter.next();
+			maxGlyphsToLoad -= glyphPage.loadGlyphs(queuedGlyphs, maxGlyphsToLoad);
+			if (maxGlyphsToLoad == 0 || queuedGlyphs.isEmpty()) return true;
+		}
+
+		// Add to new pages.
+		while (!queuedGlyphs.isEmpty()) {
+			GlyphPage glyphPage = new GlyphPage(this, glyphPageWidth, glyphPageHeight);
+			glyphPages.add(glyphPage);
+			maxGlyphsToLoad -= glyphPage.loadGlyphs(queuedGlyphs, maxGlyphsToLoad);
+			if (maxGlyphsToLoad == 0) return true;
+		}
+
+		return true;
+	}
+
+	/** Returns a copy of the glyphs queued to be loaded, sorted by height. Glyphs with nothing to display and all missing glyphs but
+	 * the first are removed from the queue. The glyphs stay queued and are not loaded to the backing textures, this allows them to
+	 * be rendered without OpenGL. */
+	public List getQueuedGlyphs () {
+		prepareQueuedGlyphs();
+		return new ArrayList(queuedGlyphs);
+	}
+
+	private void prepareQueuedGlyphs () {
 		for (Iterator iter = queuedGlyphs.iterator(); iter.hasNext();) {
 			Glyph glyph = (Glyph)iter.next();
 			int codePoint = glyph.getCodePoint();
@@ -227,23 +256,6 @@ public class UnicodeFont {
 		}
 
 		Collections.sort(queuedGlyphs, heightComparator);
-
-		// Add to existing pages.
-		for (Iterator iter = glyphPages.iterator(); iter.hasNext();) {
-			GlyphPage glyphPage = (GlyphPage)iter.next();
-			maxGlyphsToLoad -= glyphPage.loadGlyphs(queuedGlyphs, maxGlyphsToLoad);
-			if (maxGlyphsToLoad == 0 || queuedGlyphs.isEmpty()) return true;
-		}
-
-		// Add to new pages.
-		while (!queuedGlyphs.isEmpty()) {
-			GlyphPage glyphPage = new GlyphPage(this, glyphPageWidth, glyphPageHeight);
-			glyphPages.add(glyphPage);
-			maxGlyphsToLoad -= glyphPage.loadGlyphs(queuedGlyphs, maxGlyphsToLoad);
-			if (maxGlyphsToLoad == 0) return true;
-		}
-
-		return true;
 	}
 
 	/** Clears all loaded and queued glyphs. */
@@ -48,11 +48,16 @@ import com.badlogic.gdx.tools.hiero.unicodefont.effects.ConfigurableEffect.Value
 /** Provides utility methods for effects.
  * @author Nathan Sweet */
 public class EffectUtil {
-	static private BufferedImage scratchImage = new BufferedImage(GlyphPage.MAX_GLYPH_SIZE, GlyphPage.MAX_GLYPH_SIZE,
-		BufferedImage.TYPE_INT_ARGB);
+	static private final ThreadLocal<BufferedImage> scratchImages = new ThreadLocal<BufferedImage>() {
+		protected BufferedImage initialValue () {
+			return new BufferedImage(GlyphPage.MAX_GLYPH_SIZE, GlyphPage.MAX_GLYPH_SIZE, BufferedImage.TYPE_INT_ARGB);
+		}
+	};
 
-	/** Returns an image that can be used by effects as a temp image. */
+	/** Returns an image that can be used by effects as a temp image. Each thread gets its own image, so glyphs can be rendered on
+	 * several threads. */
 	static public BufferedImage getScratchImage () {
+		BufferedImage scratchImage = scratchImages.get();
 		Graphics2D g = (Graphics2D)scratchImage.getGraphics();
 		g.setComposite(AlphaComposite.Clear);
 		g.fillRect(0, 0, GlyphPage.MAX_GLYPH_SIZE, GlyphPage.MAX_GLYPH_SIZE);
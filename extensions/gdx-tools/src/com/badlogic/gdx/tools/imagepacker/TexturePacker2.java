@@ -22,9 +22,15 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteOrder;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -33,13 +39,18 @@ import javax.imageio.ImageWriter;
 import javax.imageio.stream.ImageOutputStream;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Filter;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tools.ktx.KTXWriter;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** @author Nathan Sweet */
@@ -94,6 +105,45 @@ public class TexturePacker2 {
 		int dotIndex = imageName.lastIndexOf('.');
 		if (dotIndex != -1) imageName = imageName.substring(0, dotIndex);
 
+		Blending blending = null;
+		Filter filter = null;
+		if (isKTX()) {
+			GdxNativesLoader.load();
+			blending = Pixmap.getBlending();
+			filter = Pixmap.getFilter();
+			Pixmap.setBlending(Blending.None);
+			Pixmap.setFilter(Filter.BiLinear);
+		}
+
+		// Pages are drawn one after another, then encoded and written in parallel.
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, settings.threads), new ThreadFactory() {
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "TexturePacker");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		Array<Future> futures = new Array();
+		try {
+			writeImages(outputDir, pages, imageName, executor, futures);
+			for (Future future : futures)
+				future.get();
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) throw (RuntimeException)ex.getCause();
+			throw new RuntimeException(ex.getCause());
+		} catch (InterruptedException ex) {
+			throw new RuntimeException("Interrupted while writing images.", ex);
+		} finally {
+			executor.shutdownNow();
+			if (blending != null) {
+				Pixmap.setBlending(blending);
+				Pixmap.setFilter(filter);
+			}
+		}
+	}
+
+	private void writeImages (File outputDir, Array<Page> pages, String imageName, ExecutorService executor,
+		Array<Future> futures) {
 		int fileIndex = 0;
 		for (Page page : pages) {
 			int width = page.width, height = page.height;
@@ -202,24 +252,64 @@ public class TexturePacker2 {
 				g.drawRect(0, 0, width - 1, height - 1);
 			}
 
-			try {
-				if (settings.outputFormat.equalsIgnoreCase("jpg")) {
-					Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
-					ImageWriter writer = writers.next();
-					ImageWriteParam param = writer.getDefaultWriteParam();
-					param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
-					param.setCompressionQuality(settings.jpegQuality);
-					ImageOutputStream ios = ImageIO.createImageOutputStream(outputFile);
-					writer.setOutput(ios);
-					writer.write(null, new IIOImage(canvas, null, null), param);
-				} else {
-					if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
-					ImageIO.write(canvas, "png", outputFile);
+			final BufferedImage image = canvas;
+			final File file = outputFile;
+			futures.add(executor.submit(new Runnable() {
+				public void run () {
+					writeImage(image, file);
+				}
+			}));
+		}
+	}
+
+	private void writeImage (BufferedImage canvas, File outputFile) {
+		try {
+			if (settings.outputFormat.equalsIgnoreCase("jpg")) {
+				Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+				ImageWriter writer = writers.next();
+				ImageWriteParam param = writer.getDefaultWriteParam();
+				param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+				param.setCompressionQuality(settings.jpegQuality);
+				ImageOutputStream ios = ImageIO.createImageOutputStream(outputFile);
+				writer.setOutput(ios);
+				writer.write(null, new IIOImage(canvas, null, null), param);
+			} else if (isKTX()) {
+				if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
+				Pixmap pixmap = toPixmap(canvas);
+				try {
+					KTXWriter.write(pixmap, new FileHandle(outputFile), settings.etc1, settings.filterMin.isMipMap());
+				} finally {
+					pixmap.dispose();
 				}
-			} catch (IOException ex) {
-				throw new RuntimeException("Error writing file: " + outputFile, ex);
+			} else {
+				if (settings.premultiplyAlpha) canvas.getColorModel().coerceData(canvas.getRaster(), true);
+				ImageIO.write(canvas, "png", outputFile);
 			}
+		} catch (IOException ex) {
+			throw new RuntimeException("Error writing file: " + outputFile, ex);
+		}
+	}
+
+	private boolean isKTX () {
+		return settings.outputFormat.equalsIgnoreCase("ktx") || settings.outputFormat.equalsIgnoreCase("zktx");
+	}
+
+	/** Converts the canvas to a pixmap of the settings' format. Alpha canvases store the alpha as gray. */
+	private Pixmap toPixmap (BufferedImage canvas) {
+		int width = canvas.getWidth(), height = canvas.getHeight();
+		int[] argb = canvas.getRGB(0, 0, width, height, null, 0, width);
+		boolean alpha = settings.format == Format.Alpha;
+		for (int i = 0, n = argb.length; i < n; i++) {
+			int pixel = argb[i];
+			argb[i] = alpha ? pixel << 8 | pixel & 0xff : pixel << 8 | pixel >>> 24;
 		}
+		Pixmap pixmap = new Pixmap(width, height, Format.RGBA8888);
+		pixmap.getPixels().duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer().put(argb);
+		if (settings.format == Format.RGBA8888) return pixmap;
+		Pixmap converted = new Pixmap(width, height, settings.format);
+		converted.drawPixmap(pixmap, 0, 0);
+		pixmap.dispose();
+		return converted;
 	}
 
 	private static void plot (BufferedImage dst, int x, int y, int argb) {
@@ -357,7 +447,7 @@ public class TexturePacker2 {
 			height = newHeight;
 		}
 
-		Rect () {
+		public Rect () {
 		}
 
 		Rect (Rect rect) {
@@ -430,8 +520,13 @@ public class TexturePacker2 {
 		public TextureWrap wrapX = TextureWrap.ClampToEdge, wrapY = TextureWrap.ClampToEdge;
 		public Format format = Format.RGBA8888;
 		public boolean alias = true;
+		/** png, jpg, ktx or zktx. KTX pages store mipmaps if {@link #filterMin} is a mipmap filter, zktx are gzip compressed. */
 		public String outputFormat = "png";
 		public float jpegQuality = 0.9f;
+		/** If true, ktx and zktx pages are ETC1 compressed and their alpha is discarded. */
+		public boolean etc1;
+		/** The number of threads pages are written with. */
+		public int threads = Runtime.getRuntime().availableProcessors();
 		public boolean ignoreBlankImages = true;
 		public boolean fast;
 		public boolean debug;
@@ -462,6 +557,8 @@ public class TexturePacker2 {
 			format = settings.format;
 			jpegQuality = settings.jpegQuality;
 			outputFormat = settings.outputFormat;
+			etc1 = settings.etc1;
+			threads = settings.threads;
 			filterMin = settings.filterMin;
 			filterMag = settings.filterMag;
 			wrapX = settings.wrapX;
@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.ktx;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
+import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Filter;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.Texture.TextureFilter;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ETC1;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Writes an image as PNG and as uncompressed and ETC1 compressed KTX and zktx files with mipmaps. Checks that
+ * {@link KTXTextureData} reads back the header and the image data of every level that {@link KTXWriter} wrote. Logs the file
+ * sizes, the GPU memory used by the textures and how long loading them takes, then draws them side by side. */
+public class KTXTest extends ApplicationAdapter {
+	static final int LOADS = 10;
+
+	final FileHandle image;
+	final Array<Texture> textures = new Array();
+	SpriteBatch batch;
+
+	public KTXTest (FileHandle image) {
+		this.image = image;
+	}
+
+	public void create () {
+		batch = new SpriteBatch();
+		FileHandle dir = FileHandle.tempDirectory("ktx");
+		Pixmap.setBlending(Blending.None);
+		Pixmap.setFilter(Filter.BiLinear);
+		Pixmap pixmap = new Pixmap(image);
+		int pixels = pixmap.getWidth() * pixmap.getHeight();
+
+		FileHandle png = dir.child("image.png");
+		image.copyTo(png);
+		// PNGs are mipmapped at load time, KTX files store their mipmaps.
+		load(png, pixels * 4 * 4 / 3);
+		for (String extension : new String[] {".ktx", ".zktx"}) {
+			FileHandle rgba = dir.child("rgba" + extension);
+			KTXWriter.write(pixmap, rgba, false, true);
+			check(pixmap, rgba, false);
+			load(rgba, pixels * 4 * 4 / 3);
+			FileHandle etc1 = dir.child("etc1" + extension);
+			KTXWriter.write(pixmap, etc1, true, true);
+			check(pixmap, etc1, true);
+			load(etc1, ETC1.getCompressedDataSize(pixmap.getWidth(), pixmap.getHeight()) * 4 / 3);
+		}
+		pixmap.dispose();
+		dir.deleteDirectory();
+	}
+
+	/** Reads the file with {@link KTXTextureData} and compares it with the KTX data {@link KTXWriter} creates for the pixmap. */
+	private void check (Pixmap pixmap, FileHandle file, boolean etc1) {
+		ByteBuffer expected = KTXWriter.toKTX(pixmap, etc1, true);
+		KTXTextureData data = new KTXTextureData(file, false);
+		data.prepare();
+		int levels = expected.getInt(56);
+		if (data.getWidth() != pixmap.getWidth() || data.getHeight() != pixmap.getHeight()
+			|| data.getWidth() != expected.getInt(36) || data.getHeight() != expected.getInt(40)
+			|| data.getMipMapLevels() != levels || data.getGLInternalFormat() != expected.getInt(28)
+			|| data.getFormat() != (etc1 ? Format.RGB565 : pixmap.getFormat()))
+			throw new GdxRuntimeException("KTX header differs: " + file);
+		int offset = 64 + expected.getInt(60);
+		for (int level = 0; level < levels; level++) {
+			int imageSize = expected.getInt(offset);
+			expected.limit(offset + 4 + imageSize);
+			expected.position(offset + 4);
+			if (!data.getImageData(level).equals(expected.slice()))
+				throw new GdxRuntimeException("KTX image data differs: " + file + ", level " + level);
+			expected.limit(expected.capacity());
+			offset += 4 + ((imageSize + 3) & ~3);
+		}
+		new Texture(data).dispose();
+	}
+
+	private void load (FileHandle file, int gpuBytes) {
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < LOADS; i++)
+			new Texture(file, true).dispose();
+		long time = (TimeUtils.nanoTime() - start) / LOADS;
+		Texture texture = new Texture(file, true);
+		texture.setFilter(TextureFilter.MipMapLinearLinear, TextureFilter.Linear);
+		textures.add(texture);
+		Gdx.app.log("KTXTest", file.name() + ": " + file.length() / 1024 + " KB file, ~" + gpuBytes / 1024 + " KB GPU memory, "
+			+ time / 1000 + " us to load");
+	}
+
+	public void render () {
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+		batch.begin();
+		float width = Gdx.graphics.getWidth() / (float)textures.size;
+		for (int i = 0; i < textures.size; i++) {
+			Texture texture = textures.get(i);
+			batch.draw(texture, i * width, 0, width, width * texture.getHeight() / texture.getWidth());
+		}
+		batch.end();
+	}
+
+	public void dispose () {
+		for (Texture texture : textures)
+			texture.dispose();
+		batch.dispose();
+	}
+
+	public static void main (String[] args) throws Exception {
+		if (args.length != 1) {
+			System.out.println("KTXTest <image>");
+			System.exit(-1);
+		}
+		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
+		config.useGL20 = true;
+		config.width = 1000;
+		config.height = 300;
+		new LwjglApplication(new KTXTest(new FileHandle(args[0])), config);
+	}
+}
@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tools.ktx;
+
+import java.io.DataOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.GZIPOutputStream;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.glutils.ETC1;
+import com.badlogic.gdx.graphics.glutils.ETC1.ETC1Data;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Writes pixmaps to KTX files as read by {@link KTXTextureData}, either ETC1 compressed or uncompressed in the pixmap's format,
+ * optionally with a complete chain of mipmaps. Files ending with ".zktx" are gzip compressed and prefixed with their uncompressed
+ * size.
+ * <p>
+ * Mipmaps are downscaled with {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)}, so
+ * {@link Pixmap#setBlending(Blending)} must be {@link Blending#None} and the {@link Pixmap#setFilter(Pixmap.Filter) filter}
+ * should be {@link Pixmap.Filter#BiLinear}. Both are global, set them before writing from several threads. Otherwise the methods
+ * are thread safe. The gdx natives must be loaded. */
+public class KTXWriter {
+	static private final byte[] IDENTIFIER = {(byte)0xAB, 'K', 'T', 'X', ' ', '1', '1', (byte)0xBB, '\r', '\n', 0x1A, '\n'};
+
+	/** Writes the pixmap to the file, gzip compressed if the file name ends with ".zktx".
+	 * @param etc1 if true the pixmap is ETC1 compressed, its alpha is discarded
+	 * @param mipMaps if true mipmaps down to 1x1 are stored
+	 * @return the number of bytes written */
+	static public int write (Pixmap pixmap, FileHandle file, boolean etc1, boolean mipMaps) {
+		ByteBuffer ktx = toKTX(pixmap, etc1, mipMaps);
+		OutputStream output = null;
+		try {
+			if (file.name().endsWith(".zktx")) {
+				DataOutputStream out = new DataOutputStream(new GZIPOutputStream(file.write(false)));
+				output = out;
+				out.writeInt(ktx.capacity());
+			} else
+				output = file.write(false);
+			output.write(ktx.array(), 0, ktx.capacity());
+		} catch (Exception ex) {
+			throw new GdxRuntimeException("Couldn't write KTX file: " + file, ex);
+		} finally {
+			if (output != null) try {
+				output.close();
+			} catch (Exception ignored) {
+			}
+		}
+		return (int)file.length();
+	}
+
+	/** Returns the KTX file for the pixmap, in native byte order.
+	 * @param etc1 if true the pixmap is ETC1 compressed, its alpha is discarded
+	 * @param mipMaps if true mipmaps down to 1x1 are stored */
+	static public ByteBuffer toKTX (Pixmap pixmap, boolean etc1, boolean mipMaps) {
+		Array<Pixmap> levels = new Array();
+		try {
+			Pixmap level = pixmap;
+			if (etc1 && pixmap.getFormat() != Format.RGB888 && pixmap.getFormat() != Format.RGB565) {
+				level = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Format.RGB888);
+				level.drawPixmap(pixmap, 0, 0);
+			}
+			levels.add(level);
+			while (mipMaps && (level.getWidth() > 1 || level.getHeight() > 1)) {
+				Pixmap next = new Pixmap(Math.max(1, level.getWidth() / 2), Math.max(1, level.getHeight() / 2), level.getFormat());
+				next.drawPixmap(level, 0, 0, level.getWidth(), level.getHeight(), 0, 0, next.getWidth(), next.getHeight());
+				levels.add(next);
+				level = next;
+			}
+			return etc1 ? toETC1(levels) : toUncompressed(levels);
+		} finally {
+			for (Pixmap level : levels)
+				if (level != pixmap) level.dispose();
+		}
+	}
+
+	static private ByteBuffer toETC1 (Array<Pixmap> levels) {
+		Array<ETC1Data> data = new Array(levels.size);
+		try {
+			int size = 64;
+			for (Pixmap level : levels) {
+				ETC1Data etc1 = ETC1.encodeImage(level);
+				data.add(etc1);
+				size += 4 + align(etc1.compressedData.capacity());
+			}
+			Pixmap first = levels.first();
+			ByteBuffer ktx = header(size, 0, 1, 0, ETC1.ETC1_RGB8_OES, GL10.GL_RGB, first.getWidth(), first.getHeight(),
+				levels.size);
+			for (ETC1Data etc1 : data) {
+				ByteBuffer compressed = etc1.compressedData;
+				compressed.position(0);
+				compressed.limit(compressed.capacity());
+				ktx.putInt(compressed.capacity());
+				ktx.put(compressed);
+				ktx.position(align(ktx.position()));
+			}
+			return ktx;
+		} finally {
+			for (ETC1Data etc1 : data)
+				etc1.dispose();
+		}
+	}
+
+	static private ByteBuffer toUncompressed (Array<Pixmap> levels) {
+		Pixmap first = levels.first();
+		int pixelSize = pixelSize(first.getFormat());
+		int size = 64;
+		for (Pixmap level : levels)
+			size += 4 + align(level.getWidth() * pixelSize) * level.getHeight();
+		int typeSize = first.getGLType() == GL10.GL_UNSIGNED_BYTE ? 1 : 2;
+		ByteBuffer ktx = header(size, first.getGLType(), typeSize, first.getGLFormat(), first.getGLInternalFormat(),
+			first.getGLFormat(), first.getWidth(), first.getHeight(), levels.size);
+		for (Pixmap level : levels) {
+			int rowSize = level.getWidth() * pixelSize, alignedRowSize = align(rowSize);
+			ktx.putInt(alignedRowSize * level.getHeight());
+			ByteBuffer pixels = level.getPixels();
+			for (int y = 0, height = level.getHeight(); y < height; y++) {
+				pixels.limit(y * rowSize + rowSize);
+				pixels.position(y * rowSize);
+				ktx.put(pixels);
+				ktx.position(ktx.position() + alignedRowSize - rowSize);
+			}
+			pixels.clear();
+		}
+		return ktx;
+	}
+
+	static private ByteBuffer header (int size, int glType, int glTypeSize, int glFormat, int glInternalFormat,
+		int glBaseInternalFormat, int width, int height, int mipMapLevels) {
+		ByteBuffer ktx = ByteBuffer.allocate(size).order(ByteOrder.nativeOrder());
+		ktx.put(IDENTIFIER);
+		ktx.putInt(0x04030201);
+		ktx.putInt(glType);
+		ktx.putInt(glTypeSize);
+		ktx.putInt(glFormat);
+		ktx.putInt(glInternalFormat);
+		ktx.putInt(glBaseInternalFormat);
+		ktx.putInt(width);
+		ktx.putInt(height);
+		ktx.putInt(0); // depth
+		ktx.putInt(0); // array elements
+		ktx.putInt(1); // faces
+		ktx.putInt(mipMapLevels);
+		ktx.putInt(0); // key value bytes
+		return ktx;
+	}
+
+	static private int pixelSize (Format format) {
+		switch (format) {
+		case Alpha:
+		case Intensity:
+			return 1;
+		case LuminanceAlpha:
+		case RGB565:
+		case RGBA4444:
+			return 2;
+		case RGB888:
+			return 3;
+		default:
+			return 4;
+		}
+	}
+
+	static private int align (int size) {
+		return (size + 3) & ~3;
+	}
+}
@@ -1,6 +1,6 @@
 #include <com.badlogic.gdx.physics.box2d.World.h>
 
-//@line:54
+//@line:56
 
 #include <Box2D/Box2D.h>
 
@@ -116,6 +116,85 @@ public:
 	}
 }; 
 
+class FixtureQueryCallback: public b2QueryCallback
+{
+public:
+	long long* fixtures;
+	int capacity;
+	int count;
+
+	FixtureQueryCallback( long long* fixtures, int capacity )
+	{
+		this->fixtures = fixtures;
+		this->capacity = capacity;
+		this->count = 0;
+	}
+
+	virtual bool ReportFixture( b2Fixture* fixture )
+	{
+		if( count < capacity ) fixtures[count] = (long long)fixture;
+		count++;
+		return true;
+	}
+};
+
+class AllRayCastCallback: public b2RayCastCallback
+{
+public:
+	long long* fixtures;
+	float* hits;
+	int capacity;
+	int count;
+
+	AllRayCastCallback( long long* fixtures, float* hits, int capacity )
+	{
+		this->fixtures = fixtures;
+		this->hits = hits;
+		this->capacity = capacity;
+		this->count = 0;
+	}
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction)
+	{
+		if( count < capacity )
+		{
+			fixtures[count] = (long long)fixture;
+			float* hit = hits + count * 5;
+			hit[0] = point.x;
+			hit[1] = point.y;
+			hit[2] = normal.x;
+			hit[3] = normal.y;
+			hit[4] = fraction;
+		}
+		count++;
+		return 1;
+	}
+};
+
+class ClosestRayCastCallback: public b2RayCastCallback
+{
+public:
+	b2Fixture* fixture;
+	b2Vec2 point;
+	b2Vec2 normal;
+	float32 fraction;
+
+	ClosestRayCastCallback()
+	{
+		this->fixture = 0;
+		this->fraction = 1;
+	}
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction)
+	{
+		this->fixture = fixture;
+		this->point = point;
+		this->normal = normal;
+		this->fraction = fraction;
+		return fraction;
+	}
+};
+
 inline b2BodyType getBodyType( int type )
 {
 	switch( type )
@@ -132,7 +211,7 @@ b2ContactFilter defaultFilter;
 	 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_newWorld(JNIEnv* env, jobject object, jfloat gravityX, jfloat gravityY, jboolean doSleep) {
 
 
-//@line:231
+//@line:316
 
 		// we leak one global ref. 
 		if(!worldClass) {
@@ -156,7 +235,7 @@ b2ContactFilter defaultFilter;
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setUseDefaultContactFilter(JNIEnv* env, jobject object, jboolean use) {
 
 
-//@line:262
+//@line:347
 
 		// FIXME
 	
@@ -166,7 +245,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setUseDefaultCo
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateBody(JNIEnv* env, jobject object, jlong addr, jint type, jfloat positionX, jfloat positionY, jfloat angle, jfloat linearVelocityX, jfloat linearVelocityY, jfloat angularVelocity, jfloat linearDamping, jfloat angularDamping, jboolean allowSleep, jboolean awake, jboolean fixedRotation, jboolean bullet, jboolean active, jfloat inertiaScale) {
 
 
-//@line:285
+//@line:370
 
 		b2BodyDef bodyDef;
 		bodyDef.type = getBodyType(type);
@@ -193,7 +272,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateBody(
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyBody(JNIEnv* env, jobject object, jlong addr, jlong bodyAddr) {
 
 
-//@line:324
+//@line:409
 
 		b2World* world = (b2World*)addr;
 		b2Body* body = (b2Body*)bodyAddr;
@@ -205,7 +284,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyBody(
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWheelJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat localAxisAX, jfloat localAxisAY, jboolean enableMotor, jfloat maxMotorTorque, jfloat motorSpeed, jfloat frequencyHz, jfloat dampingRatio) {
 
 
-//@line:417
+//@line:502
 
 		b2World* world = (b2World*)addr;
 		b2WheelJointDef def;
@@ -229,7 +308,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWheel
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRopeJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat maxLength) {
 
 
-//@line:436
+//@line:521
 
 		b2World* world = (b2World*)addr;
 		b2RopeJointDef def;
@@ -248,7 +327,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRopeJ
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateDistanceJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat length, jfloat frequencyHz, jfloat dampingRatio) {
 
 
-//@line:450
+//@line:535
 
 		b2World* world = (b2World*)addr;
 		b2DistanceJointDef def;
@@ -269,7 +348,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateDista
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateFrictionJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat maxForce, jfloat maxTorque) {
 
 
-//@line:466
+//@line:551
 
 		b2World* world = (b2World*)addr;
 		b2FrictionJointDef def;
@@ -288,7 +367,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateFrict
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateGearJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jlong joint1, jlong joint2, jfloat ratio) {
 
 
-//@line:480
+//@line:565
 
 		b2World* world = (b2World*)addr;
 		b2GearJointDef def;
@@ -306,7 +385,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateGearJ
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMouseJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat targetX, jfloat targetY, jfloat maxForce, jfloat frequencyHz, jfloat dampingRatio) {
 
 
-//@line:493
+//@line:578
 
 		b2World* world = (b2World*)addr;
 		b2MouseJointDef def;
@@ -325,7 +404,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateMouse
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePrismaticJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat localAxisAX, jfloat localAxisAY, jfloat referenceAngle, jboolean enableLimit, jfloat lowerTranslation, jfloat upperTranslation, jboolean enableMotor, jfloat maxMotorForce, jfloat motorSpeed) {
 
 
-//@line:509
+//@line:594
 
 		b2World* world = (b2World*)addr;
 		b2PrismaticJointDef def;
@@ -350,7 +429,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePrism
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePulleyJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat groundAnchorAX, jfloat groundAnchorAY, jfloat groundAnchorBX, jfloat groundAnchorBY, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat lengthA, jfloat lengthB, jfloat ratio) {
 
 
-//@line:530
+//@line:615
 
 		b2World* world = (b2World*)addr;
 		b2PulleyJointDef def;
@@ -373,7 +452,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreatePulle
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRevoluteJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat referenceAngle, jboolean enableLimit, jfloat lowerAngle, jfloat upperAngle, jboolean enableMotor, jfloat motorSpeed, jfloat maxMotorTorque) {
 
 
-//@line:549
+//@line:634
 
 		b2World* world = (b2World*)addr;
 		b2RevoluteJointDef def;
@@ -397,7 +476,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateRevol
 JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWeldJoint(JNIEnv* env, jobject object, jlong addr, jlong bodyA, jlong bodyB, jboolean collideConnected, jfloat localAnchorAX, jfloat localAnchorAY, jfloat localAnchorBX, jfloat localAnchorBY, jfloat referenceAngle) {
 
 
-//@line:568
+//@line:653
 
 		b2World* world = (b2World*)addr;
 		b2WeldJointDef def;
@@ -416,7 +495,7 @@ JNIEXPORT jlong JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniCreateWeldJ
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyJoint(JNIEnv* env, jobject object, jlong addr, jlong jointAddr) {
 
 
-//@line:591
+//@line:676
 
 		b2World* world = (b2World*)addr;
 		b2Joint* joint = (b2Joint*)jointAddr;
@@ -428,7 +507,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDestroyJoint
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStep(JNIEnv* env, jobject object, jlong addr, jfloat timeStep, jint velocityIterations, jint positionIterations) {
 
 
-//@line:605
+//@line:690
 
 		b2World* world = (b2World*)addr;
 		CustomContactFilter contactFilter(env, object);
@@ -445,7 +524,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniStep(JNIEnv*
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniClearForces(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:625
+//@line:710
 
 		b2World* world = (b2World*)addr;
 		world->ClearForces();
@@ -456,7 +535,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniClearForces(
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetWarmStarting(JNIEnv* env, jobject object, jlong addr, jboolean flag) {
 
 
-//@line:635
+//@line:720
 
 		b2World* world = (b2World*)addr;
 		world->SetWarmStarting(flag);
@@ -467,7 +546,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetWarmStart
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetContiousPhysics(JNIEnv* env, jobject object, jlong addr, jboolean flag) {
 
 
-//@line:645
+//@line:730
 
 		b2World* world = (b2World*)addr;
 		world->SetContinuousPhysics(flag);
@@ -478,7 +557,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetContiousP
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetProxyCount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:655
+//@line:740
 
 		b2World* world = (b2World*)addr;
 		return world->GetProxyCount();
@@ -489,7 +568,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetProxyCoun
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyCount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:665
+//@line:750
 
 		b2World* world = (b2World*)addr;
 		return world->GetBodyCount();
@@ -500,7 +579,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyCount
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetJointcount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:675
+//@line:760
 
 		b2World* world = (b2World*)addr;
 		return world->GetJointCount();
@@ -511,7 +590,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetJointcoun
 JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactCount(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:685
+//@line:770
 
 		b2World* world = (b2World*)addr;
 		return world->GetContactCount();
@@ -522,7 +601,7 @@ JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactCo
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetGravity(JNIEnv* env, jobject object, jlong addr, jfloat gravityX, jfloat gravityY) {
 
 
-//@line:695
+//@line:780
 
 		b2World* world = (b2World*)addr;
 		world->SetGravity( b2Vec2( gravityX, gravityY ) );
@@ -534,7 +613,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetGravity(J
 	float* gravity = (float*)env->GetPrimitiveArrayCritical(obj_gravity, 0);
 
 
-//@line:711
+//@line:796
 
 		b2World* world = (b2World*)addr;
 		b2Vec2 g = world->GetGravity();
@@ -548,7 +627,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetGravity(J
 JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniIsLocked(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:723
+//@line:808
 
 		b2World* world = (b2World*)addr;
 		return world->IsLocked();
@@ -559,7 +638,7 @@ JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniIsLocked
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetAutoClearForces(JNIEnv* env, jobject object, jlong addr, jboolean flag) {
 
 
-//@line:733
+//@line:818
 
 		b2World* world = (b2World*)addr;
 		world->SetAutoClearForces(flag);
@@ -570,7 +649,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniSetAutoClear
 JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoClearForces(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:743
+//@line:828
 
 		b2World* world = (b2World*)addr;
 		return world->GetAutoClearForces();
@@ -581,7 +660,7 @@ JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoC
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB(JNIEnv* env, jobject object, jlong addr, jfloat lowX, jfloat lowY, jfloat upX, jfloat upY) {
 
 
-//@line:761
+//@line:846
 
 		b2World* world = (b2World*)addr;
 		b2AABB aabb;
@@ -594,11 +673,38 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB(JN
 
 }
 
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyContactList
+(JNIEnv* env, jobject object, jlong bodyAddr, jlongArray obj_contacts, jint capacity, long long* contacts) {
+
+//@line:960
+
+		b2Body* body = (b2Body*)bodyAddr;
+		int count = 0;
+		for( b2ContactEdge* edge = body->GetContactList(); edge != 0; edge = edge->next )
+		{
+			if( !edge->contact->IsTouching() ) continue;
+			if( count < capacity ) contacts[count] = (long long)edge->contact;
+			count++;
+		}
+		return count;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyContactList(JNIEnv* env, jobject object, jlong bodyAddr, jlongArray obj_contacts, jint capacity) {
+	long long* contacts = (long long*)env->GetPrimitiveArrayCritical(obj_contacts, 0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyContactList(env, object, bodyAddr, obj_contacts, capacity, contacts);
+
+	env->ReleasePrimitiveArrayCritical(obj_contacts, contacts, 0);
+
+	return JNI_returnValue;
+}
+
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactList(JNIEnv* env, jobject object, jlong addr, jlongArray obj_contacts) {
 	long long* contacts = (long long*)env->GetPrimitiveArrayCritical(obj_contacts, 0);
 
 
-//@line:829
+//@line:972
 
 		b2World* world = (b2World*)addr;
 	
@@ -617,7 +723,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetContactLi
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDispose(JNIEnv* env, jobject object, jlong addr) {
 
 
-//@line:845
+//@line:988
 
 		b2World* world = (b2World*)(addr);
 		delete world;
@@ -628,7 +734,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniDispose(JNIE
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setVelocityThreshold(JNIEnv* env, jclass clazz, jfloat threshold) {
 
 
-//@line:905
+//@line:1052
 
 		b2_velocityThreshold = threshold;
 	
@@ -638,7 +744,7 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_setVelocityThre
 JNIEXPORT jfloat JNICALL Java_com_badlogic_gdx_physics_box2d_World_getVelocityThreshold(JNIEnv* env, jclass clazz) {
 
 
-//@line:910
+//@line:1057
 
 		return b2_velocityThreshold;
 	
@@ -648,7 +754,7 @@ JNIEXPORT jfloat JNICALL Java_com_badlogic_gdx_physics_box2d_World_getVelocityTh
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCast(JNIEnv* env, jobject object, jlong addr, jfloat aX, jfloat aY, jfloat bX, jfloat bY) {
 
 
-//@line:925
+//@line:1072
 
 		b2World *world = (b2World*)addr;
 		CustomRayCastCallback callback( env, object );	
@@ -657,3 +763,123 @@ JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCast(JNIE
 
 }
 
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBFixtures
+(JNIEnv* env, jobject object, jlong addr, jlongArray obj_fixtures, jint capacity, jfloat lowX, jfloat lowY, jfloat upX, jfloat upY, long long* fixtures) {
+
+//@line:1110
+
+		b2World* world = (b2World*)addr;
+		b2AABB aabb;
+		aabb.lowerBound = b2Vec2( lowX, lowY );
+		aabb.upperBound = b2Vec2( upX, upY );
+
+		FixtureQueryCallback callback( fixtures, capacity );
+		world->QueryAABB( &callback, aabb );
+		return callback.count;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBFixtures(JNIEnv* env, jobject object, jlong addr, jlongArray obj_fixtures, jint capacity, jfloat lowX, jfloat lowY, jfloat upX, jfloat upY) {
+	long long* fixtures = (long long*)env->GetPrimitiveArrayCritical(obj_fixtures, 0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBFixtures(env, object, addr, obj_fixtures, capacity, lowX, lowY, upX, upY, fixtures);
+
+	env->ReleasePrimitiveArrayCritical(obj_fixtures, fixtures, 0);
+
+	return JNI_returnValue;
+}
+
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll
+(JNIEnv* env, jobject object, jlong addr, jlongArray obj_fixtures, jfloatArray obj_hits, jint capacity, jfloat aX, jfloat aY, jfloat bX, jfloat bY, long long* fixtures, float* hits) {
+
+//@line:1146
+
+		b2World* world = (b2World*)addr;
+		AllRayCastCallback callback( fixtures, hits, capacity );
+		world->RayCast( &callback, b2Vec2(aX,aY), b2Vec2(bX,bY) );
+		int count = callback.count;
+		if( count > capacity ) return count;
+
+		// insertion sort by fraction, there are usually few hits
+		for( int i = 1; i < count; i++ )
+		{
+			long long fixture = fixtures[i];
+			float hit[5];
+			for( int k = 0; k < 5; k++ ) hit[k] = hits[i * 5 + k];
+			int j = i - 1;
+			for( ; j >= 0 && hits[j * 5 + 4] > hit[4]; j-- )
+			{
+				fixtures[j + 1] = fixtures[j];
+				for( int k = 0; k < 5; k++ ) hits[(j + 1) * 5 + k] = hits[j * 5 + k];
+			}
+			fixtures[j + 1] = fixture;
+			for( int k = 0; k < 5; k++ ) hits[(j + 1) * 5 + k] = hit[k];
+		}
+		return count;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll(JNIEnv* env, jobject object, jlong addr, jlongArray obj_fixtures, jfloatArray obj_hits, jint capacity, jfloat aX, jfloat aY, jfloat bX, jfloat bY) {
+	long long* fixtures = (long long*)env->GetPrimitiveArrayCritical(obj_fixtures, 0);
+	float* hits = (float*)env->GetPrimitiveArrayCritical(obj_hits, 0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll(env, object, addr, obj_fixtures, obj_hits, capacity, aX, aY, bX, bY, fixtures, hits);
+
+	env->ReleasePrimitiveArrayCritical(obj_fixtures, fixtures, 0);
+	env->ReleasePrimitiveArrayCritical(obj_hits, hits, 0);
+
+	return JNI_returnValue;
+}
+
+static inline jint wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest
+(JNIEnv* env, jobject object, jlong addr, jfloatArray obj_rays, jint offset, jint count, jlongArray obj_fixtures, jfloatArray obj_hits, float* rays, long long* fixtures, float* hits) {
+
+//@line:1194
+
+		b2World* world = (b2World*)addr;
+		int hitCount = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* ray = rays + offset + i * 4;
+			b2Vec2 point1( ray[0], ray[1] );
+			b2Vec2 point2( ray[2], ray[3] );
+			ClosestRayCastCallback callback;
+			if( !(point1 == point2) ) world->RayCast( &callback, point1, point2 );
+
+			float* hit = hits + i * 5;
+			fixtures[i] = (long long)callback.fixture;
+			if( callback.fixture != 0 )
+			{
+				hit[0] = callback.point.x;
+				hit[1] = callback.point.y;
+				hit[2] = callback.normal.x;
+				hit[3] = callback.normal.y;
+				hitCount++;
+			}
+			else
+			{
+				hit[0] = point2.x;
+				hit[1] = point2.y;
+				hit[2] = 0;
+				hit[3] = 0;
+			}
+			hit[4] = callback.fraction;
+		}
+		return hitCount;
+	
+}
+
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest(JNIEnv* env, jobject object, jlong addr, jfloatArray obj_rays, jint offset, jint count, jlongArray obj_fixtures, jfloatArray obj_hits) {
+	float* rays = (float*)env->GetPrimitiveArrayCritical(obj_rays, 0);
+	long long* fixtures = (long long*)env->GetPrimitiveArrayCritical(obj_fixtures, 0);
+	float* hits = (float*)env->GetPrimitiveArrayCritical(obj_hits, 0);
+
+	jint JNI_returnValue = wrapped_Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest(env, object, addr, obj_rays, offset, count, obj_fixtures, obj_hits, rays, fixtures, hits);
+
+	env->ReleasePrimitiveArrayCritical(obj_rays, rays, 0);
+	env->ReleasePrimitiveArrayCritical(obj_fixtures, fixtures, 0);
+	env->ReleasePrimitiveArrayCritical(obj_hits, hits, 0);
+
+	return JNI_returnValue;
+}
+
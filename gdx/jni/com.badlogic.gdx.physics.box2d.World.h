@@ -239,6 +239,14 @@ JNIEXPORT jboolean JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetAutoC
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABB
   (JNIEnv *, jobject, jlong, jfloat, jfloat, jfloat, jfloat);
 
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniGetBodyContactList
+ * Signature: (J[JI)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniGetBodyContactList
+  (JNIEnv *, jobject, jlong, jlongArray, jint);
+
 /*
  * Class:     com_badlogic_gdx_physics_box2d_World
  * Method:    jniGetContactList
@@ -279,6 +287,30 @@ JNIEXPORT jfloat JNICALL Java_com_badlogic_gdx_physics_box2d_World_getVelocityTh
 JNIEXPORT void JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCast
   (JNIEnv *, jobject, jlong, jfloat, jfloat, jfloat, jfloat);
 
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniQueryAABBFixtures
+ * Signature: (J[JIFFFF)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniQueryAABBFixtures
+  (JNIEnv *, jobject, jlong, jlongArray, jint, jfloat, jfloat, jfloat, jfloat);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniRayCastAll
+ * Signature: (J[J[FIFFFF)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastAll
+  (JNIEnv *, jobject, jlong, jlongArray, jfloatArray, jint, jfloat, jfloat, jfloat, jfloat);
+
+/*
+ * Class:     com_badlogic_gdx_physics_box2d_World
+ * Method:    jniRayCastClosest
+ * Signature: (J[FII[J[F)I
+ */
+JNIEXPORT jint JNICALL Java_com_badlogic_gdx_physics_box2d_World_jniRayCastClosest
+  (JNIEnv *, jobject, jlong, jfloatArray, jint, jint, jlongArray, jfloatArray);
+
 #ifdef __cplusplus
 }
 #endif
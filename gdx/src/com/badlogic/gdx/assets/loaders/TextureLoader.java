@@ -29,6 +29,7 @@ import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.Texture.TextureWrap;
 import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
 import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ObjectMap;
@@ -66,7 +67,10 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 			}
 
 			FileHandle handle = resolve(fileName);
-			if (!fileName.contains(".etc1")) {
+			if (fileName.endsWith(".ktx") || fileName.endsWith(".zktx")) {
+				info.data = new KTXTextureData(handle, genMipMaps);
+				info.data.prepare();
+			} else if (!fileName.contains(".etc1")) {
 				if (fileName.contains(".cim"))
 					pixmap = PixmapIO.readCIM(handle);
 				else
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+
+/** Generates signed distance fields, as used to render bitmap fonts and icons that stay sharp when magnified. The distances are
+ * exact Euclidean distances between pixel centers, computed in linear time with the separable distance transform by Felzenszwalb
+ * and Huttenlocher: first for each column, then for each row. The columns and rows can be split across the threads of a
+ * {@link PixmapExecutor}. */
+public class DistanceField {
+	/** Computes the signed distance of each output pixel to the nearest input pixel on the other side of the edge. Output pixel
+	 * (x, y) samples input pixel (x * downscale + downscale / 2, y * downscale + downscale / 2). Inside pixels get the positive
+	 * distance to the nearest outside pixel, outside pixels the negative distance to the nearest inside pixel, clamped to
+	 * [-spread, spread].
+	 * @param inside width * height values, row by row, true for pixels inside the shape
+	 * @param downscale the factor the output is smaller than the input, rounded down
+	 * @param spread the maximum distance in input pixels
+	 * @param distances receives the distances row by row, may be null
+	 * @param executor splits the work across threads, may be null to run on the calling thread
+	 * @return the distances argument, or a new array if it was null or too small */
+	static public float[] generate (final boolean[] inside, final int width, final int height, final int downscale,
+		final float spread, float[] distances, PixmapExecutor executor) {
+		if (downscale <= 0) throw new IllegalArgumentException("downscale must be > 0: " + downscale);
+		if (spread <= 0) throw new IllegalArgumentException("spread must be > 0: " + spread);
+		if (inside.length < width * height) throw new IllegalArgumentException("inside must have width * height values.");
+		final int outWidth = width / downscale, outHeight = height / downscale;
+		if (distances == null || distances.length < outWidth * outHeight) distances = new float[outWidth * outHeight];
+		if (outWidth == 0 || outHeight == 0) return distances;
+		final float[] result = distances;
+
+		// Distances beyond the spread are clamped, so searching further than this is not needed.
+		final int max = (int)Math.ceil(spread) + 1;
+		// Vertical distance from each sampled row to the nearest inside and outside pixel of each column.
+		final int[] columnInside = new int[width * outHeight], columnOutside = new int[width * outHeight];
+		run(executor, height, width, new PixmapExecutor.Band() {
+			public void run (int column, int columns) {
+				transformColumns(inside, width, height, downscale, column, columns, max, columnInside, columnOutside);
+			}
+		});
+		run(executor, width, outHeight, new PixmapExecutor.Band() {
+			public void run (int row, int rows) {
+				int[] squaredInside = new int[outWidth], squaredOutside = new int[outWidth];
+				int[] f = new int[width], v = new int[width];
+				double[] z = new double[width + 1];
+				for (int y = row, n = row + rows; y < n; y++) {
+					int offset = y * width;
+					transformRow(columnInside, offset, width, downscale, outWidth, f, v, z, squaredInside);
+					transformRow(columnOutside, offset, width, downscale, outWidth, f, v, z, squaredOutside);
+					int centerY = y * downscale + downscale / 2;
+					for (int x = 0, i = y * outWidth; x < outWidth; x++, i++) {
+						int center = centerY * width + x * downscale + downscale / 2;
+						if (inside[center])
+							result[i] = Math.min((float)Math.sqrt(squaredOutside[x]), spread);
+						else
+							result[i] = -Math.min((float)Math.sqrt(squaredInside[x]), spread);
+					}
+				}
+			}
+		});
+		return distances;
+	}
+
+	/** Returns a distance field for the pixmap. A pixel is inside if its alpha and at least one of its color channels are >= 128.
+	 * The result has the given color, its alpha is 0.5 on the edge, 1 at spread pixels inside and 0 at spread pixels outside.
+	 * @param downscale the factor the result is smaller than the pixmap, rounded down
+	 * @param spread the maximum distance in pixels of the pixmap
+	 * @param executor splits the work across threads, may be null to run on the calling thread
+	 * @return a new {@link Format#RGBA8888} pixmap */
+	static public Pixmap generate (Pixmap pixmap, int downscale, float spread, Color color, PixmapExecutor executor) {
+		int width = pixmap.getWidth(), height = pixmap.getHeight();
+		Pixmap rgba = pixmap;
+		if (pixmap.getFormat() != Format.RGBA8888) {
+			rgba = new Pixmap(width, height, Format.RGBA8888);
+			Blending blending = Pixmap.getBlending();
+			Pixmap.setBlending(Blending.None);
+			rgba.drawPixmap(pixmap, 0, 0);
+			Pixmap.setBlending(blending);
+		}
+		boolean[] inside = new boolean[width * height];
+		IntBuffer pixels = rgbaPixels(rgba);
+		for (int i = 0, n = inside.length; i < n; i++) {
+			int pixel = pixels.get(i);
+			inside[i] = (pixel & 0x80808000) != 0 && (pixel & 0x80) != 0;
+		}
+		if (rgba != pixmap) rgba.dispose();
+
+		float[] distances = generate(inside, width, height, downscale, spread, null, executor);
+		Pixmap result = new Pixmap(width / downscale, height / downscale, Format.RGBA8888);
+		pixels = rgbaPixels(result);
+		int rgb = Color.rgba8888(color) & 0xffffff00;
+		for (int i = 0, n = result.getWidth() * result.getHeight(); i < n; i++) {
+			float alpha = Math.min(1, Math.max(0, 0.5f + 0.5f * distances[i] / spread));
+			pixels.put(i, rgb | (int)(alpha * 255));
+		}
+		return result;
+	}
+
+	static private IntBuffer rgbaPixels (Pixmap pixmap) {
+		ByteBuffer pixels = pixmap.getPixels().duplicate();
+		pixels.clear();
+		return pixels.order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+	}
+
+	static private void run (PixmapExecutor executor, int width, int height, PixmapExecutor.Band band) {
+		if (executor == null)
+			band.run(0, height);
+		else
+			executor.run(width, height, band);
+	}
+
+	/** Stores the distances from the sampled rows of the columns to the nearest inside and outside pixels, at most max. The
+	 * columns are processed together row by row, so memory is accessed in order. */
+	static void transformColumns (boolean[] inside, int width, int height, int downscale, int column, int columns, int max,
+		int[] columnInside, int[] columnOutside) {
+		int outHeight = height / downscale, end = column + columns;
+		int[] lastInside = new int[width], lastOutside = new int[width];
+		// Forward pass: distance to the nearest pixel above.
+		for (int x = column; x < end; x++) {
+			lastInside[x] = -max;
+			lastOutside[x] = -max;
+		}
+		for (int y = 0, j = 0, next = downscale / 2; j < outHeight; y++) {
+			for (int x = column, i = y * width + column; x < end; x++, i++) {
+				if (inside[i])
+					lastInside[x] = y;
+				else
+					lastOutside[x] = y;
+			}
+			if (y == next) {
+				for (int x = column, i = j * width + column; x < end; x++, i++) {
+					columnInside[i] = Math.min(max, y - lastInside[x]);
+					columnOutside[i] = Math.min(max, y - lastOutside[x]);
+				}
+				j++;
+				next += downscale;
+			}
+		}
+		// Backward pass: distance to the nearest pixel below, if closer.
+		for (int x = column; x < end; x++) {
+			lastInside[x] = height - 1 + max;
+			lastOutside[x] = height - 1 + max;
+		}
+		for (int y = height - 1, j = outHeight - 1; j >= 0; y--) {
+			for (int x = column, i = y * width + column; x < end; x++, i++) {
+				if (inside[i])
+					lastInside[x] = y;
+				else
+					lastOutside[x] = y;
+			}
+			if (y == j * downscale + downscale / 2) {
+				for (int x = column, i = j * width + column; x < end; x++, i++) {
+					columnInside[i] = Math.min(columnInside[i], lastInside[x] - y);
+					columnOutside[i] = Math.min(columnOutside[i], lastOutside[x] - y);
+				}
+				j--;
+			}
+		}
+	}
+
+	/** Computes the squared distance from each sampled pixel of the row to the nearest pixel, given the vertical distance of
+	 * each pixel to the nearest one in its column. Uses the lower envelope of the parabolas rooted at each pixel.
+	 * @param f, v, z scratch arrays of width, width and width + 1 values */
+	static void transformRow (int[] column, int offset, int width, int downscale, int outWidth, int[] f, int[] v, double[] z,
+		int[] squared) {
+		for (int x = 0; x < width; x++) {
+			int distance = column[offset + x];
+			f[x] = distance * distance;
+		}
+		int k = 0;
+		v[0] = 0;
+		z[0] = Double.NEGATIVE_INFINITY;
+		z[1] = Double.POSITIVE_INFINITY;
+		for (int q = 1; q < width; q++) {
+			int fq = f[q] + q * q;
+			double s;
+			while (true) {
+				int r = v[k];
+				// Where the parabola of q intersects the lowest one so far.
+				s = (fq - f[r] - r * r) / (2.0 * (q - r));
+				if (s > z[k]) break;
+				k--;
+			}
+			k++;
+			v[k] = q;
+			z[k] = s;
+			z[k + 1] = Double.POSITIVE_INFINITY;
+		}
+		k = 0;
+		for (int x = 0, center = downscale / 2; x < outWidth; x++, center += downscale) {
+			while (z[k + 1] < center)
+				k++;
+			int dx = center - v[k];
+			squared[x] = dx * dx + f[v[k]];
+		}
+	}
+}
@@ -86,6 +86,8 @@ public class Pixmap implements Disposable {
 
 	/** global blending state **/
 	private static Blending blending = Blending.SourceOver;
+	/** global filter state **/
+	private static Filter filter = Filter.BiLinear;
 
 	final Gdx2DPixmap pixmap;
 	int color = 0;
@@ -103,6 +105,7 @@ public class Pixmap implements Disposable {
 	 * {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)}.
 	 * @param filter the filter. */
 	public static void setFilter (Filter filter) {
+		Pixmap.filter = filter;
 		Gdx2DPixmap.setScale(filter == Filter.NearestNeighbour ? Gdx2DPixmap.GDX2D_SCALE_NEAREST : Gdx2DPixmap.GDX2D_SCALE_LINEAR);
 	}
 
@@ -128,6 +131,19 @@ public class Pixmap implements Disposable {
 		}
 	}
 
+	/** Creates a new Pixmap instance from the given encoded image data without copying it to the Java heap. The image can be
+	 * encoded as JPEG, PNG or BMP.
+	 * @param encodedData a direct buffer with the encoded image data, for example from {@link FileHandle#map()}
+	 * @param offset the offset
+	 * @param len the length */
+	public Pixmap (ByteBuffer encodedData, int offset, int len) {
+		try {
+			pixmap = new Gdx2DPixmap(encodedData, offset, len, 0);
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Couldn't load pixmap from image data", e);
+		}
+	}
+
 	/** Creates a new Pixmap instance from the given file. The file must be a Png, Jpeg or Bitmap. Paletted formats are not
 	 * supported.
 	 * 
@@ -366,4 +382,9 @@ public class Pixmap implements Disposable {
 	public static Blending getBlending () {
 		return blending;
 	}
+
+	/** @return the currently set {@link Filter} */
+	public static Filter getFilter () {
+		return filter;
+	}
 }
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Runs {@link Pixmap} operations on several threads by splitting the destination into horizontal bands of rows. The bands of
+ * drawPixmap and fillRectangle are processed by the same native code as the corresponding Pixmap method, so the result is
+ * identical to the single threaded operation. Without dithering, {@link #convert(Pixmap, Format, ByteBuffer, boolean)} truncates
+ * the channels like the native conversion. Small operations run on the calling thread.
+ * <p>
+ * Only operations that produce the same pixels when split into rows are provided. Scaled
+ * {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int, int, int)} computes its sampling from the whole target rectangle
+ * and is not split.
+ * <p>
+ * The {@link Pixmap#setBlending(Pixmap.Blending) blending} and {@link Pixmap#setFilter(Pixmap.Filter) filter} are global, they
+ * must not be changed while an operation is running. The pixmaps involved must not be modified by other threads during an
+ * operation. */
+public class PixmapExecutor implements Disposable {
+	/** The 4x4 ordered dithering matrix, 0-15, shifted to one step of each target channel. */
+	static private final int[] bayer = {0, 8, 2, 10, 12, 4, 14, 6, 3, 11, 1, 9, 15, 7, 13, 5};
+
+	private final ExecutorService executor;
+	private final int threads;
+	private int minPixels = 128 * 128;
+
+	/** Creates an executor with one thread per available processor. */
+	public PixmapExecutor () {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/** @param threads the number of threads operations are split across */
+	public PixmapExecutor (int threads) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		this.threads = threads;
+		executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "PixmapExecutor");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		// The native color look up tables are created lazily on first use, which is not thread safe.
+		Pixmap pixmap = new Pixmap(1, 1, Format.RGB565);
+		pixmap.getPixel(0, 0);
+		pixmap.dispose();
+	}
+
+	/** Sets the minimum number of pixels a band must contain. Operations smaller than this run on the calling thread. Default is
+	 * 16384. */
+	public void setMinPixels (int minPixels) {
+		this.minPixels = Math.max(1, minPixels);
+	}
+
+	/** Same as {@link Pixmap#drawPixmap(Pixmap, int, int)}. */
+	public void drawPixmap (Pixmap dst, Pixmap src, int x, int y) {
+		drawPixmap(dst, src, x, y, 0, 0, src.getWidth(), src.getHeight());
+	}
+
+	/** Same as {@link Pixmap#drawPixmap(Pixmap, int, int, int, int, int, int)}. Runs on the calling thread if the source and target
+	 * are the same pixmap. */
+	public void drawPixmap (final Pixmap dst, final Pixmap src, final int x, final int y, final int srcx, final int srcy,
+		final int srcWidth, int srcHeight) {
+		if (src == dst) {
+			dst.drawPixmap(src, x, y, srcx, srcy, srcWidth, srcHeight);
+			return;
+		}
+		run(srcWidth, srcHeight, new Band() {
+			public void run (int row, int rows) {
+				dst.drawPixmap(src, x, y + row, srcx, srcy + row, srcWidth, rows);
+			}
+		});
+	}
+
+	/** Same as {@link Pixmap#fillRectangle(int, int, int, int)}, using the current color of the pixmap. */
+	public void fillRectangle (final Pixmap pixmap, final int x, final int y, final int width, int height) {
+		run(width, height, new Band() {
+			public void run (int row, int rows) {
+				pixmap.fillRectangle(x, y + row, width, rows);
+			}
+		});
+	}
+
+	/** Converts an {@link Format#RGBA8888} pixmap to {@link Format#RGB565} or {@link Format#RGBA4444}. The pixels are written to the
+	 * buffer starting at its position, in native byte order as expected by OpenGL, the position is not changed. The buffer can be
+	 * the {@link Pixmap#getPixels() pixels} of a pixmap of the target format and the same size.
+	 * @param dither if true, ordered dithering is used to reduce banding of gradients, else the channels are truncated, giving the
+	 *           same pixels as drawing the pixmap into a pixmap of the target format with {@link Pixmap.Blending#None}
+	 * @throws IllegalArgumentException if the formats are not supported or the buffer has less than width * height * 2 bytes
+	 *            remaining */
+	public void convert (Pixmap src, final Format format, ByteBuffer dst, final boolean dither) {
+		if (src.getFormat() != Format.RGBA8888)
+			throw new IllegalArgumentException("Source format must be RGBA8888: " + src.getFormat());
+		if (format != Format.RGB565 && format != Format.RGBA4444)
+			throw new IllegalArgumentException("Target format must be RGB565 or RGBA4444: " + format);
+		final int width = src.getWidth(), height = src.getHeight();
+		if (dst.remaining() < width * height * 2)
+			throw new IllegalArgumentException("Buffer too small, remaining: " + dst.remaining() + ", required: " + width * height * 2);
+
+		ByteBuffer srcBytes = src.getPixels().duplicate();
+		srcBytes.position(0);
+		srcBytes.limit(srcBytes.capacity());
+		final IntBuffer srcPixels = srcBytes.order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+		final ShortBuffer dstPixels = dst.duplicate().order(ByteOrder.nativeOrder()).asShortBuffer();
+		run(width, height, new Band() {
+			public void run (int row, int rows) {
+				if (format == Format.RGB565)
+					convertRGB565(srcPixels, dstPixels, width, row, rows, dither);
+				else
+					convertRGBA4444(srcPixels, dstPixels, width, row, rows, dither);
+			}
+		});
+	}
+
+	static void convertRGB565 (IntBuffer src, ShortBuffer dst, int width, int row, int rows, boolean dither) {
+		for (int y = row, n = row + rows; y < n; y++) {
+			for (int x = 0, i = y * width; x < width; x++, i++) {
+				int rgba = src.get(i);
+				int threshold = dither ? bayer[(y & 3) << 2 | (x & 3)] : 0;
+				int r = Math.min(31, ((rgba >>> 24) + (threshold >> 1)) >> 3);
+				int g = Math.min(63, ((rgba >>> 16 & 0xff) + (threshold >> 2)) >> 2);
+				int b = Math.min(31, ((rgba >>> 8 & 0xff) + (threshold >> 1)) >> 3);
+				dst.put(i, (short)(r << 11 | g << 5 | b));
+			}
+		}
+	}
+
+	static void convertRGBA4444 (IntBuffer src, ShortBuffer dst, int width, int row, int rows, boolean dither) {
+		for (int y = row, n = row + rows; y < n; y++) {
+			for (int x = 0, i = y * width; x < width; x++, i++) {
+				int rgba = src.get(i);
+				int threshold = dither ? bayer[(y & 3) << 2 | (x & 3)] : 0;
+				int r = Math.min(15, ((rgba >>> 24) + threshold) >> 4);
+				int g = Math.min(15, ((rgba >>> 16 & 0xff) + threshold) >> 4);
+				int b = Math.min(15, ((rgba >>> 8 & 0xff) + threshold) >> 4);
+				int a = Math.min(15, ((rgba & 0xff) + threshold) >> 4);
+				dst.put(i, (short)(r << 12 | g << 8 | b << 4 | a));
+			}
+		}
+	}
+
+	void run (int width, int height, final Band band) {
+		if (width <= 0 || height <= 0) return;
+		int bands = (int)Math.min(threads, (long)width * height / minPixels);
+		if (bands <= 1) {
+			band.run(0, height);
+			return;
+		}
+		int rowsPerBand = (height + bands - 1) / bands;
+		ArrayList<Callable<Object>> tasks = new ArrayList(bands);
+		for (int row = 0; row < height; row += rowsPerBand) {
+			final int start = row, rows = Math.min(rowsPerBand, height - row);
+			tasks.add(new Callable() {
+				public Object call () {
+					band.run(start, rows);
+					return null;
+				}
+			});
+		}
+		try {
+			for (Future future : executor.invokeAll(tasks))
+				future.get();
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException("Interrupted while waiting for pixmap operation.", ex);
+		} catch (ExecutionException ex) {
+			throw new GdxRuntimeException("Error executing pixmap operation.", ex.getCause());
+		}
+	}
+
+	/** Waits for running operations to finish and stops the threads. */
+	public void dispose () {
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException("Couldn't shutdown pixmap executor.", ex);
+		}
+	}
+
+	static interface Band {
+		/** @param row the first row of the band, relative to the top of the operation */
+		public void run (int row, int rows);
+	}
+}
@@ -21,12 +21,19 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 import java.util.zip.InflaterInputStream;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** Writes Pixmaps to various formats.
@@ -48,13 +55,17 @@ public class PixmapIO {
 		return CIM.read(file);
 	}
 
-	/** Writes the pixmap as a PNG. Note this method uses quite a bit of working memory. {@link #writeCIM(FileHandle, Pixmap)} is
-	 * faster if the file does not need to be read outside of libgdx. */
+	/** Writes the pixmap as a PNG with fast compression. See {@link PNG} to choose the compression, to encode without
+	 * allocation, or to write to a stream. {@link #writeCIM(FileHandle, Pixmap)} is faster if the file does not need to be read
+	 * outside of libgdx. */
 	static public void writePNG (FileHandle file, Pixmap pixmap) {
+		PNG writer = new PNG();
 		try {
-			file.writeBytes(PNG.write(pixmap), false);
+			writer.write(file, pixmap);
 		} catch (IOException ex) {
 			throw new GdxRuntimeException("Error writing PNG: " + file, ex);
+		} finally {
+			writer.dispose();
 		}
 	}
 
@@ -143,161 +154,234 @@ public class PixmapIO {
 		}
 	}
 
-	/** Minimal PNG encoder to create PNG streams (and MIDP images) from RGBA arrays.<br>
-	 * Copyright 2006-2009 Christian Fröschlin www.chrfr.de<br>
-	 * Terms of Use: You may use the PNG encoder free of charge for any purpose you desire, as long as you do not claim credit for
-	 * the original sources and agree not to hold me responsible for any damage arising out of its use.<br>
-	 * If you have a suitable location in GUI or documentation for giving credit, I'd appreciate a non-mandatory mention of:<br>
-	 * PNG encoder (C) 2006-2009 by Christian Fröschlin, www.chrfr.de */
-	static private class PNG {
-		static int[] crcTable;
-		static final int ZLIB_BLOCK_SIZE = 32000;
-
-		static byte[] write (Pixmap pixmap) throws IOException {
-			byte[] signature = new byte[] {(byte)137, (byte)80, (byte)78, (byte)71, (byte)13, (byte)10, (byte)26, (byte)10};
-			byte[] header = PNG.createHeaderChunk(pixmap.getWidth(), pixmap.getHeight());
-			byte[] data = PNG.createDataChunk(pixmap);
-			byte[] trailer = PNG.createTrailerChunk();
-
-			ByteArrayOutputStream png = new ByteArrayOutputStream(signature.length + header.length + data.length + trailer.length);
-			png.write(signature);
-			png.write(header);
-			png.write(data);
-			png.write(trailer);
-			return png.toByteArray();
+	/** PNG encoder with compression. The image is filtered and compressed a row at a time and written to the output in chunks, so
+	 * the encoded PNG is never held in memory. An instance can be reused to encode multiple PNGs with little allocation.
+	 * <p>
+	 * An instance must only be used by one thread at a time, but separate instances can encode on separate threads. This allows
+	 * screenshots to be written on a background thread, as long as the pixmap is not modified or disposed while it is written.
+	 * Write a copy of the pixmap if it is needed by the rendering thread. */
+	static public class PNG implements Disposable {
+		static private final byte[] SIGNATURE = {(byte)137, 80, 78, 71, 13, 10, 26, 10};
+		static private final int IHDR = 0x49484452, IDAT = 0x49444154, IEND = 0x49454E44;
+		static private final byte COLOR_ARGB = 6;
+		static private final byte COMPRESSION_DEFLATE = 0;
+		static private final byte FILTER_BASIC = 0;
+		static private final byte INTERLACE_NONE = 0;
+		/** The number of bytes of rows that are read, filtered and compressed at once. */
+		static private final int BATCH_SIZE = 32 * 1024;
+
+		private final ChunkBuffer buffer;
+		private final int chunkSize;
+		private final Deflater deflater;
+		private RowFilter filter = RowFilter.Sub;
+		private boolean flipY;
+		private byte[] rows, prevLine, lastLine;
+
+		public PNG () {
+			this(64 * 1024);
 		}
 
-		static private byte[] createHeaderChunk (int width, int height) throws IOException {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream(13);
-			DataOutputStream chunk = new DataOutputStream(baos);
-			chunk.writeInt(width);
-			chunk.writeInt(height);
-			chunk.writeByte(8); // Bitdepth
-			chunk.writeByte(6); // Colortype ARGB
-			chunk.writeByte(0); // Compression
-			chunk.writeByte(0); // Filter
-			chunk.writeByte(0); // Interlace
-			return toChunk("IHDR", baos.toByteArray());
+		/** @param chunkSize the number of compressed bytes buffered before they are written to the output as a chunk */
+		public PNG (int chunkSize) {
+			this.chunkSize = chunkSize;
+			buffer = new ChunkBuffer(chunkSize + 1024);
+			deflater = new Deflater(Deflater.BEST_SPEED);
 		}
 
-		static private byte[] createDataChunk (Pixmap pixmap) throws IOException {
-			int width = pixmap.getWidth();
-			int height = pixmap.getHeight();
-			int dest = 0;
-			byte[] raw = new byte[4 * width * height + height];
-			for (int y = 0; y < height; y++) {
-				raw[dest++] = 0; // No filter
-				for (int x = 0; x < width; x++) {
-					// 32-bit RGBA8888
-					int pixel = pixmap.getPixel(x, y);
-
-					int mask = pixel & 0xFFFFFFFF;
-					int rr = mask >> 24 & 0xff;
-					int gg = mask >> 16 & 0xff;
-					int bb = mask >> 8 & 0xff;
-					int aa = mask & 0xff;
-
-					raw[dest++] = (byte)rr;
-					raw[dest++] = (byte)gg;
-					raw[dest++] = (byte)bb;
-					raw[dest++] = (byte)aa;
-				}
-			}
-			return toChunk("IDAT", toZLIB(raw));
+		/** Sets the deflate compression level, from {@link Deflater#NO_COMPRESSION} to {@link Deflater#BEST_COMPRESSION}. Default is
+		 * {@link Deflater#BEST_SPEED}, higher levels produce somewhat smaller files but are many times slower. */
+		public void setCompression (int level) {
+			deflater.setLevel(level);
 		}
 
-		static private byte[] createTrailerChunk () throws IOException {
-			return toChunk("IEND", new byte[] {});
+		/** Sets the filter applied to each row before compression. Default is {@link RowFilter#Sub}, which is fast and compresses
+		 * most images well. {@link RowFilter#Paeth} usually compresses best but is slower. {@link RowFilter#None} is fastest and is a
+		 * good choice with {@link Deflater#NO_COMPRESSION}. */
+		public void setFilter (RowFilter filter) {
+			if (filter == null) throw new IllegalArgumentException("filter cannot be null.");
+			this.filter = filter;
 		}
 
-		static private byte[] toChunk (String id, byte[] raw) throws IOException {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream(raw.length + 12);
-			DataOutputStream chunk = new DataOutputStream(baos);
+		/** If true, the rows are written from bottom to top, for example for pixmaps read from the framebuffer. Default is false. */
+		public void setFlipY (boolean flipY) {
+			this.flipY = flipY;
+		}
 
-			chunk.writeInt(raw.length);
+		/** Writes the pixmap to the file, the file is overwritten if it exists. */
+		public void write (FileHandle file, Pixmap pixmap) throws IOException {
+			OutputStream output = file.write(false);
+			try {
+				write(output, pixmap);
+			} finally {
+				try {
+					output.close();
+				} catch (IOException ignored) {
+				}
+			}
+		}
 
-			byte[] bid = new byte[4];
-			for (int i = 0; i < 4; i++) {
-				bid[i] = (byte)id.charAt(i);
+		/** Writes the pixmap to the stream without closing the stream. Pixmaps that are not {@link Format#RGBA8888} are converted
+		 * first, which uses a temporary pixmap. */
+		public void write (OutputStream output, Pixmap pixmap) throws IOException {
+			Pixmap rgba8888 = pixmap;
+			if (pixmap.getFormat() != Format.RGBA8888) {
+				rgba8888 = new Pixmap(pixmap.getWidth(), pixmap.getHeight(), Format.RGBA8888);
+				Blending blending = Pixmap.getBlending();
+				Pixmap.setBlending(Blending.None);
+				rgba8888.drawPixmap(pixmap, 0, 0);
+				Pixmap.setBlending(blending);
+			}
+			try {
+				writeRGBA8888(new DataOutputStream(output), rgba8888);
+			} finally {
+				if (rgba8888 != pixmap) rgba8888.dispose();
 			}
+		}
 
-			chunk.write(bid);
+		private void writeRGBA8888 (DataOutputStream output, Pixmap pixmap) throws IOException {
+			int width = pixmap.getWidth(), height = pixmap.getHeight();
+			output.write(SIGNATURE);
+
+			buffer.writeInt(IHDR);
+			buffer.writeInt(width);
+			buffer.writeInt(height);
+			buffer.writeByte(8); // 8 bits per component.
+			buffer.writeByte(COLOR_ARGB);
+			buffer.writeByte(COMPRESSION_DEFLATE);
+			buffer.writeByte(FILTER_BASIC);
+			buffer.writeByte(INTERLACE_NONE);
+			buffer.endChunk(output);
+
+			int lineLength = width * 4, stride = lineLength + 1;
+			int batchRows = Math.max(1, Math.min(height, BATCH_SIZE / stride));
+			if (rows == null || rows.length < batchRows * stride) rows = new byte[batchRows * stride];
+			boolean usePrevLine = filter == RowFilter.Up || filter == RowFilter.Paeth;
+			if (usePrevLine) {
+				if (prevLine == null || prevLine.length < lineLength) {
+					prevLine = new byte[lineLength];
+					lastLine = new byte[lineLength];
+				} else
+					Arrays.fill(prevLine, 0, lineLength, (byte)0);
+			}
 
-			chunk.write(raw);
+			// A duplicate is used so the position of the pixmap's buffer is not changed while writing.
+			ByteBuffer pixels = pixmap.getPixels().duplicate();
+			byte[] rows = this.rows;
+			byte type = (byte)filter.type;
+			deflater.reset();
+			DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(buffer, deflater, 8192);
+			buffer.writeInt(IDAT);
+			for (int y = 0; y < height; y += batchRows) {
+				int count = Math.min(batchRows, height - y);
+				// Each row is read directly into the batch after its filter type byte and is then filtered in place.
+				for (int i = 0, offset = 0; i < count; i++, offset += stride) {
+					pixels.position((flipY ? height - y - i - 1 : y + i) * lineLength);
+					rows[offset] = type;
+					pixels.get(rows, offset + 1, lineLength);
+				}
+				if (usePrevLine) System.arraycopy(rows, (count - 1) * stride + 1, lastLine, 0, lineLength);
+				// Bottom to top, so the row above is still unfiltered when a row is filtered.
+				for (int i = count - 1; i > 0; i--)
+					filterRow(rows, i * stride + 1, rows, (i - 1) * stride + 1, lineLength);
+				filterRow(rows, 1, prevLine, 0, lineLength);
+				if (usePrevLine) {
+					byte[] temp = prevLine;
+					prevLine = lastLine;
+					lastLine = temp;
+				}
+				deflaterOutput.write(rows, 0, count * stride);
+
+				if (buffer.size() >= chunkSize) {
+					buffer.endChunk(output);
+					buffer.writeInt(IDAT);
+				}
+			}
+			deflaterOutput.finish();
+			buffer.endChunk(output);
 
-			int crc = 0xFFFFFFFF;
-			crc = updateCRC(crc, bid);
-			crc = updateCRC(crc, raw);
-			chunk.writeInt(~crc);
+			buffer.writeInt(IEND);
+			buffer.endChunk(output);
 
-			return baos.toByteArray();
+			output.flush();
 		}
 
-		static private void createCRCTable () {
-			crcTable = new int[256];
-			for (int i = 0; i < 256; i++) {
-				int c = i;
-				for (int k = 0; k < 8; k++)
-					c = (c & 1) > 0 ? 0xedb88320 ^ c >>> 1 : c >>> 1;
-				crcTable[i] = c;
+		/** Filters the row in place, from right to left so the bytes to the left are still unfiltered.
+		 * @param prevLine the unfiltered row above, only used by {@link RowFilter#Up} and {@link RowFilter#Paeth} */
+		private void filterRow (byte[] line, int offset, byte[] prevLine, int prevOffset, int lineLength) {
+			switch (filter) {
+			case None:
+				break;
+			case Sub:
+				for (int i = offset + lineLength - 1, n = offset + 4; i >= n; i--)
+					line[i] -= line[i - 4];
+				break;
+			case Up:
+				for (int i = 0; i < lineLength; i++)
+					line[offset + i] -= prevLine[prevOffset + i];
+				break;
+			default:
+				for (int i = lineLength - 1; i >= 4; i--) {
+					int a = line[offset + i - 4] & 0xff;
+					int b = prevLine[prevOffset + i] & 0xff;
+					int c = prevLine[prevOffset + i - 4] & 0xff;
+					int p = a + b - c;
+					int pa = p - a;
+					if (pa < 0) pa = -pa;
+					int pb = p - b;
+					if (pb < 0) pb = -pb;
+					int pc = p - c;
+					if (pc < 0) pc = -pc;
+					if (pa <= pb && pa <= pc)
+						c = a;
+					else if (pb <= pc) //
+						c = b;
+					line[offset + i] -= c;
+				}
+				for (int i = 0; i < 4; i++)
+					line[offset + i] -= prevLine[prevOffset + i];
 			}
 		}
 
-		static private int updateCRC (int crc, byte[] raw) {
-			if (crcTable == null) createCRCTable();
-			for (byte element : raw)
-				crc = crcTable[(crc ^ element) & 0xFF] ^ crc >>> 8;
-			return crc;
+		/** Disposes the native compression resources. */
+		public void dispose () {
+			deflater.end();
 		}
 
-		/*
-		 * This method is called to encode the image data as a zlib block as required by the PNG specification. This file comes with
-		 * a minimal ZLIB encoder which uses uncompressed deflate blocks (fast, short, easy, but no compression). If you want
-		 * compression, call another encoder (such as JZLib?) here.
-		 */
-		static private byte[] toZLIB (byte[] raw) throws IOException {
-			ByteArrayOutputStream baos = new ByteArrayOutputStream(raw.length + 6 + raw.length / ZLIB_BLOCK_SIZE * 5);
-			DataOutputStream zlib = new DataOutputStream(baos);
-
-			byte tmp = (byte)8;
-			zlib.writeByte(tmp); // CM = 8, CMINFO = 0
-			zlib.writeByte((31 - (tmp << 8) % 31) % 31); // FCHECK
-			// (FDICT/FLEVEL=0)
-
-			int pos = 0;
-			while (raw.length - pos > ZLIB_BLOCK_SIZE) {
-				writeUncompressedDeflateBlock(zlib, false, raw, pos, (char)ZLIB_BLOCK_SIZE);
-				pos += ZLIB_BLOCK_SIZE;
-			}
-
-			writeUncompressedDeflateBlock(zlib, true, raw, pos, (char)(raw.length - pos));
+		/** The PNG filter applied to each row before compression. */
+		static public enum RowFilter {
+			None(0), Sub(1), Up(2), Paeth(4);
 
-			// zlib check sum of uncompressed data
-			zlib.writeInt(calcADLER32(raw));
+			final int type;
 
-			return baos.toByteArray();
+			RowFilter (int type) {
+				this.type = type;
+			}
 		}
 
-		static private void writeUncompressedDeflateBlock (DataOutputStream zlib, boolean last, byte[] raw, int off, char len)
-			throws IOException {
-			zlib.writeByte((byte)(last ? 1 : 0)); // Final flag, Compression type 0
-			zlib.writeByte((byte)(len & 0xFF)); // Length LSB
-			zlib.writeByte((byte)((len & 0xFF00) >> 8)); // Length MSB
-			zlib.writeByte((byte)(~len & 0xFF)); // Length 1st complement LSB
-			zlib.writeByte((byte)((~len & 0xFF00) >> 8)); // Length 1st complement
-			// MSB
-			zlib.write(raw, off, len); // Data
-		}
+		/** Buffers a chunk's type and data, then writes its length, the buffered bytes and their CRC. */
+		static class ChunkBuffer extends DataOutputStream {
+			final ByteArrayOutputStream buffer;
+			final CRC32 crc;
+
+			ChunkBuffer (int initialSize) {
+				this(new ByteArrayOutputStream(initialSize), new CRC32());
+			}
+
+			private ChunkBuffer (ByteArrayOutputStream buffer, CRC32 crc) {
+				super(new CheckedOutputStream(buffer, crc));
+				this.buffer = buffer;
+				this.crc = crc;
+			}
 
-		private static int calcADLER32 (final byte[] raw) {
-			int s1 = 1;
-			int s2 = 0;
-			for (int i = 0; i < raw.length; i++) {
-				final int abs = raw[i] >= 0 ? raw[i] : (raw[i] + 256);
-				s1 = (s1 + abs) % 65521;
-				s2 = (s2 + s1) % 65521;
+			public void endChunk (DataOutputStream target) throws IOException {
+				flush();
+				target.writeInt(buffer.size() - 4);
+				buffer.writeTo(target);
+				target.writeInt((int)crc.getValue());
+				buffer.reset();
+				crc.reset();
+				written = 0;
 			}
-			return (s2 << 16) + s1;
 		}
 	}
 }
@@ -33,6 +33,7 @@ import com.badlogic.gdx.graphics.Pixmap.Blending;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.TextureData.TextureDataType;
 import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
+import com.badlogic.gdx.graphics.glutils.KTXTextureData;
 import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.graphics.glutils.FloatTextureData;
 import com.badlogic.gdx.graphics.glutils.MipMapGenerator;
@@ -129,6 +130,8 @@ public class Texture implements Disposable {
 	public Texture (FileHandle file, Format format, boolean useMipMaps) {
 		if (file.name().endsWith(".etc1")) {
 			create(new ETC1TextureData(file, useMipMaps));
+		} else if (file.name().endsWith(".ktx") || file.name().endsWith(".zktx")) {
+			create(new KTXTextureData(file, useMipMaps));
 		} else {
 			create(new FileTextureData(file, null, format, useMipMaps));
 		}
@@ -16,7 +16,6 @@
 
 package com.badlogic.gdx.graphics.g2d;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -62,17 +61,42 @@ public class Gdx2DPixmap implements Disposable {
 		format = (int)nativeData[3];
 	}
 
-	public Gdx2DPixmap (InputStream in, int requestedFormat) throws IOException {
-		ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
-		byte[] buffer = new byte[1024];
-		int readBytes = 0;
+	/** Decodes the encoded image data in the specified direct buffer without copying it to the Java heap. Together with
+	 * {@link com.badlogic.gdx.files.FileHandle#map()} this decodes an image file without reading it into memory first.
+	 * @param encodedData a direct buffer, its position and limit are ignored */
+	public Gdx2DPixmap (ByteBuffer encodedData, int offset, int len, int requestedFormat) throws IOException {
+		if (!encodedData.isDirect()) throw new IllegalArgumentException("encodedData must be a direct buffer.");
+		if (offset < 0 || len < 0 || offset + len > encodedData.capacity())
+			throw new IllegalArgumentException("offset and len must be inside the buffer: " + offset + ", " + len);
+		pixelPtr = loadByteBuffer(nativeData, encodedData, offset, len, requestedFormat);
+		if (pixelPtr == null) throw new IOException("couldn't load pixmap " + getFailureReason());
 
-		while ((readBytes = in.read(buffer)) != -1) {
-			bytes.write(buffer, 0, readBytes);
+		basePtr = nativeData[0];
+		width = (int)nativeData[1];
+		height = (int)nativeData[2];
+		format = (int)nativeData[3];
+	}
+
+	public Gdx2DPixmap (InputStream in, int requestedFormat) throws IOException {
+		// Read directly into the array passed to native code, sized by the bytes available if the stream knows them.
+		byte[] buffer = new byte[Math.max(in.available(), 1024)];
+		int length = 0;
+		while (true) {
+			int count = in.read(buffer, length, buffer.length - length);
+			if (count == -1) break;
+			length += count;
+			if (length == buffer.length) {
+				int b = in.read();
+				if (b == -1) break;
+				// Grow buffer.
+				byte[] newBuffer = new byte[buffer.length * 2];
+				System.arraycopy(buffer, 0, newBuffer, 0, length);
+				buffer = newBuffer;
+				buffer[length++] = (byte)b;
+			}
 		}
 
-		buffer = bytes.toByteArray();
-		pixelPtr = load(nativeData, buffer, 0, buffer.length, requestedFormat);
+		pixelPtr = load(nativeData, buffer, 0, length, requestedFormat);
 		if (pixelPtr == null) throw new IOException("couldn't load pixmap " + getFailureReason());
 
 		basePtr = nativeData[0];
@@ -262,6 +286,24 @@ public class Gdx2DPixmap implements Disposable {
 		return pixel_buffer;
 	*/
 
+	private static native ByteBuffer loadByteBuffer (long[] nativeData, ByteBuffer buffer, int offset, int len, int requestedFormat); /*MANUAL
+		const unsigned char* p_buffer = (const unsigned char*)env->GetDirectBufferAddress(buffer);
+		gdx2d_pixmap* pixmap = gdx2d_load(p_buffer + offset, len, requestedFormat);
+	
+		if(pixmap==0)
+			return 0;
+	
+		jobject pixel_buffer = env->NewDirectByteBuffer((void*)pixmap->pixels, pixmap->width * pixmap->height * gdx2d_bytes_per_pixel(pixmap->format));
+		jlong* p_native_data = (jlong*)env->GetPrimitiveArrayCritical(nativeData, 0);
+		p_native_data[0] = (jlong)pixmap;
+		p_native_data[1] = pixmap->width;
+		p_native_data[2] = pixmap->height;
+		p_native_data[3] = pixmap->format;
+		env->ReleasePrimitiveArrayCritical(nativeData, p_native_data, 0);
+	
+		return pixel_buffer;
+	*/
+
 	private static native ByteBuffer newPixmap (long[] nativeData, int width, int height, int format); /*MANUAL
 		gdx2d_pixmap* pixmap = gdx2d_new(width, height, format);
 		if(pixmap==0)
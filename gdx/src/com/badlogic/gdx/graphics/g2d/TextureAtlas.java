@@ -32,9 +32,6 @@ import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ObjectMap;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
@@ -44,10 +41,9 @@ import java.util.Set;
  * A TextureAtlas must be disposed to free up the resources consumed by the backing textures.
  * @author Nathan Sweet */
 public class TextureAtlas implements Disposable {
-	static final String[] tuple = new String[4];
-
 	private final HashSet<Texture> textures = new HashSet(4);
 	private final Array<AtlasRegion> regions = new Array<AtlasRegion>();
+	private final ObjectMap<String, Array<AtlasRegion>> namedRegions = new ObjectMap();
 
 	public static class TextureAtlasData {
 		public static class Page {
@@ -94,93 +90,86 @@ public class TextureAtlas implements Disposable {
 		final Array<Region> regions = new Array<Region>();
 
 		public TextureAtlasData (FileHandle packFile, FileHandle imagesDir, boolean flip) {
-			BufferedReader reader = new BufferedReader(new InputStreamReader(packFile.read()), 64);
 			try {
-				Page pageImage = null;
-				while (true) {
-					String line = reader.readLine();
-					if (line == null) break;
-					if (line.trim().length() == 0)
-						pageImage = null;
-					else if (pageImage == null) {
-						FileHandle file = imagesDir.child(line);
-
-						Format format = Format.valueOf(readValue(reader));
-
-						readTuple(reader);
-						TextureFilter min = TextureFilter.valueOf(tuple[0]);
-						TextureFilter max = TextureFilter.valueOf(tuple[1]);
-
-						String direction = readValue(reader);
-						TextureWrap repeatX = ClampToEdge;
-						TextureWrap repeatY = ClampToEdge;
-						if (direction.equals("x"))
-							repeatX = Repeat;
-						else if (direction.equals("y"))
-							repeatY = Repeat;
-						else if (direction.equals("xy")) {
-							repeatX = Repeat;
-							repeatY = Repeat;
-						}
+				readText(new String(packFile.readBytes()).toCharArray(), imagesDir, flip);
+			} catch (Exception ex) {
+				throw new GdxRuntimeException("Error reading pack file: " + packFile, ex);
+			}
 
-						pageImage = new Page(file, min.isMipMap(), format, min, max, repeatX, repeatY);
-						pages.add(pageImage);
-					} else {
-						boolean rotate = Boolean.valueOf(readValue(reader));
-
-						readTuple(reader);
-						int left = Integer.parseInt(tuple[0]);
-						int top = Integer.parseInt(tuple[1]);
-
-						readTuple(reader);
-						int width = Integer.parseInt(tuple[0]);
-						int height = Integer.parseInt(tuple[1]);
-
-						Region region = new Region();
-						region.page = pageImage;
-						region.left = left;
-						region.top = top;
-						region.width = width;
-						region.height = height;
-						region.name = line;
-						region.rotate = rotate;
-
-						if (readTuple(reader) == 4) { // split is optional
-							region.splits = new int[] {Integer.parseInt(tuple[0]), Integer.parseInt(tuple[1]),
-								Integer.parseInt(tuple[2]), Integer.parseInt(tuple[3])};
-
-							if (readTuple(reader) == 4) { // pad is optional, but only present with splits
-								region.pads = new int[] {Integer.parseInt(tuple[0]), Integer.parseInt(tuple[1]),
-									Integer.parseInt(tuple[2]), Integer.parseInt(tuple[3])};
-
-								readTuple(reader);
-							}
-						}
+			regions.sort(indexComparator);
+		}
 
-						region.originalWidth = Integer.parseInt(tuple[0]);
-						region.originalHeight = Integer.parseInt(tuple[1]);
+		private void readText (char[] text, FileHandle imagesDir, boolean flip) {
+			PackReader reader = new PackReader(text);
+			String[] tuple = new String[4];
+			int[] values = new int[4];
+			Page pageImage = null;
+			while (true) {
+				String line = reader.readLine();
+				if (line == null) break;
+				if (line.trim().length() == 0)
+					pageImage = null;
+				else if (pageImage == null) {
+					FileHandle file = imagesDir.child(line);
+
+					Format format = Format.valueOf(reader.readValue());
+
+					reader.readTuple(tuple);
+					TextureFilter min = TextureFilter.valueOf(tuple[0]);
+					TextureFilter max = TextureFilter.valueOf(tuple[1]);
+
+					String direction = reader.readValue();
+					TextureWrap repeatX = ClampToEdge;
+					TextureWrap repeatY = ClampToEdge;
+					if (direction.equals("x"))
+						repeatX = Repeat;
+					else if (direction.equals("y"))
+						repeatY = Repeat;
+					else if (direction.equals("xy")) {
+						repeatX = Repeat;
+						repeatY = Repeat;
+					}
+
+					pageImage = new Page(file, min.isMipMap(), format, min, max, repeatX, repeatY);
+					pages.add(pageImage);
+				} else {
+					Region region = new Region();
+					region.page = pageImage;
+					region.name = line;
+					region.rotate = reader.readBoolean();
 
-						readTuple(reader);
-						region.offsetX = Integer.parseInt(tuple[0]);
-						region.offsetY = Integer.parseInt(tuple[1]);
+					reader.readTuple(values);
+					region.left = values[0];
+					region.top = values[1];
 
-						region.index = Integer.parseInt(readValue(reader));
+					reader.readTuple(values);
+					region.width = values[0];
+					region.height = values[1];
 
-						if (flip) region.flip = true;
+					if (reader.readTuple(values) == 4) { // split is optional
+						region.splits = new int[] {values[0], values[1], values[2], values[3]};
 
-						regions.add(region);
+						if (reader.readTuple(values) == 4) { // pad is optional, but only present with splits
+							region.pads = new int[] {values[0], values[1], values[2], values[3]};
+
+							reader.readTuple(values);
+						}
 					}
-				}
-			} catch (Exception ex) {
-				throw new GdxRuntimeException("Error reading pack file: " + packFile, ex);
-			} finally {
-				try {
-					reader.close();
-				} catch (IOException ignored) {
+
+					region.originalWidth = values[0];
+					region.originalHeight = values[1];
+
+					reader.readTuple(values);
+					region.offsetX = values[0];
+					region.offsetY = values[1];
+
+					region.index = reader.readInt();
+
+					if (flip) region.flip = true;
+
+					regions.add(region);
 				}
 			}
-
-			regions.sort(indexComparator);
 		}
 
 		public Array<Page> getPages () {
@@ -260,9 +249,25 @@ public class TextureAtlas implements Disposable {
 			atlasRegion.pads = region.pads;
 			if (region.flip) atlasRegion.flip(false, true);
 			regions.add(atlasRegion);
+			addNamed(atlasRegion);
 		}
 	}
 
+	/** Adds the region to the regions with its name, which are in the same order as in {@link #regions}. */
+	private void addNamed (AtlasRegion region) {
+		if (region.name == null) return;
+		Array<AtlasRegion> named = namedRegions.get(region.name);
+		if (named == null) {
+			named = new Array(1);
+			namedRegions.put(region.name, named);
+		}
+		named.add(region);
+	}
+
+	private Array<AtlasRegion> getNamed (String name) {
+		return name == null ? null : namedRegions.get(name);
+	}
+
 	/** Adds a region to the atlas. The specified texture will be disposed when the atlas is disposed. */
 	public AtlasRegion addRegion (String name, Texture texture, int x, int y, int width, int height) {
 		textures.add(texture);
@@ -272,6 +277,7 @@ public class TextureAtlas implements Disposable {
 		region.originalHeight = height;
 		region.index = -1;
 		regions.add(region);
+		addNamed(region);
 		return region;
 	}
 
@@ -281,41 +287,40 @@ public class TextureAtlas implements Disposable {
 			textureRegion.getRegionWidth(), textureRegion.getRegionHeight());
 	}
 
-	/** Returns all regions in the atlas. */
+	/** Returns all regions in the atlas. Regions must be added with {@link #addRegion(String, TextureRegion)}, not to this array,
+	 * and their names must not be changed, so they are found by name. */
 	public Array<AtlasRegion> getRegions () {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the result
-	 * should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name. The regions are looked up by name in a hash map.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
-		return null;
+		Array<AtlasRegion> named = getNamed(name);
+		return named == null ? null : named.first();
 	}
 
-	/** Returns the first region found with the specified name and index. This method uses string comparison to find the region, so
-	 * the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index. The regions are looked up by name in a hash map, then
+	 * searched for the index.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return region;
+		Array<AtlasRegion> named = getNamed(name);
+		if (named == null) return null;
+		for (int i = 0, n = named.size; i < n; i++) {
+			AtlasRegion region = named.get(i);
+			if (region.index == index) return region;
 		}
 		return null;
 	}
 
 	/** Returns all regions with the specified name, ordered by smallest to largest {@link AtlasRegion#index index}. This method
-	 * uses string comparison to find the regions, so the result should be cached rather than calling this method multiple times. */
+	 * copies the regions, so the result should be cached rather than calling this method multiple times. */
 	public Array<AtlasRegion> findRegions (String name) {
-		Array<AtlasRegion> matched = new Array();
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(new AtlasRegion(region));
-		}
+		Array<AtlasRegion> named = getNamed(name);
+		if (named == null) return new Array();
+		Array<AtlasRegion> matched = new Array(named.size);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(new AtlasRegion(named.get(i)));
 		return matched;
 	}
 
@@ -330,39 +335,32 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite, so
+	 * the result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null. */
 	public Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		AtlasRegion region = findRegion(name);
+		return region == null ? null : newSprite(region);
 	}
 
-	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find the
-	 * region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	/** Returns the first region found with the specified name and index as a sprite. This method constructs a new sprite, so the
+	 * result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null.
 	 * @see #createSprite(String) */
 	public Sprite createSprite (String name, int index) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (!region.name.equals(name)) continue;
-			if (region.index != index) continue;
-			return newSprite(regions.get(i));
-		}
-		return null;
+		AtlasRegion region = findRegion(name, index);
+		return region == null ? null : newSprite(region);
 	}
 
 	/** Returns all regions with the specified name as sprites, ordered by smallest to largest {@link AtlasRegion#index index}. This
-	 * method uses string comparison to find the regions and constructs new sprites, so the result should be cached rather than
-	 * calling this method multiple times.
+	 * method constructs new sprites, so the result should be cached rather than calling this method multiple times.
 	 * @see #createSprite(String) */
 	public Array<Sprite> createSprites (String name) {
-		Array<Sprite> matched = new Array();
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) matched.add(newSprite(region));
-		}
+		Array<AtlasRegion> named = getNamed(name);
+		if (named == null) return new Array();
+		Array<Sprite> matched = new Array(named.size);
+		for (int i = 0, n = named.size; i < n; i++)
+			matched.add(newSprite(named.get(i)));
 		return matched;
 	}
 
@@ -380,21 +378,17 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a {@link NinePatch}. The region must have been packed with
-	 * ninepatch splits. This method uses string comparison to find the region and constructs a new ninepatch, so the result should
-	 * be cached rather than calling this method multiple times.
+	 * ninepatch splits. This method constructs a new ninepatch, so the result should be cached rather than calling this method
+	 * multiple times.
 	 * @return The ninepatch, or null. */
 	public NinePatch createPatch (String name) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) {
-				int[] splits = region.splits;
-				if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
-				NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
-				if (region.pads != null) patch.setPadding(region.pads[0], region.pads[1], region.pads[2], region.pads[3]);
-				return patch;
-			}
-		}
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		int[] splits = region.splits;
+		if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
+		NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
+		if (region.pads != null) patch.setPadding(region.pads[0], region.pads[1], region.pads[2], region.pads[3]);
+		return patch;
 	}
 
 	/** @return the textures of the pages, unordered */
@@ -420,30 +414,123 @@ public class TextureAtlas implements Disposable {
 		}
 	};
 
-	static String readValue (BufferedReader reader) throws IOException {
-		String line = reader.readLine();
-		int colon = line.indexOf(':');
-		if (colon == -1) throw new GdxRuntimeException("Invalid line: " + line);
-		return line.substring(colon + 1).trim();
-	}
+	/** Reads the lines of a text pack file. Values are parsed from the characters in place, only names are copied to strings. */
+	static class PackReader {
+		final char[] text;
+		int position, lineStart, lineEnd;
+
+		PackReader (char[] text) {
+			this.text = text;
+		}
 
-	/** Returns the number of tuple values read (2 or 4). */
-	static int readTuple (BufferedReader reader) throws IOException {
-		String line = reader.readLine();
-		int colon = line.indexOf(':');
-		if (colon == -1) throw new GdxRuntimeException("Invalid line: " + line);
-		int i = 0, lastMatch = colon + 1;
-		for (i = 0; i < 3; i++) {
-			int comma = line.indexOf(',', lastMatch);
-			if (comma == -1) {
-				if (i == 0) throw new GdxRuntimeException("Invalid line: " + line);
-				break;
+		/** Returns the next line, or null at the end of the file. */
+		String readLine () {
+			if (position >= text.length) return null;
+			int start = position;
+			nextLine();
+			return new String(text, start, lineEnd - start);
+		}
+
+		/** Returns the trimmed value after the colon of the next line. */
+		String readValue () {
+			int start = nextValue(), end = lineEnd;
+			while (start < end && text[start] <= ' ')
+				start++;
+			while (end > start && text[end - 1] <= ' ')
+				end--;
+			return new String(text, start, end - start);
+		}
+
+		boolean readBoolean () {
+			return readValue().equalsIgnoreCase("true");
+		}
+
+		int readInt () {
+			int start = nextValue();
+			return parseInt(start, lineEnd);
+		}
+
+		/** Reads the comma separated values after the colon of the next line.
+		 * @return the number of values read (2 to 4) */
+		int readTuple (String[] tuple) {
+			int start = nextValue(), i = 0;
+			for (; i < 3; i++) {
+				int comma = indexOf(',', start);
+				if (comma == -1) {
+					if (i == 0) throw invalidLine();
+					break;
+				}
+				tuple[i] = new String(text, start, comma - start).trim();
+				start = comma + 1;
+			}
+			tuple[i] = new String(text, start, lineEnd - start).trim();
+			return i + 1;
+		}
+
+		/** Reads the comma separated integers after the colon of the next line.
+		 * @return the number of values read (2 to 4) */
+		int readTuple (int[] values) {
+			int start = nextValue(), i = 0;
+			for (; i < 3; i++) {
+				int comma = indexOf(',', start);
+				if (comma == -1) {
+					if (i == 0) throw invalidLine();
+					break;
+				}
+				values[i] = parseInt(start, comma);
+				start = comma + 1;
 			}
-			tuple[i] = line.substring(lastMatch, comma).trim();
-			lastMatch = comma + 1;
+			values[i] = parseInt(start, lineEnd);
+			return i + 1;
+		}
+
+		/** Moves to the next line and returns the index after its colon. */
+		private int nextValue () {
+			if (position >= text.length) throw new GdxRuntimeException("Unexpected end of file.");
+			nextLine();
+			int colon = indexOf(':', lineStart);
+			if (colon == -1) throw invalidLine();
+			return colon + 1;
+		}
+
+		/** Sets lineEnd to the end of the line at the position, excluding the line terminator, and moves the position after it. */
+		private void nextLine () {
+			int end = position, length = text.length;
+			while (end < length && text[end] != '\n' && text[end] != '\r')
+				end++;
+			lineEnd = end;
+			if (end < length && text[end] == '\r') end++;
+			if (end < length && text[end] == '\n') end++;
+			lineStart = position;
+			position = end;
+		}
+
+		private int indexOf (char c, int start) {
+			for (int i = start; i < lineEnd; i++)
+				if (text[i] == c) return i;
+			return -1;
+		}
+
+		private int parseInt (int start, int end) {
+			while (start < end && text[start] <= ' ')
+				start++;
+			while (end > start && text[end - 1] <= ' ')
+				end--;
+			boolean negative = false;
+			if (start < end && (text[start] == '-' || text[start] == '+')) negative = text[start++] == '-';
+			if (start == end) throw invalidLine();
+			int value = 0;
+			for (int i = start; i < end; i++) {
+				int digit = text[i] - '0';
+				if (digit < 0 || digit > 9) throw invalidLine();
+				value = value * 10 + digit;
+			}
+			return negative ? -value : value;
+		}
+
+		private GdxRuntimeException invalidLine () {
+			return new GdxRuntimeException("Invalid line: " + new String(text, lineStart, lineEnd - lineStart));
 		}
-		tuple[i] = line.substring(lastMatch).trim();
-		return i + 1;
 	}
 
 	/** Describes the region of a packed image and provides information about the original image before it was packed. */
@@ -4,6 +4,8 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g3d.lights.Lights;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.BoundingVolumeHierarchy;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultRenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
 import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
@@ -11,6 +13,7 @@ import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
 import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
 import com.badlogic.gdx.graphics.g3d.utils.ShaderProvider;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.collision.BoundingBox;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.Pool;
@@ -43,6 +46,16 @@ public class ModelBatch implements Disposable {
 	protected final ShaderProvider shaderProvider;
 	/** the {@link RenderableSorter} **/
 	protected final RenderableSorter sorter;
+	/** whether {@link ModelInstance}s outside the camera frustum are skipped, using {@link ModelInstance#getBoundingBox()}. Off by
+	 * default, because the bounds don't include geometry displaced by a shader. A {@link BoundingVolumeHierarchy} is always
+	 * culled. **/
+	public boolean frustumCulling = false;
+	/** the number of {@link RenderableProvider}s submitted since the last call to {@link #begin(Camera)} **/
+	public int submittedCount;
+	/** the number of {@link ModelInstance}s culled since the last call to {@link #begin(Camera)} **/
+	public int culledCount;
+	private final BoundingBox tmpBounds = new BoundingBox();
+	private final Array<ModelInstance> visibleInstances = new Array<ModelInstance>();
 	
 	/** Construct a BaseRenderBatch with the specified listener */
 	public ModelBatch(RenderContext context, ShaderProvider shaderProvider, RenderableSorter sorter) {
@@ -77,6 +90,8 @@ public class ModelBatch implements Disposable {
 
 	public void begin (Camera cam) {
 		this.camera = cam;
+		submittedCount = 0;
+		culledCount = 0;
 	}
 
 	public void end () {
@@ -90,6 +105,8 @@ public class ModelBatch implements Disposable {
 					currentShader.end();
 				currentShader = renderable.shader;
 				currentShader.begin(camera, context);
+				// The bones can't change until all renderables are rendered.
+				if (currentShader instanceof DefaultShader) ((DefaultShader)currentShader).bonesUnchanged = true;
 			}
 			currentShader.render(renderable);
 		}
@@ -187,6 +204,48 @@ public class ModelBatch implements Disposable {
 	 * @param shader the shader to use for the renderables
 	 */
 	public void render(final RenderableProvider renderableProvider, final Lights lights, final Shader shader) {
+		if (frustumCulling && renderableProvider instanceof ModelInstance && !isVisible((ModelInstance)renderableProvider)) {
+			culledCount++;
+			return;
+		}
+		submit(renderableProvider, lights, shader);
+	}
+	
+	/**
+	 * Adds all instances of the {@link BoundingVolumeHierarchy} that are inside the camera frustum to the current batch to
+	 * be rendered. This tests the nodes of the hierarchy instead of every instance separately. Any lights set on the returned
+	 * renderables will be replaced with the given lights. Any shaders set on the returned renderables will be replaced by the
+	 * given {@link Shader}.
+	 * @param hierarchy the hierarchy containing the instances to render
+	 * @param lights the lights to use for the renderables
+	 * @param shader the shader to use for the renderables
+	 */
+	public void render(final BoundingVolumeHierarchy hierarchy, final Lights lights, final Shader shader) {
+		hierarchy.getVisible(camera.frustum, visibleInstances);
+		culledCount += hierarchy.size() - visibleInstances.size;
+		for (int i = 0; i < visibleInstances.size; i++)
+			submit(visibleInstances.get(i), lights, shader);
+		visibleInstances.clear();
+	}
+	
+	/** @see #render(BoundingVolumeHierarchy, Lights, Shader) */
+	public void render(final BoundingVolumeHierarchy hierarchy, final Lights lights) {
+		render(hierarchy, lights, null);
+	}
+	
+	/** @see #render(BoundingVolumeHierarchy, Lights, Shader) */
+	public void render(final BoundingVolumeHierarchy hierarchy) {
+		render(hierarchy, null, null);
+	}
+	
+	/** @return whether the world bounds of the instance are (partially) inside the camera frustum */
+	protected boolean isVisible(final ModelInstance instance) {
+		instance.getWorldBoundingBox(tmpBounds);
+		return camera.frustum.boundsInFrustum(tmpBounds.getCenter(), tmpBounds.getDimensions());
+	}
+	
+	protected void submit(final RenderableProvider renderableProvider, final Lights lights, final Shader shader) {
+		submittedCount++;
 		int offset = renderables.size;
 		renderableProvider.getRenderables(renderables, renderablesPool);
 		for (int i = offset; i < renderables.size; i++) {
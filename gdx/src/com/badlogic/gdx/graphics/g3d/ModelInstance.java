@@ -15,6 +15,8 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.ArrayMap;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Pool;
 
@@ -41,6 +43,27 @@ public class ModelInstance implements RenderableProvider {
 	public Matrix4 transform;
 	/** user definable value, which is passed to the shader. */
 	public Object userData;
+	/** the cached bounds of the nodes, not including {@link #transform} **/
+	private final BoundingBox bounds = new BoundingBox();
+	/** whether {@link #bounds} must be recalculated **/
+	private boolean boundsDirty = true;
+	/** all nodes, each after its parent, null until collected by the first {@link #updateTransforms()} **/
+	private Array<Node> flatNodes;
+	/** the index in {@link #flatNodes} of the parent of each node, or -1 **/
+	private IntArray parentIndices;
+	/** whether the transforms of each node in {@link #flatNodes} were recalculated by the last {@link #updateTransforms()} **/
+	private boolean[] updated;
+	/** the node parts with bones, with their bone node indices in {@link #boneIndices} starting at {@link #boneOffsets}, null if
+	 * there are none **/
+	private Array<NodePart> skinnedParts;
+	private IntArray boneOffsets;
+	private IntArray boneIndices;
+	/** whether {@link #flatNodes} must be collected again, set by {@link #calculateTransforms()} **/
+	private boolean nodesChanged = true;
+	/** number of nodes whose world transform was recalculated by the last {@link #updateTransforms()} **/
+	public int nodesUpdated;
+	/** number of bone matrices recalculated by the last {@link #updateTransforms()} **/
+	public int bonesUpdated;
 	
 	/** Constructs a new ModelInstance with all nodes and materials of the given model. */
 	public ModelInstance(Model model) {
@@ -347,7 +370,7 @@ public class ModelInstance implements RenderableProvider {
 	 * Finally, the animation bone matrices are updated accordingly.</p>
 	 * 
 	 * This method can be used to recalculate all transforms if any of the Node's local properties (translation, rotation, scale)
-	 * was modified.
+	 * was modified. It must be called after the node hierarchy is modified, before {@link #updateTransforms()} is used.
 	 */
 	public void calculateTransforms() {
 		for(Node node: nodes) {
@@ -356,6 +379,113 @@ public class ModelInstance implements RenderableProvider {
 		for(Node node: nodes) {
 			node.calculateBoneTransforms(true);
 		}
+		boundsDirty = true;
+		nodesChanged = true;
+	}
+	
+	/** Collects the nodes for {@link #updateTransforms()}, allocating the arrays on first use. */
+	private void collectNodes() {
+		if (flatNodes == null) {
+			flatNodes = new Array<Node>(true, 16, Node.class);
+			parentIndices = new IntArray();
+		} else {
+			flatNodes.clear();
+			parentIndices.clear();
+		}
+		for (final Node node : nodes)
+			flatten(node, -1);
+		if (updated == null || updated.length < flatNodes.size)
+			updated = new boolean[flatNodes.size];
+		
+		if (skinnedParts != null) {
+			skinnedParts.clear();
+			boneOffsets.clear();
+			boneIndices.clear();
+		}
+		ObjectIntMap<Node> nodeIndices = null;
+		for (int i = 0; i < flatNodes.size; i++) {
+			for (final NodePart part : flatNodes.items[i].parts) {
+				if (part.invBoneBindTransforms == null || part.bones == null || part.invBoneBindTransforms.size != part.bones.length)
+					continue;
+				if (nodeIndices == null) {
+					nodeIndices = new ObjectIntMap<Node>(flatNodes.size);
+					for (int j = 0; j < flatNodes.size; j++)
+						nodeIndices.put(flatNodes.items[j], j);
+				}
+				if (skinnedParts == null) {
+					skinnedParts = new Array<NodePart>(true, 4, NodePart.class);
+					boneOffsets = new IntArray();
+					boneIndices = new IntArray();
+				}
+				skinnedParts.add(part);
+				boneOffsets.add(boneIndices.size);
+				for (int j = 0; j < part.bones.length; j++)
+					boneIndices.add(nodeIndices.get(part.invBoneBindTransforms.keys[j], -1));
+			}
+		}
+		nodesChanged = false;
+	}
+	
+	private void flatten(final Node node, final int parentIndex) {
+		final int index = flatNodes.size;
+		flatNodes.add(node);
+		parentIndices.add(parentIndex);
+		for (final Node child : node.children)
+			flatten(child, index);
+	}
+	
+	/**
+	 * Recalculates the transforms of the nodes marked with {@link Node#invalidate()} only. The local transform of each marked
+	 * node is calculated, then the world transform of each marked node and of all nodes below it, and finally the bone
+	 * matrices that depend on these nodes. Nodes that weren't changed are skipped, which is faster than
+	 * {@link #calculateTransforms()} when only part of the hierarchy moves, e.g. when only some nodes are animated.</p>
+	 * 
+	 * The nodes are collected on the first call after {@link #calculateTransforms()}, which must be called after the node
+	 * hierarchy is modified. {@link #nodesUpdated} and {@link #bonesUpdated} are set to the number of recalculated nodes and
+	 * bones.
+	 */
+	public void updateTransforms() {
+		if (nodesChanged)
+			collectNodes();
+		final Node[] nodes = flatNodes.items;
+		final int[] parents = parentIndices.items;
+		final boolean[] updated = this.updated;
+		int count = 0;
+		for (int i = 0, n = flatNodes.size; i < n; i++) {
+			final Node node = nodes[i];
+			final int parent = parents[i];
+			if (node.isDirty) {
+				node.calculateLocalTransform();
+				node.isDirty = false;
+			} else if (parent < 0 || !updated[parent]) {
+				updated[i] = false;
+				continue;
+			}
+			node.calculateWorldTransform();
+			updated[i] = true;
+			count++;
+		}
+		nodesUpdated = count;
+		bonesUpdated = 0;
+		if (count == 0)
+			return;
+		boundsDirty = true;
+		if (skinnedParts == null)
+			return;
+		
+		final int[] boneIndices = this.boneIndices.items;
+		for (int i = 0, n = skinnedParts.size; i < n; i++) {
+			final NodePart part = skinnedParts.items[i];
+			final Node[] boneNodes = part.invBoneBindTransforms.keys;
+			final Matrix4[] invBindTransforms = part.invBoneBindTransforms.values;
+			for (int j = 0, offset = boneOffsets.items[i], m = part.bones.length; j < m; j++) {
+				final int index = boneIndices[offset + j];
+				if (index < 0 || !updated[index])
+					continue;
+				part.bones[j].set(boneNodes[j].globalTransform).mul(invBindTransforms[j]);
+				bonesUpdated++;
+			}
+		}
 	}
 	
 	/** Calculate the bounding box of this model instance.
@@ -380,6 +510,48 @@ public class ModelInstance implements RenderableProvider {
 			calculateBoundingBox(out, child);
 	}
 	
+	/** Returns the bounds of this model instance, not including {@link #transform}. The result is cached and only recalculated
+	 * after {@link #calculateTransforms()} or {@link #invalidateBoundingBox()} is called. Unlike
+	 * {@link #calculateBoundingBox(BoundingBox)}, the vertices are only visited once per {@link MeshPart}, after which the
+	 * cached part bounds are transformed by the node (or bone) transforms, which makes this fast enough to be called every frame.
+	 * @return the cached bounds, don't modify */
+	public BoundingBox getBoundingBox() {
+		if (boundsDirty) {
+			bounds.inf();
+			for (final Node node : nodes)
+				extendCachedBoundingBox(bounds, node);
+			boundsDirty = false;
+		}
+		return bounds;
+	}
+	
+	/** Calculates the bounds of this model instance in world space, using {@link #getBoundingBox()} and {@link #transform}.
+	 * @return the value specified by out. */
+	public BoundingBox getWorldBoundingBox(final BoundingBox out) {
+		return out.inf().ext(getBoundingBox(), transform);
+	}
+	
+	/** Marks the bounds returned by {@link #getBoundingBox()} to be recalculated, e.g. after a {@link Node} transform is modified
+	 * without calling {@link #calculateTransforms()}. */
+	public void invalidateBoundingBox() {
+		boundsDirty = true;
+	}
+	
+	protected void extendCachedBoundingBox(final BoundingBox out, final Node node) {
+		for (final NodePart part : node.parts) {
+			final BoundingBox partBounds = part.meshPart.getBoundingBox();
+			if (part.bones == null)
+				out.ext(partBounds, node.globalTransform);
+			else {
+				// Skinned vertices are a weighted sum of bone transforms, so they are contained by the union of all bone transformed bounds 
+				for (final Matrix4 bone : part.bones)
+					out.ext(partBounds, bone);
+			}
+		}
+		for (final Node child : node.children)
+			extendCachedBoundingBox(out, child);
+	}
+	
 	public Animation getAnimation(final String id) {
 		for (final Animation anim : animations)
 			if (anim.id.compareTo(id)==0)
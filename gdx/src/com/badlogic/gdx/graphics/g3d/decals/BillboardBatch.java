@@ -0,0 +1,442 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.g3d.decals;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** <p>
+ * Renderer for many billboards, eg foliage or particles, that face the camera. Unlike a {@link DecalBatch} no {@link Decal} is
+ * needed: each billboard added with {@link #add(TextureRegion, float, float, float, float, float)} is stored in flat arrays and
+ * drawn on the next {@link #flush()}. The vertex shader turns each corner into a position using the camera's right and up
+ * vectors, so the CPU doesn't rotate the vertices.
+ * </p>
+ * <p>
+ * On flush the billboards are ordered with a radix sort on a key packing the material (texture and blending) and the depth. Opaque
+ * billboards are drawn first, grouped by material and front to back. Blended billboards are drawn back to front, with the
+ * blending enabled. The batch is only flushed to the GL when the material changes or the buffer is full.
+ * </p>
+ * <p>
+ * Requires OpenGL ES 2.0. A BillboardBatch has to be disposed if it is no longer used.
+ * </p> */
+public class BillboardBatch implements Disposable {
+	/** The name of the attribute holding the offset of a vertex from the billboard's center, along the camera's right and up
+	 * vectors. */
+	static public final String CORNER_ATTRIBUTE = "a_corner";
+
+	static private final int DEFAULT_SIZE = 4096;
+	static private final int VERTEX_SIZE = 3 + 1 + 2 + 2;
+	static private final int BILLBOARD_SIZE = 4 * VERTEX_SIZE;
+	// x, y, z, color, u, v, u2, v2, then the half width and half height axes: rightX, rightY, upX, upY
+	static private final int DATA_SIZE = 12;
+	static private final int MATERIAL_BITS = 11, DEPTH_BITS = 20;
+	static private final int MAX_MATERIALS = 1 << MATERIAL_BITS, MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+	static private final int RADIX_BITS = 11, RADIX = 1 << RADIX_BITS, RADIX_MASK = RADIX - 1, RADIX_PASSES = 3;
+
+	private Camera camera;
+	private final Mesh mesh;
+	private final float[] vertices;
+	private final ShaderProgram shader;
+	private final Vector3 right = new Vector3(), up = new Vector3();
+
+	private float[] data = new float[64 * DATA_SIZE];
+	private int[] materials = new int[64];
+	private int count;
+	private int[] keys = new int[64], sortedKeys = new int[64];
+	private int[] order = new int[64], sortedOrder = new int[64];
+	private final int[] histograms = new int[RADIX_PASSES * RADIX];
+
+	/** Texture of each material, the blend factors are in {@link #blendFactors}. */
+	private final Array<Texture> textures = new Array<Texture>();
+	/** Source and destination blend factor of each material, or {@link DecalMaterial#NO_BLEND}. */
+	private final IntArray blendFactors = new IntArray();
+	private Texture lastTexture;
+	private int lastMaterial = -1;
+
+	private float color = Color.WHITE.toFloatBits();
+	private int srcBlendFactor = DecalMaterial.NO_BLEND, dstBlendFactor = DecalMaterial.NO_BLEND;
+
+	/** number of render calls since the last {@link #flush()} **/
+	public int renderCalls = 0;
+
+	/** number of rendering calls ever, will not be reset, unless it's done manually **/
+	public int totalRenderCalls = 0;
+
+	/** Creates a batch that draws up to 4096 billboards with one render call. */
+	public BillboardBatch (Camera camera) {
+		this(DEFAULT_SIZE, camera);
+	}
+
+	/** @param size the maximum number of billboards drawn with one render call, at most 16383 */
+	public BillboardBatch (int size, Camera camera) {
+		if (!Gdx.graphics.isGL20Available()) throw new GdxRuntimeException("GL2 is required.");
+		if (size > 16383) throw new GdxRuntimeException("Can't have more than 16383 billboards per batch");
+		this.camera = camera;
+		vertices = new float[size * BILLBOARD_SIZE];
+		mesh = new Mesh(Mesh.VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 3,
+			ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+			new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"), new VertexAttribute(
+				Usage.Generic, 2, CORNER_ATTRIBUTE));
+
+		short[] indices = new short[size * 6];
+		int v = 0;
+		for (int i = 0; i < indices.length; i += 6, v += 4) {
+			indices[i] = (short)(v);
+			indices[i + 1] = (short)(v + 2);
+			indices[i + 2] = (short)(v + 1);
+			indices[i + 3] = (short)(v + 1);
+			indices[i + 4] = (short)(v + 2);
+			indices[i + 5] = (short)(v + 3);
+		}
+		mesh.setIndices(indices);
+
+		shader = createDefaultShader();
+	}
+
+	/** Returns a new instance of the shader used by BillboardBatch. The position attribute is the billboard's center, the
+	 * {@link #CORNER_ATTRIBUTE} is added along the u_right and u_up vectors. */
+	static public ShaderProgram createDefaultShader () {
+		String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "attribute vec2 " + CORNER_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projectionViewMatrix;\n" //
+			+ "uniform vec3 u_right;\n" //
+			+ "uniform vec3 u_up;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "   vec3 position = " + ShaderProgram.POSITION_ATTRIBUTE + ".xyz + u_right * " + CORNER_ATTRIBUTE + ".x + u_up * "
+			+ CORNER_ATTRIBUTE + ".y;\n" //
+			+ "   gl_Position =  u_projectionViewMatrix * vec4(position, 1.0);\n" //
+			+ "}\n";
+		String fragmentShader = "#ifdef GL_ES\n" //
+			+ "precision mediump float;\n" //
+			+ "#endif\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "uniform sampler2D u_texture;\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (shader.isCompiled() == false) throw new IllegalArgumentException("couldn't compile shader: " + shader.getLog());
+		return shader;
+	}
+
+	public void setCamera (Camera camera) {
+		this.camera = camera;
+	}
+
+	public Camera getCamera () {
+		return camera;
+	}
+
+	/** Sets the color used to tint the billboards added next. Default is {@link Color#WHITE}. */
+	public void setColor (Color tint) {
+		color = tint.toFloatBits();
+	}
+
+	public void setColor (float r, float g, float b, float a) {
+		int intBits = (int)(255 * a) << 24 | (int)(255 * b) << 16 | (int)(255 * g) << 8 | (int)(255 * r);
+		color = NumberUtils.intToFloatColor(intBits);
+	}
+
+	/** @see #setColor(Color) */
+	public void setColor (float color) {
+		this.color = color;
+	}
+
+	/** Sets the blending used for the billboards added next. Billboards with blending are drawn back to front after the opaque
+	 * ones. Default is {@link DecalMaterial#NO_BLEND}.
+	 * @param srcBlendFactor Source blend factor used by glBlendFunc, or {@link DecalMaterial#NO_BLEND}
+	 * @param dstBlendFactor Destination blend factor used by glBlendFunc, or {@link DecalMaterial#NO_BLEND} */
+	public void setBlending (int srcBlendFactor, int dstBlendFactor) {
+		if (srcBlendFactor == this.srcBlendFactor && dstBlendFactor == this.dstBlendFactor) return;
+		this.srcBlendFactor = srcBlendFactor;
+		this.dstBlendFactor = dstBlendFactor;
+		lastTexture = null;
+	}
+
+	/** Adds a billboard centered at x, y, z, with the width and height in world units. */
+	public void add (TextureRegion region, float x, float y, float z, float width, float height) {
+		int i = add(region, x, y, z);
+		data[i + 8] = width * 0.5f;
+		data[i + 9] = 0;
+		data[i + 10] = 0;
+		data[i + 11] = height * 0.5f;
+	}
+
+	/** Adds a billboard centered at x, y, z, with the width and height in world units, rotated counter clockwise by the rotation
+	 * in degrees around its center. */
+	public void add (TextureRegion region, float x, float y, float z, float width, float height, float rotation) {
+		int i = add(region, x, y, z);
+		float cos = MathUtils.cosDeg(rotation), sin = MathUtils.sinDeg(rotation);
+		float halfWidth = width * 0.5f, halfHeight = height * 0.5f;
+		data[i + 8] = halfWidth * cos;
+		data[i + 9] = halfWidth * sin;
+		data[i + 10] = -halfHeight * sin;
+		data[i + 11] = halfHeight * cos;
+	}
+
+	/** @return The index in {@link #data} of the added billboard, with all but the axes set. */
+	private int add (TextureRegion region, float x, float y, float z) {
+		Texture texture = region.getTexture();
+		if (texture != lastTexture) {
+			lastMaterial = material(texture);
+			lastTexture = texture;
+		}
+		if (count == materials.length) resize(count << 1);
+		materials[count] = lastMaterial;
+		int i = count++ * DATA_SIZE;
+		float[] data = this.data;
+		data[i] = x;
+		data[i + 1] = y;
+		data[i + 2] = z;
+		data[i + 3] = color;
+		data[i + 4] = region.getU();
+		data[i + 5] = region.getV();
+		data[i + 6] = region.getU2();
+		data[i + 7] = region.getV2();
+		return i;
+	}
+
+	/** @return The index of the material for the texture and the current blending, added if it doesn't exist. */
+	private int material (Texture texture) {
+		int[] blendFactors = this.blendFactors.items;
+		for (int i = 0, n = textures.size; i < n; i++)
+			if (textures.get(i) == texture && blendFactors[i * 2] == srcBlendFactor && blendFactors[i * 2 + 1] == dstBlendFactor)
+				return i;
+		if (textures.size == MAX_MATERIALS) flush();
+		textures.add(texture);
+		this.blendFactors.add(srcBlendFactor);
+		this.blendFactors.add(dstBlendFactor);
+		return textures.size - 1;
+	}
+
+	private void resize (int size) {
+		float[] newData = new float[size * DATA_SIZE];
+		System.arraycopy(data, 0, newData, 0, count * DATA_SIZE);
+		data = newData;
+		int[] newMaterials = new int[size];
+		System.arraycopy(materials, 0, newMaterials, 0, count);
+		materials = newMaterials;
+		keys = new int[size];
+		sortedKeys = new int[size];
+		order = new int[size];
+		sortedOrder = new int[size];
+	}
+
+	/** Sorts all added billboards and sends them to the GL. After flushing the batch is empty once again. */
+	public void flush () {
+		renderCalls = 0;
+		if (count == 0) return;
+		sort();
+
+		right.set(camera.direction).crs(camera.up).nor();
+		up.set(right).crs(camera.direction).nor();
+		Gdx.gl.glEnable(GL10.GL_DEPTH_TEST);
+		shader.begin();
+		shader.setUniformMatrix("u_projectionViewMatrix", camera.combined);
+		shader.setUniformf("u_right", right);
+		shader.setUniformf("u_up", up);
+		shader.setUniformi("u_texture", 0);
+
+		float[] data = this.data, vertices = this.vertices;
+		int[] materials = this.materials, order = this.order;
+		int material = -1, idx = 0;
+		boolean blending = false;
+		for (int i = 0, n = count; i < n; i++) {
+			int index = order[i];
+			if (materials[index] != material) {
+				if (idx > 0) {
+					render(idx);
+					idx = 0;
+				}
+				material = materials[index];
+				textures.get(material).bind();
+				int srcBlendFactor = blendFactors.get(material * 2);
+				if (srcBlendFactor == DecalMaterial.NO_BLEND) {
+					if (blending) Gdx.gl.glDisable(GL10.GL_BLEND);
+					blending = false;
+				} else {
+					if (!blending) Gdx.gl.glEnable(GL10.GL_BLEND);
+					blending = true;
+					Gdx.gl.glBlendFunc(srcBlendFactor, blendFactors.get(material * 2 + 1));
+				}
+			}
+
+			int d = index * DATA_SIZE;
+			float x = data[d], y = data[d + 1], z = data[d + 2], color = data[d + 3];
+			float u = data[d + 4], v = data[d + 5], u2 = data[d + 6], v2 = data[d + 7];
+			float rightX = data[d + 8], rightY = data[d + 9], upX = data[d + 10], upY = data[d + 11];
+			// left top
+			vertices[idx] = x;
+			vertices[idx + 1] = y;
+			vertices[idx + 2] = z;
+			vertices[idx + 3] = color;
+			vertices[idx + 4] = u;
+			vertices[idx + 5] = v;
+			vertices[idx + 6] = upX - rightX;
+			vertices[idx + 7] = upY - rightY;
+			// right top
+			vertices[idx + 8] = x;
+			vertices[idx + 9] = y;
+			vertices[idx + 10] = z;
+			vertices[idx + 11] = color;
+			vertices[idx + 12] = u2;
+			vertices[idx + 13] = v;
+			vertices[idx + 14] = upX + rightX;
+			vertices[idx + 15] = upY + rightY;
+			// left bottom
+			vertices[idx + 16] = x;
+			vertices[idx + 17] = y;
+			vertices[idx + 18] = z;
+			vertices[idx + 19] = color;
+			vertices[idx + 20] = u;
+			vertices[idx + 21] = v2;
+			vertices[idx + 22] = -upX - rightX;
+			vertices[idx + 23] = -upY - rightY;
+			// right bottom
+			vertices[idx + 24] = x;
+			vertices[idx + 25] = y;
+			vertices[idx + 26] = z;
+			vertices[idx + 27] = color;
+			vertices[idx + 28] = u2;
+			vertices[idx + 29] = v2;
+			vertices[idx + 30] = rightX - upX;
+			vertices[idx + 31] = rightY - upY;
+			idx += BILLBOARD_SIZE;
+			// if our batch is full we have to flush it
+			if (idx == vertices.length) {
+				render(idx);
+				idx = 0;
+			}
+		}
+		if (idx > 0) render(idx);
+
+		shader.end();
+		if (blending) Gdx.gl.glDisable(GL10.GL_BLEND);
+		Gdx.gl.glDisable(GL10.GL_DEPTH_TEST);
+		clear();
+	}
+
+	private void render (int verticesPosition) {
+		renderCalls++;
+		totalRenderCalls++;
+		mesh.setVertices(vertices, 0, verticesPosition);
+		mesh.render(shader, GL10.GL_TRIANGLES, 0, verticesPosition / BILLBOARD_SIZE * 6);
+	}
+
+	/** Orders {@link #order} by the key of each billboard. Opaque billboards have the material in the high bits and the depth in
+	 * the low bits, blended ones have the top bit set, then the inverted depth and the material. */
+	private void sort () {
+		int n = count;
+		float[] data = this.data;
+		int[] keys = this.keys, materials = this.materials, blendFactors = this.blendFactors.items;
+		Vector3 position = camera.position, direction = camera.direction;
+		float near = camera.near, scale = MAX_DEPTH / (camera.far - camera.near);
+		for (int i = 0, d = 0; i < n; i++, d += DATA_SIZE) {
+			float distance = (data[d] - position.x) * direction.x + (data[d + 1] - position.y) * direction.y
+				+ (data[d + 2] - position.z) * direction.z;
+			int depth = (int)((distance - near) * scale);
+			if (depth < 0)
+				depth = 0;
+			else if (depth > MAX_DEPTH) depth = MAX_DEPTH;
+			int material = materials[i];
+			if (blendFactors[material * 2] == DecalMaterial.NO_BLEND)
+				keys[i] = material << DEPTH_BITS | depth;
+			else
+				keys[i] = 1 << 31 | (MAX_DEPTH - depth) << MATERIAL_BITS | material;
+		}
+
+		// Least significant digit radix sort of the keys as unsigned ints, with one counting pass for all digits.
+		int[] histograms = this.histograms;
+		for (int i = 0, c = histograms.length; i < c; i++)
+			histograms[i] = 0;
+		for (int i = 0; i < n; i++) {
+			int key = keys[i];
+			histograms[key & RADIX_MASK]++;
+			histograms[RADIX + (key >>> RADIX_BITS & RADIX_MASK)]++;
+			histograms[2 * RADIX + (key >>> 2 * RADIX_BITS)]++;
+		}
+		int[] order = this.order, sortedKeys = this.sortedKeys, sortedOrder = this.sortedOrder;
+		for (int i = 0; i < n; i++)
+			order[i] = i;
+		for (int pass = 0, shift = 0; pass < RADIX_PASSES; pass++, shift += RADIX_BITS) {
+			int offset = pass * RADIX;
+			// Skip the digits that are the same for all keys.
+			if (histograms[offset + (keys[0] >>> shift & RADIX_MASK)] == n) continue;
+			for (int i = 0, total = 0; i < RADIX; i++) {
+				int digitCount = histograms[offset + i];
+				histograms[offset + i] = total;
+				total += digitCount;
+			}
+			for (int i = 0; i < n; i++) {
+				int key = keys[i];
+				int target = histograms[offset + (key >>> shift & RADIX_MASK)]++;
+				sortedKeys[target] = key;
+				sortedOrder[target] = order[i];
+			}
+			int[] swap = keys;
+			keys = sortedKeys;
+			sortedKeys = swap;
+			swap = order;
+			order = sortedOrder;
+			sortedOrder = swap;
+		}
+		this.keys = keys;
+		this.sortedKeys = sortedKeys;
+		this.order = order;
+		this.sortedOrder = sortedOrder;
+	}
+
+	/** Removes all billboards from the batch. */
+	public void clear () {
+		count = 0;
+		textures.clear();
+		blendFactors.clear();
+		lastTexture = null;
+		lastMaterial = -1;
+	}
+
+	public void dispose () {
+		mesh.dispose();
+		shader.dispose();
+	}
+}
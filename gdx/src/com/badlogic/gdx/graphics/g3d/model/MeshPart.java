@@ -2,6 +2,7 @@ package com.badlogic.gdx.graphics.g3d.model;
 
 import com.badlogic.gdx.graphics.Mesh;
 import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.math.collision.BoundingBox;
 
 /**
  * A mesh part is composed of a subset of vertices
@@ -22,4 +23,26 @@ public class MeshPart {
 	public int numVertices;
 	/** the Mesh the part references, also stored in {@link Model} **/
 	public Mesh mesh;
+	/** the bounds of the part in mesh space, calculated when first requested **/
+	private BoundingBox bounds;
+
+	/** Returns the bounds of the vertices of this part, in mesh space. The bounds are calculated once and cached, call
+	 * {@link #invalidateBoundingBox()} if the vertices, {@link #indexOffset} or {@link #numVertices} are modified.
+	 * If the mesh has no indices, the bounds of the whole mesh are used.
+	 * @return the cached bounds, don't modify */
+	public BoundingBox getBoundingBox () {
+		if (bounds == null) {
+			bounds = new BoundingBox();
+			if (mesh.getNumIndices() > 0)
+				mesh.calculateBoundingBox(bounds, indexOffset, numVertices);
+			else
+				mesh.calculateBoundingBox(bounds);
+		}
+		return bounds;
+	}
+
+	/** Discards the cached bounds, causing them to be recalculated on the next call to {@link #getBoundingBox()}. */
+	public void invalidateBoundingBox () {
+		bounds = null;
+	}
 }
@@ -1,6 +1,7 @@
 package com.badlogic.gdx.graphics.g3d.model;
 
 import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
 import com.badlogic.gdx.graphics.g3d.materials.Material;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Quaternion;
@@ -23,6 +24,9 @@ public class Node {
 	public final Array<Node> children = new Array<Node>(2);
 	/** Whether this node is currently being animated, if so the translation, rotation and scale values are not used. */
 	public boolean isAnimated;
+	/** Whether the transforms of this node have to be recalculated by {@link ModelInstance#updateTransforms()}, see
+	 * {@link #invalidate()}. Cleared when the transforms are calculated. */
+	public boolean isDirty = true;
 	/** the translation, relative to the parent, not modified by animations **/
 	public final Vector3 translation = new Vector3();
 	/** the rotation, relative to the parent, not modified by animations **/
@@ -36,17 +40,22 @@ public class Node {
 	
 	public Array<NodePart> parts = new Array<NodePart>(2);
 	
+	/**
+	 * Marks this node to be updated by {@link ModelInstance#updateTransforms()}: the local transform is recalculated (unless the
+	 * node is animated), and the world transforms of this node and its children and the bones using them are recalculated.
+	 * Must be called after modifying the translation, rotation, scale or local transform.
+	 */
+	public void invalidate() {
+		isDirty = true;
+	}
+	
 	/**
 	 * Calculates the local transform based on the translation, scale and rotation
 	 * @return the local transform
 	 */
 	public Matrix4 calculateLocalTransform() {
-		if (!isAnimated) {
-			localTransform.idt();
-			localTransform.translate(translation);
-			localTransform.rotate(rotation);
-			localTransform.scale(scale.x, scale.y, scale.z);
-		}
+		if (!isAnimated)
+			localTransform.set(translation, rotation, scale);
 		return localTransform;
 	}
 
@@ -72,6 +81,7 @@ public class Node {
 	public void calculateTransforms(boolean recursive) {
 		calculateLocalTransform();
 		calculateWorldTransform();
+		isDirty = false;
 		
 		if(recursive) {
 			for(Node child: children) {
@@ -108,7 +108,15 @@ public class DefaultShader extends BaseShader {
 	protected final DirectionalLight directionalLights[];
 	protected final PointLight pointLights[];
 	
+	/** The bone matrices as last uploaded to u_bones, numBones * 16 floats. */
 	protected final float bones[];
+	/** The number of times u_bones was uploaded, and the number of times the upload was skipped because the renderable had the
+	 * same bones as the one rendered before it. Not reset unless done manually. */
+	public int boneUploads, boneUploadsSkipped;
+	/** Whether the bone matrices of the renderables don't change until {@link #end()}, so a renderable with the same bones array as
+	 * the one rendered before it can skip comparing the bones. Reset by {@link #begin(Camera, RenderContext)}, set by
+	 * {@link com.badlogic.gdx.graphics.g3d.ModelBatch}, which renders all renderables after they were submitted. */
+	public boolean bonesUnchanged;
 	
 	protected long materialMask;
 	protected long vertexMask;
@@ -241,7 +249,8 @@ public class DefaultShader extends BaseShader {
 		return materialMask == renderable.material.getMask() && 
 			vertexMask == getAttributesMask(renderable.mesh.getVertexAttributes()) && 
 			(renderable.lights != null) == lighting &&
-            ((renderable.lights != null && renderable.lights.fog != null) == fog);
+            ((renderable.lights != null && renderable.lights.fog != null) == fog) &&
+            (renderable.bones == null || renderable.bones.length * 16 <= bones.length);
 	}
 	
 	private final boolean can(final long flag) {
@@ -290,8 +299,9 @@ public class DefaultShader extends BaseShader {
 			dirLight.set(0,0,0,0,-1,0);
 		for (final PointLight pointLight : pointLights)
 			pointLight.set(0,0,0,0,0,0,0);
-		for (int i = 0; i < bones.length; i++)
-			bones[i] = idtMatrix.val[i%16];
+		currentBones = null;
+		bonesUploaded = false;
+		bonesUnchanged = false;
 	}
 
 	private void setWorldTransform(final Matrix4 value) {
@@ -313,14 +323,8 @@ public class DefaultShader extends BaseShader {
 			renderable.mesh.setAutoBind(false); // FIXME this doesn't belong here
 			(currentMesh = renderable.mesh).bind(program);
 		}
-		if (has(u_bones)) {
-			for (int i = 0; i < bones.length; i++) {
-				final int idx = i/16;
-				bones[i] = (renderable.bones == null || idx >= renderable.bones.length || renderable.bones[idx] == null) ? 
-					idtMatrix.val[i%16] : renderable.bones[idx].val[i%16];
-			}
-			program.setUniformMatrix4fv(u_bones.location, bones, 0, bones.length);
-		}
+		if (has(u_bones))
+			bindBones(renderable);
 		super.render(renderable);
 	}
 
@@ -373,6 +377,40 @@ public class DefaultShader extends BaseShader {
 		context.setCullFace(cullFace);
 	}
 
+	Matrix4 currentBones[];
+	boolean bonesUploaded;
+	/** Uploads the bones of the renderable, unless they have the same values as the bones uploaded last, like the same part of two
+	 * instances in the same pose, or are the same array and {@link #bonesUnchanged} is set. */
+	private final void bindBones(final Renderable renderable) {
+		final Matrix4 matrices[] = renderable.bones;
+		if (bonesUploaded && bonesUnchanged && currentBones == matrices) {
+			boneUploadsSkipped++;
+			return;
+		}
+		currentBones = matrices;
+		boolean changed = !bonesUploaded;
+		final int count = matrices == null ? 0 : matrices.length;
+		for (int i = 0, idx = 0; i < bones.length; i += 16, idx++) {
+			final float val[] = (idx >= count || matrices[idx] == null) ? idtMatrix.val : matrices[idx].val;
+			if (!changed) {
+				for (int j = 0; j < 16; j++) {
+					if (bones[i + j] != val[j]) {
+						changed = true;
+						break;
+					}
+				}
+			}
+			if (changed)
+				System.arraycopy(val, 0, bones, i, 16);
+		}
+		if (changed) {
+			program.setUniformMatrix4fv(u_bones.location, bones, 0, bones.length);
+			bonesUploaded = true;
+			boneUploads++;
+		} else
+			boneUploadsSkipped++;
+	}
+
 	TextureAttribute currentTextureAttribute;
 	private final void bindTextureAttribute(final int uniform, final TextureAttribute attribute) {
 		final int unit = context.textureBinder.bind(attribute.textureDescription);
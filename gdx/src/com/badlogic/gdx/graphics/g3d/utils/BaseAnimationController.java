@@ -45,11 +45,7 @@ public class BaseAnimationController {
 			return this;
 		}
 		public Matrix4 toMatrix4(final Matrix4 out) {
-			out.idt();
-			out.translate(translation);
-			out.rotate(rotation);
-			out.scale(scale.x, scale.y, scale.z);
-			return out;
+			return out.set(translation, rotation, scale);
 		}
 		@Override
 		public void reset () {
@@ -66,11 +62,22 @@ public class BaseAnimationController {
 	private final static ObjectMap<Node, Transform> transforms = new ObjectMap<Node, Transform>();
 	private boolean applying = false;
 	public final ModelInstance target;
+	/** If true, only the animated nodes, the nodes below them and their bones are recalculated using
+	 * {@link ModelInstance#updateTransforms()}. Nodes changed by other code must then be marked with {@link Node#invalidate()}.
+	 * Default is false, all transforms are recalculated using {@link ModelInstance#calculateTransforms()}. */
+	public boolean updateAnimatedOnly;
 	
 	public BaseAnimationController(final ModelInstance target) {
 		this.target = target;
 	}
 	
+	private void updateTransforms() {
+		if (updateAnimatedOnly)
+			target.updateTransforms();
+		else
+			target.calculateTransforms();
+	}
+	
 	/** Begin applying multiple animations to the instance, 
 	 * must followed by one or more calls to {{@link #apply(Animation, float, float)} and finally {{@link #end()}. */
 	protected void begin() {
@@ -96,7 +103,7 @@ public class BaseAnimationController {
 			transformPool.free(entry.value);
 		}
 		transforms.clear();
-		target.calculateTransforms();
+		updateTransforms();
 		applying = false;
 	}
 	
@@ -105,7 +112,7 @@ public class BaseAnimationController {
 		if (applying)
 			throw new GdxRuntimeException("Call end() first");
 		applyAnimation(null, null, 1.f, animation, time);
-		target.calculateTransforms();
+		updateTransforms();
 	}
 	
 	/** Apply two animations, blending the second onto to first using weight. */
@@ -130,6 +137,7 @@ public class BaseAnimationController {
 		for (final NodeAnimation nodeAnim : animation.nodeAnimations) {
 			final Node node = nodeAnim.node;
 			node.isAnimated = true;
+			node.isDirty = true;
 			// Find the keyframe(s)
 			final int n = nodeAnim.keyframes.size - 1;
 			int first = 0, second = -1;
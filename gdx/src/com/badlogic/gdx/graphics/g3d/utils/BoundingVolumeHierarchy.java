@@ -0,0 +1,275 @@
+package com.badlogic.gdx.graphics.g3d.utils;
+
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Frustum;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.utils.Array;
+
+/** A bounding volume hierarchy of {@link ModelInstance}s, used to find the instances inside a {@link Frustum} with a few tests
+ * per frame instead of one test per instance. The tree is stored in flat arrays and is rebuilt lazily when instances are added
+ * or removed. When instances move, call {@link #refit()} to update the bounds while keeping the tree, or {@link #rebuild()} when
+ * most of the instances moved far enough for the tree to become inefficient. */
+public class BoundingVolumeHierarchy {
+	/** the maximum number of instances in a leaf node **/
+	public final int leafSize;
+	/** the number of tree nodes tested during the last call to {@link #getVisible(Frustum, Array)} **/
+	public int nodesTested;
+
+	private final Array<ModelInstance> instances = new Array<ModelInstance>();
+	private final BoundingBox tmpBounds = new BoundingBox();
+	/** per instance: min x, y, z, max x, y, z of the world bounds **/
+	private float[] instanceBounds = new float[0];
+	/** the instances and their bounds in leaf order while rebuilding, swapped with the bounds and reused **/
+	private float[] sortedBounds = new float[0];
+	private Object[] sortedInstances = new Object[0];
+	/** per instance: the center of the world bounds along the current split axis **/
+	private float[] keys = new float[0];
+	private int[] order = new int[0];
+	/** per node: min x, y, z, max x, y, z **/
+	private float[] nodeBounds = new float[0];
+	private int[] nodeStart = new int[0];
+	private int[] nodeSize = new int[0];
+	/** the index of the second child, the first child always directly follows its parent, -1 for leaf nodes **/
+	private int[] nodeRight = new int[0];
+	private int nodeCount;
+	private int[] stack = new int[64];
+	private boolean dirty;
+
+	public BoundingVolumeHierarchy () {
+		this(4);
+	}
+
+	/** @param leafSize the maximum number of instances in a leaf node */
+	public BoundingVolumeHierarchy (int leafSize) {
+		if (leafSize < 1) throw new IllegalArgumentException("leafSize must be > 0: " + leafSize);
+		this.leafSize = leafSize;
+	}
+
+	/** Adds the instance, the tree is rebuilt on the next query. */
+	public void add (final ModelInstance instance) {
+		instances.add(instance);
+		dirty = true;
+	}
+
+	/** Adds the instances, the tree is rebuilt on the next query. */
+	public void addAll (final Array<? extends ModelInstance> instances) {
+		this.instances.addAll(instances);
+		dirty = true;
+	}
+
+	/** Removes the instance, the tree is rebuilt on the next query.
+	 * @return whether the instance was found */
+	public boolean remove (final ModelInstance instance) {
+		if (!instances.removeValue(instance, true)) return false;
+		dirty = true;
+		return true;
+	}
+
+	public void clear () {
+		instances.clear();
+		dirty = true;
+	}
+
+	/** @return the number of instances in the hierarchy */
+	public int size () {
+		return instances.size;
+	}
+
+	/** @return the instances, don't modify */
+	public Array<ModelInstance> getInstances () {
+		return instances;
+	}
+
+	/** Recalculates the world bounds of all instances and the nodes containing them, keeping the current tree. This is
+	 * considerably faster than {@link #rebuild()}, but the culling becomes less effective when instances move far. */
+	public void refit () {
+		if (dirty) {
+			rebuild();
+			return;
+		}
+		updateInstanceBounds();
+		for (int node = nodeCount - 1; node >= 0; node--) {
+			final int right = nodeRight[node];
+			if (right < 0)
+				calculateLeafBounds(node);
+			else
+				mergeBounds(node, node + 1, right);
+		}
+	}
+
+	/** Recalculates the world bounds of all instances and rebuilds the tree, splitting the instances at the median along the
+	 * longest axis of each node. */
+	public void rebuild () {
+		final int n = instances.size;
+		if (keys.length < n) {
+			keys = new float[n];
+			order = new int[n];
+			sortedInstances = new Object[n];
+		}
+		final int maxNodes = Math.max(1, 2 * n);
+		if (nodeStart.length < maxNodes) {
+			nodeBounds = new float[maxNodes * 6];
+			nodeStart = new int[maxNodes];
+			nodeSize = new int[maxNodes];
+			nodeRight = new int[maxNodes];
+		}
+		updateInstanceBounds();
+		for (int i = 0; i < n; i++)
+			order[i] = i;
+		nodeCount = 0;
+		if (n > 0) build(0, n);
+
+		// Store the instances in leaf order, so a leaf references a contiguous range
+		final Object[] items = instances.items, sorted = sortedInstances;
+		if (sortedBounds.length < n * 6) sortedBounds = new float[instanceBounds.length];
+		final float[] sortedBounds = this.sortedBounds;
+		for (int i = 0; i < n; i++) {
+			sorted[i] = items[order[i]];
+			System.arraycopy(instanceBounds, order[i] * 6, sortedBounds, i * 6, 6);
+		}
+		System.arraycopy(sorted, 0, items, 0, n);
+		for (int i = 0; i < n; i++)
+			sorted[i] = null;
+		this.sortedBounds = instanceBounds;
+		instanceBounds = sortedBounds;
+		dirty = false;
+	}
+
+	/** Adds all instances of which the world bounds are at least partially inside the frustum to the specified array.
+	 * @return the value specified by out */
+	public Array<ModelInstance> getVisible (final Frustum frustum, final Array<ModelInstance> out) {
+		if (dirty) rebuild();
+		nodesTested = 0;
+		if (nodeCount == 0) return out;
+		int top = 0;
+		stack[top++] = 0;
+		while (top > 0) {
+			final int node = stack[--top];
+			nodesTested++;
+			if (!inFrustum(frustum, nodeBounds, node * 6)) continue;
+			final int right = nodeRight[node];
+			if (right >= 0) {
+				if (top + 2 > stack.length) {
+					final int[] newStack = new int[stack.length * 2];
+					System.arraycopy(stack, 0, newStack, 0, top);
+					stack = newStack;
+				}
+				stack[top++] = right;
+				stack[top++] = node + 1;
+			} else {
+				final int start = nodeStart[node], end = start + nodeSize[node];
+				for (int i = start; i < end; i++)
+					if (inFrustum(frustum, instanceBounds, i * 6)) out.add(instances.get(i));
+			}
+		}
+		return out;
+	}
+
+	private static boolean inFrustum (final Frustum frustum, final float[] bounds, final int offset) {
+		final float minX = bounds[offset], minY = bounds[offset + 1], minZ = bounds[offset + 2];
+		final float maxX = bounds[offset + 3], maxY = bounds[offset + 4], maxZ = bounds[offset + 5];
+		return frustum.boundsInFrustum((minX + maxX) * 0.5f, (minY + maxY) * 0.5f, (minZ + maxZ) * 0.5f, (maxX - minX) * 0.5f,
+			(maxY - minY) * 0.5f, (maxZ - minZ) * 0.5f);
+	}
+
+	private void updateInstanceBounds () {
+		final int n = instances.size;
+		if (instanceBounds.length < n * 6) instanceBounds = new float[n * 6];
+		for (int i = 0, o = 0; i < n; i++, o += 6) {
+			instances.get(i).getWorldBoundingBox(tmpBounds);
+			instanceBounds[o] = tmpBounds.min.x;
+			instanceBounds[o + 1] = tmpBounds.min.y;
+			instanceBounds[o + 2] = tmpBounds.min.z;
+			instanceBounds[o + 3] = tmpBounds.max.x;
+			instanceBounds[o + 4] = tmpBounds.max.y;
+			instanceBounds[o + 5] = tmpBounds.max.z;
+		}
+	}
+
+	private void build (final int start, final int size) {
+		final int node = nodeCount++;
+		nodeStart[node] = start;
+		nodeSize[node] = size;
+		nodeRight[node] = -1;
+		calculateRangeBounds(node, start, size);
+		if (size <= leafSize) return;
+
+		final int o = node * 6;
+		final float dx = nodeBounds[o + 3] - nodeBounds[o], dy = nodeBounds[o + 4] - nodeBounds[o + 1], dz = nodeBounds[o + 5]
+			- nodeBounds[o + 2];
+		final int axis = (dx >= dy && dx >= dz) ? 0 : (dy >= dz ? 1 : 2);
+		for (int i = start, end = start + size; i < end; i++) {
+			final int b = order[i] * 6 + axis;
+			keys[order[i]] = instanceBounds[b] + instanceBounds[b + 3];
+		}
+		final int half = size / 2;
+		select(start, start + size - 1, start + half);
+		build(start, half);
+		nodeRight[node] = nodeCount;
+		build(start + half, size - half);
+	}
+
+	/** Partially sorts {@link #order} between left and right (inclusive), so the element at k is in its sorted position. */
+	private void select (int left, int right, final int k) {
+		final int[] order = this.order;
+		final float[] keys = this.keys;
+		while (right > left) {
+			final float pivot = keys[order[(left + right) >>> 1]];
+			int i = left, j = right;
+			while (i <= j) {
+				while (keys[order[i]] < pivot)
+					i++;
+				while (keys[order[j]] > pivot)
+					j--;
+				if (i <= j) {
+					final int t = order[i];
+					order[i] = order[j];
+					order[j] = t;
+					i++;
+					j--;
+				}
+			}
+			if (k <= j)
+				right = j;
+			else if (k >= i)
+				left = i;
+			else
+				return;
+		}
+	}
+
+	private void calculateRangeBounds (final int node, final int start, final int size) {
+		final int o = node * 6;
+		nodeBounds[o] = nodeBounds[o + 1] = nodeBounds[o + 2] = Float.POSITIVE_INFINITY;
+		nodeBounds[o + 3] = nodeBounds[o + 4] = nodeBounds[o + 5] = Float.NEGATIVE_INFINITY;
+		for (int i = start, end = start + size; i < end; i++)
+			extendNodeBounds(o, order[i] * 6);
+	}
+
+	private void calculateLeafBounds (final int node) {
+		final int o = node * 6;
+		nodeBounds[o] = nodeBounds[o + 1] = nodeBounds[o + 2] = Float.POSITIVE_INFINITY;
+		nodeBounds[o + 3] = nodeBounds[o + 4] = nodeBounds[o + 5] = Float.NEGATIVE_INFINITY;
+		for (int i = nodeStart[node], end = i + nodeSize[node]; i < end; i++)
+			extendNodeBounds(o, i * 6);
+	}
+
+	private void extendNodeBounds (final int o, final int b) {
+		final float[] nodeBounds = this.nodeBounds, instanceBounds = this.instanceBounds;
+		if (instanceBounds[b] < nodeBounds[o]) nodeBounds[o] = instanceBounds[b];
+		if (instanceBounds[b + 1] < nodeBounds[o + 1]) nodeBounds[o + 1] = instanceBounds[b + 1];
+		if (instanceBounds[b + 2] < nodeBounds[o + 2]) nodeBounds[o + 2] = instanceBounds[b + 2];
+		if (instanceBounds[b + 3] > nodeBounds[o + 3]) nodeBounds[o + 3] = instanceBounds[b + 3];
+		if (instanceBounds[b + 4] > nodeBounds[o + 4]) nodeBounds[o + 4] = instanceBounds[b + 4];
+		if (instanceBounds[b + 5] > nodeBounds[o + 5]) nodeBounds[o + 5] = instanceBounds[b + 5];
+	}
+
+	private void mergeBounds (final int node, final int left, final int right) {
+		final float[] nodeBounds = this.nodeBounds;
+		final int o = node * 6, l = left * 6, r = right * 6;
+		for (int i = 0; i < 3; i++) {
+			nodeBounds[o + i] = Math.min(nodeBounds[l + i], nodeBounds[r + i]);
+			nodeBounds[o + 3 + i] = Math.max(nodeBounds[l + 3 + i], nodeBounds[r + 3 + i]);
+		}
+	}
+}
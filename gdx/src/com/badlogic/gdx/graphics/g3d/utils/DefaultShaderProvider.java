@@ -10,6 +10,9 @@ import com.badlogic.gdx.graphics.g3d.shaders.GLES10Shader;
 public class DefaultShaderProvider extends BaseShaderProvider {
 	public String vertexShader;
 	public String fragmentShader;
+	/** The minimum number of bones of the shaders created for skinned renderables, renderables with more bones get a shader with
+	 * as many bones as they have. */
+	public int numBones = 12;
 	
 	public DefaultShaderProvider(final String vertexShader, final String fragmentShader) {
 		this.vertexShader = vertexShader;
@@ -28,7 +31,7 @@ public class DefaultShaderProvider extends BaseShaderProvider {
 	protected Shader createShader(final Renderable renderable) {
 		Gdx.app.log("DefaultShaderProvider", "Creating new shader");
 		if (Gdx.graphics.isGL20Available()) {
-            return new DefaultShader(vertexShader, fragmentShader, renderable.material, renderable.mesh.getVertexAttributes(), renderable.lights != null, renderable.lights != null && renderable.lights.fog != null, 2, 5, 3, renderable.bones == null ? 0 : 12);
+            return new DefaultShader(vertexShader, fragmentShader, renderable.material, renderable.mesh.getVertexAttributes(), renderable.lights != null, renderable.lights != null && renderable.lights.fog != null, 2, 5, 3, renderable.bones == null ? 0 : Math.max(numBones, renderable.bones.length));
         }
 		return new GLES10Shader();
 	}
@@ -0,0 +1,295 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.GZIPInputStream;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.glutils.ETC1.ETC1Data;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** A {@link TextureData} loaded from a <a href="http://www.khronos.org/opengles/sdk/tools/KTX/file_format_spec/">KTX</a> file. The
+ * image data of every mipmap level stored in the file is uploaded directly, without decoding it to a {@link Pixmap}. Files with
+ * the ".zktx" extension are gzip compressed KTX files prefixed by their uncompressed size, as written by the KTX tools in
+ * gdx-tools. Uncompressed ".ktx" files are memory mapped if possible.
+ * <p>
+ * Compressed formats are uploaded with glCompressedTexImage2D, the device must support them. The exception is ETC1, which is
+ * decoded to {@link Format#RGB565} if the device doesn't support it. Only 2D textures are supported, not cube maps, arrays or 3D
+ * textures. */
+public class KTXTextureData implements TextureData {
+	static private final byte[] IDENTIFIER = {(byte)0xAB, 'K', 'T', 'X', ' ', '1', '1', (byte)0xBB, '\r', '\n', 0x1A, '\n'};
+	static private final int HEADER_SIZE = 64;
+
+	FileHandle file;
+	boolean genMipMaps;
+	ByteBuffer data;
+	boolean unsafe;
+	boolean isPrepared;
+
+	int glType, glTypeSize, glFormat, glInternalFormat, glBaseInternalFormat;
+	int width, height, mipMapLevels;
+	int imageOffset;
+
+	/** @param genMipMaps if true and the file contains a single level, mipmaps are generated at upload */
+	public KTXTextureData (FileHandle file, boolean genMipMaps) {
+		this.file = file;
+		this.genMipMaps = genMipMaps;
+	}
+
+	@Override
+	public TextureDataType getType () {
+		return TextureDataType.Compressed;
+	}
+
+	@Override
+	public boolean isPrepared () {
+		return isPrepared;
+	}
+
+	@Override
+	public void prepare () {
+		if (isPrepared) throw new GdxRuntimeException("Already prepared");
+		if (file.name().endsWith(".zktx"))
+			readCompressed();
+		else {
+			try {
+				data = file.map();
+			} catch (GdxRuntimeException ex) {
+				read();
+			}
+		}
+
+		if (data.capacity() < HEADER_SIZE) {
+			dispose();
+			throw new GdxRuntimeException("KTX file is too short: " + file);
+		}
+		for (int i = 0; i < IDENTIFIER.length; i++) {
+			if (data.get(i) != IDENTIFIER[i]) {
+				dispose();
+				throw new GdxRuntimeException("Invalid KTX file: " + file);
+			}
+		}
+		data.order(ByteOrder.nativeOrder());
+		if (data.getInt(12) != 0x04030201)
+			data.order(data.order() == ByteOrder.BIG_ENDIAN ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+		glType = data.getInt(16);
+		glTypeSize = data.getInt(20);
+		glFormat = data.getInt(24);
+		glInternalFormat = data.getInt(28);
+		glBaseInternalFormat = data.getInt(32);
+		width = data.getInt(36);
+		height = data.getInt(40);
+		if (data.getInt(44) > 0 || data.getInt(48) > 0 || data.getInt(52) > 1) {
+			dispose();
+			throw new GdxRuntimeException("Only 2D KTX textures are supported: " + file);
+		}
+		if (data.order() != ByteOrder.nativeOrder() && glTypeSize > 1) {
+			dispose();
+			throw new GdxRuntimeException("KTX file has the wrong byte order: " + file);
+		}
+		mipMapLevels = Math.max(1, data.getInt(56));
+		imageOffset = HEADER_SIZE + data.getInt(60);
+		isPrepared = true;
+	}
+
+	private void readCompressed () {
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(file.read())));
+			int size = in.readInt();
+			data = BufferUtils.newUnsafeByteBuffer(size);
+			unsafe = true;
+			copy(in, size);
+		} catch (Exception ex) {
+			dispose();
+			throw new GdxRuntimeException("Couldn't load zktx file: " + file, ex);
+		} finally {
+			if (in != null) try {
+				in.close();
+			} catch (Exception ignored) {
+			}
+		}
+	}
+
+	private void read () {
+		InputStream in = null;
+		try {
+			in = file.read();
+			int size = (int)file.length();
+			data = BufferUtils.newUnsafeByteBuffer(size);
+			unsafe = true;
+			copy(in, size);
+		} catch (Exception ex) {
+			dispose();
+			throw new GdxRuntimeException("Couldn't load ktx file: " + file, ex);
+		} finally {
+			if (in != null) try {
+				in.close();
+			} catch (Exception ignored) {
+			}
+		}
+	}
+
+	private void copy (InputStream in, int size) throws Exception {
+		byte[] buffer = new byte[Math.min(size, 16 * 1024)];
+		int readBytes;
+		while (data.hasRemaining() && (readBytes = in.read(buffer, 0, Math.min(buffer.length, data.remaining()))) != -1)
+			data.put(buffer, 0, readBytes);
+		if (data.hasRemaining()) throw new GdxRuntimeException("Unexpected end of file.");
+		data.position(0);
+	}
+
+	@Override
+	public void consumeCompressedData () {
+		if (!isPrepared) throw new GdxRuntimeException("Call prepare() before calling consumeCompressedData()");
+		boolean decodeETC1 = glInternalFormat == ETC1.ETC1_RGB8_OES
+			&& (!Gdx.graphics.supportsExtension("GL_OES_compressed_ETC1_RGB8_texture") || !Gdx.graphics.isGL20Available());
+		if (glType != 0) Gdx.gl.glPixelStorei(GL10.GL_UNPACK_ALIGNMENT, 4);
+
+		int offset = imageOffset;
+		for (int level = 0; level < mipMapLevels; level++) {
+			int levelWidth = Math.max(1, width >> level), levelHeight = Math.max(1, height >> level);
+			int imageSize = data.getInt(offset);
+			offset += 4;
+			data.limit(offset + imageSize);
+			data.position(offset);
+			ByteBuffer image = data.slice();
+			if (decodeETC1) {
+				ETC1Data etc1 = new ETC1Data(levelWidth, levelHeight, image, 0);
+				Pixmap pixmap = ETC1.decodeImage(etc1, Format.RGB565);
+				if (mipMapLevels == 1 && genMipMaps)
+					MipMapGenerator.generateMipMap(pixmap, levelWidth, levelHeight, false);
+				else
+					Gdx.gl.glTexImage2D(GL10.GL_TEXTURE_2D, level, pixmap.getGLInternalFormat(), levelWidth, levelHeight, 0,
+						pixmap.getGLFormat(), pixmap.getGLType(), pixmap.getPixels());
+				pixmap.dispose();
+			} else if (glType == 0) {
+				Gdx.gl.glCompressedTexImage2D(GL10.GL_TEXTURE_2D, level, glInternalFormat, levelWidth, levelHeight, 0, imageSize,
+					image);
+			} else {
+				Gdx.gl.glTexImage2D(GL10.GL_TEXTURE_2D, level, glInternalFormat, levelWidth, levelHeight, 0, glFormat, glType, image);
+			}
+			offset += (imageSize + 3) & ~3;
+			data.limit(data.capacity());
+		}
+
+		if (glType != 0) Gdx.gl.glPixelStorei(GL10.GL_UNPACK_ALIGNMENT, 1);
+		if (mipMapLevels == 1 && genMipMaps && !decodeETC1) {
+			if (Gdx.graphics.isGL20Available())
+				Gdx.gl20.glGenerateMipmap(GL20.GL_TEXTURE_2D);
+			else
+				Gdx.app.error("KTXTextureData", "Mipmaps can only be generated for KTX files with OpenGL ES 2.0: " + file);
+		}
+		dispose();
+		isPrepared = false;
+	}
+
+	private void dispose () {
+		if (unsafe && data != null) BufferUtils.disposeUnsafeByteBuffer(data);
+		data = null;
+		unsafe = false;
+	}
+
+	@Override
+	public Pixmap consumePixmap () {
+		throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
+	}
+
+	@Override
+	public boolean disposePixmap () {
+		throw new GdxRuntimeException("This TextureData implementation does not return a Pixmap");
+	}
+
+	@Override
+	public int getWidth () {
+		return width;
+	}
+
+	@Override
+	public int getHeight () {
+		return height;
+	}
+
+	/** @return the format of uncompressed data, or {@link Format#RGB565} for ETC1 and {@link Format#RGBA8888} for other compressed
+	 *         formats */
+	@Override
+	public Format getFormat () {
+		switch (glType) {
+		case 0:
+			return glInternalFormat == ETC1.ETC1_RGB8_OES ? Format.RGB565 : Format.RGBA8888;
+		case GL10.GL_UNSIGNED_SHORT_5_6_5:
+			return Format.RGB565;
+		case GL10.GL_UNSIGNED_SHORT_4_4_4_4:
+			return Format.RGBA4444;
+		}
+		switch (glFormat) {
+		case GL10.GL_ALPHA:
+			return Format.Alpha;
+		case GL10.GL_LUMINANCE_ALPHA:
+			return Format.LuminanceAlpha;
+		case GL10.GL_RGB:
+			return Format.RGB888;
+		}
+		return Format.RGBA8888;
+	}
+
+	@Override
+	public boolean useMipMaps () {
+		return genMipMaps || mipMapLevels > 1;
+	}
+
+	@Override
+	public boolean isManaged () {
+		return true;
+	}
+
+	/** @return the number of mipmap levels stored in the file, only valid after {@link #prepare()} */
+	public int getMipMapLevels () {
+		return mipMapLevels;
+	}
+
+	/** @return the OpenGL internal format of the image data, only valid after {@link #prepare()} */
+	public int getGLInternalFormat () {
+		return glInternalFormat;
+	}
+
+	/** @return the image data of a mipmap level as stored in the file, only valid after {@link #prepare()} until the data is
+	 *         consumed */
+	public ByteBuffer getImageData (int level) {
+		if (!isPrepared) throw new GdxRuntimeException("Call prepare() before calling getImageData()");
+		if (level < 0 || level >= mipMapLevels) throw new IllegalArgumentException("Invalid mipmap level: " + level);
+		int offset = imageOffset;
+		for (int i = 0; i < level; i++)
+			offset += 4 + ((data.getInt(offset) + 3) & ~3);
+		ByteBuffer image = data.duplicate();
+		image.position(offset + 4);
+		image.limit(offset + 4 + data.getInt(offset));
+		return image.slice();
+	}
+}
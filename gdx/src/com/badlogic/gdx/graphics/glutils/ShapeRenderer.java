@@ -73,7 +73,20 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
  * specified will be the first that is applied to a shape (rotate then translate in the above example).
  * 
  * The projection and transformation matrices are a state of the ShapeRenderer, just like the color and will be applied to all
- * shapes until they are changed.
+ * shapes until they are changed.</p>
+ * 
+ * Changing the shape type with {@link #begin(ShapeType)} or {@link #set(ShapeType)} flushes the batch. When {@link #begin()} is
+ * used, all shapes are drawn as triangles so shapes of different types can be drawn without flushing. Points are drawn as
+ * squares and lines as rectangles in the x/y plane, with the width set by {@link #setLineWidth(float)}:
+ * 
+ * <pre>
+ * shapeRenderer.begin();
+ * shapeRenderer.set(ShapeType.Filled);
+ * shapeRenderer.rect(x, y, width, height);
+ * shapeRenderer.set(ShapeType.Line);
+ * shapeRenderer.rect(x, y, width, height);
+ * shapeRenderer.end();
+ * </pre>
  * 
  * @author mzechner, stbachmann
  * @author Nathan Sweet */
@@ -95,6 +108,9 @@ public class ShapeRenderer {
 	}
 
 	ImmediateModeRenderer renderer;
+	final ImmediateModeRenderer glRenderer;
+	final TriangleRenderer triangleRenderer;
+	boolean mixed;
 	boolean matrixDirty = false;
 	Matrix4 projView = new Matrix4();
 	Matrix4 transform = new Matrix4();
@@ -103,15 +119,26 @@ public class ShapeRenderer {
 	Color color = new Color(1, 1, 1, 1);
 	ShapeType currType = null;
 
+	/** number of render calls since last {@link #begin(ShapeType)} or {@link #begin()} **/
+	public int renderCalls = 0;
+
+	/** number of rendering calls ever, will not be reset, unless it's done manually **/
+	public int totalRenderCalls = 0;
+
+	/** number of vertices rendered since last {@link #begin(ShapeType)} or {@link #begin()} **/
+	public int vertexCount = 0;
+
 	public ShapeRenderer () {
 		this(5000);
 	}
 
 	public ShapeRenderer (int maxVertices) {
 		if (Gdx.graphics.isGL20Available())
-			renderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
+			glRenderer = new ImmediateModeRenderer20(maxVertices, false, true, 0);
 		else
-			renderer = new ImmediateModeRenderer10(maxVertices);
+			glRenderer = new ImmediateModeRenderer10(maxVertices);
+		renderer = glRenderer;
+		triangleRenderer = new TriangleRenderer(glRenderer);
 		projView.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
 		matrixDirty = true;
 	}
@@ -126,6 +153,15 @@ public class ShapeRenderer {
 		this.color.set(r, g, b, a);
 	}
 
+	/** Sets the width of lines and points drawn between {@link #begin()} and {@link #end()}, in world units. Default is 1. */
+	public void setLineWidth (float width) {
+		triangleRenderer.lineWidth = width;
+	}
+
+	public float getLineWidth () {
+		return triangleRenderer.lineWidth;
+	}
+
 	/** Sets the projection matrix to be used for rendering. Usually this will be set to {@link Camera#combined}.
 	 * @param matrix */
 	public void setProjectionMatrix (Matrix4 matrix) {
@@ -180,12 +216,45 @@ public class ShapeRenderer {
 	 * @param type the {@link ShapeType}. */
 	public void begin (ShapeType type) {
 		if (currType != null) throw new GdxRuntimeException("Call end() before beginning a new shape batch");
+		renderCalls = 0;
+		vertexCount = 0;
+		start(type, false);
+	}
+
+	/** Starts a new batch of shapes, in which all shapes are drawn as triangles. Shapes of all types can be drawn, changing the
+	 * type with {@link #set(ShapeType)} doesn't flush the batch. Points are drawn as squares and lines as rectangles in the x/y
+	 * plane, see {@link #setLineWidth(float)}. The type is {@link ShapeType#Line} until it is set.
+	 * 
+	 * The call to this method must be paired with a call to {@link #end()}. */
+	public void begin () {
+		if (currType != null) throw new GdxRuntimeException("Call end() before beginning a new shape batch");
+		renderCalls = 0;
+		vertexCount = 0;
+		start(ShapeType.Line, true);
+	}
+
+	/** Changes the type of the shapes that are drawn next. Flushes the batch, unless it was started with {@link #begin()}. */
+	public void set (ShapeType type) {
+		if (currType == null) throw new GdxRuntimeException("Call begin() before setting the shape type");
+		if (currType == type) return;
+		if (mixed) {
+			currType = type;
+			triangleRenderer.primitiveType = type.getGlType();
+		} else {
+			finish();
+			start(type, false);
+		}
+	}
+
+	private void start (ShapeType type, boolean mixed) {
 		currType = type;
+		this.mixed = mixed;
 		if (matrixDirty) {
 			combined.set(projView);
 			Matrix4.mul(combined.val, transform.val);
 			matrixDirty = false;
 		}
+		renderer = mixed ? triangleRenderer : glRenderer;
 		renderer.begin(combined, currType.getGlType());
 	}
 
@@ -729,28 +798,33 @@ public class ShapeRenderer {
 
 	private void checkDirty () {
 		if (!matrixDirty) return;
-		ShapeType type = currType;
-		end();
-		begin(type);
+		flush();
 	}
 
 	private void checkFlush (int newVertices) {
 		if (renderer.getMaxVertices() - renderer.getNumVertices() >= newVertices) return;
-		ShapeType type = currType;
-		end();
-		begin(type);
+		flush();
+	}
+
+	private void finish () {
+		int vertices = glRenderer.getNumVertices();
+		if (vertices > 0) {
+			renderCalls++;
+			totalRenderCalls++;
+			vertexCount += vertices;
+		}
+		renderer.end();
 	}
 
 	/** Finishes the batch of shapes and ensures they get rendered. */
 	public void end () {
-		renderer.end();
+		finish();
 		currType = null;
 	}
 
 	public void flush () {
-		ShapeType type = currType;
-		end();
-		begin(type);
+		finish();
+		start(currType, mixed);
 	}
 
 	/** Returns the current {@link ShapeType} used */
@@ -759,6 +833,126 @@ public class ShapeRenderer {
 	}
 
 	public void dispose () {
-		renderer.dispose();
+		glRenderer.dispose();
+	}
+
+	/** Draws points and lines as triangles, with a size of {@link #lineWidth}. Triangles are passed through unchanged. */
+	static class TriangleRenderer implements ImmediateModeRenderer {
+		final ImmediateModeRenderer renderer;
+		int primitiveType = GL10.GL_TRIANGLES;
+		float lineWidth = 1;
+		private float r = 1, g = 1, b = 1, a = 1;
+		private boolean lineStarted;
+		private float x1, y1, z1, r1, g1, b1, a1;
+
+		TriangleRenderer (ImmediateModeRenderer renderer) {
+			this.renderer = renderer;
+		}
+
+		public void begin (Matrix4 projModelView, int primitiveType) {
+			this.primitiveType = primitiveType;
+			lineStarted = false;
+			renderer.begin(projModelView, GL10.GL_TRIANGLES);
+		}
+
+		public void color (float r, float g, float b, float a) {
+			this.r = r;
+			this.g = g;
+			this.b = b;
+			this.a = a;
+		}
+
+		public void texCoord (float u, float v) {
+		}
+
+		public void normal (float x, float y, float z) {
+		}
+
+		public void vertex (float x, float y, float z) {
+			switch (primitiveType) {
+			case GL10.GL_POINTS: {
+				float half = lineWidth * 0.5f;
+				vertex(x - half, y - half, z, r, g, b, a);
+				vertex(x + half, y - half, z, r, g, b, a);
+				vertex(x + half, y + half, z, r, g, b, a);
+				vertex(x + half, y + half, z, r, g, b, a);
+				vertex(x - half, y + half, z, r, g, b, a);
+				vertex(x - half, y - half, z, r, g, b, a);
+				break;
+			}
+			case GL10.GL_LINES: {
+				if (!lineStarted) {
+					x1 = x;
+					y1 = y;
+					z1 = z;
+					r1 = r;
+					g1 = g;
+					b1 = b;
+					a1 = a;
+					lineStarted = true;
+					break;
+				}
+				lineStarted = false;
+				float dx = x - x1, dy = y - y1;
+				float length = (float)Math.sqrt(dx * dx + dy * dy);
+				// The width is perpendicular to the line in the x/y plane, or along x for lines along z.
+				float px, py;
+				if (length > 0) {
+					float scale = lineWidth * 0.5f / length;
+					px = -dy * scale;
+					py = dx * scale;
+				} else if (z != z1) {
+					px = lineWidth * 0.5f;
+					py = 0;
+				} else
+					break;
+				vertex(x1 + px, y1 + py, z1, r1, g1, b1, a1);
+				vertex(x1 - px, y1 - py, z1, r1, g1, b1, a1);
+				vertex(x - px, y - py, z, r, g, b, a);
+				vertex(x - px, y - py, z, r, g, b, a);
+				vertex(x + px, y + py, z, r, g, b, a);
+				vertex(x1 + px, y1 + py, z1, r1, g1, b1, a1);
+				break;
+			}
+			default:
+				vertex(x, y, z, r, g, b, a);
+			}
+		}
+
+		private void vertex (float x, float y, float z, float r, float g, float b, float a) {
+			renderer.color(r, g, b, a);
+			renderer.vertex(x, y, z);
+		}
+
+		public void end () {
+			renderer.end();
+		}
+
+		/** @return The number of triangle vertices drawn for each vertex of the current primitive type. */
+		private int getVerticesPerVertex () {
+			switch (primitiveType) {
+			case GL10.GL_POINTS:
+				return 6;
+			case GL10.GL_LINES:
+				return 3;
+			default:
+				return 1;
+			}
+		}
+
+		/** @return The number of vertices of the current primitive type that were drawn, rounded up. */
+		public int getNumVertices () {
+			int perVertex = getVerticesPerVertex();
+			return (renderer.getNumVertices() + perVertex - 1) / perVertex;
+		}
+
+		/** @return The number of vertices of the current primitive type that fit. */
+		public int getMaxVertices () {
+			return renderer.getMaxVertices() / getVerticesPerVertex();
+		}
+
+		public void dispose () {
+			renderer.dispose();
+		}
 	}
 }
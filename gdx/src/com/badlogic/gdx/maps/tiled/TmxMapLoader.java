@@ -2,10 +2,10 @@ package com.badlogic.gdx.maps.tiled;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.StringTokenizer;
-import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
@@ -36,6 +36,8 @@ import com.badlogic.gdx.math.Polyline;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Base64Coder;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.XmlReader;
 import com.badlogic.gdx.utils.XmlReader.Element;
@@ -59,8 +61,10 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 	protected static final int FLAG_FLIP_DIAGONALLY = 0x20000000;
 	protected static final int MASK_CLEAR = 0xE0000000;
 
-	protected XmlReader xml = new XmlReader();
+	protected XmlReader xml = new TmxReader();
 	protected Element root;
+	/** The tile ids of the layers that were decoded while parsing, by their 'data' element. Cleared once the layers are loaded. */
+	protected IdentityMap<Element, int[]> tileIds = new IdentityMap<Element, int[]>();
 	protected boolean yUp;
 
 	protected int mapWidthInPixels;
@@ -97,6 +101,7 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		try {
 			this.yUp = parameters.yUp;
 			FileHandle tmxFile = resolve(fileName);
+			tileIds.clear();
 			root = xml.parse(tmxFile);
 			ObjectMap<String, Texture> textures = new ObjectMap<String, Texture>();
 			for (FileHandle textureFile : loadTilesets(root, tmxFile)) {
@@ -105,7 +110,12 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 				textures.put(textureFile.path(), texture);
 			}
 			DirectImageResolver imageResolver = new DirectImageResolver(textures);
-			TiledMap map = loadTilemap(root, tmxFile, imageResolver);
+			TiledMap map;
+			try {
+				map = loadTilemap(root, tmxFile, imageResolver);
+			} finally {
+				tileIds.clear();
+			}
 			map.setOwnedResources(textures.values().toArray());
 			return map;
 		} catch (IOException e) {
@@ -127,6 +137,8 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 			map = loadTilemap(root, tmxFile, new AssetManagerImageResolver(manager));
 		} catch (Exception e) {
 			throw new GdxRuntimeException("Couldn't load tilemap '" + fileName + "'", e);
+		} finally {
+			tileIds.clear();
 		}
 	}
 
@@ -145,6 +157,7 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		Array<AssetDescriptor> dependencies = new Array<AssetDescriptor>();
 		try {
 			FileHandle tmxFile = resolve(fileName);
+			tileIds.clear();
 			root = xml.parse(tmxFile);
 			boolean generateMipMaps = (parameter != null ? parameter.generateMipMaps : false);
 			TextureLoader.TextureParameter texParams = new TextureParameter();
@@ -368,130 +381,24 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 
 			TiledMapTileSets tilesets = map.getTileSets();
 
-			Element data = element.getChildByName("data");
-			String encoding = data.getAttribute("encoding", null);
-			String compression = data.getAttribute("compression", null);
-			if (encoding == null) { // no 'encoding' attribute means that the encoding is XML
-				throw new GdxRuntimeException("Unsupported encoding (XML) for TMX Layer Data");
-			}
-			if (encoding.equals("csv")) {
-				String[] array = data.getText().split(",");
-				for (int y = 0; y < height; y++) {
-					for (int x = 0; x < width; x++) {
-						int id = (int)Long.parseLong(array[y * width + x].trim());
-
-						final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-						final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-						final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-						id = id & ~MASK_CLEAR;
-
-						tilesets.getTile(id);
-						TiledMapTile tile = tilesets.getTile(id);
-						if (tile != null) {
-							Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-							cell.setTile(tile);
-							layer.setCell(x, yUp ? height - 1 - y : y, cell);
-						}
-					}
-				}
-			} else {
-				if (encoding.equals("base64")) {
-					byte[] bytes = Base64Coder.decode(data.getText());
-					if (compression == null) {
-						int read = 0;
-						for (int y = 0; y < height; y++) {
-							for (int x = 0; x < width; x++) {
-
-								int id = unsignedByteToInt(bytes[read++]) | unsignedByteToInt(bytes[read++]) << 8
-									| unsignedByteToInt(bytes[read++]) << 16 | unsignedByteToInt(bytes[read++]) << 24;
-
-								final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-								final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-								final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-								id = id & ~MASK_CLEAR;
-
-								tilesets.getTile(id);
-								TiledMapTile tile = tilesets.getTile(id);
-								if (tile != null) {
-									Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-									cell.setTile(tile);
-									layer.setCell(x, yUp ? height - 1 - y : y, cell);
-								}
-							}
-						}
-					} else if (compression.equals("gzip")) {
-						GZIPInputStream GZIS = null;
-						try {
-							GZIS = new GZIPInputStream(new ByteArrayInputStream(bytes), bytes.length);
-						} catch (IOException e) {
-							throw new GdxRuntimeException("Error Reading TMX Layer Data - IOException: " + e.getMessage());
-						}
+			int[] ids = getTileIds(element.getChildByName("data"));
+			for (int y = 0; y < height; y++) {
+				for (int x = 0; x < width; x++) {
+					int index = y * width + x;
+					int id = index < ids.length ? ids[index] : 0;
 
-						byte[] temp = new byte[4];
-						for (int y = 0; y < height; y++) {
-							for (int x = 0; x < width; x++) {
-								try {
-									GZIS.read(temp, 0, 4);
-									int id = unsignedByteToInt(temp[0]) | unsignedByteToInt(temp[1]) << 8
-										| unsignedByteToInt(temp[2]) << 16 | unsignedByteToInt(temp[3]) << 24;
-
-									final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-									final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-									final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-									id = id & ~MASK_CLEAR;
-
-									tilesets.getTile(id);
-									TiledMapTile tile = tilesets.getTile(id);
-									if (tile != null) {
-										Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-										cell.setTile(tile);
-										layer.setCell(x, yUp ? height - 1 - y : y, cell);
-									}
-								} catch (IOException e) {
-									throw new GdxRuntimeException("Error Reading TMX Layer Data.", e);
-								}
-							}
-						}
-					} else if (compression.equals("zlib")) {
-						Inflater zlib = new Inflater();
-
-						byte[] temp = new byte[4];
-
-						zlib.setInput(bytes, 0, bytes.length);
-
-						for (int y = 0; y < height; y++) {
-							for (int x = 0; x < width; x++) {
-								try {
-									zlib.inflate(temp, 0, 4);
-									int id = unsignedByteToInt(temp[0]) | unsignedByteToInt(temp[1]) << 8
-										| unsignedByteToInt(temp[2]) << 16 | unsignedByteToInt(temp[3]) << 24;
-
-									final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-									final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-									final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-									id = id & ~MASK_CLEAR;
-
-									tilesets.getTile(id);
-									TiledMapTile tile = tilesets.getTile(id);
-									if (tile != null) {
-										Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
-										cell.setTile(tile);
-										layer.setCell(x, yUp ? height - 1 - y : y, cell);
-									}
-
-								} catch (DataFormatException e) {
-									throw new GdxRuntimeException("Error Reading TMX Layer Data.", e);
-								}
-							}
-						}
+					final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
+					final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
+					final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
+
+					id = id & ~MASK_CLEAR;
+
+					TiledMapTile tile = tilesets.getTile(id);
+					if (tile != null) {
+						Cell cell = createTileLayerCell(flipHorizontally, flipVertically, flipDiagonally);
+						cell.setTile(tile);
+						layer.setCell(x, yUp ? height - 1 - y : y, cell);
 					}
-				} else {
-					// any other value of 'encoding' is one we're not aware of, probably a feature of a future version of Tiled
-					throw new GdxRuntimeException("Unrecognised encoding (" + encoding + ") for TMX Layer Data");
 				}
 			}
 			Element properties = element.getChildByName("properties");
@@ -502,6 +409,88 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		}
 	}
 
+	/** Returns the global tile ids of a layer, with the flip flags, row by row.
+	 * @param data the 'data' element of the layer */
+	protected int[] getTileIds (Element data) {
+		int[] ids = tileIds.get(data);
+		if (ids != null) return ids;
+		// Not parsed by the TmxReader.
+		IntArray result = new IntArray();
+		String encoding = data.getAttribute("encoding", null);
+		if (encoding == null) { // no 'encoding' attribute means that the encoding is XML
+			for (Element tile : data.getChildrenByName("tile"))
+				result.add((int)Long.parseLong(tile.getAttribute("gid")));
+		} else if (data.getText() != null) {
+			decodeTileIds(encoding, data.getAttribute("compression", null), data.getText(), result);
+		}
+		return result.toArray();
+	}
+
+	/** Adds the tile ids of the text of a layer with CSV or base64 encoding. */
+	static protected void decodeTileIds (String encoding, String compression, String text, IntArray ids) {
+		if (encoding.equals("csv")) {
+			long id = 0;
+			boolean digits = false;
+			for (int i = 0, n = text.length(); i < n; i++) {
+				char c = text.charAt(i);
+				if (c >= '0' && c <= '9') {
+					id = id * 10 + (c - '0');
+					digits = true;
+				} else if (c == ',') {
+					ids.add((int)id);
+					id = 0;
+					digits = false;
+				} else if (c > ' ') {
+					throw new GdxRuntimeException("Invalid character in CSV TMX Layer Data: " + c);
+				}
+			}
+			if (digits) ids.add((int)id);
+		} else if (encoding.equals("base64")) {
+			byte[] bytes = Base64Coder.decode(text.trim());
+			if (compression == null) {
+				ids.ensureCapacity(bytes.length / 4);
+				for (int i = 0; i + 3 < bytes.length; i += 4)
+					ids.add(toTileId(bytes, i));
+			} else if (compression.equals("gzip")) {
+				try {
+					readTileIds(new GZIPInputStream(new ByteArrayInputStream(bytes), bytes.length), ids);
+				} catch (IOException e) {
+					throw new GdxRuntimeException("Error Reading TMX Layer Data.", e);
+				}
+			} else if (compression.equals("zlib")) {
+				try {
+					readTileIds(new InflaterInputStream(new ByteArrayInputStream(bytes)), ids);
+				} catch (IOException e) {
+					throw new GdxRuntimeException("Error Reading TMX Layer Data.", e);
+				}
+			}
+		} else {
+			// any other value of 'encoding' is one we're not aware of, probably a feature of a future version of Tiled
+			throw new GdxRuntimeException("Unrecognised encoding (" + encoding + ") for TMX Layer Data");
+		}
+	}
+
+	static private void readTileIds (InputStream input, IntArray ids) throws IOException {
+		byte[] buffer = new byte[4096];
+		int length = 0;
+		while (true) {
+			int count = input.read(buffer, length, buffer.length - length);
+			if (count == -1) break;
+			length += count;
+			int end = length & ~3;
+			for (int i = 0; i < end; i += 4)
+				ids.add(toTileId(buffer, i));
+			// Keep the bytes of an incomplete id.
+			System.arraycopy(buffer, end, buffer, 0, length - end);
+			length -= end;
+		}
+	}
+
+	static private int toTileId (byte[] bytes, int offset) {
+		return unsignedByteToInt(bytes[offset]) | unsignedByteToInt(bytes[offset + 1]) << 8
+			| unsignedByteToInt(bytes[offset + 2]) << 16 | unsignedByteToInt(bytes[offset + 3]) << 24;
+	}
+
 	protected void loadObjectGroup (TiledMap map, Element element) {
 		if (element.getName().equals("objectgroup")) {
 			String name = element.getAttribute("name", null);
@@ -639,4 +628,67 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		return (int)b & 0xFF;
 	}
 
+	/** Builds the elements of a TMX file, except for the tiles of the layers. The tile ids are decoded as the 'data' elements
+	 * are parsed, without an element for each tile with XML encoding and without splitting the text with CSV encoding. */
+	protected class TmxReader extends XmlReader {
+		private Element data;
+		private IntArray ids;
+		private int depth;
+
+		@Override
+		protected void open (String name) {
+			if (data != null) {
+				depth++;
+				return;
+			}
+			Element parent = getCurrentElement();
+			super.open(name);
+			if (name.equals("data")) {
+				data = getCurrentElement();
+				// The size of the layer, its attributes are parsed before its children.
+				ids = new IntArray(parent == null ? 16 : Math.max(16, parent.getIntAttribute("width", 0)
+					* parent.getIntAttribute("height", 0)));
+			}
+		}
+
+		@Override
+		protected void attribute (String name, String value) {
+			if (data == null || depth == 0)
+				super.attribute(name, value);
+			else if (depth == 1 && name.equals("gid")) //
+				ids.add((int)Long.parseLong(value));
+		}
+
+		@Override
+		protected void text (String text) {
+			if (data == null)
+				super.text(text);
+			else if (depth == 0) {
+				if ("csv".equals(data.getAttribute("encoding", null)))
+					decodeTileIds("csv", null, text, ids);
+				else
+					super.text(text);
+			}
+		}
+
+		@Override
+		protected void close () {
+			if (data != null) {
+				if (depth > 0) {
+					depth--;
+					return;
+				}
+				String text = data.getText();
+				if (text != null) {
+					decodeTileIds(data.getAttribute("encoding", null), data.getAttribute("compression", null), text, ids);
+					data.setText(null);
+				}
+				tileIds.put(data, ids.size == ids.items.length ? ids.items : ids.toArray());
+				data = null;
+				ids = null;
+			}
+			super.close();
+		}
+	}
+
 }
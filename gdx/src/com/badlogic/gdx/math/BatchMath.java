@@ -0,0 +1,206 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.math;
+
+/** Static methods operating on many matrices, vectors or quaternions packed in float arrays at once. Matrices are stored as 16
+ * consecutive floats in the same column major layout as {@link Matrix4#val}, vectors as 3 floats (x, y, z) and quaternions as 4
+ * floats (x, y, z, w). Offsets are in floats, not in elements. The methods are plain Java loops without temporary objects or
+ * calls across JNI, which the JIT can unroll and vectorize; prefer them over calling the {@link Matrix4}, {@link Vector3} and
+ * {@link Quaternion} methods in a loop when transforming many elements per frame. */
+public final class BatchMath {
+	private BatchMath () {
+	}
+
+	/** Multiplies count pairs of matrices: out[i] = a[i] * b[i]. The output may not overlap the input.
+	 * @param a the left hand matrices
+	 * @param aOffset the offset of the first left hand matrix in a
+	 * @param b the right hand matrices
+	 * @param bOffset the offset of the first right hand matrix in b
+	 * @param out the array to store the resulting matrices in
+	 * @param outOffset the offset of the first result in out
+	 * @param count the number of matrices to multiply */
+	public static void mul (float[] a, int aOffset, float[] b, int bOffset, float[] out, int outOffset, int count) {
+		for (int i = 0; i < count; i++, aOffset += 16, bOffset += 16, outOffset += 16)
+			mul(a, aOffset, b, bOffset, out, outOffset);
+	}
+
+	/** Multiplies one matrix by count matrices: out[i] = mat * b[i], e.g. to transform many local transforms to world space.
+	 * The output may not overlap the input.
+	 * @param mat the left hand matrix
+	 * @param matOffset the offset of the left hand matrix in mat
+	 * @param b the right hand matrices
+	 * @param bOffset the offset of the first right hand matrix in b
+	 * @param out the array to store the resulting matrices in
+	 * @param outOffset the offset of the first result in out
+	 * @param count the number of matrices to multiply */
+	public static void mulLeft (float[] mat, int matOffset, float[] b, int bOffset, float[] out, int outOffset, int count) {
+		for (int i = 0; i < count; i++, bOffset += 16, outOffset += 16)
+			mul(mat, matOffset, b, bOffset, out, outOffset);
+	}
+
+	/** Multiplies the matrix at aOffset with the matrix at bOffset and stores the result at outOffset. */
+	private static void mul (float[] a, int ao, float[] b, int bo, float[] out, int oo) {
+		final float a00 = a[ao + Matrix4.M00], a01 = a[ao + Matrix4.M01], a02 = a[ao + Matrix4.M02], a03 = a[ao + Matrix4.M03];
+		final float a10 = a[ao + Matrix4.M10], a11 = a[ao + Matrix4.M11], a12 = a[ao + Matrix4.M12], a13 = a[ao + Matrix4.M13];
+		final float a20 = a[ao + Matrix4.M20], a21 = a[ao + Matrix4.M21], a22 = a[ao + Matrix4.M22], a23 = a[ao + Matrix4.M23];
+		final float a30 = a[ao + Matrix4.M30], a31 = a[ao + Matrix4.M31], a32 = a[ao + Matrix4.M32], a33 = a[ao + Matrix4.M33];
+		for (int c = 0; c < 4; c++) {
+			// column c of b, stored consecutively in the column major layout
+			final int bc = bo + c * 4, oc = oo + c * 4;
+			final float b0 = b[bc], b1 = b[bc + 1], b2 = b[bc + 2], b3 = b[bc + 3];
+			out[oc] = a00 * b0 + a01 * b1 + a02 * b2 + a03 * b3;
+			out[oc + 1] = a10 * b0 + a11 * b1 + a12 * b2 + a13 * b3;
+			out[oc + 2] = a20 * b0 + a21 * b1 + a22 * b2 + a23 * b3;
+			out[oc + 3] = a30 * b0 + a31 * b1 + a32 * b2 + a33 * b3;
+		}
+	}
+
+	/** Transforms count positions by the affine matrix, in place. Unlike {@link Matrix4#mulVec(float[], float[], int, int, int)}
+	 * this doesn't cross JNI, which is faster for small batches and works on all backends.
+	 * @param mat the matrix
+	 * @param matOffset the offset of the matrix in mat
+	 * @param vecs the positions
+	 * @param offset the offset of the first position in vecs
+	 * @param count the number of positions
+	 * @param stride the number of floats between the start of two consecutive positions, at least 3 */
+	public static void mulVec (float[] mat, int matOffset, float[] vecs, int offset, int count, int stride) {
+		final float m00 = mat[matOffset + Matrix4.M00], m01 = mat[matOffset + Matrix4.M01], m02 = mat[matOffset + Matrix4.M02];
+		final float m10 = mat[matOffset + Matrix4.M10], m11 = mat[matOffset + Matrix4.M11], m12 = mat[matOffset + Matrix4.M12];
+		final float m20 = mat[matOffset + Matrix4.M20], m21 = mat[matOffset + Matrix4.M21], m22 = mat[matOffset + Matrix4.M22];
+		final float m03 = mat[matOffset + Matrix4.M03], m13 = mat[matOffset + Matrix4.M13], m23 = mat[matOffset + Matrix4.M23];
+		for (int i = 0; i < count; i++, offset += stride) {
+			final float x = vecs[offset], y = vecs[offset + 1], z = vecs[offset + 2];
+			vecs[offset] = m00 * x + m01 * y + m02 * z + m03;
+			vecs[offset + 1] = m10 * x + m11 * y + m12 * z + m13;
+			vecs[offset + 2] = m20 * x + m21 * y + m22 * z + m23;
+		}
+	}
+
+	/** Rotates count directions by the upper 3x3 part of the matrix, in place, e.g. to transform normals of a uniformly scaled
+	 * transform.
+	 * @param mat the matrix
+	 * @param matOffset the offset of the matrix in mat
+	 * @param vecs the directions
+	 * @param offset the offset of the first direction in vecs
+	 * @param count the number of directions
+	 * @param stride the number of floats between the start of two consecutive directions, at least 3 */
+	public static void rot (float[] mat, int matOffset, float[] vecs, int offset, int count, int stride) {
+		final float m00 = mat[matOffset + Matrix4.M00], m01 = mat[matOffset + Matrix4.M01], m02 = mat[matOffset + Matrix4.M02];
+		final float m10 = mat[matOffset + Matrix4.M10], m11 = mat[matOffset + Matrix4.M11], m12 = mat[matOffset + Matrix4.M12];
+		final float m20 = mat[matOffset + Matrix4.M20], m21 = mat[matOffset + Matrix4.M21], m22 = mat[matOffset + Matrix4.M22];
+		for (int i = 0; i < count; i++, offset += stride) {
+			final float x = vecs[offset], y = vecs[offset + 1], z = vecs[offset + 2];
+			vecs[offset] = m00 * x + m01 * y + m02 * z;
+			vecs[offset + 1] = m10 * x + m11 * y + m12 * z;
+			vecs[offset + 2] = m20 * x + m21 * y + m22 * z;
+		}
+	}
+
+	/** Composes count translation, rotation and scale triplets into matrices, equal to
+	 * <code>matrix.idt().translate(t).rotate(r).scale(s)</code> but without the three matrix multiplications. The rotations
+	 * must be normalized.
+	 * @param translations the translations, 3 floats each
+	 * @param tOffset the offset of the first translation
+	 * @param rotations the rotations, 4 floats each
+	 * @param rOffset the offset of the first rotation
+	 * @param scales the scales, 3 floats each
+	 * @param sOffset the offset of the first scale
+	 * @param out the array to store the resulting matrices in
+	 * @param outOffset the offset of the first result in out
+	 * @param count the number of matrices to compose */
+	public static void setToTranslationRotationScale (float[] translations, int tOffset, float[] rotations, int rOffset,
+		float[] scales, int sOffset, float[] out, int outOffset, int count) {
+		for (int i = 0; i < count; i++, tOffset += 3, rOffset += 4, sOffset += 3, outOffset += 16)
+			setToTranslationRotationScale(out, outOffset, translations[tOffset], translations[tOffset + 1], translations[tOffset + 2],
+				rotations[rOffset], rotations[rOffset + 1], rotations[rOffset + 2], rotations[rOffset + 3], scales[sOffset],
+				scales[sOffset + 1], scales[sOffset + 2]);
+	}
+
+	/** Sets the matrix at the offset to the composition of the translation, the normalized rotation quaternion and the scale. */
+	static void setToTranslationRotationScale (float[] out, int o, float tx, float ty, float tz, float qx, float qy, float qz,
+		float qw, float sx, float sy, float sz) {
+		final float xx = qx * qx, xy = qx * qy, xz = qx * qz, xw = qx * qw;
+		final float yy = qy * qy, yz = qy * qz, yw = qy * qw;
+		final float zz = qz * qz, zw = qz * qw;
+		out[o + Matrix4.M00] = sx * (1 - 2 * (yy + zz));
+		out[o + Matrix4.M01] = sy * (2 * (xy - zw));
+		out[o + Matrix4.M02] = sz * (2 * (xz + yw));
+		out[o + Matrix4.M03] = tx;
+		out[o + Matrix4.M10] = sx * (2 * (xy + zw));
+		out[o + Matrix4.M11] = sy * (1 - 2 * (xx + zz));
+		out[o + Matrix4.M12] = sz * (2 * (yz - xw));
+		out[o + Matrix4.M13] = ty;
+		out[o + Matrix4.M20] = sx * (2 * (xz - yw));
+		out[o + Matrix4.M21] = sy * (2 * (yz + xw));
+		out[o + Matrix4.M22] = sz * (1 - 2 * (xx + yy));
+		out[o + Matrix4.M23] = tz;
+		out[o + Matrix4.M30] = 0;
+		out[o + Matrix4.M31] = 0;
+		out[o + Matrix4.M32] = 0;
+		out[o + Matrix4.M33] = 1;
+	}
+
+	/** Linearly interpolates count pairs of vectors (or any other packed float values): out = from + (to - from) * alpha. The
+	 * output may be the same array and offset as from or to.
+	 * @param count the number of floats, not vectors, to interpolate */
+	public static void lerp (float[] from, int fromOffset, float[] to, int toOffset, float alpha, float[] out, int outOffset,
+		int count) {
+		for (int i = 0; i < count; i++) {
+			final float f = from[fromOffset + i];
+			out[outOffset + i] = f + (to[toOffset + i] - f) * alpha;
+		}
+	}
+
+	/** Spherically interpolates count pairs of quaternions, following the shortest path, like
+	 * {@link Quaternion#slerp(Quaternion, float)} but without modifying the target quaternions. The output may be the same array
+	 * and offset as from or to.
+	 * @param from the start quaternions, 4 floats each
+	 * @param fromOffset the offset of the first start quaternion
+	 * @param to the end quaternions, 4 floats each
+	 * @param toOffset the offset of the first end quaternion
+	 * @param alpha the interpolation coefficient, between 0 and 1
+	 * @param out the array to store the results in
+	 * @param outOffset the offset of the first result in out
+	 * @param count the number of quaternions to interpolate */
+	public static void slerp (float[] from, int fromOffset, float[] to, int toOffset, float alpha, float[] out, int outOffset,
+		int count) {
+		for (int i = 0; i < count; i++, fromOffset += 4, toOffset += 4, outOffset += 4) {
+			final float x1 = from[fromOffset], y1 = from[fromOffset + 1], z1 = from[fromOffset + 2], w1 = from[fromOffset + 3];
+			float x2 = to[toOffset], y2 = to[toOffset + 1], z2 = to[toOffset + 2], w2 = to[toOffset + 3];
+			float dot = x1 * x2 + y1 * y2 + z1 * z2 + w1 * w2;
+			if (dot < 0) {
+				x2 = -x2;
+				y2 = -y2;
+				z2 = -z2;
+				w2 = -w2;
+				dot = -dot;
+			}
+			float scale0 = 1 - alpha, scale1 = alpha;
+			// Only use the (expensive) spherical interpolation when the angle is big enough to matter
+			if ((1 - dot) > 0.1f) {
+				final double theta = Math.acos(dot);
+				final double invSinTheta = 1.0 / Math.sin(theta);
+				scale0 = (float)(Math.sin((1 - alpha) * theta) * invSinTheta);
+				scale1 = (float)(Math.sin(alpha * theta) * invSinTheta);
+			}
+			out[outOffset] = scale0 * x1 + scale1 * x2;
+			out[outOffset + 1] = scale0 * y1 + scale1 * y2;
+			out[outOffset + 2] = scale0 * z1 + scale1 * z2;
+			out[outOffset + 3] = scale0 * w1 + scale1 * w2;
+		}
+	}
+}
@@ -132,6 +132,35 @@ public class Frustum {
 		return true;
 	}
 
+	/** Returns whether the given axis aligned box, specified by its center and half dimensions, is in the frustum. Unlike
+	 * {@link #boundsInFrustum(BoundingBox)} this only tests the corner furthest along each plane normal, so it doesn't need the
+	 * corner points of the box.
+	 * 
+	 * @param x The x-coordinate of the center of the box
+	 * @param y The y-coordinate of the center of the box
+	 * @param z The z-coordinate of the center of the box
+	 * @param halfWidth Half the width of the box
+	 * @param halfHeight Half the height of the box
+	 * @param halfDepth Half the depth of the box
+	 * @return Whether the box is in the frustum */
+	public boolean boundsInFrustum (float x, float y, float z, float halfWidth, float halfHeight, float halfDepth) {
+		for (int i = 0; i < 6; i++) {
+			final Vector3 normal = planes[i].normal;
+			final float radius = halfWidth * Math.abs(normal.x) + halfHeight * Math.abs(normal.y) + halfDepth * Math.abs(normal.z);
+			if ((normal.x * x + normal.y * y + normal.z * z) < (-radius - planes[i].d)) return false;
+		}
+		return true;
+	}
+
+	/** Returns whether the given axis aligned box, specified by its center and dimensions, is in the frustum.
+	 * 
+	 * @param center The center of the box
+	 * @param dimensions The dimensions of the box
+	 * @return Whether the box is in the frustum */
+	public boolean boundsInFrustum (Vector3 center, Vector3 dimensions) {
+		return boundsInFrustum(center.x, center.y, center.z, dimensions.x * 0.5f, dimensions.y * 0.5f, dimensions.z * 0.5f);
+	}
+
 // /**
 // * Calculates the pick ray for the given window coordinates. Assumes the window coordinate system has it's y downwards. The
 // * returned Ray is a member of this instance so don't reuse it outside this class.
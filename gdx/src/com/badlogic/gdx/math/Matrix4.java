@@ -103,6 +103,20 @@ public class Matrix4 implements Serializable {
 		return set(quaternion.x, quaternion.y, quaternion.z, quaternion.w);
 	}
 	
+	/** Sets the matrix to the composition of the translation, rotation and scale, which is equal to
+	 * <code>idt().translate(position).rotate(orientation).scale(scale.x, scale.y, scale.z)</code> without the matrix
+	 * multiplications.
+	 * 
+	 * @param position The translation
+	 * @param orientation The normalized rotation
+	 * @param scale The scale
+	 * @return This matrix for the purpose of chaining methods together. */
+	public Matrix4 set (Vector3 position, Quaternion orientation, Vector3 scale) {
+		BatchMath.setToTranslationRotationScale(val, 0, position.x, position.y, position.z, orientation.x, orientation.y,
+			orientation.z, orientation.w, scale.x, scale.y, scale.z);
+		return this;
+	}
+
 	/** Sets the matrix to a rotation matrix representing the quaternion.
 	 * 
 	 * @param x The X component of the quaternion that is to be used to set this matrix.
@@ -200,6 +200,29 @@ public class BoundingBox implements Serializable {
 			max.set(max(max.x, a_bounds.max.x), max(max.y, a_bounds.max.y), max(max.z, a_bounds.max.z)));
 	}
 
+	/** Extends this bounding box by the given bounding box transformed by the given matrix. Instead of transforming the eight
+	 * corner points, the center is transformed and the half dimensions are projected onto the axes, which gives the same result
+	 * for affine transforms without modifying the given bounding box.
+	 * 
+	 * @param bounds The bounding box
+	 * @param transform The transformation matrix to apply to bounds, before using it to extend this bounding box
+	 * @return This bounding box for chaining. */
+	public BoundingBox ext (BoundingBox bounds, Matrix4 transform) {
+		if (bounds.min.x > bounds.max.x || bounds.min.y > bounds.max.y || bounds.min.z > bounds.max.z) return this;
+		final float val[] = transform.val;
+		final float cx = (bounds.min.x + bounds.max.x) * 0.5f, cy = (bounds.min.y + bounds.max.y) * 0.5f, cz = (bounds.min.z + bounds.max.z) * 0.5f;
+		final float hx = (bounds.max.x - bounds.min.x) * 0.5f, hy = (bounds.max.y - bounds.min.y) * 0.5f, hz = (bounds.max.z - bounds.min.z) * 0.5f;
+		final float x = cx * val[Matrix4.M00] + cy * val[Matrix4.M01] + cz * val[Matrix4.M02] + val[Matrix4.M03];
+		final float y = cx * val[Matrix4.M10] + cy * val[Matrix4.M11] + cz * val[Matrix4.M12] + val[Matrix4.M13];
+		final float z = cx * val[Matrix4.M20] + cy * val[Matrix4.M21] + cz * val[Matrix4.M22] + val[Matrix4.M23];
+		final float ex = hx * Math.abs(val[Matrix4.M00]) + hy * Math.abs(val[Matrix4.M01]) + hz * Math.abs(val[Matrix4.M02]);
+		final float ey = hx * Math.abs(val[Matrix4.M10]) + hy * Math.abs(val[Matrix4.M11]) + hz * Math.abs(val[Matrix4.M12]);
+		final float ez = hx * Math.abs(val[Matrix4.M20]) + hy * Math.abs(val[Matrix4.M21]) + hz * Math.abs(val[Matrix4.M22]);
+		crn_dirty = true;
+		return this.set(min.set(min(min.x, x - ex), min(min.y, y - ey), min(min.z, z - ez)),
+			max.set(max(max.x, x + ex), max(max.y, y + ey), max(max.z, z + ez)));
+	}
+
 	/** Multiplies the bounding box by the given matrix. This is achieved by multiplying the 8 corner points and then calculating
 	 * the minimum and maximum vectors from the transformed points.
 	 * 
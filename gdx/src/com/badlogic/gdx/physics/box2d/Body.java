@@ -47,6 +47,9 @@ public class Body {
 	/** user data **/
 	private Object userData;
 
+	/** index of the body's transforms in the {@link FixedStepper} snapshot, or -1 **/
+	int snapshotIndex = -1;
+
 	/** Constructs a new body with the given address
 	 * @param world the world
 	 * @param addr the address */
@@ -59,6 +62,7 @@ public class Body {
 	protected void reset (long addr) {
 		this.addr = addr;
 		this.userData = null;
+		this.snapshotIndex = -1;
 		for (int i = 0; i < fixtures.size(); i++)
 			this.world.freeFixtures.free(fixtures.get(i));
 		fixtures.clear();
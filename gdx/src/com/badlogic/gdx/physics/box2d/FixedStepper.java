@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.physics.box2d;
+
+import java.util.Iterator;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Steps a {@link World} with a fixed time step from a variable frame time, and interpolates the bodies between the last two steps
+ * for rendering. Call {@link #update(float)} each frame with the frame's delta time, then draw the bodies at
+ * {@link #getPosition(Body, Vector2)} and {@link #getAngle(Body)}. Rendering lags the simulation by up to one step, in exchange
+ * motion is smooth at any frame rate and the world is never stepped more often than necessary.
+ * <p>
+ * Before the last step of each update the transforms of the awake bodies are stored, after it their new transforms. Bodies that
+ * were not awake before the last step, eg because they were sleeping or were created since, are not interpolated.
+ * <p>
+ * If a frame takes so long that more than {@link #setMaxSteps(int) max steps} would be needed to catch up, the remaining time is
+ * dropped and the simulation runs slower than real time instead of taking ever more steps per frame. */
+public class FixedStepper {
+	private final World world;
+	private final float timeStep;
+	private int velocityIterations = 8, positionIterations = 3;
+	private int maxSteps = 5;
+	private float accumulator, alpha;
+	private int steps;
+	private long stepTime;
+
+	private final Array<Body> bodies = new Array(false, 64);
+	/** x, y and angle of each body in {@link #bodies} before and after the last step. */
+	private float[] previous = new float[64 * 3], current = new float[64 * 3];
+
+	/** @param timeStep the fixed time step in seconds, eg 1 / 60f */
+	public FixedStepper (World world, float timeStep) {
+		if (timeStep <= 0) throw new IllegalArgumentException("timeStep must be > 0: " + timeStep);
+		this.world = world;
+		this.timeStep = timeStep;
+	}
+
+	/** Sets the iterations passed to {@link World#step(float, int, int)}. Default is 8 and 3. */
+	public void setIterations (int velocityIterations, int positionIterations) {
+		this.velocityIterations = velocityIterations;
+		this.positionIterations = positionIterations;
+	}
+
+	/** Sets the maximum number of steps taken by one {@link #update(float)}. Default is 5. */
+	public void setMaxSteps (int maxSteps) {
+		if (maxSteps < 1) throw new IllegalArgumentException("maxSteps must be > 0: " + maxSteps);
+		this.maxSteps = maxSteps;
+	}
+
+	/** Steps the world as many times as needed to catch up with the elapsed time, at most {@link #setMaxSteps(int) max steps}.
+	 * @param delta the time since the last update in seconds
+	 * @return the number of steps taken */
+	public int update (float delta) {
+		accumulator += delta;
+		int steps = Math.min((int)(accumulator / timeStep), maxSteps);
+		long start = TimeUtils.nanoTime();
+		if (steps > 0) {
+			for (int i = 1; i < steps; i++)
+				world.step(timeStep, velocityIterations, positionIterations);
+			storePrevious();
+			world.step(timeStep, velocityIterations, positionIterations);
+			storeCurrent();
+			accumulator -= steps * timeStep;
+			if (accumulator >= timeStep) accumulator = 0;
+		}
+		stepTime = TimeUtils.nanoTime() - start;
+		this.steps = steps;
+		alpha = Math.max(0, accumulator / timeStep);
+		return steps;
+	}
+
+	private void storePrevious () {
+		Array<Body> bodies = this.bodies;
+		for (int i = 0, n = bodies.size; i < n; i++)
+			bodies.get(i).snapshotIndex = -1;
+		bodies.clear();
+		Iterator<Body> iter = world.getBodies();
+		while (iter.hasNext()) {
+			Body body = iter.next();
+			if (body.isAwake()) bodies.add(body);
+		}
+		if (previous.length < bodies.size * 3) {
+			previous = new float[bodies.size * 3 + (bodies.size * 3 >> 1)];
+			current = new float[previous.length];
+		}
+		float[] previous = this.previous;
+		for (int i = 0, ii = 0, n = bodies.size; i < n; i++, ii += 3) {
+			Body body = bodies.get(i);
+			body.snapshotIndex = i;
+			Vector2 position = body.getPosition();
+			previous[ii] = position.x;
+			previous[ii + 1] = position.y;
+			previous[ii + 2] = body.getAngle();
+		}
+	}
+
+	private void storeCurrent () {
+		Array<Body> bodies = this.bodies;
+		float[] current = this.current;
+		for (int i = 0, ii = 0, n = bodies.size; i < n; i++, ii += 3) {
+			Body body = bodies.get(i);
+			Vector2 position = body.getPosition();
+			current[ii] = position.x;
+			current[ii + 1] = position.y;
+			current[ii + 2] = body.getAngle();
+		}
+	}
+
+	/** Returns the position of the body interpolated between the last two steps, or its current position if it was not awake
+	 * before the last step.
+	 * @param position receives the position
+	 * @return the position argument */
+	public Vector2 getPosition (Body body, Vector2 position) {
+		int index = body.snapshotIndex;
+		if (index == -1 || index >= bodies.size || bodies.get(index) != body) return position.set(body.getPosition());
+		index *= 3;
+		float x = previous[index], y = previous[index + 1];
+		return position.set(x + (current[index] - x) * alpha, y + (current[index + 1] - y) * alpha);
+	}
+
+	/** Returns the angle of the body in radians interpolated between the last two steps, or its current angle if it was not awake
+	 * before the last step. */
+	public float getAngle (Body body) {
+		int index = body.snapshotIndex;
+		if (index == -1 || index >= bodies.size || bodies.get(index) != body) return body.getAngle();
+		index = index * 3 + 2;
+		float angle = previous[index];
+		return angle + (current[index] - angle) * alpha;
+	}
+
+	/** @return how far the elapsed time is between the last step and the next one, from 0 to 1 */
+	public float getAlpha () {
+		return alpha;
+	}
+
+	/** @return the number of steps taken by the last update */
+	public int getSteps () {
+		return steps;
+	}
+
+	/** @return the time in nanoseconds the last update spent stepping the world and storing transforms */
+	public long getStepTime () {
+		return stepTime;
+	}
+
+	/** Discards the time accumulated but not yet stepped, eg after the application was paused. */
+	public void reset () {
+		accumulator = 0;
+		alpha = 0;
+	}
+
+	public float getTimeStep () {
+		return timeStep;
+	}
+
+	public World getWorld () {
+		return world;
+	}
+}
@@ -42,7 +42,9 @@ import com.badlogic.gdx.physics.box2d.joints.WeldJoint;
 import com.badlogic.gdx.physics.box2d.joints.WeldJointDef;
 import com.badlogic.gdx.physics.box2d.joints.WheelJoint;
 import com.badlogic.gdx.physics.box2d.joints.WheelJointDef;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.LongMap;
 import com.badlogic.gdx.utils.Pool;
 
@@ -166,6 +168,85 @@ public:
 	}
 }; 
 
+class FixtureQueryCallback: public b2QueryCallback
+{
+public:
+	long long* fixtures;
+	int capacity;
+	int count;
+
+	FixtureQueryCallback( long long* fixtures, int capacity )
+	{
+		this->fixtures = fixtures;
+		this->capacity = capacity;
+		this->count = 0;
+	}
+
+	virtual bool ReportFixture( b2Fixture* fixture )
+	{
+		if( count < capacity ) fixtures[count] = (long long)fixture;
+		count++;
+		return true;
+	}
+};
+
+class AllRayCastCallback: public b2RayCastCallback
+{
+public:
+	long long* fixtures;
+	float* hits;
+	int capacity;
+	int count;
+
+	AllRayCastCallback( long long* fixtures, float* hits, int capacity )
+	{
+		this->fixtures = fixtures;
+		this->hits = hits;
+		this->capacity = capacity;
+		this->count = 0;
+	}
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction)
+	{
+		if( count < capacity )
+		{
+			fixtures[count] = (long long)fixture;
+			float* hit = hits + count * 5;
+			hit[0] = point.x;
+			hit[1] = point.y;
+			hit[2] = normal.x;
+			hit[3] = normal.y;
+			hit[4] = fraction;
+		}
+		count++;
+		return 1;
+	}
+};
+
+class ClosestRayCastCallback: public b2RayCastCallback
+{
+public:
+	b2Fixture* fixture;
+	b2Vec2 point;
+	b2Vec2 normal;
+	float32 fraction;
+
+	ClosestRayCastCallback()
+	{
+		this->fixture = 0;
+		this->fraction = 1;
+	}
+
+	virtual float32 ReportFixture( b2Fixture* fixture, const b2Vec2& point, const b2Vec2& normal, float32 fraction)
+	{
+		this->fixture = fixture;
+		this->point = point;
+		this->normal = normal;
+		this->fraction = fraction;
+		return fraction;
+	}
+};
+
 inline b2BodyType getBodyType( int type )
 {
 	switch( type )
@@ -215,6 +296,10 @@ b2ContactFilter defaultFilter;
 	/** Contact listener **/
 	protected ContactListener contactListener = null;
 
+	/** If not null, begin and end contact events are recorded here instead of being reported to the contact listener, see
+	 * {@link WorldStepper} **/
+	WorldStepper.ContactBuffer contactBuffer;
+
 	/** Construct a world object.
 	 * @param gravity the world gravity vector.
 	 * @param doSleep improve performance by not simulating inactive bodies. */
@@ -826,6 +911,64 @@ b2ContactFilter defaultFilter;
 		return joints.values();
 	}
 
+	/** Fills the array with all bodies currently in the simulation. The array is cleared first. */
+	public void getBodies (Array<Body> bodies) {
+		bodies.clear();
+		bodies.ensureCapacity(this.bodies.size);
+		for (Iterator<Body> iter = this.bodies.values(); iter.hasNext();)
+			bodies.add(iter.next());
+	}
+
+	/** Fills the array with all fixtures currently in the simulation. The array is cleared first. */
+	public void getFixtures (Array<Fixture> fixtures) {
+		fixtures.clear();
+		fixtures.ensureCapacity(this.fixtures.size);
+		for (Iterator<Fixture> iter = this.fixtures.values(); iter.hasNext();)
+			fixtures.add(iter.next());
+	}
+
+	/** Fills the array with all joints currently in the simulation. The array is cleared first. */
+	public void getJoints (Array<Joint> joints) {
+		joints.clear();
+		joints.ensureCapacity(this.joints.size);
+		for (Iterator<Joint> iter = this.joints.values(); iter.hasNext();)
+			joints.add(iter.next());
+	}
+
+	private long[] bodyContactAddrs = new long[16];
+	private final Array<Contact> bodyContacts = new Array<Contact>();
+
+	/** Fills the array with the contacts of the body whose fixtures are touching. The array is cleared first. The contacts are only
+	 * valid until the next step and are reused by the next call of this method.
+	 * @return the number of contacts */
+	public int getContactList (Body body, Array<Contact> contacts) {
+		int count;
+		while ((count = jniGetBodyContactList(body.addr, bodyContactAddrs, bodyContactAddrs.length)) > bodyContactAddrs.length)
+			bodyContactAddrs = new long[count];
+		while (bodyContacts.size < count)
+			bodyContacts.add(new Contact(this, 0));
+		contacts.clear();
+		contacts.ensureCapacity(count);
+		for (int i = 0; i < count; i++) {
+			Contact contact = bodyContacts.get(i);
+			contact.addr = bodyContactAddrs[i];
+			contacts.add(contact);
+		}
+		return count;
+	}
+
+	private native int jniGetBodyContactList (long bodyAddr, long[] contacts, int capacity); /*
+		b2Body* body = (b2Body*)bodyAddr;
+		int count = 0;
+		for( b2ContactEdge* edge = body->GetContactList(); edge != 0; edge = edge->next )
+		{
+			if( !edge->contact->IsTouching() ) continue;
+			if( count < capacity ) contacts[count] = (long long)edge->contact;
+			count++;
+		}
+		return count;
+	*/
+
 	private native void jniGetContactList (long addr, long[] contacts); /*
 		b2World* world = (b2World*)addr;
 	
@@ -873,12 +1016,16 @@ b2ContactFilter defaultFilter;
 
 	private void beginContact (long contactAddr) {
 		contact.addr = contactAddr;
-		if (contactListener != null) contactListener.beginContact(contact);
+		if (contactBuffer != null)
+			contactBuffer.add(true, contact.getFixtureA(), contact.getFixtureB());
+		else if (contactListener != null) contactListener.beginContact(contact);
 	}
 
 	private void endContact (long contactAddr) {
 		contact.addr = contactAddr;
-		if (contactListener != null) contactListener.endContact(contact);
+		if (contactBuffer != null)
+			contactBuffer.add(false, contact.getFixtureA(), contact.getFixtureB());
+		else if (contactListener != null) contactListener.endContact(contact);
 	}
 
 	private void preSolve (long contactAddr, long manifoldAddr) {
@@ -942,4 +1089,138 @@ b2ContactFilter defaultFilter;
 			return 0.0f;
 		}
 	}
+
+	private long[] queryAddrs = new long[64];
+
+	/** Fills the array with the fixtures that potentially overlap the AABB. Unlike
+	 * {@link #QueryAABB(QueryCallback, float, float, float, float)} no Java method is called per fixture. The array is cleared
+	 * first.
+	 * @return the number of fixtures found */
+	public int QueryAABB (Array<Fixture> fixtures, float lowerX, float lowerY, float upperX, float upperY) {
+		int count;
+		while ((count = jniQueryAABBFixtures(addr, queryAddrs, queryAddrs.length, lowerX, lowerY, upperX, upperY)) > queryAddrs.length)
+			queryAddrs = new long[count];
+		fixtures.clear();
+		fixtures.ensureCapacity(count);
+		for (int i = 0; i < count; i++)
+			fixtures.add(this.fixtures.get(queryAddrs[i]));
+		return count;
+	}
+
+	private native int jniQueryAABBFixtures (long addr, long[] fixtures, int capacity, float lowX, float lowY, float upX, float upY); /*
+		b2World* world = (b2World*)addr;
+		b2AABB aabb;
+		aabb.lowerBound = b2Vec2( lowX, lowY );
+		aabb.upperBound = b2Vec2( upX, upY );
+
+		FixtureQueryCallback callback( fixtures, capacity );
+		world->QueryAABB( &callback, aabb );
+		return callback.count;
+	*/
+
+	/** Ray-casts the world for all fixtures in the path of the ray, sorted from the start of the ray to its end. The ray-cast
+	 * ignores shapes that contain the starting point. Unlike {@link #rayCast(RayCastCallback, Vector2, Vector2)} no Java method is
+	 * called per fixture. The arrays are cleared first.
+	 * @param fixtures receives the fixtures hit
+	 * @param hits receives 5 floats per fixture hit: the hit point x and y, the surface normal x and y and the fraction along the
+	 *           ray
+	 * @return the number of fixtures hit */
+	public int rayCast (float x1, float y1, float x2, float y2, Array<Fixture> fixtures, FloatArray hits) {
+		hits.clear();
+		int count;
+		while (true) {
+			int capacity = Math.min(queryAddrs.length, hits.items.length / 5);
+			count = jniRayCastAll(addr, queryAddrs, hits.items, capacity, x1, y1, x2, y2);
+			if (count <= capacity) break;
+			if (queryAddrs.length < count) queryAddrs = new long[count];
+			hits.ensureCapacity(count * 5);
+		}
+		hits.size = count * 5;
+		fixtures.clear();
+		fixtures.ensureCapacity(count);
+		for (int i = 0; i < count; i++)
+			fixtures.add(this.fixtures.get(queryAddrs[i]));
+		return count;
+	}
+
+	private native int jniRayCastAll (long addr, long[] fixtures, float[] hits, int capacity, float aX, float aY, float bX, float bY); /*
+		b2World* world = (b2World*)addr;
+		AllRayCastCallback callback( fixtures, hits, capacity );
+		world->RayCast( &callback, b2Vec2(aX,aY), b2Vec2(bX,bY) );
+		int count = callback.count;
+		if( count > capacity ) return count;
+
+		// insertion sort by fraction, there are usually few hits
+		for( int i = 1; i < count; i++ )
+		{
+			long long fixture = fixtures[i];
+			float hit[5];
+			for( int k = 0; k < 5; k++ ) hit[k] = hits[i * 5 + k];
+			int j = i - 1;
+			for( ; j >= 0 && hits[j * 5 + 4] > hit[4]; j-- )
+			{
+				fixtures[j + 1] = fixtures[j];
+				for( int k = 0; k < 5; k++ ) hits[(j + 1) * 5 + k] = hits[j * 5 + k];
+			}
+			fixtures[j + 1] = fixture;
+			for( int k = 0; k < 5; k++ ) hits[(j + 1) * 5 + k] = hit[k];
+		}
+		return count;
+	*/
+
+	/** Ray-casts many rays in a single native call and finds the closest fixture hit by each. The ray-casts ignore shapes that
+	 * contain the starting point. The arrays are cleared first.
+	 * @param rays 4 floats per ray: the start x and y and the end x and y
+	 * @param fixtures receives the closest fixture hit by each ray, or null if the ray hit nothing
+	 * @param hits receives 5 floats per ray: the hit point x and y, the surface normal x and y and the fraction along the ray. For
+	 *           rays that hit nothing these are the end point, 0, 0 and 1.
+	 * @return the number of rays that hit a fixture */
+	public int rayCast (float[] rays, int offset, int count, Array<Fixture> fixtures, FloatArray hits) {
+		if (offset < 0 || count < 0 || offset + count * 4 > rays.length)
+			throw new IllegalArgumentException("offset + count * 4 must be <= rays.length: " + offset + ", " + count + ", " + rays.length);
+		if (queryAddrs.length < count) queryAddrs = new long[count];
+		hits.clear();
+		int hitCount = jniRayCastClosest(addr, rays, offset, count, queryAddrs, hits.ensureCapacity(count * 5));
+		hits.size = count * 5;
+		fixtures.clear();
+		fixtures.ensureCapacity(count);
+		for (int i = 0; i < count; i++) {
+			long fixtureAddr = queryAddrs[i];
+			fixtures.add(fixtureAddr == 0 ? null : this.fixtures.get(fixtureAddr));
+		}
+		return hitCount;
+	}
+
+	private native int jniRayCastClosest (long addr, float[] rays, int offset, int count, long[] fixtures, float[] hits); /*
+		b2World* world = (b2World*)addr;
+		int hitCount = 0;
+		for( int i = 0; i < count; i++ )
+		{
+			float* ray = rays + offset + i * 4;
+			b2Vec2 point1( ray[0], ray[1] );
+			b2Vec2 point2( ray[2], ray[3] );
+			ClosestRayCastCallback callback;
+			if( !(point1 == point2) ) world->RayCast( &callback, point1, point2 );
+
+			float* hit = hits + i * 5;
+			fixtures[i] = (long long)callback.fixture;
+			if( callback.fixture != 0 )
+			{
+				hit[0] = callback.point.x;
+				hit[1] = callback.point.y;
+				hit[2] = callback.normal.x;
+				hit[3] = callback.normal.y;
+				hitCount++;
+			}
+			else
+			{
+				hit[0] = point2.x;
+				hit[1] = point2.y;
+				hit[2] = 0;
+				hit[3] = 0;
+			}
+			hit[4] = callback.fraction;
+		}
+		return hitCount;
+	*/
 }
@@ -0,0 +1,228 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.physics.box2d;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.BooleanArray;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Steps many independent {@link World}s concurrently on a pool of threads, eg for a server simulating many matches or a game
+ * running several unconnected simulations. Each world is stepped by one thread at a time, worlds are handed out to the threads as
+ * they become free so worlds of different sizes are balanced.
+ * <p>
+ * A world's {@link ContactFilter} and the {@link ContactListener#preSolve(Contact, Manifold) preSolve} and
+ * {@link ContactListener#postSolve(Contact, ContactImpulse) postSolve} methods of its {@link ContactListener} are called on the
+ * stepping thread, because the contact they receive is only valid during the step. They must only access their own world.
+ * <p>
+ * Worlds added with a {@link BufferedContactListener} have their begin and end contact events recorded during the step instead of
+ * reported to the world's contact listener. After all worlds are stepped, the events are delivered on the thread that called
+ * {@link #step(float, int, int)}, in the order the worlds were added. Bodies should not be destroyed during delivery, as the
+ * fixtures of later events may then already be destroyed.
+ * <p>
+ * The worlds must not be used by other threads during a step. */
+public class WorldStepper implements Disposable {
+	private final ExecutorService executor;
+	private final Array<World> worlds = new Array();
+	private final Array<ContactBuffer> buffers = new Array();
+	private final ArrayList<Callable<Object>> tasks;
+	final AtomicInteger next = new AtomicInteger();
+	float timeStep;
+	int velocityIterations, positionIterations;
+
+	/** Creates a stepper with one thread per available processor. */
+	public WorldStepper () {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/** @param threads the number of threads the worlds are stepped on */
+	public WorldStepper (int threads) {
+		if (threads < 1) throw new IllegalArgumentException("threads must be > 0: " + threads);
+		executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+			public Thread newThread (Runnable runnable) {
+				Thread thread = new Thread(runnable, "WorldStepper");
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+		tasks = new ArrayList(threads);
+		for (int i = 0; i < threads; i++) {
+			tasks.add(new Callable() {
+				public Object call () {
+					Array<World> worlds = WorldStepper.this.worlds;
+					for (int i = next.getAndIncrement(), n = worlds.size; i < n; i = next.getAndIncrement())
+						worlds.get(i).step(timeStep, velocityIterations, positionIterations);
+					return null;
+				}
+			});
+		}
+	}
+
+	/** Adds a world whose contact listener is called on the stepping thread. */
+	public void add (World world) {
+		add(world, null);
+	}
+
+	/** Adds a world whose begin and end contact events are delivered to the listener after each step, on the thread that called
+	 * {@link #step(float, int, int)}.
+	 * @param listener may be null to call the world's contact listener on the stepping thread */
+	public void add (World world, BufferedContactListener listener) {
+		if (worlds.contains(world, true)) throw new IllegalArgumentException("World has already been added.");
+		ContactBuffer buffer = listener == null ? null : new ContactBuffer(listener);
+		worlds.add(world);
+		buffers.add(buffer);
+		world.contactBuffer = buffer;
+	}
+
+	/** @return true if the world was added to this stepper */
+	public boolean remove (World world) {
+		int index = worlds.indexOf(world, true);
+		if (index == -1) return false;
+		worlds.removeIndex(index);
+		buffers.removeIndex(index);
+		world.contactBuffer = null;
+		return true;
+	}
+
+	public void clear () {
+		for (int i = 0; i < worlds.size; i++)
+			worlds.get(i).contactBuffer = null;
+		worlds.clear();
+		buffers.clear();
+	}
+
+	public Array<World> getWorlds () {
+		return worlds;
+	}
+
+	/** Steps every world with the same parameters as {@link World#step(float, int, int)}, waits for all of them to finish and then
+	 * delivers the buffered contact events. */
+	public void step (float timeStep, int velocityIterations, int positionIterations) {
+		if (worlds.size == 0) return;
+		this.timeStep = timeStep;
+		this.velocityIterations = velocityIterations;
+		this.positionIterations = positionIterations;
+		next.set(0);
+		boolean stepped = false;
+		try {
+			if (worlds.size == 1)
+				tasks.get(0).call();
+			else {
+				for (Future future : executor.invokeAll(tasks.subList(0, Math.min(tasks.size(), worlds.size))))
+					future.get();
+			}
+			stepped = true;
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException("Interrupted while waiting for worlds to step.", ex);
+		} catch (ExecutionException ex) {
+			throw new GdxRuntimeException("Error stepping world.", ex.getCause());
+		} catch (Exception ex) {
+			throw new GdxRuntimeException("Error stepping world.", ex);
+		} finally {
+			// Events from a failed step are discarded, as are the events not yet delivered when a listener throws.
+			if (!stepped)
+				clearBuffers(0);
+			else {
+				for (int i = 0; i < buffers.size; i++) {
+					ContactBuffer buffer = buffers.get(i);
+					if (buffer == null) continue;
+					boolean delivered = false;
+					try {
+						buffer.deliver(worlds.get(i));
+						delivered = true;
+					} finally {
+						if (!delivered) clearBuffers(i + 1);
+					}
+				}
+			}
+		}
+	}
+
+	private void clearBuffers (int start) {
+		for (int i = start; i < buffers.size; i++) {
+			ContactBuffer buffer = buffers.get(i);
+			if (buffer != null) buffer.clear();
+		}
+	}
+
+	/** Waits for a running step to finish and stops the threads. The worlds are not disposed. */
+	public void dispose () {
+		clear();
+		executor.shutdown();
+		try {
+			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			throw new GdxRuntimeException("Couldn't shutdown world stepper.", ex);
+		}
+	}
+
+	/** Receives the begin and end contact events of a world after it was stepped by a {@link WorldStepper}. The contact itself is
+	 * not available, as it is only valid during the step. */
+	static public interface BufferedContactListener {
+		/** Called when two fixtures began to touch. */
+		public void beginContact (World world, Fixture fixtureA, Fixture fixtureB);
+
+		/** Called when two fixtures ceased to touch. */
+		public void endContact (World world, Fixture fixtureA, Fixture fixtureB);
+	}
+
+	static class ContactBuffer {
+		final BufferedContactListener listener;
+		final Array<Fixture> fixtures = new Array();
+		final BooleanArray begin = new BooleanArray();
+
+		ContactBuffer (BufferedContactListener listener) {
+			this.listener = listener;
+		}
+
+		void add (boolean begin, Fixture fixtureA, Fixture fixtureB) {
+			this.begin.add(begin);
+			fixtures.add(fixtureA);
+			fixtures.add(fixtureB);
+		}
+
+		void deliver (World world) {
+			Array<Fixture> fixtures = this.fixtures;
+			BooleanArray begin = this.begin;
+			try {
+				for (int i = 0, n = begin.size; i < n; i++) {
+					if (begin.get(i))
+						listener.beginContact(world, fixtures.get(i * 2), fixtures.get(i * 2 + 1));
+					else
+						listener.endContact(world, fixtures.get(i * 2), fixtures.get(i * 2 + 1));
+				}
+			} finally {
+				clear();
+			}
+		}
+
+		void clear () {
+			fixtures.clear();
+			begin.clear();
+		}
+	}
+}
@@ -28,9 +28,10 @@ import com.badlogic.gdx.utils.Pools;
 /** Static convenience methods for using pooled actions, intended for static import.
  * @author Nathan Sweet */
 public class Actions {
-	/** Returns a new or pooled action of the specified type. */
+	/** Returns a new or pooled action of the specified type. The pools used are not limited in size, so once enough actions of a
+	 * type have been freed, running the same amount of actions again doesn't allocate. */
 	static public <T extends Action> T action (Class<T> type) {
-		Pool<T> pool = Pools.get(type);
+		Pool<T> pool = Pools.get(type, Integer.MAX_VALUE);
 		T action = pool.obtain();
 		action.setPool(pool);
 		return action;
@@ -52,6 +52,14 @@ abstract public class DelegateAction extends Action {
 
 	public void reset () {
 		super.reset();
+		// Return a pooled action that was never attached to an actor, otherwise it was already freed by setActor(null).
+		if (action != null) {
+			Pool pool = action.getPool();
+			if (pool != null) {
+				action.setPool(null);
+				pool.free(action);
+			}
+		}
 		action = null;
 	}
 
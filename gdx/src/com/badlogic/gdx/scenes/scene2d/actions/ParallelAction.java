@@ -86,6 +86,16 @@ public class ParallelAction extends Action {
 
 	public void reset () {
 		super.reset();
+		// Return pooled actions that were never attached to an actor, otherwise they were already freed by setActor(null).
+		Array<Action> actions = this.actions;
+		for (int i = 0, n = actions.size; i < n; i++) {
+			Action action = actions.get(i);
+			Pool pool = action.getPool();
+			if (pool != null) {
+				action.setPool(null);
+				pool.free(action);
+			}
+		}
 		actions.clear();
 	}
 
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+
+/** Remembers the minimum, preferred and maximum size of a {@link Layout} at the time of its last layout, so
+ * {@link Layout#invalidateHierarchy()} can stop at actors whose size is unchanged. */
+class LayoutSizeCache {
+	private boolean cached;
+	private float minWidth, minHeight, prefWidth, prefHeight, maxWidth, maxHeight;
+
+	/** Stores the current minimum, preferred and maximum size of the layout. */
+	public void set (Layout layout) {
+		minWidth = layout.getMinWidth();
+		minHeight = layout.getMinHeight();
+		prefWidth = layout.getPrefWidth();
+		prefHeight = layout.getPrefHeight();
+		maxWidth = layout.getMaxWidth();
+		maxHeight = layout.getMaxHeight();
+		cached = true;
+	}
+
+	/** Forgets the stored size, so {@link #changed(Layout)} returns true until the next {@link #set(Layout)}. */
+	public void clear () {
+		cached = false;
+	}
+
+	/** Returns true if the minimum, preferred or maximum size of the layout differs from the stored size, or if no size is
+	 * stored. */
+	public boolean changed (Layout layout) {
+		if (!cached) return true;
+		return prefWidth != layout.getPrefWidth() || prefHeight != layout.getPrefHeight() || minWidth != layout.getMinWidth()
+			|| minHeight != layout.getMinHeight() || maxWidth != layout.getMaxWidth() || maxHeight != layout.getMaxHeight();
+	}
+}
@@ -120,7 +120,13 @@ public class List extends Widget implements Cullable {
 
 		font.setColor(fontColorUnselected.r, fontColorUnselected.g, fontColorUnselected.b, fontColorUnselected.a * parentAlpha);
 		float itemY = getHeight();
-		for (int i = 0; i < items.length; i++) {
+		int start = 0;
+		if (cullingArea != null) {
+			// Skip directly to the first visible item, all items have the same height.
+			start = Math.max(0, (int)((itemY - cullingArea.y - cullingArea.height) / itemHeight));
+			itemY -= start * itemHeight;
+		}
+		for (int i = start; i < items.length; i++) {
 			if (cullingArea == null || (itemY - itemHeight <= cullingArea.y + cullingArea.height && itemY >= cullingArea.y)) {
 				if (selectedIndex == i) {
 					selectedDrawable.draw(batch, x, y + itemY - itemHeight, getWidth(), itemHeight);
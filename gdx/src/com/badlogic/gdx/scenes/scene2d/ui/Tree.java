@@ -20,20 +20,27 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input.Keys;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.scenes.scene2d.Actor;
-import com.badlogic.gdx.scenes.scene2d.Group;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ChangeListener.ChangeEvent;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.scenes.scene2d.utils.Drawable;
 import com.badlogic.gdx.scenes.scene2d.utils.Layout;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.Pools;
 
 /** A tree widget where each node has an icon, actor, and child nodes.
  * <p>
  * The preferred size of the tree is determined by the preferred size of the actors for the expanded nodes.
  * <p>
+ * Nodes created without an actor get one from the tree's {@link RowBinder} only while their row is inside the culling area set
+ * by a {@link ScrollPane}, so the actors are pooled and only the visible rows are laid out. Trees with a very large number of
+ * expanded nodes should use such nodes. For all nodes, only the rows inside the culling area are drawn.
+ * <p>
  * {@link ChangeEvent} is fired when the selected node changes.
  * @author Nathan Sweet */
 public class Tree extends WidgetGroup {
@@ -45,9 +52,22 @@ public class Tree extends WidgetGroup {
 	private boolean sizeInvalid = true;
 	boolean multiSelect = true;
 	boolean toggleSelect = true;
-	private Node foundNode;
 	Node overNode;
 	private ClickListener clickListener;
+	private Rectangle cullingArea;
+	RowBinder rowBinder;
+	/** The expanded nodes from top to bottom, built with the size and cleared when the tree is invalidated. For each row, the
+	 * distance from the top of the rows to the bottom of the row (the prefix sum of the row heights and spacing), the x of its
+	 * expand icon and the index of the row after its expanded children. **/
+	private final Array<Node> rows = new Array();
+	private final FloatArray rowOffsets = new FloatArray(), rowIndent = new FloatArray();
+	private final IntArray rowEnd = new IntArray();
+	/** The rows of the nodes that have their own actor, which are positioned by every layout. */
+	private final IntArray actorRows = new IntArray();
+	/** The nodes without an actor that are bound to an actor from the row binder. */
+	private final Array<Node> boundNodes = new Array();
+	private int visibleStart, visibleEnd;
+	private boolean binding;
 
 	public Tree (Skin skin) {
 		this(skin.get(TreeStyle.class));
@@ -65,27 +85,25 @@ public class Tree extends WidgetGroup {
 	private void initialize () {
 		addListener(clickListener = new ClickListener() {
 			public void clicked (InputEvent event, float x, float y) {
-				Node node = getNodeAt(y);
-				if (node == null) return;
-				if (node != getNodeAt(getTouchDownY())) return;
+				int row = getRowAt(y);
+				if (row == -1) return;
+				Node node = rows.get(row);
+				if (row != getRowAt(getTouchDownY())) return;
 				if (multiSelect && selectedNodes.size > 0
 					&& (Gdx.input.isKeyPressed(Keys.SHIFT_LEFT) || Gdx.input.isKeyPressed(Keys.SHIFT_RIGHT))) {
 					// Select range (shift/ctrl).
-					float low = selectedNodes.first().actor.getY();
-					float high = node.actor.getY();
+					int first = getRow(selectedNodes.first());
+					if (first == -1) first = row;
 					if (!Gdx.input.isKeyPressed(Keys.CONTROL_LEFT) && !Gdx.input.isKeyPressed(Keys.CONTROL_RIGHT))
 						selectedNodes.clear();
-					if (low > high)
-						selectNodes(rootNodes, high, low);
-					else
-						selectNodes(rootNodes, low, high);
+					selectNodes(Math.min(first, row), Math.max(first, row));
 					fireChangeEvent();
 					return;
 				}
 				if (!multiSelect || (!Gdx.input.isKeyPressed(Keys.CONTROL_LEFT) && !Gdx.input.isKeyPressed(Keys.CONTROL_RIGHT))) {
 					if (node.children.size > 0) {
 						// Toggle expanded.
-						float rowX = node.actor.getX();
+						float rowX = getRowX(row);
 						if (node.icon != null) rowX -= iconSpacing + node.icon.getMinWidth();
 						if (x < rowX) {
 							node.setExpanded(!node.expanded);
@@ -147,13 +165,30 @@ public class Tree extends WidgetGroup {
 
 	/** Removes all tree nodes. */
 	public void clearChildren () {
+		clearNodes(rootNodes);
+		boundNodes.clear();
 		super.clearChildren();
 		rootNodes.clear();
 		selectedNodes.clear();
+		clearRows();
 		setOverNode(null);
 		fireChangeEvent();
 	}
 
+	private void clearNodes (Array<Node> nodes) {
+		for (int i = 0, n = nodes.size; i < n; i++) {
+			Node node = nodes.get(i);
+			if (node.tree == null) continue;
+			node.tree = null;
+			if (node.pooled && node.actor != null) {
+				rowBinder.unbind(node, node.actor);
+				rowBinder.pool.free(node.actor);
+				node.actor = null;
+			}
+			clearNodes(node.children);
+		}
+	}
+
 	void fireChangeEvent () {
 		ChangeEvent changeEvent = Pools.obtain(ChangeEvent.class);
 		fire(changeEvent);
@@ -167,18 +202,31 @@ public class Tree extends WidgetGroup {
 	public void invalidate () {
 		super.invalidate();
 		sizeInvalid = true;
+		clearRows();
+	}
+
+	/** Binding and unbinding row actors doesn't change the size of the tree. */
+	protected void childrenChanged () {
+		if (!binding) super.childrenChanged();
+	}
+
+	private void clearRows () {
+		rows.clear();
+		rowOffsets.clear();
+		rowIndent.clear();
+		rowEnd.clear();
+		actorRows.clear();
 	}
 
 	private void computeSize () {
 		sizeInvalid = false;
 		prefWidth = style.plus.getMinWidth();
 		prefWidth = Math.max(prefWidth, style.minus.getMinWidth());
-		prefHeight = getHeight();
-		leftColumnWidth = 0;
+		prefHeight = 0;
+		leftColumnWidth = iconSpacing + padding;
+		clearRows();
 		computeSize(rootNodes, indentSpacing);
-		leftColumnWidth += iconSpacing + padding;
 		prefWidth += leftColumnWidth + padding;
-		prefHeight = getHeight() - prefHeight;
 	}
 
 	private void computeSize (Array<Node> nodes, float indent) {
@@ -187,7 +235,11 @@ public class Tree extends WidgetGroup {
 			Node node = nodes.get(i);
 			float rowWidth = indent + iconSpacing;
 			Actor actor = node.actor;
-			if (actor instanceof Layout) {
+			if (node.pooled) {
+				if (rowBinder == null) throw new IllegalStateException("A RowBinder must be set to use nodes without an actor.");
+				rowWidth += rowBinder.getPrefWidth(node);
+				node.height = rowBinder.getPrefHeight(node);
+			} else if (actor instanceof Layout) {
 				Layout layout = (Layout)actor;
 				rowWidth += layout.getPrefWidth();
 				node.height = layout.getPrefHeight();
@@ -201,106 +253,223 @@ public class Tree extends WidgetGroup {
 				node.height = Math.max(node.height, node.icon.getMinHeight());
 			}
 			prefWidth = Math.max(prefWidth, rowWidth);
-			prefHeight -= node.height + ySpacing;
+
+			int row = rows.size;
+			node.row = row;
+			rows.add(node);
+			rowOffsets.add(prefHeight + node.height);
+			rowIndent.add(leftColumnWidth + indent - indentSpacing);
+			rowEnd.add(0);
+			if (!node.pooled) actorRows.add(row);
+			prefHeight += node.height + ySpacing;
 			if (node.expanded) computeSize(node.children, indent + indentSpacing);
+			rowEnd.set(row, rows.size);
 		}
 	}
 
+	/** Positions the actors of the nodes that have one and the actors bound to the nodes that don't. The visible rows are bound
+	 * when drawing, after a {@link ScrollPane} has set the culling area. */
 	public void layout () {
 		if (sizeInvalid) computeSize();
-		layout(rootNodes, leftColumnWidth + indentSpacing + iconSpacing, getHeight() - ySpacing / 2);
-	}
-
-	private float layout (Array<Node> nodes, float indent, float y) {
-		float ySpacing = this.ySpacing;
-		Drawable plus = style.plus, minus = style.minus;
-		for (int i = 0, n = nodes.size; i < n; i++) {
-			Node node = nodes.get(i);
-			Actor actor = node.actor;
-			float x = indent;
-			if (node.icon != null) x += node.icon.getMinWidth();
-			y -= node.height;
-			node.actor.setPosition(x, y);
-			y -= ySpacing;
-			if (node.expanded) y = layout(node.children, indent + indentSpacing, y);
-		}
-		return y;
+		int[] actorRows = this.actorRows.items;
+		for (int i = 0, n = this.actorRows.size; i < n; i++) {
+			int row = actorRows[i];
+			rows.get(row).actor.setPosition(getRowX(row), getRowY(row));
+		}
+		for (int i = 0, n = boundNodes.size; i < n; i++) {
+			Node node = boundNodes.get(i);
+			node.actor.setPosition(getRowX(node.row), getRowY(node.row));
+		}
+	}
+
+	/** Returns the x of the actor of the row. */
+	private float getRowX (int row) {
+		float x = rowIndent.get(row) + indentSpacing + iconSpacing;
+		Node node = rows.get(row);
+		if (node.icon != null) x += node.icon.getMinWidth();
+		return x;
+	}
+
+	/** Returns the y of the bottom of the row. */
+	private float getRowY (int row) {
+		return getHeight() - ySpacing / 2 - rowOffsets.get(row);
+	}
+
+	/** Returns the row of the node, or -1 if the node is not in the rows. */
+	int getRow (Node node) {
+		int row = node.row;
+		if (row < 0 || row >= rows.size || rows.get(row) != node) return -1;
+		return row;
+	}
+
+	/** Computes the range of rows inside the culling area, or all rows if there is none. */
+	private void computeVisibleRows () {
+		visibleStart = 0;
+		visibleEnd = rows.size;
+		if (cullingArea == null) return;
+		float halfSpacing = ySpacing / 2;
+		float cullBottom = cullingArea.y - halfSpacing;
+		int start = getRowIndex(cullingArea.y + cullingArea.height + halfSpacing), end = start;
+		while (end < rows.size && getRowY(end) + rows.get(end).height >= cullBottom)
+			end++;
+		visibleStart = start;
+		visibleEnd = end;
+	}
+
+	/** Returns the actors of the rows outside the culling area to the row binder and binds the rows inside it. */
+	private void bindRows () {
+		computeVisibleRows();
+		Array<Node> boundNodes = this.boundNodes;
+		for (int i = boundNodes.size - 1; i >= 0; i--) {
+			Node node = boundNodes.get(i);
+			int row = getRow(node);
+			if (row >= visibleStart && row < visibleEnd) continue;
+			boundNodes.removeIndex(i);
+			unbind(node);
+		}
+		for (int i = visibleStart; i < visibleEnd; i++) {
+			Node node = rows.get(i);
+			if (node.actor == null) bind(node, i);
+		}
+	}
+
+	private void bind (Node node, int row) {
+		Actor actor = (Actor)rowBinder.pool.obtain();
+		rowBinder.bind(node, actor);
+		node.actor = actor;
+		if (actor instanceof Layout) ((Layout)actor).pack();
+		actor.setPosition(getRowX(row), getRowY(row));
+		binding = true;
+		addActor(actor);
+		binding = false;
+		boundNodes.add(node);
+	}
+
+	/** Removes the node's actor from the tree and returns it to the row binder. Does not remove the node from the bound nodes. */
+	void unbind (Node node) {
+		Actor actor = node.actor;
+		binding = true;
+		removeActor(actor);
+		binding = false;
+		node.actor = null;
+		rowBinder.unbind(node, actor);
+		rowBinder.pool.free(actor);
 	}
 
 	public void draw (SpriteBatch batch, float parentAlpha) {
+		validate();
+		if (sizeInvalid) computeSize();
+		bindRows();
 		Color color = getColor();
 		if (style.background != null) {
 			batch.setColor(color.r, color.g, color.b, color.a * parentAlpha);
 			style.background.draw(batch, getX(), getY(), getWidth(), getHeight());
 			batch.setColor(Color.WHITE);
 		}
-		draw(batch, rootNodes, leftColumnWidth);
+		drawRows(batch);
 		super.draw(batch, parentAlpha); // Draw actors.
 	}
 
-	/** Draws selection, icons, and expand icons. */
-	private void draw (SpriteBatch batch, Array<Node> nodes, float indent) {
+	/** Draws selection, icons, and expand icons for the rows inside the culling area. */
+	private void drawRows (SpriteBatch batch) {
 		Drawable plus = style.plus, minus = style.minus;
-		float x = getX(), y = getY();
-		for (int i = 0, n = nodes.size; i < n; i++) {
-			Node node = nodes.get(i);
-			Actor actor = node.actor;
+		float x = getX(), y = getY(), halfSpacing = ySpacing / 2;
+		float[] rowIndent = this.rowIndent.items;
+		for (int i = visibleStart, n = visibleEnd; i < n; i++) {
+			Node node = rows.get(i);
+			float rowY = getRowY(i);
 
 			if (selectedNodes.contains(node, true) && style.selection != null) {
-				style.selection.draw(batch, x, y + actor.getY() - ySpacing / 2, getWidth(), node.height + ySpacing);
+				style.selection.draw(batch, x, y + rowY - halfSpacing, getWidth(), node.height + ySpacing);
 			} else if (node == overNode && style.over != null) {
-				style.over.draw(batch, x, y + actor.getY() - ySpacing / 2, getWidth(), node.height + ySpacing);
+				style.over.draw(batch, x, y + rowY - halfSpacing, getWidth(), node.height + ySpacing);
 			}
 
 			if (node.icon != null) {
-				float iconY = actor.getY() + Math.round((node.height - node.icon.getMinHeight()) / 2);
-				batch.setColor(actor.getColor());
-				node.icon.draw(batch, x + node.actor.getX() - iconSpacing - node.icon.getMinWidth(), y + iconY,
-					node.icon.getMinWidth(), node.icon.getMinHeight());
+				float iconY = rowY + Math.round((node.height - node.icon.getMinHeight()) / 2);
+				batch.setColor(node.actor.getColor());
+				node.icon.draw(batch, x + getRowX(i) - iconSpacing - node.icon.getMinWidth(), y + iconY, node.icon.getMinWidth(),
+					node.icon.getMinHeight());
 				batch.setColor(Color.WHITE);
 			}
 
 			if (node.children.size == 0) continue;
 
 			Drawable expandIcon = node.expanded ? minus : plus;
-			float iconY = actor.getY() + Math.round((node.height - expandIcon.getMinHeight()) / 2);
-			expandIcon.draw(batch, x + indent - iconSpacing, y + iconY, expandIcon.getMinWidth(), expandIcon.getMinHeight());
-			if (node.expanded) draw(batch, node.children, indent + indentSpacing);
+			float iconY = rowY + Math.round((node.height - expandIcon.getMinHeight()) / 2);
+			expandIcon.draw(batch, x + rowIndent[i] - iconSpacing, y + iconY, expandIcon.getMinWidth(), expandIcon.getMinHeight());
 		}
 	}
 
-	/** @return May be null. */
-	public Node getNodeAt (float y) {
-		foundNode = null;
-		getNodeAt(rootNodes, y, getHeight());
-		return foundNode;
+	/** Returns the index of the first row with a y at or below the specified y, or the number of rows. The row offsets increase
+	 * from top to bottom, so this is a binary search. */
+	private int getRowIndex (float y) {
+		float[] rowOffsets = this.rowOffsets.items;
+		float offset = getHeight() - ySpacing / 2 - y;
+		int low = 0, high = rows.size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (rowOffsets[mid] < offset)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
 	}
 
-	private float getNodeAt (Array<Node> nodes, float y, float rowY) {
-		for (int i = 0, n = nodes.size; i < n; i++) {
-			Node node = nodes.get(i);
-			if (y >= rowY - node.height - ySpacing && y < rowY) {
-				foundNode = node;
-				return -1;
-			}
-			rowY -= node.height + ySpacing;
-			if (node.expanded) {
-				rowY = getNodeAt(node.children, y, rowY);
-				if (rowY == -1) return -1;
+	/** Returns the row at the specified y, or -1. */
+	private int getRowAt (float y) {
+		if (sizeInvalid) computeSize();
+		float halfSpacing = ySpacing / 2;
+		int index = getRowIndex(y + halfSpacing);
+		if (index == rows.size) return -1;
+		if (y >= getRowY(index) + rows.get(index).height + halfSpacing) return -1;
+		return index;
+	}
+
+	/** @return May be null. */
+	public Node getNodeAt (float y) {
+		int row = getRowAt(y);
+		if (row == -1) return null;
+		return rows.get(row);
+	}
+
+	/** Selects the selectable nodes from the start row to the end row, inclusive. Nodes below a node that is not selectable are
+	 * skipped, also when the start row is one of them. */
+	void selectNodes (int start, int end) {
+		int[] rowEnd = this.rowEnd.items;
+		int i = start;
+		for (Node parent = rows.get(i).parent; parent != null; parent = parent.parent)
+			if (!parent.isSelectable()) i = Math.max(i, rowEnd[getRow(parent)]);
+		while (i <= end) {
+			Node node = rows.get(i);
+			if (!node.isSelectable()) {
+				i = rowEnd[i];
+				continue;
 			}
+			selectedNodes.add(node);
+			i++;
 		}
-		return rowY;
 	}
 
-	void selectNodes (Array<Node> nodes, float low, float high) {
-		float ySpacing = this.ySpacing;
-		for (int i = 0, n = nodes.size; i < n; i++) {
-			Node node = nodes.get(i);
-			if (node.actor.getY() < low) break;
-			if (!node.isSelectable()) continue;
-			if (node.actor.getY() <= high) selectedNodes.add(node);
-			if (node.expanded) selectNodes(node.children, low, high);
-		}
+	/** Sets the area in which rows are drawn and bound, usually set by a {@link ScrollPane}. */
+	public void setCullingArea (Rectangle cullingArea) {
+		super.setCullingArea(cullingArea);
+		this.cullingArea = cullingArea;
+	}
+
+	/** Sets the row binder that provides the actors for the nodes created without an actor.
+	 * @param rowBinder May be null if no node without an actor is in the tree. */
+	public void setRowBinder (RowBinder rowBinder) {
+		for (int i = 0, n = boundNodes.size; i < n; i++)
+			unbind(boundNodes.get(i));
+		boundNodes.clear();
+		this.rowBinder = rowBinder;
+		invalidateHierarchy();
+	}
+
+	public RowBinder getRowBinder () {
+		return rowBinder;
 	}
 
 	public Array<Node> getSelection () {
@@ -448,17 +617,27 @@ public class Tree extends WidgetGroup {
 
 	static public class Node {
 		Actor actor;
+		final boolean pooled;
+		Tree tree;
 		Node parent;
 		final Array<Node> children = new Array(0);
 		boolean selectable = true;
 		boolean expanded;
 		Drawable icon;
 		float height;
+		int row = -1;
 		Object object;
 
 		public Node (Actor actor) {
 			if (actor == null) throw new IllegalArgumentException("actor cannot be null.");
 			this.actor = actor;
+			pooled = false;
+		}
+
+		/** Creates a node without an actor. While the node's row is visible, the tree's {@link RowBinder} binds an actor from its
+		 * pool to the node, usually to show the node's {@link #setObject(Object) object}. */
+		public Node () {
+			pooled = true;
 		}
 
 		public void setExpanded (boolean expanded) {
@@ -479,7 +658,11 @@ public class Tree extends WidgetGroup {
 
 		/** Called to add the actor to the tree when the node's parent is expanded. */
 		protected void addToTree (Tree tree) {
-			tree.addActor(actor);
+			this.tree = tree;
+			if (pooled)
+				tree.invalidateHierarchy(); // The actor is bound when the row is visible.
+			else
+				tree.addActor(actor);
 			if (!expanded) return;
 			for (int i = 0, n = children.size; i < n; i++)
 				children.get(i).addToTree(tree);
@@ -487,7 +670,15 @@ public class Tree extends WidgetGroup {
 
 		/** Called to remove the actor from the tree when the node's parent is collapsed. */
 		protected void removeFromTree (Tree tree) {
-			tree.removeActor(actor);
+			this.tree = null;
+			if (pooled) {
+				if (actor != null) {
+					tree.boundNodes.removeValue(this, true);
+					tree.unbind(this);
+				}
+				tree.invalidateHierarchy();
+			} else
+				tree.removeActor(actor);
 			if (!expanded) return;
 			for (int i = 0, n = children.size; i < n; i++)
 				children.get(i).removeFromTree(tree);
@@ -538,11 +729,11 @@ public class Tree extends WidgetGroup {
 
 		/** Returns the tree this node is currently in, or null. */
 		public Tree getTree () {
-			Group parent = actor.getParent();
-			if (!(parent instanceof Tree)) return null;
-			return (Tree)parent;
+			return tree;
 		}
 
+		/** Returns the node's actor. For a node created without an actor, returns the actor bound to it while its row is visible,
+		 * else null. */
 		public Actor getActor () {
 			return actor;
 		}
@@ -615,6 +806,38 @@ public class Tree extends WidgetGroup {
 		}
 	}
 
+	/** Provides the actors for the nodes of a tree that were created without an actor. An actor is obtained from the pool and bound
+	 * to a node when the node's row becomes visible, and unbound and returned to the pool when the row is no longer visible or the
+	 * node is removed. The size of the rows is computed without binding them, so the tree's size doesn't depend on which rows are
+	 * visible. */
+	static abstract public class RowBinder<T extends Actor> {
+		final Pool<T> pool = new Pool<T>() {
+			protected T newObject () {
+				return newActor();
+			}
+		};
+
+		/** Creates a new actor for the pool. */
+		abstract protected T newActor ();
+
+		/** Sets up the actor to show the node. */
+		abstract public void bind (Node node, T actor);
+
+		/** Called before the actor is returned to the pool, eg to release references to the node's object. */
+		public void unbind (Node node, T actor) {
+		}
+
+		/** Returns the width of the actor the node would be bound to. */
+		abstract public float getPrefWidth (Node node);
+
+		/** Returns the height of the actor the node would be bound to. */
+		abstract public float getPrefHeight (Node node);
+
+		public Pool<T> getPool () {
+			return pool;
+		}
+	}
+
 	/** The style for a {@link Tree}.
 	 * @author Nathan Sweet */
 	static public class TreeStyle {
@@ -36,6 +36,7 @@ public class Widget extends Actor implements Layout {
 	private boolean needsLayout = true;
 	private boolean fillParent;
 	private boolean layoutEnabled = true;
+	private final LayoutSizeCache layoutSize = new LayoutSizeCache();
 
 	public float getMinWidth () {
 		return getPrefWidth();
@@ -63,6 +64,7 @@ public class Widget extends Actor implements Layout {
 
 	public void setLayoutEnabled (boolean enabled) {
 		layoutEnabled = enabled;
+		layoutSize.clear(); // Ensure the parent is laid out, the size may be unchanged but the position was not managed by layout.
 		if (enabled) invalidateHierarchy();
 	}
 
@@ -89,7 +91,16 @@ public class Widget extends Actor implements Layout {
 
 		if (!needsLayout) return;
 		needsLayout = false;
+		Stage stage = getStage();
+		if (stage != null) stage.layoutCount++;
 		layout();
+		layoutSize.set(this);
+	}
+
+	/** Returns true if the minimum, preferred or maximum size differs from the size at the time of the last layout, or if this
+	 * widget was not laid out yet. */
+	protected boolean layoutSizeChanged () {
+		return layoutSize.changed(this);
 	}
 
 	/** Returns true if the widget's layout has been {@link #invalidate() invalidated}. */
@@ -101,9 +112,13 @@ public class Widget extends Actor implements Layout {
 		needsLayout = true;
 	}
 
+	/** Invalidates this widget and, if it was laid out before and its minimum, preferred or maximum size has not changed since,
+	 * stops there because the parent's layout is unaffected. Otherwise the parent is invalidated the same way. */
 	public void invalidateHierarchy () {
 		if (!layoutEnabled) return;
+		boolean laidOut = !needsLayout;
 		invalidate();
+		if (laidOut && !layoutSizeChanged()) return;
 		Group parent = getParent();
 		if (parent instanceof Layout) ((Layout)parent).invalidateHierarchy();
 	}
@@ -37,6 +37,7 @@ public class WidgetGroup extends Group implements Layout {
 	private boolean needsLayout = true;
 	private boolean fillParent;
 	private boolean layoutEnabled = true;
+	private final LayoutSizeCache layoutSize = new LayoutSizeCache();
 
 	public float getMinWidth () {
 		return getPrefWidth();
@@ -65,7 +66,9 @@ public class WidgetGroup extends Group implements Layout {
 	public void setLayoutEnabled (boolean enabled) {
 		if (layoutEnabled == enabled) return;
 		layoutEnabled = enabled;
+		layoutSize.clear(); // Ensure the parent is laid out, the size may be unchanged but the position was not managed by layout.
 		setLayoutEnabled(this, enabled);
+		if (enabled) invalidateHierarchy();
 	}
 
 	private void setLayoutEnabled (Group parent, boolean enabled) {
@@ -102,7 +105,16 @@ public class WidgetGroup extends Group implements Layout {
 
 		if (!needsLayout) return;
 		needsLayout = false;
+		Stage stage = getStage();
+		if (stage != null) stage.layoutCount++;
 		layout();
+		layoutSize.set(this);
+	}
+
+	/** Returns true if the minimum, preferred or maximum size differs from the size at the time of the last layout, or if this
+	 * widget group was not laid out yet. */
+	protected boolean layoutSizeChanged () {
+		return layoutSize.changed(this);
 	}
 
 	/** Returns true if the widget's layout has been {@link #invalidate() invalidated}. */
@@ -114,8 +126,12 @@ public class WidgetGroup extends Group implements Layout {
 		needsLayout = true;
 	}
 
+	/** Invalidates this widget group and, if it was laid out before and its minimum, preferred or maximum size has not changed
+	 * since, stops there because the parent's layout is unaffected. Otherwise the parent is invalidated the same way. */
 	public void invalidateHierarchy () {
+		boolean laidOut = !needsLayout;
 		invalidate();
+		if (laidOut && !layoutSizeChanged()) return;
 		Group parent = getParent();
 		if (parent instanceof Layout) ((Layout)parent).invalidateHierarchy();
 	}
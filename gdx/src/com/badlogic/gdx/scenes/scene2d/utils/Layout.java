@@ -35,7 +35,8 @@ public interface Layout {
 
 	/** Invalidates this actor and all its parents, calling {@link #invalidate()} on all involved actors. This method should be
 	 * called when state changes in the actor that affects the minimum, preferred, maximum, or actual size of the actor (meaning it
-	 * it potentially affects the parent actor's layout). */
+	 * it potentially affects the parent actor's layout). Implementations may stop at the first actor whose minimum, preferred and
+	 * maximum size are unchanged since its last layout, as the layout of its parents is then unaffected. */
 	public void invalidateHierarchy ();
 
 	/** Ensures the actor has been laid out. Calls {@link #layout()} if {@link #invalidate()} has called since the last time
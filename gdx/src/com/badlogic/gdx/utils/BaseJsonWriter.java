@@ -0,0 +1,42 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.IOException;
+
+/** Builder style API for emitting JSON, implemented by {@link JsonWriter} for text and {@link UBJsonWriter} for UBJSON. */
+public interface BaseJsonWriter {
+	BaseJsonWriter name (String name) throws IOException;
+
+	BaseJsonWriter object () throws IOException;
+
+	BaseJsonWriter array () throws IOException;
+
+	BaseJsonWriter value (Object value) throws IOException;
+
+	BaseJsonWriter object (String name) throws IOException;
+
+	BaseJsonWriter array (String name) throws IOException;
+
+	BaseJsonWriter set (String name, Object value) throws IOException;
+
+	BaseJsonWriter pop () throws IOException;
+
+	void flush () throws IOException;
+
+	void close () throws IOException;
+}
@@ -26,8 +26,11 @@ import com.badlogic.gdx.utils.reflect.Constructor;
 import com.badlogic.gdx.utils.reflect.Field;
 import com.badlogic.gdx.utils.reflect.ReflectionException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -45,7 +48,7 @@ import java.util.Map;
 public class Json {
 	private static final boolean debug = false;
 
-	private JsonWriter writer;
+	private BaseJsonWriter writer;
 	private String typeName = "class";
 	private boolean usePrototypes = true;
 	private OutputType outputType;
@@ -218,14 +221,72 @@ public class Json {
 	/** Sets the writer where JSON output will go. This is only necessary when not using the toJson methods. */
 	public void setWriter (Writer writer) {
 		if (!(writer instanceof JsonWriter)) writer = new JsonWriter(writer);
-		this.writer = (JsonWriter)writer;
-		this.writer.setOutputType(outputType);
+		JsonWriter jsonWriter = (JsonWriter)writer;
+		jsonWriter.setOutputType(outputType);
+		this.writer = jsonWriter;
 	}
 
+	/** Sets the writer where UBJSON output will go. This is only necessary when not using the toUBJson methods. */
+	public void setWriter (UBJsonWriter writer) {
+		this.writer = writer;
+	}
+
+	/** @return The JSON text writer. See {@link #getBaseWriter()} for a writer of either format.
+	 * @throws IllegalStateException if UBJSON is being written. */
 	public JsonWriter getWriter () {
+		if (writer instanceof UBJsonWriter) throw new IllegalStateException("UBJSON is being written, use getBaseWriter.");
+		return (JsonWriter)writer;
+	}
+
+	/** @return The writer where JSON or UBJSON output currently goes. */
+	public BaseJsonWriter getBaseWriter () {
 		return writer;
 	}
 
+	/** Writes the object as UBJSON, which is smaller and faster to read than JSON. See {@link #fromUBJson(Class, byte[])}. */
+	public byte[] toUBJson (Object object) {
+		return toUBJson(object, object == null ? null : object.getClass(), null);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown. */
+	public byte[] toUBJson (Object object, Class knownType, Class elementType) {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		toUBJson(object, knownType, elementType, buffer);
+		return buffer.toByteArray();
+	}
+
+	public void toUBJson (Object object, FileHandle file) {
+		toUBJson(object, object == null ? null : object.getClass(), null, file);
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown. */
+	public void toUBJson (Object object, Class knownType, Class elementType, FileHandle file) {
+		// Written to memory first, so the many small writes don't go to the file unbuffered.
+		byte[] bytes = toUBJson(object, knownType, elementType);
+		try {
+			file.writeBytes(bytes, false);
+		} catch (Exception ex) {
+			throw new SerializationException("Error writing file: " + file, ex);
+		}
+	}
+
+	/** @param knownType May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown. */
+	public void toUBJson (Object object, Class knownType, Class elementType, OutputStream output) {
+		setWriter(new UBJsonWriter(output));
+		try {
+			writeValue(object, knownType, elementType);
+		} finally {
+			try {
+				this.writer.close();
+			} catch (Exception ignored) {
+			}
+			this.writer = null;
+		}
+	}
+
 	public void writeFields (Object object) {
 		Class type = object.getClass();
 
@@ -450,6 +511,13 @@ public class Json {
 			}
 
 			if (actualType.isArray()) {
+				// UBJSON has strongly typed arrays for primitive numbers.
+				if (writer instanceof UBJsonWriter
+					&& (actualType == float[].class || actualType == int[].class || actualType == short[].class
+						|| actualType == byte[].class || actualType == long[].class || actualType == double[].class)) {
+					writer.value(value);
+					return;
+				}
 				if (elementType == null) elementType = actualType.getComponentType();
 				int length = ArrayReflection.getLength(value);
 				writeArrayStart();
@@ -672,6 +740,53 @@ public class Json {
 		return (T)readValue(type, elementType, new JsonReader().parse(json));
 	}
 
+	/** @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, byte[] data) {
+		return (T)readValue(type, null, new UBJsonReader().parse(new ByteArrayInputStream(data)));
+	}
+
+	/** @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, Class elementType, byte[] data) {
+		return (T)readValue(type, elementType, new UBJsonReader().parse(new ByteArrayInputStream(data)));
+	}
+
+	/** @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, InputStream input) {
+		return (T)readValue(type, null, new UBJsonReader().parse(input));
+	}
+
+	/** @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, Class elementType, InputStream input) {
+		return (T)readValue(type, elementType, new UBJsonReader().parse(input));
+	}
+
+	/** @param type May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, FileHandle file) {
+		try {
+			return (T)readValue(type, null, new UBJsonReader().parse(file));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
+	/** @param type May be null if the type is unknown.
+	 * @param elementType May be null if the type is unknown.
+	 * @return May be null. */
+	public <T> T fromUBJson (Class<T> type, Class elementType, FileHandle file) {
+		try {
+			return (T)readValue(type, elementType, new UBJsonReader().parse(file));
+		} catch (Exception ex) {
+			throw new SerializationException("Error reading file: " + file, ex);
+		}
+	}
+
 	public void readField (Object object, String name, JsonValue jsonData) {
 		readField(object, name, name, null, jsonData);
 	}
@@ -739,6 +854,63 @@ public class Json {
 		}
 	}
 
+	/** Returns the class name like {@link JsonValue#getString(String, String)}, but scans the children so no index is built for
+	 * objects with many fields, which are read by iterating the children once.
+	 * @return May be null. */
+	private String findClassName (JsonValue jsonMap) {
+		for (JsonValue child = jsonMap.child; child != null; child = child.next) {
+			if (!child.name.equalsIgnoreCase(typeName)) continue;
+			return (!child.isValue() || child.isNull()) ? null : child.asString();
+		}
+		return null;
+	}
+
+	/** Reads an array of a primitive number type without boxing each value.
+	 * @return May be null if the type is not a primitive number type or the array has values that are not numbers. */
+	private Object readNumbers (Class type, JsonValue jsonData) {
+		if (!type.isPrimitive() || type == boolean.class || type == char.class) return null;
+		for (JsonValue child = jsonData.child; child != null; child = child.next)
+			if (!child.isNumber()) return null;
+		int i = 0;
+		if (type == float.class) {
+			float[] array = new float[jsonData.size];
+			for (JsonValue child = jsonData.child; child != null; child = child.next)
+				array[i++] = child.asFloat();
+			return array;
+		}
+		if (type == int.class) {
+			int[] array = new int[jsonData.size];
+			for (JsonValue child = jsonData.child; child != null; child = child.next)
+				array[i++] = child.asInt();
+			return array;
+		}
+		if (type == long.class) {
+			long[] array = new long[jsonData.size];
+			for (JsonValue child = jsonData.child; child != null; child = child.next)
+				array[i++] = child.asLong();
+			return array;
+		}
+		if (type == double.class) {
+			double[] array = new double[jsonData.size];
+			for (JsonValue child = jsonData.child; child != null; child = child.next)
+				array[i++] = child.asDouble();
+			return array;
+		}
+		if (type == short.class) {
+			short[] array = new short[jsonData.size];
+			for (JsonValue child = jsonData.child; child != null; child = child.next)
+				array[i++] = (short)child.asInt();
+			return array;
+		}
+		if (type == byte.class) {
+			byte[] array = new byte[jsonData.size];
+			for (JsonValue child = jsonData.child; child != null; child = child.next)
+				array[i++] = (byte)child.asInt();
+			return array;
+		}
+		return null;
+	}
+
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T readValue (String name, Class<T> type, JsonValue jsonMap) {
@@ -789,7 +961,7 @@ public class Json {
 		if (jsonData == null) return null;
 
 		if (jsonData.isObject()) {
-			String className = typeName == null ? null : jsonData.getString(typeName, null);
+			String className = typeName == null ? null : findClassName(jsonData);
 			if (className != null) {
 				jsonData.remove(typeName);
 				try {
@@ -858,6 +1030,10 @@ public class Json {
 			if (type.isArray()) {
 				Class componentType = type.getComponentType();
 				if (elementType == null) elementType = componentType;
+				if (elementType == componentType) {
+					Object numbers = readNumbers(componentType, jsonData);
+					if (numbers != null) return (T)numbers;
+				}
 				Object newArray = ArrayReflection.newInstance(componentType, jsonData.size());
 				int i = 0;
 				for (JsonValue child = jsonData.child(); child != null; child = child.next())
@@ -872,7 +1048,7 @@ public class Json {
 				if (type == null || type == float.class || type == Float.class) return (T)(Float)jsonData.asFloat();
 				if (type == int.class || type == Integer.class) return (T)(Integer)jsonData.asInt();
 				if (type == long.class || type == Long.class) return (T)(Long)jsonData.asLong();
-				if (type == double.class || type == Double.class) return (T)(Double)(double)jsonData.asFloat();
+				if (type == double.class || type == Double.class) return (T)(Double)jsonData.asDouble();
 				if (type == String.class) return (T)Float.toString(jsonData.asFloat());
 				if (type == short.class || type == Short.class) return (T)(Short)(short)jsonData.asInt();
 				if (type == byte.class || type == Byte.class) return (T)(Byte)(byte)jsonData.asInt();
@@ -238,6 +238,7 @@ public class JsonReader {
 	%% write data;
 
 	private final Array<JsonValue> elements = new Array(8);
+	private final Array<JsonValue> lastChild = new Array(8);
 	private JsonValue root, current;
 
 	private void addChild (String name, JsonValue child) {
@@ -245,9 +246,17 @@ public class JsonReader {
 		if (current == null) {
 			current = child;
 			root = child;
-		} else if (current.isArray() || current.isObject())
-			current.addChild(child);
-		else
+		} else if (current.isArray() || current.isObject()) {
+			if (current.size == 0)
+				current.child = child;
+			else {
+				JsonValue last = lastChild.pop();
+				last.next = child;
+				child.prev = last;
+			}
+			lastChild.add(child);
+			current.size++;
+		} else
 			root = current;
 	}
 
@@ -267,6 +276,7 @@ public class JsonReader {
 
 	protected void pop () {
 		root = elements.pop();
+		if (current.size > 0) lastChild.pop();
 		current = elements.size > 0 ? elements.peek() : null;
 	}
 
@@ -13,8 +13,16 @@ import com.badlogic.gdx.utils.JsonWriter.OutputType;
  * for (JsonValue entry = map.child(); entry != null; entry = entry.next())
  * 	System.out.println(entry.name() + " = " + entry.asString());
  * </pre>
+ * 
+ * Looking up children by name or index scans the list. Once a value with more than 16 children is looked up, an index of its
+ * children is built so further lookups don't scan. The index is rebuilt when {@link #child} or {@link #size} changes, so both
+ * must be updated when children are added or removed through the fields. It is also discarded when a child with a
+ * {@link #parent} is renamed with {@link #setName(String)} or relinked with {@link #setNext(JsonValue)}.
  * @author Nathan Sweet */
 public class JsonValue {
+	/** The number of children a value needs before lookups by name or index use an index of the children. */
+	static private final int INDEX_THRESHOLD = 16;
+
 	private ValueType type;
 
 	private String stringValue;
@@ -24,7 +32,10 @@ public class JsonValue {
 	public String name;
 	/** May be null */
 	public JsonValue child, next, prev;
+	/** The value this is a child of, set by the readers. May be null. */
+	public JsonValue parent;
 	public int size;
+	private Index index;
 
 	public JsonValue (ValueType type) {
 		this.type = type;
@@ -50,6 +61,21 @@ public class JsonValue {
 	/** Returns the child at the specified index.
 	 * @return May be null. */
 	public JsonValue get (int index) {
+		if (size > INDEX_THRESHOLD) {
+			JsonValue[] children = index().children;
+			return index >= 0 && index < children.length ? children[index] : null;
+		}
+		return find(index);
+	}
+
+	/** Returns the child with the specified name. Names are compared ignoring case.
+	 * @return May be null. */
+	public JsonValue get (String name) {
+		if (size > INDEX_THRESHOLD && isObject()) return name == null ? null : index().names.get(Index.key(name));
+		return find(name);
+	}
+
+	private JsonValue find (int index) {
 		JsonValue current = child;
 		while (current != null && index > 0) {
 			index--;
@@ -58,9 +84,7 @@ public class JsonValue {
 		return current;
 	}
 
-	/** Returns the child with the specified name.
-	 * @return May be null. */
-	public JsonValue get (String name) {
+	private JsonValue find (String name) {
 		JsonValue current = child;
 		while (current != null && !current.name.equalsIgnoreCase(name))
 			current = current.next;
@@ -70,11 +94,7 @@ public class JsonValue {
 	/** Returns the child at the specified index.
 	 * @throws IllegalArgumentException if the child was not found. */
 	public JsonValue require (int index) {
-		JsonValue current = child;
-		while (current != null && index > 0) {
-			index--;
-			current = current.next;
-		}
+		JsonValue current = get(index);
 		if (current == null) throw new IllegalArgumentException("Child not found with index: " + index);
 		return current;
 	}
@@ -82,9 +102,7 @@ public class JsonValue {
 	/** Returns the child with the specified name.
 	 * @throws IllegalArgumentException if the child was not found. */
 	public JsonValue require (String name) {
-		JsonValue current = child;
-		while (current != null && !current.name.equalsIgnoreCase(name))
-			current = current.next;
+		JsonValue current = get(name);
 		if (current == null) throw new IllegalArgumentException("Child not found with name: " + name);
 		return current;
 	}
@@ -92,7 +110,7 @@ public class JsonValue {
 	/** Removes the child with the specified name.
 	 * @return May be null. */
 	public JsonValue remove (int index) {
-		JsonValue child = get(index);
+		JsonValue child = find(index);
 		if (child == null) return null;
 		if (child.prev == null) {
 			this.child = child.next;
@@ -102,13 +120,16 @@ public class JsonValue {
 			if (child.next != null) child.next.prev = child.prev;
 		}
 		size--;
+		this.index = null;
+		child.parent = null;
 		return child;
 	}
 
 	/** Removes the child with the specified name.
 	 * @return May be null. */
 	public JsonValue remove (String name) {
-		JsonValue child = get(name);
+		// Removing discards the index, so it is not built just to find the child.
+		JsonValue child = find(name);
 		if (child == null) return null;
 		if (child.prev == null) {
 			this.child = child.next;
@@ -118,9 +139,17 @@ public class JsonValue {
 			if (child.next != null) child.next.prev = child.prev;
 		}
 		size--;
+		this.index = null;
+		child.parent = null;
 		return child;
 	}
 
+	private Index index () {
+		Index index = this.index;
+		if (index == null || index.child != child || index.children.length != size) this.index = index = new Index(this);
+		return index;
+	}
+
 	/** @deprecated Use the size property instead. Returns this number of children in the array or object. */
 	public int size () {
 		return size;
@@ -428,6 +457,7 @@ public class JsonValue {
 
 	public void setName (String name) {
 		this.name = name;
+		if (parent != null) parent.index = null;
 	}
 
 	/** Returns the first child for this object or array.
@@ -444,6 +474,7 @@ public class JsonValue {
 
 	public void setNext (JsonValue next) {
 		this.next = next;
+		if (parent != null) parent.index = null;
 	}
 
 	/** Returns the previous sibling of this value.
@@ -573,6 +604,41 @@ public class JsonValue {
 			buffer.append('\t');
 	}
 
+	/** The children of a value in an array, and by name for objects. */
+	static private class Index {
+		final JsonValue child;
+		final JsonValue[] children;
+		final ObjectMap<String, JsonValue> names;
+
+		Index (JsonValue parent) {
+			child = parent.child;
+			children = new JsonValue[parent.size];
+			names = parent.isObject() ? new ObjectMap(parent.size) : null;
+			int i = 0;
+			for (JsonValue current = child; current != null && i < children.length; current = current.next) {
+				children[i++] = current;
+				// The first child with a name is found, like when scanning.
+				if (names != null && current.name != null) {
+					String key = key(current.name);
+					if (!names.containsKey(key)) names.put(key, current);
+				}
+			}
+		}
+
+		/** @return A key that is equal for names that {@link String#equalsIgnoreCase(String)} considers equal. */
+		static String key (String name) {
+			char[] chars = null;
+			for (int i = 0, n = name.length(); i < n; i++) {
+				char c = name.charAt(i);
+				char folded = Character.toLowerCase(Character.toUpperCase(c));
+				if (folded == c) continue;
+				if (chars == null) chars = name.toCharArray();
+				chars[i] = folded;
+			}
+			return chars == null ? name : new String(chars);
+		}
+	}
+
 	public enum ValueType {
 		object, array, stringValue, doubleValue, longValue, booleanValue, nullValue
 	}
@@ -22,7 +22,7 @@ import java.util.regex.Pattern;
 
 /** Builder style API for emitting JSON.
  * @author Nathan Sweet */
-public class JsonWriter extends Writer {
+public class JsonWriter extends Writer implements BaseJsonWriter {
 	final Writer writer;
 	private final Array<JsonObject> stack = new Array();
 	private JsonObject current;
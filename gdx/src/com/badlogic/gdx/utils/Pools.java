@@ -16,22 +16,34 @@
 
 package com.badlogic.gdx.utils;
 
-/** Stores a map of {@link ReflectionPool}s by type for convenient static access.
+/** Stores a map of {@link Pool}s (usually {@link ReflectionPool}s) by type for convenient static access.
  * @author Nathan Sweet */
 public class Pools {
-	static private final ObjectMap<Class, ReflectionPool> typePools = new ObjectMap();
+	static private final ObjectMap<Class, Pool> typePools = new ObjectMap();
 
-	/** Returns a new or existing pool for the specified type, stored in a a Class to {@link ReflectionPool} map. The max size of
-	 * the pool used is 100. */
+	/** Returns a new or existing pool for the specified type, stored in a a Class to {@link Pool} map. The max size of the pool
+	 * used is 100. */
 	static public <T> Pool<T> get (Class<T> type) {
-		ReflectionPool pool = typePools.get(type);
-		if (pool == null) {
-			pool = new ReflectionPool(type, 4, 100);
+		return get(type, 100);
+	}
+
+	/** Returns a new or existing pool for the specified type, stored in a a Class to {@link Pool} map. If the existing pool is a
+	 * {@link ReflectionPool} with a smaller max size, it is replaced by a new pool with the specified max size. Objects obtained
+	 * from the replaced pool are freed to the new pool by {@link #free(Object)}, its free objects are discarded. */
+	static public <T> Pool<T> get (Class<T> type, int max) {
+		Pool pool = typePools.get(type);
+		if (pool == null || (pool.max < max && pool instanceof ReflectionPool)) {
+			pool = new ReflectionPool(type, 4, max);
 			typePools.put(type, pool);
 		}
 		return pool;
 	}
 
+	/** Sets an existing pool for the specified type, stored in a Class to {@link Pool} map. */
+	static public <T> void set (Class<T> type, Pool<T> pool) {
+		typePools.put(type, pool);
+	}
+
 	/** Obtains an object from the {@link #get(Class) pool}. */
 	static public <T> T obtain (Class<T> type) {
 		return (T)get(type).obtain();
@@ -40,7 +52,7 @@ public class Pools {
 	/** Frees an object from the {@link #get(Class) pool}. */
 	static public void free (Object object) {
 		if (object == null) throw new IllegalArgumentException("object cannot be null.");
-		ReflectionPool pool = typePools.get(object.getClass());
+		Pool pool = typePools.get(object.getClass());
 		if (pool == null) return; // Ignore freeing an object that was never retained.
 		pool.free(object);
 	}
@@ -50,8 +62,9 @@ public class Pools {
 		if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
 		for (int i = 0, n = objects.size; i < n; i++) {
 			Object object = objects.get(i);
-			ReflectionPool pool = typePools.get(object.getClass());
-			if (pool == null) return; // Ignore freeing an object that was never retained.
+			if (object == null) continue;
+			Pool pool = typePools.get(object.getClass());
+			if (pool == null) continue; // Ignore freeing an object that was never retained.
 			pool.free(object);
 		}
 	}
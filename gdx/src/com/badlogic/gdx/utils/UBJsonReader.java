@@ -41,10 +41,17 @@ public class UBJsonReader implements BaseJsonReader {
 
 	@Override
 	public JsonValue parse (FileHandle file) {
+		InputStream input = null;
 		try {
-			return parse(file.read());
+			input = file.read(8192);
+			return parse(input);
 		} catch (Exception ex) {
 			throw new SerializationException("Error parsing file: " + file, ex);
+		} finally {
+			try {
+				if (input != null) input.close();
+			} catch (IOException ignored) {
+			}
 		}
 	}
 	
@@ -87,10 +94,12 @@ public class UBJsonReader implements BaseJsonReader {
 		JsonValue result = new JsonValue(JsonValue.ValueType.array);
 		byte type = din.readByte();
 		JsonValue prev = null;
-		while (din.available() > 0 && type != ']') {
+		while (type != ']') {
 			final JsonValue val = parse(din, type);
+			val.parent = result;
 			if (prev != null) {
 				prev.next = val;
+				val.prev = prev;
 				result.size++;
 			} else {
 				result.child = val;
@@ -106,14 +115,16 @@ public class UBJsonReader implements BaseJsonReader {
 		JsonValue result = new JsonValue(JsonValue.ValueType.object);
 		byte type = din.readByte();
 		JsonValue prev = null;
-		while (din.available() > 0 && type != '}') {
+		while (type != '}') {
 			if (type != 's' && type != 'S')
 				throw new GdxRuntimeException("Only string key are currently supported");
 			final String key = parseString(din, type);
 			final JsonValue child = parse(din);
 			child.setName(key);
+			child.parent = result;
 			if (prev != null) {
 				prev.next = child;
+				child.prev = prev;
 				result.size++;
 			} else {
 				result.child = child;
@@ -134,8 +145,10 @@ public class UBJsonReader implements BaseJsonReader {
 		JsonValue prev = null;
 		for (long i = 0; i < size; i++) {
 			final JsonValue val = parse(din, dataType);
+			val.parent = result;
 			if (prev != null) {
 				prev.next = val;
+				val.prev = prev;
 				result.size++;
 			} else {
 				result.child = val;
@@ -155,7 +168,7 @@ public class UBJsonReader implements BaseJsonReader {
 	}
 	
 	protected long readUInt(final DataInputStream din) throws IOException {
-		return ((long)din.readInt() & 0xFFFFFFFF);
+		return ((long)din.readInt() & 0xFFFFFFFFL);
 	}
 	
 	protected String readString(final DataInputStream din, final long size) throws IOException {
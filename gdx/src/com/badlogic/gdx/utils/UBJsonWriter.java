@@ -0,0 +1,288 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.utils;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** Builder style API for emitting UBJSON, as read by {@link UBJsonReader}. Integers are written with the smallest type that
+ * holds them, floating point numbers as float when that is exact, and arrays of primitive numbers as strongly typed arrays
+ * without a type per value. Names and strings are written as UTF-8.
+ * <p>
+ * A {@link JsonValue} can be written with {@link #value(JsonValue)}, eg to convert a G3D model from JSON (g3dj) to UBJSON
+ * (g3db) for {@link com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader} with a {@link UBJsonReader}. */
+public class UBJsonWriter implements BaseJsonWriter {
+	final DataOutputStream out;
+	/** True for each array and false for each object that is open. */
+	private final BooleanArray stack = new BooleanArray();
+	private boolean named;
+
+	public UBJsonWriter (OutputStream out) {
+		if (!(out instanceof DataOutputStream)) out = new DataOutputStream(out);
+		this.out = (DataOutputStream)out;
+	}
+
+	public UBJsonWriter name (String name) throws IOException {
+		if (stack.size == 0 || stack.peek()) throw new IllegalStateException("Current item must be an object.");
+		if (named) throw new IllegalStateException("Expected an object, array, or value since a name was set.");
+		writeString(name);
+		named = true;
+		return this;
+	}
+
+	public UBJsonWriter object () throws IOException {
+		checkValue();
+		out.writeByte('{');
+		stack.add(false);
+		return this;
+	}
+
+	public UBJsonWriter array () throws IOException {
+		checkValue();
+		out.writeByte('[');
+		stack.add(true);
+		return this;
+	}
+
+	/** Writes null, a boolean, a number, an array of primitive numbers, a {@link JsonValue} or else the string of the value. */
+	public UBJsonWriter value (Object value) throws IOException {
+		if (value instanceof JsonValue) return value((JsonValue)value);
+		checkValue();
+		if (value == null)
+			out.writeByte('Z');
+		else if (value instanceof Boolean)
+			out.writeByte(((Boolean)value).booleanValue() ? 'T' : 'F');
+		else if (value instanceof Float || value instanceof Double) {
+			double doubleValue = ((Number)value).doubleValue();
+			long longValue = (long)doubleValue;
+			// Negative zero is not an integer.
+			if (doubleValue == longValue && (longValue != 0 || 1 / doubleValue > 0))
+				writeLong(longValue);
+			else
+				writeDouble(doubleValue);
+		} else if (value instanceof Number)
+			writeLong(((Number)value).longValue());
+		else if (value instanceof float[])
+			writeArray((float[])value);
+		else if (value instanceof double[])
+			writeArray((double[])value);
+		else if (value instanceof int[])
+			writeArray((int[])value);
+		else if (value instanceof long[])
+			writeArray((long[])value);
+		else if (value instanceof short[])
+			writeArray((short[])value);
+		else if (value instanceof byte[])
+			writeArray((byte[])value);
+		else
+			writeString(value.toString());
+		return this;
+	}
+
+	/** Writes the value and all of its children. Decimal numbers are written as float if that prints the same. */
+	public UBJsonWriter value (JsonValue value) throws IOException {
+		if (value.isObject()) {
+			object();
+			for (JsonValue child = value.child(); child != null; child = child.next())
+				name(child.name()).value(child);
+			pop();
+		} else if (value.isArray()) {
+			array();
+			for (JsonValue child = value.child(); child != null; child = child.next())
+				value(child);
+			pop();
+		} else if (value.isBoolean())
+			value((Object)value.asBoolean());
+		else if (value.isDouble()) {
+			// Text has no float type, numbers that print the same as a float are written as float.
+			double doubleValue = value.asDouble();
+			float floatValue = (float)doubleValue;
+			value(Double.parseDouble(Float.toString(floatValue)) == doubleValue ? (Object)floatValue : (Object)doubleValue);
+		} else if (value.isLong())
+			value((Object)value.asLong());
+		else if (value.isString())
+			value((Object)value.asString());
+		else
+			value((Object)null);
+		return this;
+	}
+
+	public UBJsonWriter object (String name) throws IOException {
+		return name(name).object();
+	}
+
+	public UBJsonWriter array (String name) throws IOException {
+		return name(name).array();
+	}
+
+	public UBJsonWriter set (String name, Object value) throws IOException {
+		return name(name).value(value);
+	}
+
+	public UBJsonWriter pop () throws IOException {
+		if (named) throw new IllegalStateException("Expected an object, array, or value since a name was set.");
+		out.writeByte(stack.pop() ? ']' : '}');
+		return this;
+	}
+
+	public void flush () throws IOException {
+		out.flush();
+	}
+
+	public void close () throws IOException {
+		while (stack.size > 0)
+			pop();
+		out.close();
+	}
+
+	private void checkValue () {
+		if (stack.size == 0 || stack.peek()) return;
+		if (!named) throw new IllegalStateException("Name must be set.");
+		named = false;
+	}
+
+	private void writeString (String value) throws IOException {
+		byte[] bytes = value.getBytes("UTF-8");
+		if (bytes.length < 256) {
+			out.writeByte('s');
+			out.writeByte(bytes.length);
+		} else {
+			out.writeByte('S');
+			out.writeInt(bytes.length);
+		}
+		out.write(bytes);
+	}
+
+	private void writeLong (long value) throws IOException {
+		char type = integerType(value, value);
+		out.writeByte(type);
+		writeInteger(type, value);
+	}
+
+	private void writeDouble (double value) throws IOException {
+		if ((float)value == value) {
+			out.writeByte('d');
+			out.writeFloat((float)value);
+		} else {
+			out.writeByte('D');
+			out.writeDouble(value);
+		}
+	}
+
+	/** @return The smallest type that holds all integers from min to max. */
+	private char integerType (long min, long max) {
+		if (min >= 0 && max <= 255) return 'B';
+		if (min >= Short.MIN_VALUE && max <= Short.MAX_VALUE) return 'i';
+		if (min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE) return 'I';
+		return 'L';
+	}
+
+	private void writeInteger (char type, long value) throws IOException {
+		switch (type) {
+		case 'B':
+			out.writeByte((int)value);
+			break;
+		case 'i':
+			out.writeShort((int)value);
+			break;
+		case 'I':
+			out.writeInt((int)value);
+			break;
+		default:
+			out.writeLong(value);
+		}
+	}
+
+	private void writeArrayHeader (char type, int length) throws IOException {
+		if (length < 256) {
+			out.writeByte('a');
+			out.writeByte(type);
+			out.writeByte(length);
+		} else {
+			out.writeByte('A');
+			out.writeByte(type);
+			out.writeInt(length);
+		}
+	}
+
+	private void writeArray (float[] values) throws IOException {
+		writeArrayHeader('d', values.length);
+		for (int i = 0, n = values.length; i < n; i++)
+			out.writeFloat(values[i]);
+	}
+
+	private void writeArray (double[] values) throws IOException {
+		boolean exact = true;
+		for (int i = 0, n = values.length; i < n && exact; i++)
+			exact = (float)values[i] == values[i];
+		writeArrayHeader(exact ? 'd' : 'D', values.length);
+		for (int i = 0, n = values.length; i < n; i++) {
+			if (exact)
+				out.writeFloat((float)values[i]);
+			else
+				out.writeDouble(values[i]);
+		}
+	}
+
+	private void writeArray (long[] values) throws IOException {
+		long min = 0, max = 0;
+		for (int i = 0, n = values.length; i < n; i++) {
+			min = Math.min(min, values[i]);
+			max = Math.max(max, values[i]);
+		}
+		char type = integerType(min, max);
+		writeArrayHeader(type, values.length);
+		for (int i = 0, n = values.length; i < n; i++)
+			writeInteger(type, values[i]);
+	}
+
+	private void writeArray (int[] values) throws IOException {
+		int min = 0, max = 0;
+		for (int i = 0, n = values.length; i < n; i++) {
+			min = Math.min(min, values[i]);
+			max = Math.max(max, values[i]);
+		}
+		char type = integerType(min, max);
+		writeArrayHeader(type, values.length);
+		for (int i = 0, n = values.length; i < n; i++)
+			writeInteger(type, values[i]);
+	}
+
+	private void writeArray (short[] values) throws IOException {
+		int min = 0, max = 0;
+		for (int i = 0, n = values.length; i < n; i++) {
+			min = Math.min(min, values[i]);
+			max = Math.max(max, values[i]);
+		}
+		char type = integerType(min, max);
+		writeArrayHeader(type, values.length);
+		for (int i = 0, n = values.length; i < n; i++)
+			writeInteger(type, values[i]);
+	}
+
+	private void writeArray (byte[] values) throws IOException {
+		int min = 0;
+		for (int i = 0, n = values.length; i < n; i++)
+			min = Math.min(min, values[i]);
+		// The reader treats 'B' as unsigned.
+		char type = min < 0 ? 'i' : 'B';
+		writeArrayHeader(type, values.length);
+		for (int i = 0, n = values.length; i < n; i++)
+			writeInteger(type, values[i]);
+	}
+}
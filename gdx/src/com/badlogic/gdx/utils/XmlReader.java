@@ -31,8 +31,10 @@ import com.badlogic.gdx.utils.ObjectMap.Entry;
  * content. Namespaces are parsed as part of the element or attribute name. Prologs and doctypes are ignored. Only 8-bit character
  * encodings are supported. Input is assumed to be well formed.<br>
  * <br>
- * The default behavior is to parse the XML into a DOM. Extends this class and override methods to perform event driven parsing.
- * When this is done, the parse methods will return null.
+ * The default behavior is to parse the XML into a DOM. Extends this class and override {@link #open(String)},
+ * {@link #attribute(String, String)}, {@link #text(String)} and {@link #close()} to perform event driven parsing, without
+ * allocating an element with a map of attributes and an array of children for each element. When this is done, the parse
+ * methods will return null.
  * @author Nathan Sweet */
 public class XmlReader {
 	private final Array<Element> elements = new Array(8);
@@ -399,6 +401,8 @@ public class XmlReader {
 
 	// line 189 "XmlReader.rl"
 
+	/** Called when an element starts, before its attributes. Builds the DOM, overriding this and the other event methods
+	 * without calling super parses without building elements. */
 	protected void open (String name) {
 		Element child = new Element(name, current);
 		Element parent = current;
@@ -407,10 +411,12 @@ public class XmlReader {
 		current = child;
 	}
 
+	/** Called for each attribute of the element that was last opened. */
 	protected void attribute (String name, String value) {
 		current.setAttribute(name, value);
 	}
 
+	/** @return The replacement for the entity, or null to keep its name. */
 	protected String entity (String name) {
 		if (name.equals("lt")) return "<";
 		if (name.equals("gt")) return ">";
@@ -420,16 +426,25 @@ public class XmlReader {
 		return null;
 	}
 
+	/** Called for the text of the current element, with trailing whitespace removed and entities replaced. May be called more
+	 * than once for an element, eg for CDATA sections. */
 	protected void text (String text) {
 		String existing = current.getText();
 		current.setText(existing != null ? existing + text : text);
 	}
 
+	/** Called when the current element ends. */
 	protected void close () {
 		root = elements.pop();
 		current = elements.size > 0 ? elements.peek() : null;
 	}
 
+	/** Returns the element being built, so a subclass that builds the DOM can handle some elements itself.
+	 * @return May be null. */
+	protected Element getCurrentElement () {
+		return current;
+	}
+
 	static public class Element {
 		private final String name;
 		private ObjectMap<String, String> attributes;
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import static com.badlogic.gdx.scenes.scene2d.actions.Actions.*;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.actions.AlphaAction;
+import com.badlogic.gdx.scenes.scene2d.actions.DelayAction;
+import com.badlogic.gdx.scenes.scene2d.actions.MoveByAction;
+import com.badlogic.gdx.scenes.scene2d.actions.ParallelAction;
+import com.badlogic.gdx.scenes.scene2d.actions.RotateByAction;
+import com.badlogic.gdx.scenes.scene2d.actions.RunnableAction;
+import com.badlogic.gdx.scenes.scene2d.actions.ScaleToAction;
+import com.badlogic.gdx.scenes.scene2d.actions.SequenceAction;
+import com.badlogic.gdx.scenes.scene2d.ui.Image;
+import com.badlogic.gdx.tests.utils.AllocationCounter;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.Pools;
+import com.badlogic.gdx.utils.ReflectionPool;
+
+/** Runs thousands of pooled action sequences and checks that, once warmed up, adding and acting the actions allocates nothing
+ * per frame. The bytes allocated by the rendering thread are tracked where the VM reports them (desktop HotSpot), the actions
+ * created by the pools are counted everywhere. The previous pools are restored on dispose. */
+public class ActionPoolTest extends GdxTest {
+	static final int ACTORS = 3000;
+	static final int WARMUP_FRAMES = 300;
+
+	Stage stage;
+	Texture texture;
+	SpriteBatch batch;
+	BitmapFont font;
+	final Array<CountingPool> pools = new Array<CountingPool>();
+	final Array<Class> types = new Array<Class>();
+	final Array<Pool> previousPools = new Array<Pool>();
+	final AllocationCounter allocations = new AllocationCounter();
+	int frame;
+	int created;
+	long allocated;
+	final Runnable runnable = new Runnable() {
+		public void run () {
+		}
+	};
+
+	/** Pool that counts the number of actions created instead of reused. */
+	static class CountingPool<T> extends ReflectionPool<T> {
+		int created;
+
+		public CountingPool (Class<T> type) {
+			super(type, 16, Integer.MAX_VALUE);
+		}
+
+		protected T newObject () {
+			created++;
+			return super.newObject();
+		}
+	}
+
+	@Override
+	public void create () {
+		countActions(SequenceAction.class);
+		countActions(ParallelAction.class);
+		countActions(MoveByAction.class);
+		countActions(RotateByAction.class);
+		countActions(ScaleToAction.class);
+		countActions(AlphaAction.class);
+		countActions(DelayAction.class);
+		countActions(RunnableAction.class);
+
+		batch = new SpriteBatch();
+		font = new BitmapFont();
+		stage = new Stage(Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true);
+		texture = new Texture(Gdx.files.internal("data/badlogicsmall.jpg"));
+		TextureRegion region = new TextureRegion(texture);
+		for (int i = 0; i < ACTORS; i++) {
+			Image image = new Image(region);
+			image.setBounds((float)Math.random() * stage.getWidth(), (float)Math.random() * stage.getHeight(), 16, 16);
+			image.setOrigin(8, 8);
+			stage.addActor(image);
+		}
+	}
+
+	private <T> void countActions (Class<T> type) {
+		types.add(type);
+		previousPools.add(Pools.get(type, Integer.MAX_VALUE));
+		CountingPool<T> pool = new CountingPool<T>(type);
+		Pools.set(type, pool);
+		pools.add(pool);
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+
+		// The difference between two consecutive reads is the cost of a read, subtracted from the measured bytes.
+		long before = 0, start = 0;
+		if (allocations.isAvailable()) {
+			before = allocations.get();
+			start = allocations.get();
+		}
+
+		Array<Actor> actors = stage.getActors();
+		for (int i = 0, n = actors.size; i < n; i++) {
+			Actor actor = actors.get(i);
+			if (actor.getActions().size == 0)
+				actor.addAction(sequence(parallel(moveBy(10, 10, 0.25f + (i % 10) * 0.05f), rotateBy(90, 0.5f)),
+					scaleTo(1.5f, 1.5f, 0.2f), delay(0.1f), parallel(moveBy(-10, -10, 0.3f), scaleTo(1, 1, 0.3f)),
+					sequence(fadeOut(0.1f), fadeIn(0.1f), run(runnable))));
+		}
+
+		stage.act(1 / 60f);
+
+		long allocated = 0;
+		if (allocations.isAvailable()) allocated = allocations.get() - start - (start - before);
+
+		int created = 0;
+		for (int i = 0; i < pools.size; i++) {
+			created += pools.get(i).created;
+			pools.get(i).created = 0;
+		}
+		frame++;
+		if (frame > WARMUP_FRAMES && created > 0)
+			throw new GdxRuntimeException("Expected no actions to be created after warm up, frame " + frame + " created: " + created);
+		if (frame > WARMUP_FRAMES && allocated > 0)
+			throw new GdxRuntimeException("Expected no allocations after warm up, frame " + frame + " allocated bytes: " + allocated);
+		this.created += created;
+		this.allocated = allocated;
+
+		stage.draw();
+
+		batch.begin();
+		font.draw(batch, "fps: " + Gdx.graphics.getFramesPerSecond() + ", actions created: " + this.created + ", bytes allocated: "
+			+ (allocations.isAvailable() ? String.valueOf(this.allocated) : "n/a"), 10, 20);
+		batch.end();
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void dispose () {
+		for (int i = 0; i < types.size; i++)
+			Pools.set(types.get(i), previousPools.get(i));
+		stage.dispose();
+		texture.dispose();
+		batch.dispose();
+		font.dispose();
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g3d.decals.BillboardBatch;
+import com.badlogic.gdx.graphics.g3d.decals.CameraGroupStrategy;
+import com.badlogic.gdx.graphics.g3d.decals.Decal;
+import com.badlogic.gdx.graphics.g3d.decals.DecalBatch;
+import com.badlogic.gdx.graphics.g3d.decals.DecalMaterial;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.PerspectiveCamController;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** A field of 50000 swaying billboards, half of them opaque with two textures and half of them blended. Logs the render calls
+ * and the time per frame when they are drawn as {@link Decal}s facing the camera with a {@link DecalBatch} and a
+ * {@link CameraGroupStrategy}, and when they are drawn with a {@link BillboardBatch}. Touch to switch between both. */
+public class BillboardBatchTest extends GdxTest {
+	static final int BILLBOARDS = 50000, RUNS = 20;
+	static final float FIELD = 100;
+
+	PerspectiveCamera camera;
+	PerspectiveCamController controller;
+	Texture[] textures;
+	TextureRegion[] regions;
+	DecalBatch decalBatch;
+	BillboardBatch billboardBatch;
+	Decal[] decals = new Decal[BILLBOARDS];
+	float[] positions = new float[BILLBOARDS * 3];
+	float time;
+	boolean useDecals;
+	long frameTime;
+	int frames;
+
+	@Override
+	public boolean needsGL20 () {
+		return true;
+	}
+
+	@Override
+	public void create () {
+		camera = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		camera.near = 0.1f;
+		camera.far = 300;
+		camera.position.set(0, 10, FIELD / 2);
+		camera.lookAt(0, 0, 0);
+		camera.update();
+		controller = new PerspectiveCamController(camera);
+		Gdx.input.setInputProcessor(controller);
+
+		textures = new Texture[] {new Texture(Gdx.files.internal("data/wheel.png")),
+			new Texture(Gdx.files.internal("data/badlogic.jpg")), new Texture(Gdx.files.internal("data/egg.png"))};
+		regions = new TextureRegion[textures.length];
+		for (int i = 0; i < textures.length; i++)
+			regions[i] = new TextureRegion(textures[i]);
+
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < BILLBOARDS; i++) {
+			positions[i * 3] = MathUtils.random(-FIELD / 2, FIELD / 2);
+			positions[i * 3 + 1] = MathUtils.random(0f, 5f);
+			positions[i * 3 + 2] = MathUtils.random(-FIELD / 2, FIELD / 2);
+			decals[i] = Decal.newDecal(0.5f, 0.5f, regions[region(i)], blended(i));
+		}
+
+		decalBatch = new DecalBatch(new CameraGroupStrategy(camera));
+		billboardBatch = new BillboardBatch(camera);
+
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++)
+			drawDecals();
+		long decalTime = (TimeUtils.nanoTime() - start) / RUNS;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++)
+			drawBillboards();
+		long billboardTime = (TimeUtils.nanoTime() - start) / RUNS;
+		int billboardCalls = billboardBatch.renderCalls;
+
+		// Each opaque texture and the blended texture need their own render calls, 4096 billboards fit in one.
+		int expectedCalls = 2 * (BILLBOARDS / 4 / 4096 + 1) + BILLBOARDS / 2 / 4096 + 1;
+		if (billboardCalls > expectedCalls) throw new GdxRuntimeException("Billboards not grouped: " + billboardCalls);
+		Gdx.app.log("BillboardBatchTest", BILLBOARDS + " billboards per frame, DecalBatch: " + decalTime / 1000
+			+ " us. BillboardBatch: " + billboardTime / 1000 + " us, " + billboardCalls + " render calls");
+	}
+
+	/** @return The region of the billboard, half use the blended egg and the others alternate between two opaque textures. */
+	private int region (int i) {
+		return blended(i) ? 2 : i / 2 % 2;
+	}
+
+	private boolean blended (int i) {
+		return i % 2 == 1;
+	}
+
+	private void drawDecals () {
+		for (int i = 0; i < BILLBOARDS; i++) {
+			Decal decal = decals[i];
+			decal.setPosition(positions[i * 3] + sway(i), positions[i * 3 + 1], positions[i * 3 + 2]);
+			decal.lookAt(camera.position, camera.up);
+			decalBatch.add(decal);
+		}
+		decalBatch.flush();
+	}
+
+	private void drawBillboards () {
+		for (int i = 0; i < BILLBOARDS; i++) {
+			if (blended(i))
+				billboardBatch.setBlending(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
+			else
+				billboardBatch.setBlending(DecalMaterial.NO_BLEND, DecalMaterial.NO_BLEND);
+			billboardBatch.add(regions[region(i)], positions[i * 3] + sway(i), positions[i * 3 + 1], positions[i * 3 + 2], 0.5f,
+				0.5f);
+		}
+		billboardBatch.flush();
+	}
+
+	private float sway (int i) {
+		return MathUtils.sin(time + i) * 0.1f;
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT | GL10.GL_DEPTH_BUFFER_BIT);
+		if (Gdx.input.justTouched()) {
+			useDecals = !useDecals;
+			frameTime = 0;
+			frames = 0;
+		}
+		time += Gdx.graphics.getDeltaTime();
+		camera.update();
+
+		long start = TimeUtils.nanoTime();
+		if (useDecals)
+			drawDecals();
+		else
+			drawBillboards();
+		frameTime += TimeUtils.nanoTime() - start;
+		if (++frames == 100) {
+			Gdx.app.log("BillboardBatchTest", (useDecals ? "DecalBatch: " : "BillboardBatch: ") + frameTime / frames / 1000
+				+ " us per frame, fps: " + Gdx.graphics.getFramesPerSecond());
+			frameTime = 0;
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void dispose () {
+		decalBatch.dispose();
+		billboardBatch.dispose();
+		for (int i = 0; i < textures.length; i++)
+			textures[i].dispose();
+	}
+}
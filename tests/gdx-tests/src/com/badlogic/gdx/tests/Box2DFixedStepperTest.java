@@ -0,0 +1,88 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.FixedStepper;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Updates a {@link FixedStepper} at frame rates above and below its step rate. Checks the number of steps taken, that a free
+ * falling body moves smoothly when interpolated although it only moves every few frames when not, and that long frames are capped
+ * to the maximum number of steps. */
+public class Box2DFixedStepperTest extends GdxTest {
+	static final float TIME_STEP = 1 / 60f;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		for (int fps : new int[] {30, 60, 75, 144, 240})
+			run(fps);
+
+		World world = new World(new Vector2(0, -10), true);
+		FixedStepper stepper = new FixedStepper(world, TIME_STEP);
+		stepper.setMaxSteps(4);
+		if (stepper.update(1) != 4) throw new GdxRuntimeException("Expected the steps of a long frame to be capped.");
+		if (stepper.update(TIME_STEP / 2) != 0) throw new GdxRuntimeException("Expected the dropped time to be discarded.");
+		world.dispose();
+	}
+
+	private void run (int fps) {
+		World world = new World(new Vector2(0, -10), true);
+		BodyDef def = new BodyDef();
+		def.type = BodyType.DynamicBody;
+		def.position.set(0, 1000);
+		Body body = world.createBody(def);
+		PolygonShape box = new PolygonShape();
+		box.setAsBox(0.5f, 0.5f);
+		body.createFixture(box, 1);
+		box.dispose();
+
+		FixedStepper stepper = new FixedStepper(world, TIME_STEP);
+		Vector2 position = new Vector2();
+		float delta = 1f / fps, lastY = Float.MAX_VALUE, lastRawY = Float.MAX_VALUE;
+		int frames = fps * 2, steps = 0, rawRepeats = 0;
+		long stepTime = 0;
+		for (int i = 0; i < frames; i++) {
+			steps += stepper.update(delta);
+			stepTime += stepper.getStepTime();
+			if (steps < 2) continue;
+			float y = stepper.getPosition(body, position).y;
+			if (y >= lastY) throw new GdxRuntimeException(fps + " fps, frame " + i + ": interpolated y did not decrease: " + y);
+			lastY = y;
+			float rawY = body.getPosition().y;
+			if (rawY == lastRawY) rawRepeats++;
+			lastRawY = rawY;
+		}
+		int expectedSteps = (int)(frames * delta / TIME_STEP);
+		if (Math.abs(steps - expectedSteps) > 1)
+			throw new GdxRuntimeException(fps + " fps: expected " + expectedSteps + " steps, got: " + steps);
+		Gdx.app.log("Box2DFixedStepperTest", fps + " fps: " + steps + " steps in " + frames + " frames, " + stepTime / frames
+			+ " ns per frame, raw position unchanged in " + rawRepeats + " frames");
+		world.dispose();
+	}
+}
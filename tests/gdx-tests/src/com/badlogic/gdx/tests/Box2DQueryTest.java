@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.util.Iterator;
+import java.util.List;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.QueryCallback;
+import com.badlogic.gdx.physics.box2d.RayCastCallback;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.tests.utils.AllocationCounter;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares the callback based {@link World} queries with the ones filling arrays. Checks that both find the same fixtures and
+ * contacts, and logs the calls per second and the bytes allocated per call. */
+public class Box2DQueryTest extends GdxTest {
+	static final int RAYS = 64;
+
+	World world;
+	Body body;
+	float[] rays = new float[RAYS * 4];
+	final Array<Fixture> fixtures = new Array();
+	final Array<Fixture> expected = new Array();
+	final FloatArray hits = new FloatArray();
+	final FloatArray expectedHits = new FloatArray();
+	final Array<Body> bodies = new Array();
+	final Array<Contact> contacts = new Array();
+
+	final QueryCallback queryCallback = new QueryCallback() {
+		public boolean reportFixture (Fixture fixture) {
+			expected.add(fixture);
+			return true;
+		}
+	};
+
+	final RayCastCallback closestCallback = new RayCastCallback() {
+		public float reportRayFixture (Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+			closest = fixture;
+			return fraction;
+		}
+	};
+	Fixture closest;
+
+	final RayCastCallback allCallback = new RayCastCallback() {
+		public float reportRayFixture (Fixture fixture, Vector2 point, Vector2 normal, float fraction) {
+			int i = expected.size;
+			while (i > 0 && expectedHits.get(i - 1) > fraction)
+				i--;
+			expected.insert(i, fixture);
+			expectedHits.insert(i, fraction);
+			return 1;
+		}
+	};
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		world = new World(new Vector2(0, -10), true);
+		PolygonShape box = new PolygonShape();
+		box.setAsBox(0.5f, 0.5f);
+		BodyDef def = new BodyDef();
+		def.type = BodyType.DynamicBody;
+		for (int x = 0; x < 40; x++) {
+			for (int y = 0; y < 40; y++) {
+				def.position.set(x * 1.2f, y * 1.2f);
+				world.createBody(def).createFixture(box, 1);
+			}
+		}
+		def.type = BodyType.StaticBody;
+		def.position.set(24, 24);
+		box.setAsBox(3, 3);
+		body = world.createBody(def);
+		body.createFixture(box, 0);
+		box.dispose();
+		world.step(1 / 60f, 8, 3);
+
+		for (int i = 0; i < RAYS; i++) {
+			float angle = MathUtils.PI2 * i / RAYS;
+			rays[i * 4] = -5;
+			rays[i * 4 + 1] = 24 + i * 0.1f;
+			rays[i * 4 + 2] = 24 + MathUtils.cos(angle) * 40;
+			rays[i * 4 + 3] = 24 + MathUtils.sin(angle) * 40;
+		}
+
+		check();
+		bench("QueryAABB callback", new Runnable() {
+			public void run () {
+				expected.clear();
+				world.QueryAABB(queryCallback, 10, 10, 30, 30);
+			}
+		});
+		bench("QueryAABB array", new Runnable() {
+			public void run () {
+				world.QueryAABB(fixtures, 10, 10, 30, 30);
+			}
+		});
+		bench("rayCast callback, all hits sorted", new Runnable() {
+			public void run () {
+				expected.clear();
+				expectedHits.clear();
+				world.rayCast(allCallback, new Vector2(-5, 20), new Vector2(60, 30));
+			}
+		});
+		bench("rayCast array, all hits sorted", new Runnable() {
+			public void run () {
+				world.rayCast(-5, 20, 60, 30, fixtures, hits);
+			}
+		});
+		final Vector2 point1 = new Vector2(), point2 = new Vector2();
+		bench(RAYS + " rayCast callbacks, closest hit", new Runnable() {
+			public void run () {
+				for (int i = 0; i < RAYS; i++) {
+					closest = null;
+					world.rayCast(closestCallback, point1.set(rays[i * 4], rays[i * 4 + 1]), point2.set(rays[i * 4 + 2], rays[i * 4 + 3]));
+				}
+			}
+		});
+		bench(RAYS + " rays batched, closest hit", new Runnable() {
+			public void run () {
+				world.rayCast(rays, 0, RAYS, fixtures, hits);
+			}
+		});
+		bench("getBodies iterator", new Runnable() {
+			public void run () {
+				bodies.clear();
+				for (Iterator<Body> iter = world.getBodies(); iter.hasNext();)
+					bodies.add(iter.next());
+			}
+		});
+		bench("getBodies array", new Runnable() {
+			public void run () {
+				world.getBodies(bodies);
+			}
+		});
+		bench("getContactList of world, filtered by body", new Runnable() {
+			public void run () {
+				contacts.clear();
+				List<Contact> list = world.getContactList();
+				for (int i = 0, n = list.size(); i < n; i++) {
+					Contact contact = list.get(i);
+					if (contact.isTouching() && (contact.getFixtureA().getBody() == body || contact.getFixtureB().getBody() == body))
+						contacts.add(contact);
+				}
+			}
+		});
+		bench("getContactList of body", new Runnable() {
+			public void run () {
+				world.getContactList(body, contacts);
+			}
+		});
+	}
+
+	private void check () {
+		expected.clear();
+		world.QueryAABB(queryCallback, 10, 10, 30, 30);
+		world.QueryAABB(fixtures, 10, 10, 30, 30);
+		checkSame("QueryAABB", expected, fixtures);
+
+		expected.clear();
+		expectedHits.clear();
+		world.rayCast(allCallback, new Vector2(-5, 20), new Vector2(60, 30));
+		world.rayCast(-5, 20, 60, 30, fixtures, hits);
+		if (fixtures.size < 2) throw new GdxRuntimeException("Expected the ray to hit several fixtures: " + fixtures.size);
+		for (int i = 0; i < fixtures.size; i++) {
+			if (fixtures.get(i) != expected.get(i) || hits.get(i * 5 + 4) != expectedHits.get(i))
+				throw new GdxRuntimeException("rayCast hit " + i + " differs.");
+		}
+
+		int hitCount = world.rayCast(rays, 0, RAYS, fixtures, hits);
+		int expectedHitCount = 0;
+		for (int i = 0; i < RAYS; i++) {
+			closest = null;
+			world.rayCast(closestCallback, new Vector2(rays[i * 4], rays[i * 4 + 1]), new Vector2(rays[i * 4 + 2], rays[i * 4 + 3]));
+			if (closest != null) expectedHitCount++;
+			if (fixtures.get(i) != closest) throw new GdxRuntimeException("Batched ray " + i + " hit a different fixture.");
+		}
+		if (hitCount != expectedHitCount || hitCount == 0)
+			throw new GdxRuntimeException("Expected " + expectedHitCount + " batched hits, got: " + hitCount);
+
+		world.getContactList(body, contacts);
+		expected.clear();
+		for (Contact contact : world.getContactList())
+			if (contact.isTouching() && (contact.getFixtureA().getBody() == body || contact.getFixtureB().getBody() == body))
+				expected.add(contact.getFixtureA().getBody() == body ? contact.getFixtureB() : contact.getFixtureA());
+		fixtures.clear();
+		for (Contact contact : contacts)
+			fixtures.add(contact.getFixtureA().getBody() == body ? contact.getFixtureB() : contact.getFixtureA());
+		if (fixtures.size == 0) throw new GdxRuntimeException("Expected the body to touch other bodies.");
+		checkSame("getContactList", expected, fixtures);
+	}
+
+	private void checkSame (String name, Array<Fixture> expected, Array<Fixture> actual) {
+		if (expected.size != actual.size)
+			throw new GdxRuntimeException(name + ": expected " + expected.size + " fixtures, got: " + actual.size);
+		for (Fixture fixture : expected)
+			if (!actual.contains(fixture, true)) throw new GdxRuntimeException(name + ": fixture missing.");
+	}
+
+	private void bench (String name, Runnable runnable) {
+		for (int i = 0; i < 1000; i++)
+			runnable.run();
+		int calls = 0;
+		AllocationCounter allocations = new AllocationCounter();
+		long allocated = allocations.isAvailable() ? allocations.get() : 0;
+		long start = TimeUtils.nanoTime(), time;
+		do {
+			for (int i = 0; i < 100; i++)
+				runnable.run();
+			calls += 100;
+			time = TimeUtils.nanoTime() - start;
+		} while (time < 500000000);
+		String bytes = allocations.isAvailable() ? String.valueOf((allocations.get() - allocated) / calls) : "unknown";
+		Gdx.app.log("Box2DQueryTest", name + ": " + (long)(calls / (time / 1000000000.0)) + " calls/s, " + bytes
+			+ " bytes allocated per call");
+	}
+
+	@Override
+	public void dispose () {
+		world.dispose();
+	}
+}
@@ -0,0 +1,197 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.physics.box2d.EdgeShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.WorldStepper;
+import com.badlogic.gdx.physics.box2d.WorldStepper.BufferedContactListener;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Steps many worlds of falling boxes with a {@link WorldStepper} using 1 to N threads. Checks that the bodies end up at the same
+ * positions and the same number of contacts is reported as when stepping the worlds one after another, and logs the speedup.
+ * Also checks that when a listener throws, the undelivered events of the other worlds are discarded. */
+public class Box2DWorldStepperTest extends GdxTest {
+	static final int WORLDS = 32;
+	static final int BOXES = 100;
+	static final int STEPS = 120;
+
+	final Array<Body> bodies = new Array();
+	int contacts;
+	int step, failedStep;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		Array<World> worlds = createWorlds();
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < STEPS; i++)
+			for (int ii = 0; ii < worlds.size; ii++)
+				worlds.get(ii).step(1 / 60f, 8, 3);
+		long serialTime = TimeUtils.nanoTime() - start;
+		float[] expected = positions();
+		dispose(worlds);
+		Gdx.app.log("Box2DWorldStepperTest", WORLDS + " worlds, " + BOXES + " boxes: " + serialTime / STEPS / 1000
+			+ " us per step without stepper");
+
+		int expectedContacts = -1;
+		int cores = Runtime.getRuntime().availableProcessors();
+		for (int threads = 1; threads <= Math.max(cores, 2); threads *= 2) {
+			WorldStepper stepper = new WorldStepper(threads);
+			worlds = createWorlds();
+			contacts = 0;
+			BufferedContactListener listener = new BufferedContactListener() {
+				public void beginContact (World world, Fixture fixtureA, Fixture fixtureB) {
+					if (Thread.currentThread().getName().equals("WorldStepper"))
+						throw new GdxRuntimeException("Contact delivered on the stepping thread.");
+					contacts++;
+				}
+
+				public void endContact (World world, Fixture fixtureA, Fixture fixtureB) {
+				}
+			};
+			for (int i = 0; i < worlds.size; i++)
+				stepper.add(worlds.get(i), listener);
+			start = TimeUtils.nanoTime();
+			for (int i = 0; i < STEPS; i++)
+				stepper.step(1 / 60f, 8, 3);
+			long time = TimeUtils.nanoTime() - start;
+			check(expected, positions());
+			if (expectedContacts == -1) expectedContacts = contacts;
+			if (contacts != expectedContacts || contacts == 0)
+				throw new GdxRuntimeException("Expected " + expectedContacts + " contacts, got: " + contacts);
+			Gdx.app.log("Box2DWorldStepperTest", threads + " threads: " + time / STEPS / 1000 + " us per step, speedup: "
+				+ (int)(serialTime * 100f / time) / 100f + "x, contacts: " + contacts);
+			stepper.dispose();
+			dispose(worlds);
+		}
+
+		checkListenerException();
+	}
+
+	private void checkListenerException () {
+		int[] expected = countEvents(-1);
+		int[] actual = countEvents(STEPS / 2);
+		if (failedStep == -1) throw new GdxRuntimeException("Listener didn't throw.");
+		for (int i = 0; i < STEPS; i++) {
+			if (i != failedStep && expected[i] != actual[i])
+				throw new GdxRuntimeException("Step " + i + " delivered " + actual[i] + " events, expected: " + expected[i]);
+		}
+	}
+
+	/** Returns the number of events delivered to all worlds but the first after each step. If failStep is not -1, the listener of
+	 * the first world throws at its first event from that step on, failedStep is set to the step it threw at. */
+	private int[] countEvents (final int failStep) {
+		final int[] events = new int[STEPS];
+		WorldStepper stepper = new WorldStepper(2);
+		Array<World> worlds = createWorlds();
+		failedStep = -1;
+		stepper.add(worlds.first(), new BufferedContactListener() {
+			public void beginContact (World world, Fixture fixtureA, Fixture fixtureB) {
+				endContact(world, fixtureA, fixtureB);
+			}
+
+			public void endContact (World world, Fixture fixtureA, Fixture fixtureB) {
+				if (failStep != -1 && step >= failStep && failedStep == -1) throw new GdxRuntimeException("Listener failed.");
+			}
+		});
+		BufferedContactListener listener = new BufferedContactListener() {
+			public void beginContact (World world, Fixture fixtureA, Fixture fixtureB) {
+				events[step]++;
+			}
+
+			public void endContact (World world, Fixture fixtureA, Fixture fixtureB) {
+				events[step]++;
+			}
+		};
+		for (int i = 1; i < worlds.size; i++)
+			stepper.add(worlds.get(i), listener);
+		for (step = 0; step < STEPS; step++) {
+			try {
+				stepper.step(1 / 60f, 8, 3);
+			} catch (GdxRuntimeException ex) {
+				if (!"Listener failed.".equals(ex.getMessage())) throw ex;
+				failedStep = step;
+			}
+		}
+		stepper.dispose();
+		dispose(worlds);
+		return events;
+	}
+
+	private Array<World> createWorlds () {
+		Array<World> worlds = new Array();
+		bodies.clear();
+		PolygonShape box = new PolygonShape();
+		box.setAsBox(0.5f, 0.5f);
+		EdgeShape ground = new EdgeShape();
+		ground.set(-50, 0, 50, 0);
+		BodyDef def = new BodyDef();
+		for (int i = 0; i < WORLDS; i++) {
+			World world = new World(new Vector2(0, -10), true);
+			world.createBody(def).createFixture(ground, 0);
+			def.type = BodyType.DynamicBody;
+			for (int ii = 0; ii < BOXES; ii++) {
+				def.position.set(ii % 10 * 1.1f - 5 + i * 0.01f, 1 + ii / 10 * 1.2f);
+				Body body = world.createBody(def);
+				body.createFixture(box, 1);
+				bodies.add(body);
+			}
+			def.type = BodyType.StaticBody;
+			def.position.set(0, 0);
+			worlds.add(world);
+		}
+		box.dispose();
+		ground.dispose();
+		return worlds;
+	}
+
+	private float[] positions () {
+		float[] positions = new float[bodies.size * 2];
+		for (int i = 0; i < bodies.size; i++) {
+			Vector2 position = bodies.get(i).getPosition();
+			positions[i * 2] = position.x;
+			positions[i * 2 + 1] = position.y;
+		}
+		return positions;
+	}
+
+	private void check (float[] expected, float[] actual) {
+		for (int i = 0; i < expected.length; i++)
+			if (expected[i] != actual[i])
+				throw new GdxRuntimeException("Position " + i + " differs: " + expected[i] + " != " + actual[i]);
+	}
+
+	private void dispose (Array<World> worlds) {
+		for (World world : worlds)
+			world.dispose();
+	}
+}
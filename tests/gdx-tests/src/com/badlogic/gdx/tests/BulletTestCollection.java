@@ -39,7 +39,9 @@ import com.badlogic.gdx.tests.bullet.CollisionTest;
 import com.badlogic.gdx.tests.bullet.CollisionWorldTest;
 import com.badlogic.gdx.tests.bullet.ConstraintsTest;
 import com.badlogic.gdx.tests.bullet.ContactCallbackTest;
+import com.badlogic.gdx.tests.bullet.ContactCollectorTest;
 import com.badlogic.gdx.tests.bullet.ConvexHullTest;
+import com.badlogic.gdx.tests.bullet.DebugDrawTest;
 import com.badlogic.gdx.tests.bullet.FrustumCullingTest;
 import com.badlogic.gdx.tests.bullet.ImportTest;
 import com.badlogic.gdx.tests.bullet.InternalTickTest;
@@ -50,6 +52,7 @@ import com.badlogic.gdx.tests.bullet.RayCastTest;
 import com.badlogic.gdx.tests.bullet.ShootTest;
 import com.badlogic.gdx.tests.bullet.SoftBodyTest;
 import com.badlogic.gdx.tests.bullet.SoftMeshTest;
+import com.badlogic.gdx.tests.bullet.TransformSyncTest;
 import com.badlogic.gdx.tests.bullet.VehicleTest;
 import com.badlogic.gdx.tests.utils.GdxTest;
 
@@ -58,7 +61,8 @@ public class BulletTestCollection extends GdxTest implements InputProcessor, Ges
 	protected final BulletTest[] tests = {new BasicBulletTest(), new ShootTest(), new BasicShapesTest(), new KinematicTest(), 
 		new ConstraintsTest(), new MeshShapeTest(), new ConvexHullTest(), new RayCastTest(), new RayPickRagdollTest(), 
 		new InternalTickTest(), new CollisionWorldTest(), new CollisionTest(), new FrustumCullingTest(), new ContactCallbackTest(),
-		new SoftBodyTest(), new SoftMeshTest(), new VehicleTest(), new ImportTest()};
+		new SoftBodyTest(), new SoftMeshTest(), new VehicleTest(), new ImportTest(), new TransformSyncTest(), new ContactCollectorTest(),
+		new DebugDrawTest()};
 	
 	protected int testIndex = 0;
 	
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.util.Random;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.DistanceField;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapExecutor;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Compares {@link DistanceField} with a brute force search of the pixels within the spread of each pixel, as done by the
+ * distance field generator of gdx-tools before. Checks that both produce the same distances and logs their run times, on one
+ * thread and with a {@link PixmapExecutor}. */
+public class DistanceFieldTest extends GdxTest {
+	PixmapExecutor executor;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		executor = new PixmapExecutor();
+		run(256, 1, 8);
+		run(1024, 1, 16);
+		run(1024, 4, 16);
+		run(2048, 8, 32);
+
+		Pixmap pixmap = new Pixmap(64, 64, Format.RGBA8888);
+		pixmap.setColor(Color.WHITE);
+		pixmap.fillCircle(32, 32, 16);
+		Pixmap field = DistanceField.generate(pixmap, 2, 8, Color.RED, executor);
+		if (field.getWidth() != 32 || field.getHeight() != 32) throw new GdxRuntimeException("Wrong size: " + field.getWidth());
+		if (field.getPixel(16, 16) != 0xff0000ff) throw new GdxRuntimeException("Expected opaque red inside.");
+		if (field.getPixel(0, 0) != 0xff000000) throw new GdxRuntimeException("Expected transparent red outside.");
+		pixmap.dispose();
+		field.dispose();
+	}
+
+	private void run (int size, int downscale, float spread) {
+		boolean[] inside = new boolean[size * size];
+		Random random = new Random(size);
+		for (int i = 0; i < 40; i++) {
+			int cx = random.nextInt(size), cy = random.nextInt(size), radius = random.nextInt(size / 8) + 1;
+			boolean value = random.nextBoolean();
+			for (int y = Math.max(0, cy - radius), ny = Math.min(size, cy + radius); y < ny; y++)
+				for (int x = Math.max(0, cx - radius), nx = Math.min(size, cx + radius); x < nx; x++)
+					if (i % 2 == 0 || (x - cx) * (x - cx) + (y - cy) * (y - cy) < radius * radius) inside[y * size + x] = value;
+		}
+
+		long start = TimeUtils.nanoTime();
+		float[] expected = bruteForce(inside, size, size, downscale, spread);
+		long bruteForceTime = TimeUtils.nanoTime() - start;
+
+		start = TimeUtils.nanoTime();
+		float[] distances = DistanceField.generate(inside, size, size, downscale, spread, null, null);
+		long time = TimeUtils.nanoTime() - start;
+		check(expected, distances);
+
+		start = TimeUtils.nanoTime();
+		DistanceField.generate(inside, size, size, downscale, spread, distances, executor);
+		long executorTime = TimeUtils.nanoTime() - start;
+		check(expected, distances);
+
+		Gdx.app.log("DistanceFieldTest", size + "x" + size + ", downscale " + downscale + ", spread " + spread + ": brute force "
+			+ bruteForceTime / 1000000 + " ms, 1 thread " + time / 1000000 + " ms, executor " + executorTime / 1000000 + " ms");
+	}
+
+	private void check (float[] expected, float[] distances) {
+		for (int i = 0; i < expected.length; i++)
+			if (expected[i] != distances[i])
+				throw new GdxRuntimeException("Distance " + i + " differs: " + expected[i] + " != " + distances[i]);
+	}
+
+	/** Searches the pixels within the spread of each sampled pixel for the nearest pixel on the other side of the edge. */
+	static float[] bruteForce (boolean[] inside, int width, int height, int downscale, float spread) {
+		int outWidth = width / downscale, outHeight = height / downscale;
+		float[] distances = new float[outWidth * outHeight];
+		int delta = (int)Math.ceil(spread);
+		for (int y = 0; y < outHeight; y++) {
+			for (int x = 0; x < outWidth; x++) {
+				int centerX = x * downscale + downscale / 2, centerY = y * downscale + downscale / 2;
+				boolean base = inside[centerY * width + centerX];
+				int closest = delta * delta;
+				for (int yy = Math.max(0, centerY - delta), ny = Math.min(height - 1, centerY + delta); yy <= ny; yy++) {
+					for (int xx = Math.max(0, centerX - delta), nx = Math.min(width - 1, centerX + delta); xx <= nx; xx++) {
+						if (inside[yy * width + xx] != base) {
+							int dx = xx - centerX, dy = yy - centerY;
+							closest = Math.min(closest, dx * dx + dy * dy);
+						}
+					}
+				}
+				float distance = Math.min((float)Math.sqrt(closest), spread);
+				distances[y * outWidth + x] = base ? distance : -distance;
+			}
+		}
+		return distances;
+	}
+
+	@Override
+	public void dispose () {
+		executor.dispose();
+	}
+}
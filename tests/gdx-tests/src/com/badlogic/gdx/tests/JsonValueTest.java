@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Looks up every field of an object with 10000 fields by name and every value of an array with 20000 values by index, and
+ * reads the object with a {@link Json.Serializable} that looks up its fields by name. Logs how long the lookups take compared to
+ * scanning the children, how long the Serializable takes, and how long reading the array as a float[] and as a Float[] takes. */
+public class JsonValueTest extends GdxTest {
+	static final int FIELDS = 10000, VALUES = 20000;
+
+	static public class Config implements Json.Serializable {
+		public int[] values = new int[FIELDS];
+
+		public void write (Json json) {
+			for (int i = 0; i < FIELDS; i++)
+				json.writeValue("Field" + i, values[i]);
+		}
+
+		public void read (Json json, JsonValue jsonData) {
+			for (int i = 0; i < FIELDS; i++)
+				values[i] = json.readValue("field" + i, int.class, jsonData);
+		}
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		Json json = new Json();
+		Config config = new Config();
+		for (int i = 0; i < FIELDS; i++)
+			config.values[i] = i * 3;
+		String wideText = json.toJson(config);
+		float[] values = new float[VALUES];
+		for (int i = 0; i < VALUES; i++)
+			values[i] = i * 0.5f;
+		String arrayText = json.toJson(values);
+
+		JsonReader reader = new JsonReader();
+		long scanTime = scan(reader.parse(wideText), reader.parse(arrayText));
+		JsonValue wide = reader.parse(wideText);
+		long indexTime = lookup(wide, reader.parse(arrayText));
+		if (wide.get((String)null) != null) throw new GdxRuntimeException("Found null name.");
+		// Renaming or relinking a child discards the index of its parent.
+		wide.get("field1").setName("renamed");
+		if (wide.get("renamed") == null || wide.get("field1") != null) throw new GdxRuntimeException("Stale index after setName.");
+		JsonValue replaced = wide.get(3), replacement = new JsonValue(-1);
+		replacement.setName("field3");
+		replacement.setNext(replaced.next);
+		wide.get(2).setNext(replacement);
+		if (wide.get(3) != replacement || wide.getInt("field3") != -1) throw new GdxRuntimeException("Stale index after setNext.");
+		long readTime = read(json, wideText);
+
+		long start = TimeUtils.nanoTime();
+		float[] read = json.fromJson(float[].class, arrayText);
+		long arrayTime = TimeUtils.nanoTime() - start;
+		if (!Arrays.equals(values, read)) throw new GdxRuntimeException("Arrays differ.");
+		start = TimeUtils.nanoTime();
+		Float[] boxed = json.fromJson(Float[].class, arrayText);
+		long boxedTime = TimeUtils.nanoTime() - start;
+		if (boxed[VALUES - 1] != values[VALUES - 1]) throw new GdxRuntimeException("Arrays differ.");
+
+		// The class tag is removed before the fields are read, the fields before it must be kept.
+		Config tagged = json.fromJson(Config.class, wideText.replace("Field1:3,", "Field1:3,class:" + Config.class.getName() + ","));
+		if (tagged.values[1] != 3 || tagged.values[FIELDS - 1] != (FIELDS - 1) * 3) throw new GdxRuntimeException("Fields lost.");
+
+		Gdx.app.log("JsonValueTest", FIELDS + " fields and " + VALUES + " values looked up in " + scanTime / 1000
+			+ " us scanning, " + indexTime / 1000 + " us indexed. Serializable read in " + readTime / 1000 + " us. float[] read in "
+			+ arrayTime / 1000 + " us, Float[] in " + boxedTime / 1000 + " us");
+	}
+
+	private long lookup (JsonValue wide, JsonValue array) {
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < FIELDS; i++)
+			if (wide.getInt("field" + i) != i * 3) throw new GdxRuntimeException("Wrong field: " + i);
+		for (int i = 0; i < VALUES; i++)
+			if (array.getFloat(i) != i * 0.5f) throw new GdxRuntimeException("Wrong value: " + i);
+		return TimeUtils.nanoTime() - start;
+	}
+
+	/** Looks up the children by scanning them, like JsonValue did before it indexed them. */
+	private long scan (JsonValue wide, JsonValue array) {
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < FIELDS; i++) {
+			String name = "field" + i;
+			JsonValue field = wide.child;
+			while (!field.name.equalsIgnoreCase(name))
+				field = field.next;
+			if (field.asInt() != i * 3) throw new GdxRuntimeException("Wrong field: " + i);
+		}
+		for (int i = 0; i < VALUES; i++) {
+			JsonValue value = array.child;
+			for (int ii = 0; ii < i; ii++)
+				value = value.next;
+			if (value.asFloat() != i * 0.5f) throw new GdxRuntimeException("Wrong value: " + i);
+		}
+		return TimeUtils.nanoTime() - start;
+	}
+
+	private long read (Json json, String text) {
+		long start = TimeUtils.nanoTime();
+		Config config = json.fromJson(Config.class, text);
+		long time = TimeUtils.nanoTime() - start;
+		for (int i = 0; i < FIELDS; i++)
+			if (config.values[i] != i * 3) throw new GdxRuntimeException("Wrong field: " + i);
+		return time;
+	}
+}
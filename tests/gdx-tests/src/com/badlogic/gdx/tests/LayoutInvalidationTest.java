@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Nests tables {@link #DEPTH} levels deep with a label in each and changes the text of the innermost label every frame. When the
+ * label's size is unchanged, checks that {@link Stage#layoutCount} stays flat instead of growing with the depth. When it changes,
+ * checks that every ancestor is still laid out again. */
+public class LayoutInvalidationTest extends GdxTest {
+	static final int DEPTH = 50;
+	static final String[] texts = {"abc", "cba", "abcdef"};
+
+	Stage stage;
+	Skin skin;
+	Label leaf, status;
+	int frame;
+
+	@Override
+	public void create () {
+		stage = new Stage();
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+
+		Table root = new Table();
+		root.setFillParent(true);
+		stage.addActor(root);
+		status = new Label("", skin);
+		root.add(status).left().row();
+
+		Table table = root;
+		for (int i = 0; i < DEPTH; i++) {
+			Table child = new Table();
+			table.add(new Label("level " + i, skin));
+			table.add(child);
+			table = child;
+		}
+		leaf = new Label(texts[0], skin);
+		table.add(leaf);
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+
+		stage.act(Gdx.graphics.getDeltaTime());
+		stage.draw();
+		if (frame++ < 2) return; // Let the whole tree be laid out first.
+
+		// Switch between texts of the same width, and every 60 frames to a wider text.
+		String text = frame % 60 == 0 ? texts[2] : texts[frame % 2];
+		float prefWidth = leaf.getPrefWidth();
+		leaf.setText(text);
+		boolean sizeChanged = leaf.getPrefWidth() != prefWidth;
+
+		stage.layoutCount = 0;
+		stage.act(Gdx.graphics.getDeltaTime());
+		stage.draw();
+		int layouts = stage.layoutCount;
+
+		if (!sizeChanged && layouts > 2)
+			throw new GdxRuntimeException("Expected at most 2 layouts when the leaf size is unchanged, was: " + layouts);
+		if (sizeChanged && layouts <= DEPTH)
+			throw new GdxRuntimeException("Expected all " + DEPTH + " ancestors to be laid out when the leaf size changed, was: "
+				+ layouts);
+		if (frame % 60 < 2) status.setText("layouts: " + layouts + (sizeChanged ? " (size changed)" : " (size unchanged)"));
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		stage.setViewport(width, height, false);
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void dispose () {
+		stage.dispose();
+		skin.dispose();
+	}
+}
@@ -17,7 +17,9 @@
 package com.badlogic.gdx.tests;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.BatchMath;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Quaternion;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.tests.utils.GdxTest;
 import com.badlogic.gdx.utils.GdxRuntimeException;
@@ -71,7 +73,94 @@ public class MatrixJNITest extends GdxTest {
 		Matrix4.mul(mat3.val, mat2.val);
 		check(mat1, mat3);
 
+		checkBatch();
 		bench();
+		benchBatch();
+	}
+
+	private void checkBatch () {
+		Matrix4 mat1 = new Matrix4().setToRotation(0, 1, 0, 45).trn(1, 2, 3);
+		Matrix4 mat2 = new Matrix4().setToRotation(1, 0, 0, 30).scale(2, 2, 2);
+		float[] fvecs = {1, 2, 3, 0, 0, 1, 2, 3, 0, 0, 1, 2, 3, 0, 0};
+		float[] fvecs2 = fvecs.clone();
+		Matrix4.mulVec(mat1.val, fvecs, 0, 3, 5);
+		BatchMath.mulVec(mat1.val, 0, fvecs2, 0, 3, 5);
+		check(fvecs, fvecs2);
+
+		Matrix4.rot(mat1.val, fvecs, 0, 3, 5);
+		BatchMath.rot(mat1.val, 0, fvecs2, 0, 3, 5);
+		check(fvecs, fvecs2);
+
+		float[] fmats = new float[32];
+		BatchMath.mul(mat1.val, 0, mat2.val, 0, fmats, 0, 1);
+		BatchMath.mulLeft(mat1.val, 0, mat2.val, 0, fmats, 16, 1);
+		mat1.mul(mat2);
+		check(mat1.val, 0, fmats, 0, 16);
+		check(mat1.val, 0, fmats, 16, 16);
+
+		Vector3 translation = new Vector3(1, 2, 3);
+		Quaternion rotation = new Quaternion(Vector3.Y, 30);
+		Vector3 scale = new Vector3(1, 2, 3);
+		mat1.idt().translate(translation).rotate(rotation).scale(scale.x, scale.y, scale.z);
+		mat2.set(translation, rotation, scale);
+		check(mat1.val, 0, mat2.val, 0, 16);
+
+		float[] from = {0, 0, 0, 1}, to = {rotation.x, rotation.y, rotation.z, rotation.w}, out = new float[4];
+		BatchMath.slerp(from, 0, to, 0, 0.5f, out, 0, 1);
+		Quaternion expected = new Quaternion().slerp(rotation, 0.5f);
+		check(new float[] {expected.x, expected.y, expected.z, expected.w}, out);
+	}
+
+	private void benchBatch () {
+		final int count = 10000;
+		final int iterations = 100;
+		Matrix4[] mats = new Matrix4[count], outs = new Matrix4[count];
+		Vector3[] translations = new Vector3[count], scales = new Vector3[count];
+		Quaternion[] rotations = new Quaternion[count];
+		float[] fmats = new float[count * 16], fout = new float[count * 16];
+		float[] ftranslations = new float[count * 3], frotations = new float[count * 4], fscales = new float[count * 3];
+		for (int i = 0; i < count; i++) {
+			mats[i] = new Matrix4();
+			outs[i] = new Matrix4();
+			translations[i] = new Vector3(i % 100, i % 100, i % 100);
+			rotations[i] = new Quaternion(Vector3.Y, i);
+			scales[i] = new Vector3(1, 1, 1);
+			frotations[i * 4 + 3] = 1;
+			fscales[i * 3] = fscales[i * 3 + 1] = fscales[i * 3 + 2] = 1;
+		}
+		Matrix4 parent = new Matrix4().setToRotation(0, 1, 0, 45);
+
+		long start = TimeUtils.nanoTime();
+		for (int j = 0; j < iterations; j++)
+			for (int i = 0; i < count; i++)
+				mats[i].idt().translate(translations[i]).rotate(rotations[i]).scale(scales[i].x, scales[i].y, scales[i].z);
+		Gdx.app.log("MatrixJNITest", "per object translate/rotate/scale took: " + (TimeUtils.nanoTime() - start) / 1000000000.0f);
+
+		start = TimeUtils.nanoTime();
+		for (int j = 0; j < iterations; j++)
+			BatchMath.setToTranslationRotationScale(ftranslations, 0, frotations, 0, fscales, 0, fmats, 0, count);
+		Gdx.app.log("MatrixJNITest", "batch translate/rotate/scale took: " + (TimeUtils.nanoTime() - start) / 1000000000.0f);
+
+		for (int i = 0; i < count; i++)
+			System.arraycopy(mats[i].val, 0, fmats, i * 16, 16);
+
+		start = TimeUtils.nanoTime();
+		for (int j = 0; j < iterations; j++)
+			for (int i = 0; i < count; i++)
+				outs[i].set(parent).mul(mats[i]);
+		Gdx.app.log("MatrixJNITest", "per object matrix * matrix took: " + (TimeUtils.nanoTime() - start) / 1000000000.0f);
+
+		start = TimeUtils.nanoTime();
+		for (int j = 0; j < iterations; j++)
+			BatchMath.mulLeft(parent.val, 0, fmats, 0, fout, 0, count);
+		Gdx.app.log("MatrixJNITest", "batch matrix * matrix took: " + (TimeUtils.nanoTime() - start) / 1000000000.0f);
+		for (int i = 0; i < count; i++)
+			check(outs[i].val, 0, fout, i * 16, 16);
+
+		float[] fvecs = new float[3 * 500000];
+		start = TimeUtils.nanoTime();
+		BatchMath.mulVec(parent.val, 0, fvecs, 0, 500000, 3);
+		Gdx.app.log("MatrixJNITest", "java bulk vecs * matrix took: " + (TimeUtils.nanoTime() - start) / 1000000000.0f);
 	}
 
 	private void bench () {
@@ -133,6 +222,17 @@ public class MatrixJNITest extends GdxTest {
 		}
 	}
 
+	private void check (float[] expected, float[] actual) {
+		check(expected, 0, actual, 0, expected.length);
+	}
+
+	private void check (float[] expected, int expectedOffset, float[] actual, int actualOffset, int count) {
+		for (int i = 0; i < count; i++) {
+			if (Math.abs(expected[expectedOffset + i] - actual[actualOffset + i]) > 0.0001f)
+				throw new GdxRuntimeException("values are not equal");
+		}
+	}
+
 	private void check (Matrix4 mat1, Matrix4 mat2) {
 		for (int i = 0; i < 16; i++) {
 			if (mat1.val[i] != mat2.val[i]) throw new GdxRuntimeException("matrices not equal");
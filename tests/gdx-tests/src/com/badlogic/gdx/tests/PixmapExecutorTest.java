@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.nio.ByteBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Blending;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapExecutor;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Checks that {@link PixmapExecutor} produces the same pixels as the single threaded {@link Pixmap} methods and compares their
+ * speed for common sizes and formats. */
+public class PixmapExecutorTest extends GdxTest {
+	static final int[] sizes = {256, 512, 1024, 2048};
+	static final int ITERATIONS = 10;
+
+	PixmapExecutor executor;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		executor = new PixmapExecutor();
+		Blending blending = Pixmap.getBlending();
+		Pixmap.setBlending(Blending.SourceOver);
+		for (int size : sizes) {
+			Pixmap src = randomPixmap(size);
+			for (Format format : new Format[] {Format.RGBA8888, Format.RGB565}) {
+				benchDrawPixmap(src, format);
+				benchFillRectangle(size, format);
+			}
+			benchConvert(src, Format.RGB565);
+			benchConvert(src, Format.RGBA4444);
+			src.dispose();
+		}
+		Pixmap.setBlending(blending);
+	}
+
+	private void benchDrawPixmap (Pixmap src, Format format) {
+		int size = src.getWidth();
+		Pixmap serial = new Pixmap(size, size, format);
+		Pixmap parallel = new Pixmap(size, size, format);
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			serial.drawPixmap(src, 0, 0);
+		long serialTime = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			executor.drawPixmap(parallel, src, 0, 0);
+		long parallelTime = TimeUtils.nanoTime() - start;
+		check("drawPixmap", serial.getPixels(), parallel.getPixels());
+		log("drawPixmap " + size + " " + format, serialTime, parallelTime);
+		serial.dispose();
+		parallel.dispose();
+	}
+
+	private void benchFillRectangle (int size, Format format) {
+		Pixmap serial = new Pixmap(size, size, format);
+		Pixmap parallel = new Pixmap(size, size, format);
+		serial.setColor(1, 0.5f, 0.25f, 0.5f);
+		parallel.setColor(1, 0.5f, 0.25f, 0.5f);
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			serial.fillRectangle(1, 1, size - 2, size - 2);
+		long serialTime = TimeUtils.nanoTime() - start;
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			executor.fillRectangle(parallel, 1, 1, size - 2, size - 2);
+		long parallelTime = TimeUtils.nanoTime() - start;
+		check("fillRectangle", serial.getPixels(), parallel.getPixels());
+		log("fillRectangle " + size + " " + format, serialTime, parallelTime);
+		serial.dispose();
+		parallel.dispose();
+	}
+
+	private void benchConvert (Pixmap src, Format format) {
+		int size = src.getWidth();
+		// The single threaded reference is the native conversion done by drawPixmap without blending.
+		Pixmap serial = new Pixmap(size, size, format);
+		ByteBuffer parallel = BufferUtils.newByteBuffer(size * size * 2);
+		Pixmap.setBlending(Blending.None);
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			serial.drawPixmap(src, 0, 0);
+		long serialTime = TimeUtils.nanoTime() - start;
+		Pixmap.setBlending(Blending.SourceOver);
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++)
+			executor.convert(src, format, parallel, false);
+		long parallelTime = TimeUtils.nanoTime() - start;
+		check("convert " + format, serial.getPixels(), parallel);
+		log("convert " + size + " " + format, serialTime, parallelTime);
+
+		// Dithering must keep every channel within one step of the truncated value.
+		ByteBuffer dithered = BufferUtils.newByteBuffer(size * size * 2);
+		executor.convert(src, format, dithered, true);
+		int[] shifts = format == Format.RGB565 ? new int[] {11, 5, 0} : new int[] {12, 8, 4, 0};
+		int[] masks = format == Format.RGB565 ? new int[] {31, 63, 31} : new int[] {15, 15, 15, 15};
+		for (int i = 0, n = size * size; i < n; i++) {
+			int a = parallel.getShort(i * 2), b = dithered.getShort(i * 2);
+			for (int c = 0; c < shifts.length; c++)
+				if (Math.abs((a >>> shifts[c] & masks[c]) - (b >>> shifts[c] & masks[c])) > 1)
+					throw new GdxRuntimeException("Dithered " + format + " pixel " + i + " differs too much: " + a + " != " + b);
+		}
+		serial.dispose();
+	}
+
+	private Pixmap randomPixmap (int size) {
+		Pixmap pixmap = new Pixmap(size, size, Format.RGBA8888);
+		ByteBuffer pixels = pixmap.getPixels();
+		for (int i = 0, n = size * size * 4; i < n; i++)
+			pixels.put(i, (byte)MathUtils.random(255));
+		return pixmap;
+	}
+
+	private void check (String name, ByteBuffer expected, ByteBuffer actual) {
+		for (int i = 0, n = expected.capacity(); i < n; i++)
+			if (expected.get(i) != actual.get(i))
+				throw new GdxRuntimeException(name + " differs at byte " + i + ": " + expected.get(i) + " != " + actual.get(i));
+	}
+
+	private void log (String name, long serialTime, long parallelTime) {
+		Gdx.app.log("PixmapExecutorTest", name + ": " + serialTime / ITERATIONS / 1000 + " us single threaded, " + parallelTime
+			/ ITERATIONS / 1000 + " us parallel");
+	}
+
+	@Override
+	public void dispose () {
+		executor.dispose();
+	}
+}
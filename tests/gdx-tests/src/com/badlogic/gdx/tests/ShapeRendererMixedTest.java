@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws 2000 entities, each with a filled rectangle, an outlined circle and a point, like a debug overlay would. Logs the
+ * render calls, vertices and time per frame when the shape type is changed with {@link ShapeRenderer#set(ShapeType)} in a
+ * batch started with {@link ShapeRenderer#begin(ShapeType)}, which flushes for every change, and in a batch started with
+ * {@link ShapeRenderer#begin()}, which draws all shapes as triangles and only flushes when full. */
+public class ShapeRendererMixedTest extends GdxTest {
+	static final int ENTITIES = 2000, RUNS = 20;
+
+	ShapeRenderer renderer;
+	float[] positions = new float[ENTITIES * 2];
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		renderer = new ShapeRenderer();
+		renderer.setLineWidth(2);
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < positions.length; i++)
+			positions[i] = MathUtils.random(0f, 800f);
+
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			renderer.begin(ShapeType.Filled);
+			draw();
+			renderer.end();
+		}
+		long typedTime = (TimeUtils.nanoTime() - start) / RUNS;
+		int typedCalls = renderer.renderCalls, typedVertices = renderer.vertexCount;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			renderer.begin();
+			draw();
+			renderer.end();
+		}
+		long mixedTime = (TimeUtils.nanoTime() - start) / RUNS;
+		int mixedCalls = renderer.renderCalls, mixedVertices = renderer.vertexCount;
+
+		if (typedCalls != ENTITIES * 3) throw new GdxRuntimeException("Wrong render calls: " + typedCalls);
+		// The default batch holds 5000 vertices, a flush leaves at most the room of one circle unused.
+		if (mixedCalls > mixedVertices / (5000 - 16 * 6) + 1)
+			throw new GdxRuntimeException("Mixed batch flushed before it was full: " + mixedCalls);
+		Gdx.app.log("ShapeRendererMixedTest", "Per frame, typed: " + typedCalls + " render calls, " + typedVertices + " vertices, "
+			+ typedTime / 1000 + " us. Mixed: " + mixedCalls + " render calls, " + mixedVertices + " vertices, " + mixedTime / 1000
+			+ " us");
+	}
+
+	private void draw () {
+		for (int i = 0; i < ENTITIES; i++) {
+			float x = positions[i * 2], y = positions[i * 2 + 1];
+			renderer.set(ShapeType.Filled);
+			renderer.setColor(Color.RED);
+			renderer.rect(x - 8, y - 8, 16, 16);
+			renderer.set(ShapeType.Line);
+			renderer.setColor(Color.YELLOW);
+			renderer.circle(x, y, 12, 16);
+			renderer.set(ShapeType.Point);
+			renderer.setColor(Color.WHITE);
+			renderer.point(x, y, 0);
+		}
+	}
+
+	@Override
+	public void dispose () {
+		renderer.dispose();
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Page;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Writes a pack file with 20000 regions, some of them animation frames and ninepatches, and logs how long reading it takes and how
+ * long looking up all regions by name takes, compared to searching the regions one after another. Checks that the lookups find the
+ * regions. */
+public class TextureAtlasLoadTest extends GdxTest {
+	static final int PAGES = 4, REGIONS = 20000, FRAMES = 8;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		FileHandle dir = FileHandle.tempDirectory("atlas");
+		FileHandle textFile = dir.child("test.atlas");
+		textFile.writeString(createPackFile(), false);
+
+		long start = TimeUtils.nanoTime();
+		TextureAtlasData data = new TextureAtlasData(textFile, dir, false);
+		long readTime = TimeUtils.nanoTime() - start;
+		if (data.getRegions().size != REGIONS) throw new GdxRuntimeException("Wrong number of regions.");
+		Gdx.app.log("TextureAtlasLoadTest", REGIONS + " regions, " + textFile.length() / 1024 + " KB read in " + readTime / 1000000
+			+ " ms");
+
+		Pixmap pixmap = new Pixmap(1, 1, Format.RGBA8888);
+		Texture texture = new Texture(pixmap);
+		pixmap.dispose();
+		for (Page page : data.getPages())
+			page.texture = texture;
+		TextureAtlas atlas = new TextureAtlas(data);
+		Array<AtlasRegion> regions = atlas.getRegions();
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < regions.size; i++) {
+			AtlasRegion region = regions.get(i);
+			if (atlas.findRegion(region.name, region.index) != region) throw new GdxRuntimeException("Not found: " + region.name);
+		}
+		long findTime = TimeUtils.nanoTime() - start;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < regions.size; i++) {
+			AtlasRegion region = regions.get(i);
+			if (scan(regions, region.name, region.index) != region) throw new GdxRuntimeException("Not found: " + region.name);
+		}
+		long scanTime = TimeUtils.nanoTime() - start;
+
+		if (atlas.findRegions("frame0").size != FRAMES) throw new GdxRuntimeException("Wrong number of frames.");
+		if (atlas.findRegion("frame0").index != 0) throw new GdxRuntimeException("Frames not ordered by index.");
+		if (atlas.createPatch("patch" + FRAMES) == null) throw new GdxRuntimeException("Ninepatch not found.");
+		if (atlas.findRegion("missing") != null) throw new GdxRuntimeException("Found missing region.");
+		if (atlas.findRegion(null) != null || atlas.findRegions(null).size != 0) throw new GdxRuntimeException("Found null name.");
+		Gdx.app.log("TextureAtlasLoadTest", "Looked up " + regions.size + " regions: " + findTime / 1000000 + " ms, linear search "
+			+ scanTime / 1000000 + " ms");
+
+		atlas.dispose();
+		dir.deleteDirectory();
+	}
+
+	private String createPackFile () {
+		StringBuilder buffer = new StringBuilder(REGIONS * 100);
+		for (int page = 0, region = 0; page < PAGES; page++) {
+			buffer.append("\npage").append(page).append(".png\nformat: RGBA8888\nfilter: Linear,Linear\nrepeat: none\n");
+			for (int i = 0; i < REGIONS / PAGES; i++, region++) {
+				boolean frame = region % 10 < FRAMES, patch = region % 10 == FRAMES;
+				buffer.append(frame ? "frame" + region / 10 : patch ? "patch" + region : "region" + region).append('\n');
+				buffer.append("  rotate: ").append(region % 3 == 0).append('\n');
+				buffer.append("  xy: ").append(region % 1000).append(", ").append(region / 1000).append('\n');
+				buffer.append("  size: ").append(region % 50 + 1).append(", ").append(region % 30 + 1).append('\n');
+				if (patch) {
+					buffer.append("  split: 1, 2, 3, 4\n");
+					buffer.append("  pad: 4, 3, 2, 1\n");
+				}
+				buffer.append("  orig: ").append(region % 50 + 5).append(", ").append(region % 30 + 5).append('\n');
+				buffer.append("  offset: ").append(region % 4).append(", ").append(region % 5).append('\n');
+				buffer.append("  index: ").append(frame ? FRAMES - 1 - region % 10 : -1).append('\n');
+			}
+		}
+		return buffer.toString();
+	}
+
+	/** Searches the regions like TextureAtlas did before it looked them up by name. */
+	private AtlasRegion scan (Array<AtlasRegion> regions, String name, int index) {
+		for (int i = 0, n = regions.size; i < n; i++) {
+			AtlasRegion region = regions.get(i);
+			if (region.name.equals(name) && region.index == index) return region;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.io.IOException;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.maps.tiled.TiledMap;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
+import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.TmxMapLoader;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Base64Coder;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.XmlReader;
+
+/** Writes a map with three layers of 256x256 tiles, with XML, CSV and base64 encoding, and loads it with {@link TmxMapLoader},
+ * which decodes the tiles while parsing. Checks that all layers have the same tiles and logs how long loading takes, and how
+ * long only building the DOM of the file with an {@link XmlReader} takes. */
+public class TmxMapLoaderTest extends GdxTest {
+	static final int WIDTH = 256, HEIGHT = 256, RUNS = 5;
+	static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
+	static final int FLAG_FLIP_VERTICALLY = 0x40000000;
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		FileHandle dir = FileHandle.tempDirectory("tmx");
+		Gdx.files.internal("data/maps/tiled/tiles.png").copyTo(dir);
+		int[] ids = new int[WIDTH * HEIGHT];
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = MathUtils.random(256);
+			if (ids[i] != 0 && MathUtils.random() < 0.1f) ids[i] |= FLAG_FLIP_HORIZONTALLY;
+			if (ids[i] != 0 && MathUtils.random() < 0.1f) ids[i] |= FLAG_FLIP_VERTICALLY;
+		}
+		FileHandle file = dir.child("large.tmx");
+		file.writeString(createMap(ids), false);
+
+		TmxMapLoader loader = new TmxMapLoader(new FileHandleResolver() {
+			public FileHandle resolve (String fileName) {
+				return Gdx.files.absolute(fileName);
+			}
+		});
+		TiledMap map = null;
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			if (map != null) map.dispose();
+			map = loader.load(file.path());
+		}
+		long loadTime = (TimeUtils.nanoTime() - start) / RUNS;
+
+		XmlReader xml = new XmlReader();
+		start = TimeUtils.nanoTime();
+		try {
+			for (int i = 0; i < RUNS; i++)
+				xml.parse(file);
+		} catch (IOException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+		long domTime = (TimeUtils.nanoTime() - start) / RUNS;
+
+		TiledMapTileLayer expected = (TiledMapTileLayer)map.getLayers().get(0);
+		for (int y = 0; y < HEIGHT; y++) {
+			for (int x = 0; x < WIDTH; x++) {
+				Cell cell = expected.getCell(x, HEIGHT - 1 - y);
+				int id = ids[y * WIDTH + x];
+				if (id == 0 ? cell != null : cell == null || cell.getTile().getId() != (id & ~0xE0000000)
+					|| cell.getFlipHorizontally() != ((id & FLAG_FLIP_HORIZONTALLY) != 0)
+					|| cell.getFlipVertically() != ((id & FLAG_FLIP_VERTICALLY) != 0))
+					throw new GdxRuntimeException("Wrong tile: " + x + ", " + y);
+			}
+		}
+		for (int i = 1; i < map.getLayers().getCount(); i++) {
+			TiledMapTileLayer layer = (TiledMapTileLayer)map.getLayers().get(i);
+			for (int y = 0; y < HEIGHT; y++) {
+				for (int x = 0; x < WIDTH; x++) {
+					Cell cell1 = expected.getCell(x, y), cell2 = layer.getCell(x, y);
+					if (cell1 == null ? cell2 != null : cell2 == null || cell1.getTile() != cell2.getTile()
+						|| cell1.getFlipHorizontally() != cell2.getFlipHorizontally()
+						|| cell1.getFlipVertically() != cell2.getFlipVertically())
+						throw new GdxRuntimeException("Layers differ: " + layer.getName() + ", " + x + ", " + y);
+				}
+			}
+		}
+		map.dispose();
+
+		Gdx.app.log("TmxMapLoaderTest", file.length() / 1024 + " KB, " + map.getLayers().getCount() + " layers of " + WIDTH + "x"
+			+ HEIGHT + " tiles loaded in " + loadTime / 1000 + " us, DOM built in " + domTime / 1000 + " us");
+		dir.deleteDirectory();
+	}
+
+	private String createMap (int[] ids) {
+		StringBuilder buffer = new StringBuilder(ids.length * 32);
+		buffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+		buffer.append("<map version=\"1.0\" orientation=\"orthogonal\" width=\"" + WIDTH + "\" height=\"" + HEIGHT
+			+ "\" tilewidth=\"32\" tileheight=\"32\">\n");
+		buffer.append(" <tileset firstgid=\"1\" name=\"tiles\" tilewidth=\"32\" tileheight=\"32\">\n");
+		buffer.append("  <image source=\"tiles.png\" width=\"512\" height=\"512\"/>\n");
+		buffer.append(" </tileset>\n");
+
+		startLayer(buffer, "xml", null);
+		for (int i = 0; i < ids.length; i++)
+			buffer.append("   <tile gid=\"").append(ids[i] & 0xFFFFFFFFL).append("\"/>\n");
+		endLayer(buffer);
+
+		startLayer(buffer, "csv", "csv");
+		buffer.append('\n');
+		for (int i = 0; i < ids.length; i++) {
+			buffer.append(ids[i] & 0xFFFFFFFFL);
+			if (i < ids.length - 1) buffer.append(',');
+			if (i % WIDTH == WIDTH - 1) buffer.append('\n');
+		}
+		endLayer(buffer);
+
+		startLayer(buffer, "base64", "base64");
+		byte[] bytes = new byte[ids.length * 4];
+		for (int i = 0; i < ids.length; i++) {
+			bytes[i * 4] = (byte)ids[i];
+			bytes[i * 4 + 1] = (byte)(ids[i] >> 8);
+			bytes[i * 4 + 2] = (byte)(ids[i] >> 16);
+			bytes[i * 4 + 3] = (byte)(ids[i] >> 24);
+		}
+		buffer.append("\n   ").append(Base64Coder.encode(bytes)).append('\n');
+		endLayer(buffer);
+
+		buffer.append("</map>\n");
+		return buffer.toString();
+	}
+
+	private void startLayer (StringBuilder buffer, String name, String encoding) {
+		buffer.append(" <layer name=\"" + name + "\" width=\"" + WIDTH + "\" height=\"" + HEIGHT + "\">\n");
+		buffer.append(encoding == null ? "  <data>\n" : "  <data encoding=\"" + encoding + "\">");
+	}
+
+	private void endLayer (StringBuilder buffer) {
+		buffer.append("  </data>\n");
+		buffer.append(" </layer>\n");
+	}
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelData;
+import com.badlogic.gdx.graphics.g3d.model.data.ModelMesh;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.OrderedMap;
+import com.badlogic.gdx.utils.SerializationException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.UBJsonReader;
+import com.badlogic.gdx.utils.UBJsonWriter;
+
+/** Writes a game snapshot with 2000 entities as JSON and as UBJSON with {@link Json}, and logs the sizes and how long writing
+ * and reading both takes. Checks that both read back the same snapshot, also from a stream that returns the UBJSON in small
+ * chunks, and that truncated UBJSON fails. Converts a G3D model from JSON to UBJSON with
+ * {@link UBJsonWriter} and checks that both load the same model data. */
+public class UBJsonTest extends GdxTest {
+	static final int ENTITIES = 2000, RUNS = 20;
+
+	static public class Snapshot {
+		public int frame;
+		public String level;
+		public float[] terrain;
+		public short[] indices;
+		public byte[] flags;
+		public Array<Entity> entities;
+		public OrderedMap<String, Integer> scores;
+	}
+
+	static public class Entity {
+		public String id;
+		public float x, y, rotation;
+		public int health;
+		public boolean alive;
+		public long seed;
+		public double time;
+		public int[] inventory;
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		Json json = new Json();
+		Snapshot snapshot = createSnapshot();
+
+		String text = null;
+		byte[] binary = null;
+		long textWriteTime = 0, binaryWriteTime = 0, textReadTime = 0, binaryReadTime = 0;
+		Snapshot fromText = null, fromBinary = null;
+		for (int i = 0; i < RUNS; i++) {
+			long start = TimeUtils.nanoTime();
+			text = json.toJson(snapshot);
+			textWriteTime += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			binary = json.toUBJson(snapshot);
+			binaryWriteTime += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			fromText = json.fromJson(Snapshot.class, text);
+			textReadTime += TimeUtils.nanoTime() - start;
+
+			start = TimeUtils.nanoTime();
+			fromBinary = json.fromUBJson(Snapshot.class, binary);
+			binaryReadTime += TimeUtils.nanoTime() - start;
+		}
+		if (!json.toJson(fromBinary).equals(text) || !json.toJson(fromText).equals(text))
+			throw new GdxRuntimeException("Snapshots differ.");
+		Gdx.app.log("UBJsonTest", ENTITIES + " entities, JSON: " + text.length() / 1024 + " KB, written in " + textWriteTime / RUNS
+			/ 1000 + " us, read in " + textReadTime / RUNS / 1000 + " us. UBJSON: " + binary.length / 1024 + " KB, written in "
+			+ binaryWriteTime / RUNS / 1000 + " us, read in " + binaryReadTime / RUNS / 1000 + " us");
+
+		Snapshot fromStream = json.fromUBJson(Snapshot.class, new ChunkedInputStream(binary, binary.length));
+		if (!json.toJson(fromStream).equals(text)) throw new GdxRuntimeException("Snapshot read from a chunked stream differs.");
+		try {
+			json.fromUBJson(Snapshot.class, new ChunkedInputStream(binary, binary.length - 1));
+			throw new GdxRuntimeException("Truncated UBJSON was read.");
+		} catch (SerializationException expected) {
+		}
+
+		FileHandle dir = FileHandle.tempDirectory("ubjson");
+		FileHandle textModel = Gdx.files.internal("data/g3d/knight.g3dj");
+		FileHandle binaryModel = dir.child("knight.g3db");
+		UBJsonWriter writer = new UBJsonWriter(new BufferedOutputStream(binaryModel.write(false)));
+		try {
+			writer.value(new JsonReader().parse(textModel));
+			writer.close();
+		} catch (IOException ex) {
+			throw new GdxRuntimeException(ex);
+		}
+		check(new G3dModelLoader(new JsonReader()).parseModel(textModel),
+			new G3dModelLoader(new UBJsonReader()).parseModel(binaryModel));
+		Gdx.app.log("UBJsonTest", "Model: " + textModel.length() / 1024 + " KB as JSON, " + binaryModel.length() / 1024
+			+ " KB as UBJSON");
+		dir.deleteDirectory();
+	}
+
+	/** Returns at most 7 bytes per read and reports no available bytes, like a slow socket. */
+	static class ChunkedInputStream extends InputStream {
+		private final byte[] data;
+		private final int length;
+		private int position;
+
+		public ChunkedInputStream (byte[] data, int length) {
+			this.data = data;
+			this.length = length;
+		}
+
+		public int read () {
+			return position < length ? data[position++] & 0xff : -1;
+		}
+
+		public int read (byte[] bytes, int offset, int count) {
+			if (count == 0) return 0;
+			if (position == length) return -1;
+			count = Math.min(Math.min(count, 7), length - position);
+			System.arraycopy(data, position, bytes, offset, count);
+			position += count;
+			return count;
+		}
+
+		public int available () {
+			return 0;
+		}
+	}
+
+	private Snapshot createSnapshot () {
+		Snapshot snapshot = new Snapshot();
+		snapshot.frame = 123456;
+		snapshot.level = "level \"one\"\nwith an escaped name";
+		snapshot.terrain = new float[4096];
+		snapshot.indices = new short[6000];
+		snapshot.flags = new byte[300];
+		for (int i = 0; i < snapshot.terrain.length; i++)
+			snapshot.terrain[i] = (float)Math.sin(i * 0.01f) * 10f;
+		for (int i = 0; i < snapshot.indices.length; i++)
+			snapshot.indices[i] = (short)(i * 7 % 4096);
+		for (int i = 0; i < snapshot.flags.length; i++)
+			snapshot.flags[i] = (byte)(i % 7 - 3);
+		snapshot.entities = new Array<Entity>();
+		for (int i = 0; i < ENTITIES; i++) {
+			Entity entity = new Entity();
+			entity.id = "entity" + i;
+			entity.x = i * 1.5f;
+			entity.y = (float)Math.cos(i) * 100f;
+			entity.rotation = i % 360;
+			entity.health = i % 3 == 0 ? 100 : -i;
+			entity.alive = i % 5 != 0;
+			entity.seed = i * 0x123456789L;
+			entity.time = i / 3.0;
+			entity.inventory = new int[] {i, i * 1000, i * 100000};
+			snapshot.entities.add(entity);
+		}
+		snapshot.scores = new OrderedMap<String, Integer>();
+		for (int i = 0; i < 100; i++)
+			snapshot.scores.put("player" + i, i * 31);
+		return snapshot;
+	}
+
+	private void check (ModelData expected, ModelData actual) {
+		if (!expected.id.equals(actual.id) || expected.meshes.size != actual.meshes.size
+			|| expected.materials.size != actual.materials.size || expected.nodes.size != actual.nodes.size
+			|| expected.animations.size != actual.animations.size) throw new GdxRuntimeException("Models differ.");
+		for (int i = 0; i < expected.meshes.size; i++) {
+			ModelMesh mesh1 = expected.meshes.get(i), mesh2 = actual.meshes.get(i);
+			if (!Arrays.equals(mesh1.vertices, mesh2.vertices)) throw new GdxRuntimeException("Vertices differ: " + mesh1.id);
+			for (int j = 0; j < mesh1.parts.length; j++)
+				if (!Arrays.equals(mesh1.parts[j].indices, mesh2.parts[j].indices))
+					throw new GdxRuntimeException("Indices differ: " + mesh1.parts[j].id);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.PixmapIO.PNG;
+import com.badlogic.gdx.graphics.PixmapIO.PNG.RowFilter;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Times {@link PNG} with each row filter against a reference that reads every pixel with {@link Pixmap#getPixel(int, int)} and
+ * stores it uncompressed, like the encoder PNG replaced. The results are logged. */
+public class PNGBench extends GdxTest {
+	static private final int RUNS = 10;
+
+	private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void create () {
+		for (int size = 512; size <= 2048; size *= 2) {
+			Pixmap pixmap = createPixmap(size);
+			try {
+				bench(pixmap);
+			} catch (IOException ex) {
+				throw new GdxRuntimeException(ex);
+			} finally {
+				pixmap.dispose();
+			}
+		}
+	}
+
+	private void bench (Pixmap pixmap) throws IOException {
+		String size = pixmap.getWidth() + "x" + pixmap.getHeight();
+
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < RUNS; i++) {
+			long start = TimeUtils.nanoTime();
+			writeReference(pixmap);
+			best = Math.min(best, TimeUtils.nanoTime() - start);
+		}
+		log(size, "getPixel, stored", best);
+
+		PNG png = new PNG();
+		try {
+			log(size, "default", time(png, pixmap));
+			for (RowFilter filter : RowFilter.values()) {
+				png.setFilter(filter);
+				log(size, filter + ", BEST_SPEED", time(png, pixmap));
+			}
+			png.setFilter(RowFilter.None);
+			png.setCompression(Deflater.NO_COMPRESSION);
+			log(size, "None, NO_COMPRESSION", time(png, pixmap));
+		} finally {
+			png.dispose();
+		}
+	}
+
+	private long time (PNG png, Pixmap pixmap) throws IOException {
+		long best = Long.MAX_VALUE;
+		for (int i = 0; i < RUNS; i++) {
+			output.reset();
+			long start = TimeUtils.nanoTime();
+			png.write(output, pixmap);
+			best = Math.min(best, TimeUtils.nanoTime() - start);
+		}
+		return best;
+	}
+
+	private void writeReference (Pixmap pixmap) throws IOException {
+		int width = pixmap.getWidth(), height = pixmap.getHeight();
+		byte[] raw = new byte[width * height * 4 + height];
+		for (int y = 0, i = 0; y < height; y++) {
+			raw[i++] = 0;
+			for (int x = 0; x < width; x++) {
+				int pixel = pixmap.getPixel(x, y);
+				raw[i++] = (byte)(pixel >>> 24);
+				raw[i++] = (byte)(pixel >>> 16);
+				raw[i++] = (byte)(pixel >>> 8);
+				raw[i++] = (byte)pixel;
+			}
+		}
+		output.reset();
+		Deflater deflater = new Deflater(Deflater.NO_COMPRESSION);
+		DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(output, deflater);
+		deflaterOutput.write(raw);
+		deflaterOutput.finish();
+		deflater.end();
+	}
+
+	private void log (String size, String name, long nanos) {
+		Gdx.app.log("PNGBench", size + " " + name + ": " + nanos / 1000000f + " ms, " + output.size() / 1024 + " KB");
+	}
+
+	/** A gradient with some noise, which compresses about as well as a screenshot. */
+	private Pixmap createPixmap (int size) {
+		Pixmap pixmap = new Pixmap(size, size, Format.RGBA8888);
+		ByteBuffer pixels = pixmap.getPixels();
+		Random random = new Random(1);
+		for (int y = 0; y < size; y++) {
+			for (int x = 0; x < size; x++) {
+				int noise = random.nextInt(8);
+				int r = x * 255 / size + noise, g = y * 255 / size, b = (x + y) * 127 / size + noise;
+				pixels.putInt((y * size + x) * 4, (r & 0xff) << 24 | (g & 0xff) << 16 | (b & 0xff) << 8 | 0xff);
+			}
+		}
+		return pixmap;
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+	}
+}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bench;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.scenes.scene2d.Stage;
+import com.badlogic.gdx.scenes.scene2d.ui.Label;
+import com.badlogic.gdx.scenes.scene2d.ui.ScrollPane;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.scenes.scene2d.ui.Table;
+import com.badlogic.gdx.scenes.scene2d.ui.Tree;
+import com.badlogic.gdx.scenes.scene2d.ui.Tree.Node;
+import com.badlogic.gdx.scenes.scene2d.ui.Tree.RowBinder;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Scrolls through a tree with {@link #PARENTS} expanded nodes of {@link #CHILDREN} children each, created without actors so a
+ * {@link RowBinder} binds pooled labels to the visible rows. Logs the time to compute the size and lay out the whole tree and
+ * the average time per frame to scroll, bind and draw, and checks that the number of labels stays near the number of visible
+ * rows. */
+public class TreeBench extends GdxTest {
+	static final int PARENTS = 1000, CHILDREN = 100;
+
+	Stage stage;
+	Skin skin;
+	Tree tree;
+	ScrollPane scrollPane;
+	Label status;
+	BitmapFont font;
+	int labelsCreated, frames;
+	long drawTime;
+
+	@Override
+	public void create () {
+		stage = new Stage();
+		Gdx.input.setInputProcessor(stage);
+		skin = new Skin(Gdx.files.internal("data/uiskin.json"));
+		font = skin.getFont("default-font");
+
+		tree = new Tree(skin);
+		tree.setRowBinder(new RowBinder<Label>() {
+			protected Label newActor () {
+				labelsCreated++;
+				return new Label("", skin);
+			}
+
+			public void bind (Node node, Label label) {
+				label.setText((String)node.getObject());
+			}
+
+			public float getPrefWidth (Node node) {
+				return font.getBounds((String)node.getObject()).width;
+			}
+
+			public float getPrefHeight (Node node) {
+				return font.getBounds((String)node.getObject()).height;
+			}
+		});
+		for (int i = 0; i < PARENTS; i++) {
+			Node parent = new Node();
+			parent.setObject("node " + i);
+			for (int ii = 0; ii < CHILDREN; ii++) {
+				Node child = new Node();
+				child.setObject("node " + i + "." + ii);
+				parent.add(child);
+			}
+			tree.add(parent);
+			parent.setExpanded(true);
+		}
+
+		status = new Label("", skin);
+		scrollPane = new ScrollPane(tree, skin);
+		scrollPane.setSmoothScrolling(false);
+		Table table = new Table();
+		table.setFillParent(true);
+		table.add(status).left().row();
+		table.add(scrollPane).expand().fill();
+		stage.addActor(table);
+
+		long start = TimeUtils.nanoTime();
+		tree.getPrefHeight();
+		tree.setSize(tree.getPrefWidth(), tree.getPrefHeight());
+		tree.validate();
+		Gdx.app.log("TreeBench", (PARENTS + PARENTS * CHILDREN) + " nodes, size and layout: " + (TimeUtils.nanoTime() - start)
+			/ 1000000f + " ms");
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT);
+
+		// Scroll a few pages per frame, wrapping around at the bottom.
+		float scrollY = scrollPane.getScrollY() + scrollPane.getHeight() * 3;
+		if (scrollY > scrollPane.getMaxY()) scrollY = 0;
+		scrollPane.setScrollY(scrollY);
+
+		long start = TimeUtils.nanoTime();
+		stage.act(Gdx.graphics.getDeltaTime());
+		stage.draw();
+		drawTime += TimeUtils.nanoTime() - start;
+		frames++;
+
+		// Every row is at least as high as the font's cap height.
+		int maxLabels = (int)(scrollPane.getHeight() / font.getCapHeight()) + 2;
+		if (tree.getChildren().size > maxLabels)
+			throw new GdxRuntimeException("Expected at most " + maxLabels + " bound labels, was: " + tree.getChildren().size);
+
+		if (frames % 60 == 0) {
+			status.setText("frame: " + drawTime / frames / 1000000f + " ms, labels: " + tree.getChildren().size + ", created: "
+				+ labelsCreated);
+			Gdx.app.log("TreeBench", status.getText().toString());
+			drawTime = 0;
+			frames = 0;
+		}
+	}
+
+	@Override
+	public void resize (int width, int height) {
+		stage.setViewport(width, height, false);
+	}
+
+	@Override
+	public boolean needsGL20 () {
+		return false;
+	}
+
+	@Override
+	public void dispose () {
+		stage.dispose();
+		skin.dispose();
+	}
+}
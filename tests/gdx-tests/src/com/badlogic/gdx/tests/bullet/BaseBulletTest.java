@@ -146,7 +146,7 @@ public class BaseBulletTest extends BulletTest {
 
 		Gdx.gl.glDisable(GL10.GL_DEPTH_TEST);
 		if (debugMode != DebugDrawModes.DBG_NoDebug)
-			world.setDebugMode(debugMode, camera.combined);
+			world.setDebugMode(debugMode, camera);
 		Gdx.gl.glEnable(GL10.GL_DEPTH_TEST);
 		
 		performance.setLength(0);
@@ -188,7 +188,7 @@ public class BaseBulletTest extends BulletTest {
 	}
 	
 	public void setDebugMode(final int mode) {
-		world.setDebugMode(debugMode = mode, camera.combined);
+		world.setDebugMode(debugMode = mode, camera);
 	}
 	
 	public void toggleDebugMode() {
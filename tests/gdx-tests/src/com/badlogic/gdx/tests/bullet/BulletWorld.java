@@ -16,9 +16,9 @@
 package com.badlogic.gdx.tests.bullet;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
 import com.badlogic.gdx.graphics.g3d.ModelBatch;
 import com.badlogic.gdx.graphics.g3d.lights.Lights;
-import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.math.WindowedMean;
 import com.badlogic.gdx.physics.bullet.btBroadphaseInterface;
@@ -137,6 +137,8 @@ public class BulletWorld extends BaseWorld<BulletEntity> {
 		super.dispose();
 		
 		collisionWorld.delete();
+		if (debugDrawer != null)
+			debugDrawer.dispose();
 		if (solver != null)
 			solver.delete();
 		if (broadphase != null)
@@ -147,12 +149,12 @@ public class BulletWorld extends BaseWorld<BulletEntity> {
 			collisionConfiguration.delete();
 	}
 	
-	public void setDebugMode(final int mode, final Matrix4 projMatrix) {
+	public void setDebugMode(final int mode, final Camera camera) {
 		if (mode == btIDebugDraw.DebugDrawModes.DBG_NoDebug && debugDrawer == null)
 			return;
 		if (debugDrawer == null)
 			collisionWorld.setDebugDrawer(debugDrawer = new DebugDrawer());
-		debugDrawer.lineRenderer.setProjectionMatrix(projMatrix);
+		debugDrawer.setCamera(camera);
 		debugDrawer.setDebugMode(mode);
 	}
 	
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bullet;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.physics.bullet.ContactCollector;
+import com.badlogic.gdx.physics.bullet.ContactProcessedListenerByValue;
+import com.badlogic.gdx.physics.bullet.btDynamicsWorld;
+import com.badlogic.gdx.physics.bullet.btManifoldPoint;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Drops a pile of boxes and reports their contacts with a {@link ContactCollector}, once per step. Logs the time per step
+ * without contact reporting, with a {@link ContactProcessedListenerByValue} called for every contact point and with the
+ * collector. Checks that the collector reports each pair of boxes as begun before it persists or ends. Boxes turn red when
+ * they are hit hard. */
+public class ContactCollectorTest extends BaseBulletTest {
+	static final int BOXES_X = 8, BOXES_Y = 16, BOXES_Z = 8, SETTLE_STEPS = 30, RUNS = 60;
+
+	static class CountingListener extends ContactProcessedListenerByValue {
+		int count;
+
+		@Override
+		public void onContactProcessed (btManifoldPoint cp, int userValue0, boolean match0, int userValue1, boolean match1) {
+			count++;
+		}
+	}
+
+	final ContactCollector collector = new ContactCollector();
+	final LongArray pairs = new LongArray();
+	btDynamicsWorld dynamicsWorld;
+
+	@Override
+	public void create () {
+		super.create();
+		instructions = "Tap to shoot\nLong press to toggle debug mode\nSwipe for next test\nCtrl+drag to rotate\nScroll to zoom";
+		camera.position.set(20f, 15f, 20f);
+		camera.lookAt(0, 4f, 0);
+		camera.update();
+
+		dynamicsWorld = (btDynamicsWorld)world.collisionWorld;
+		world.add("ground", 0f, 0f, 0f).setColor(0.25f + 0.5f * (float)Math.random(), 0.25f + 0.5f * (float)Math.random(),
+			0.25f + 0.5f * (float)Math.random(), 1f);
+		for (int x = 0; x < BOXES_X; x++)
+			for (int y = 0; y < BOXES_Y; y++)
+				for (int z = 0; z < BOXES_Z; z++)
+					world.add("box", (x - BOXES_X / 2) * 1.1f + (y % 2) * 0.5f, 0.5f + y * 1.05f, (z - BOXES_Z / 2) * 1.1f).setColor(
+						0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(), 1f);
+		// Report contacts between all objects: the filter of each object matches the default flag of the others.
+		for (int i = 0; i < world.entities.size; i++)
+			world.entities.get(i).body.setContactCallbackFilter(1);
+
+		for (int i = 0; i < SETTLE_STEPS; i++)
+			step();
+
+		// Alternate between the three ways, so each sees the same kind of steps while the pile collapses.
+		long plainTime = 0, listenerTime = 0, collectorTime = 0;
+		int callbacks = 0, events = 0;
+		for (int i = 0; i < RUNS; i++) {
+			long start = TimeUtils.nanoTime();
+			dynamicsWorld.stepSimulation(1 / 60f, 0);
+			plainTime += TimeUtils.nanoTime() - start;
+			check(collector.collect(dynamicsWorld));
+
+			CountingListener listener = new CountingListener();
+			start = TimeUtils.nanoTime();
+			dynamicsWorld.stepSimulation(1 / 60f, 0);
+			listenerTime += TimeUtils.nanoTime() - start;
+			listener.delete();
+			callbacks += listener.count;
+			check(collector.collect(dynamicsWorld));
+
+			start = TimeUtils.nanoTime();
+			dynamicsWorld.stepSimulation(1 / 60f, 0);
+			events += collector.collect(dynamicsWorld);
+			collectorTime += TimeUtils.nanoTime() - start;
+			check(collector.size());
+		}
+		Gdx.app.log("ContactCollectorTest", "Per step: " + plainTime / RUNS / 1000 + " us without contacts, " + listenerTime / RUNS
+			/ 1000 + " us with listener (" + callbacks / RUNS + " callbacks), " + collectorTime / RUNS / 1000 + " us with collector ("
+			+ events / RUNS + " events)");
+	}
+
+	private void step () {
+		dynamicsWorld.stepSimulation(1 / 60f, 0);
+		check(collector.collect(dynamicsWorld));
+	}
+
+	/** Keeps track of the pairs in contact and checks that the events match them. */
+	private void check (int count) {
+		for (int i = 0; i < count; i++) {
+			int userValue0 = collector.getUserValue0(i), userValue1 = collector.getUserValue1(i);
+			if (userValue0 < 0 || userValue0 >= world.entities.size || userValue1 < 0 || userValue1 >= world.entities.size)
+				throw new GdxRuntimeException("Invalid user value: " + userValue0 + ", " + userValue1);
+			long pair = (long)Math.min(userValue0, userValue1) << 32 | Math.max(userValue0, userValue1);
+			int index = pairs.indexOf(pair);
+			switch (collector.getType(i)) {
+			case ContactCollector.BEGIN:
+				if (index != -1) throw new GdxRuntimeException("Pair began twice: " + userValue0 + ", " + userValue1);
+				pairs.add(pair);
+				if (collector.getImpulse(i) > 2f) {
+					world.entities.get(userValue0).setColor(Color.RED);
+					world.entities.get(userValue1).setColor(Color.RED);
+				}
+				break;
+			case ContactCollector.PERSIST:
+				if (index == -1) throw new GdxRuntimeException("Pair persisted without beginning: " + userValue0 + ", " + userValue1);
+				break;
+			case ContactCollector.END:
+				if (index == -1) throw new GdxRuntimeException("Pair ended without beginning: " + userValue0 + ", " + userValue1);
+				pairs.removeIndex(index);
+				break;
+			}
+		}
+	}
+
+	@Override
+	public void update () {
+		super.update();
+		check(collector.collect(dynamicsWorld));
+	}
+
+	@Override
+	public boolean tap (float x, float y, int count, int button) {
+		shoot(x, y).body.setContactCallbackFilter(1);
+		return true;
+	}
+
+	@Override
+	public void dispose () {
+		super.dispose();
+		collector.delete();
+		pairs.clear();
+	}
+}
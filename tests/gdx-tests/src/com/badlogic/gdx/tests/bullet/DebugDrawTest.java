@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bullet;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.physics.bullet.btIDebugDraw;
+import com.badlogic.gdx.physics.bullet.btIDebugDraw.DebugDrawModes;
+import com.badlogic.gdx.physics.bullet.btVector3;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Draws the wireframes of 4000 boxes. Logs how long drawing them takes when Bullet calls back into Java for every line, when
+ * the lines are collected in native code and rendered as one mesh by {@link DebugDrawer}, and when only the lines in view of
+ * a camera close to the boxes are kept. */
+public class DebugDrawTest extends BaseBulletTest {
+	static final int BOXES_X = 20, BOXES_Y = 10, BOXES_Z = 20, RUNS = 20;
+
+	/** Draws each line with a {@link ShapeRenderer}, like the debug drawer of the tests did before. */
+	static class ShapeRendererDebugDraw extends btIDebugDraw {
+		final ShapeRenderer lineRenderer = new ShapeRenderer();
+		int debugMode;
+		int lines;
+
+		@Override
+		public void drawLine (btVector3 from, btVector3 to, btVector3 color) {
+			lines++;
+			lineRenderer.setColor(color.getX(), color.getY(), color.getZ(), 1f);
+			lineRenderer.line(from.getX(), from.getY(), from.getZ(), to.getX(), to.getY(), to.getZ());
+		}
+
+		@Override
+		public void drawContactPoint (btVector3 PointOnB, btVector3 normalOnB, float distance, int lifeTime, btVector3 color) {
+		}
+
+		@Override
+		public void reportErrorWarning (String warningString) {
+		}
+
+		@Override
+		public void draw3dText (btVector3 location, String textString) {
+		}
+
+		@Override
+		public void setDebugMode (int debugMode) {
+			this.debugMode = debugMode;
+		}
+
+		@Override
+		public int getDebugMode () {
+			return debugMode;
+		}
+	}
+
+	@Override
+	public void create () {
+		super.create();
+		camera.position.set(40f, 30f, 40f);
+		camera.lookAt(0, 5f, 0);
+		camera.far = 200f;
+		camera.update();
+
+		world.add("ground", 0f, 0f, 0f).setColor(0.25f + 0.5f * (float)Math.random(), 0.25f + 0.5f * (float)Math.random(),
+			0.25f + 0.5f * (float)Math.random(), 1f);
+		for (int x = 0; x < BOXES_X; x++)
+			for (int y = 0; y < BOXES_Y; y++)
+				for (int z = 0; z < BOXES_Z; z++)
+					world.add("box", (x - BOXES_X / 2) * 1.5f, 0.5f + y * 1.5f, (z - BOXES_Z / 2) * 1.5f).setColor(
+						0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(), 1f);
+
+		ShapeRendererDebugDraw javaDrawer = new ShapeRendererDebugDraw();
+		javaDrawer.setDebugMode(DebugDrawModes.DBG_DrawWireframe);
+		javaDrawer.lineRenderer.setProjectionMatrix(camera.combined);
+		world.collisionWorld.setDebugDrawer(javaDrawer);
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			javaDrawer.lineRenderer.begin(ShapeType.Line);
+			world.collisionWorld.debugDrawWorld();
+			javaDrawer.lineRenderer.end();
+		}
+		long javaTime = (TimeUtils.nanoTime() - start) / RUNS;
+		int javaLines = javaDrawer.lines / RUNS;
+
+		setDebugMode(DebugDrawModes.DBG_DrawWireframe);
+		DebugDrawer drawer = world.debugDrawer;
+		drawer.disableCulling();
+		long bufferedTime = time(drawer);
+		int bufferedLines = drawer.getNumVertices() / 2;
+		if (bufferedLines != javaLines) throw new GdxRuntimeException("Lines differ: " + javaLines + ", " + bufferedLines);
+
+		// A camera in between the boxes only sees some of them.
+		PerspectiveCamera close = new PerspectiveCamera(67f, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		close.position.set(0f, 8f, 0f);
+		close.lookAt(10f, 0f, 10f);
+		close.near = 0.1f;
+		close.far = 10f;
+		close.update();
+		drawer.setCamera(close);
+		long culledTime = time(drawer);
+		int culledLines = drawer.getNumVertices() / 2;
+		if (culledLines >= bufferedLines) throw new GdxRuntimeException("No lines culled.");
+
+		world.collisionWorld.setDebugDrawer(drawer);
+		javaDrawer.lineRenderer.dispose();
+		javaDrawer.delete();
+		Gdx.app.log("DebugDrawTest", "Per frame: " + javaTime / 1000 + " us calling back for " + javaLines + " lines, "
+			+ bufferedTime / 1000 + " us buffered, " + culledTime / 1000 + " us buffered with culling for " + culledLines + " lines");
+	}
+
+	private long time (DebugDrawer drawer) {
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			drawer.begin();
+			world.collisionWorld.debugDrawWorld();
+			drawer.end();
+		}
+		return (TimeUtils.nanoTime() - start) / RUNS;
+	}
+}
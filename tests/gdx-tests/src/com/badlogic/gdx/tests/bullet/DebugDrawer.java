@@ -17,52 +17,72 @@
 package com.badlogic.gdx.tests.bullet;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Matrix4;
-import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.physics.bullet.btIDebugDraw;
-import com.badlogic.gdx.physics.bullet.btVector3;
-import com.badlogic.gdx.physics.bullet.gdxBulletJNI;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.physics.bullet.BufferedDebugDraw;
+import com.badlogic.gdx.utils.Disposable;
 
-/** @author xoppa */
-public class DebugDrawer extends btIDebugDraw {
-	public int debugMode = 0;
-	public ShapeRenderer lineRenderer = new ShapeRenderer();
+/** Renders the lines Bullet draws for debugging. The lines are collected in native code and copied to a mesh once per frame,
+ * only the lines that overlap the bounds of the camera frustum are kept.
+ * @author xoppa */
+public class DebugDrawer extends BufferedDebugDraw implements Disposable {
+	public final Matrix4 projectionMatrix = new Matrix4();
+	private final BoundingBox bounds = new BoundingBox();
+	private Mesh mesh;
+	private ShaderProgram shader;
 
-	@Override
-	public void drawLine (btVector3 from, btVector3 to, btVector3 color) {
-		lineRenderer.setColor(color.getX(), color.getY(), color.getZ(), 1f);
-		lineRenderer.line(from.getX(), from.getY(), from.getZ(), to.getX(), to.getY(), to.getZ());
+	/** Sets the projection matrix and the culling box to the frustum of the camera. */
+	public void setCamera (Camera camera) {
+		projectionMatrix.set(camera.combined);
+		bounds.inf();
+		for (int i = 0; i < camera.frustum.planePoints.length; i++)
+			bounds.ext(camera.frustum.planePoints[i]);
+		setCulling(bounds.min, bounds.max);
 	}
 
-	@Override
-	public void drawContactPoint (btVector3 PointOnB, btVector3 normalOnB, float distance, int lifeTime, btVector3 color) {
+	public void begin () {
+		clear();
 	}
 
-	@Override
-	public void reportErrorWarning (String warningString) {
-	}
-	
-	@Override
-	public void draw3dText (btVector3 location, String textString) {
-	}
-	
-	@Override
-	public void setDebugMode (int debugMode) {
-		this.debugMode = debugMode;
+	public void end () {
+		final int numVertices = getNumVertices();
+		if (numVertices == 0) return;
+		if (mesh == null || mesh.getMaxVertices() < numVertices) {
+			final int maxVertices = mesh == null ? numVertices : Math.max(numVertices, mesh.getMaxVertices() * 2);
+			if (mesh != null) mesh.dispose();
+			mesh = new Mesh(false, maxVertices, 0, new VertexAttribute(Usage.Position, 3, ShaderProgram.POSITION_ATTRIBUTE),
+				new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+		}
+		final int count = copyTo(mesh);
+		if (Gdx.graphics.isGL20Available()) {
+			if (shader == null) shader = ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+			shader.begin();
+			shader.setUniformMatrix("u_projModelView", projectionMatrix);
+			mesh.render(shader, GL10.GL_LINES, 0, count);
+			shader.end();
+		} else {
+			final GL10 gl = Gdx.gl10;
+			gl.glMatrixMode(GL10.GL_PROJECTION);
+			gl.glLoadMatrixf(projectionMatrix.val, 0);
+			gl.glMatrixMode(GL10.GL_MODELVIEW);
+			gl.glLoadIdentity();
+			mesh.render(GL10.GL_LINES, 0, count);
+		}
 	}
 
 	@Override
-	public int getDebugMode () {
-		return debugMode;
-	}
-	
-	public void begin() {
-		lineRenderer.begin(ShapeType.Line);
-	}
-	
-	public void end() {
-		lineRenderer.end();
+	public void dispose () {
+		if (mesh != null) mesh.dispose();
+		if (shader != null) shader.dispose();
+		mesh = null;
+		shader = null;
+		delete();
 	}
 }
@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.bullet;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.physics.bullet.RigidBodyTransforms;
+import com.badlogic.gdx.physics.bullet.btDiscreteDynamicsWorld;
+import com.badlogic.gdx.physics.bullet.btRigidBody;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Drops 3000 boxes and copies their transforms to the model instances with {@link RigidBodyTransforms}, one native call per
+ * step, or with a motion state per body. Logs how long both take for all boxes at the start. Tap to switch between them. */
+public class TransformSyncTest extends BaseBulletTest {
+	static final int BOXES_X = 10, BOXES_Y = 30, BOXES_Z = 10, RUNS = 100;
+
+	final RigidBodyTransforms transforms = new RigidBodyTransforms();
+	final Array<ModelInstance> instances = new Array<ModelInstance>();
+	btDiscreteDynamicsWorld dynamicsWorld;
+	boolean useMotionStates;
+
+	@Override
+	public void create () {
+		super.create();
+		instructions = "Tap to switch between motion states and bulk copy\nLong press to toggle debug mode\nSwipe for next test\nCtrl+drag to rotate\nScroll to zoom";
+		camera.position.set(30f, 30f, 30f);
+		camera.lookAt(0, 10f, 0);
+		camera.far = 200f;
+		camera.update();
+
+		dynamicsWorld = (btDiscreteDynamicsWorld)world.collisionWorld;
+		world.add("ground", 0f, 0f, 0f).setColor(0.25f + 0.5f * (float)Math.random(), 0.25f + 0.5f * (float)Math.random(),
+			0.25f + 0.5f * (float)Math.random(), 1f);
+		for (int x = 0; x < BOXES_X; x++)
+			for (int y = 0; y < BOXES_Y; y++)
+				for (int z = 0; z < BOXES_Z; z++)
+					world.add("box", (x - BOXES_X / 2) * 1.5f, 0.5f + y * 1.5f, (z - BOXES_Z / 2) * 1.5f).setColor(
+						0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(), 0.5f + 0.5f * (float)Math.random(), 1f);
+		// BulletWorld sets the user value of each body to the index of its entity.
+		for (int i = 0; i < world.entities.size; i++)
+			instances.add(world.entities.get(i).modelInstance);
+
+		long start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++)
+			dynamicsWorld.synchronizeMotionStates();
+		long motionStateTime = (TimeUtils.nanoTime() - start) / RUNS;
+
+		start = TimeUtils.nanoTime();
+		for (int i = 0; i < RUNS; i++) {
+			transforms.update(dynamicsWorld, false);
+			transforms.apply(instances);
+		}
+		long bulkTime = (TimeUtils.nanoTime() - start) / RUNS;
+		check();
+		Gdx.app.log("TransformSyncTest", transforms.size() + " bodies, motion states: " + motionStateTime / 1000
+			+ " us per step, bulk copy: " + bulkTime / 1000 + " us per step");
+
+		setUseMotionStates(false);
+	}
+
+	/** Checks that each copied transform is the world transform of the body with that user value. */
+	private void check () {
+		Matrix4 expected = new Matrix4(), actual = new Matrix4();
+		for (int i = 0; i < transforms.size(); i++) {
+			BulletEntity entity = world.entities.get(transforms.getUserValue(i));
+			entity.body.getWorldTransform(expected);
+			transforms.getTransform(i, actual);
+			for (int j = 0; j < 16; j++)
+				if (expected.val[j] != actual.val[j] || actual.val[j] != entity.transform.val[j])
+					throw new GdxRuntimeException("Wrong transform for body: " + transforms.getUserValue(i));
+		}
+	}
+
+	private void setUseMotionStates (boolean useMotionStates) {
+		this.useMotionStates = useMotionStates;
+		for (int i = 0; i < world.entities.size; i++) {
+			BulletEntity entity = world.entities.get(i);
+			if (entity.motionState != null) ((btRigidBody)entity.body).setMotionState(useMotionStates ? entity.motionState : null);
+		}
+	}
+
+	@Override
+	public void update () {
+		super.update();
+		if (!useMotionStates) {
+			transforms.update(dynamicsWorld, true);
+			transforms.apply(instances);
+		}
+	}
+
+	@Override
+	public void render () {
+		super.render();
+		performance.append(useMotionStates ? ", motion states" : ", bulk copy");
+	}
+
+	@Override
+	public boolean tap (float x, float y, int count, int button) {
+		setUseMotionStates(!useMotionStates);
+		return true;
+	}
+
+	@Override
+	public void dispose () {
+		setUseMotionStates(true);
+		instances.clear();
+		super.dispose();
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.materials.Material;
+import com.badlogic.gdx.graphics.g3d.utils.BoundingVolumeHierarchy;
+import com.badlogic.gdx.graphics.g3d.utils.ModelBuilder;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.collision.BoundingBox;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/** Scatters 10000 boxes around the camera and checks that the instances a {@link BoundingVolumeHierarchy} and a
+ * {@link ModelBatch} with {@link ModelBatch#frustumCulling} find visible are exactly those of which the world bounds intersect
+ * the frustum, also after the boxes moved and the hierarchy was refitted. Logs the time per frame of testing every instance and
+ * of the hierarchy. */
+public class BVHCullingTest extends GdxTest {
+	static final int BOXES = 10000, RUNS = 20;
+	static final float FIELD = 400;
+
+	PerspectiveCamera camera;
+	Model model;
+	Array<ModelInstance> instances = new Array<ModelInstance>();
+	BoundingVolumeHierarchy hierarchy = new BoundingVolumeHierarchy();
+	ModelBatch modelBatch;
+	BoundingBox bounds = new BoundingBox();
+
+	@Override
+	public boolean needsGL20 () {
+		return true;
+	}
+
+	@Override
+	public void create () {
+		camera = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		camera.near = 0.1f;
+		camera.far = 100;
+		camera.position.set(0, 0, 0);
+		camera.lookAt(0, 0, -1);
+		camera.update();
+
+		model = new ModelBuilder().createBox(1, 1, 1, new Material(), Usage.Position | Usage.Normal);
+		MathUtils.random.setSeed(0);
+		for (int i = 0; i < BOXES; i++)
+			instances.add(new ModelInstance(model, MathUtils.random(-FIELD / 2, FIELD / 2), MathUtils.random(-FIELD / 2, FIELD / 2),
+				MathUtils.random(-FIELD / 2, FIELD / 2)));
+		ModelInstance front = new ModelInstance(model, 0, 0, -10), behind = new ModelInstance(model, 0, 0, 10);
+		instances.add(front);
+		instances.add(behind);
+		hierarchy.addAll(instances);
+		modelBatch = new ModelBatch();
+
+		check();
+		if (!isVisible(front) || isVisible(behind)) throw new GdxRuntimeException("Wrong visibility of the boxes at the camera");
+
+		for (ModelInstance instance : instances)
+			instance.transform.translate(MathUtils.random(-5f, 5f), MathUtils.random(-5f, 5f), MathUtils.random(-5f, 5f));
+		hierarchy.refit();
+		check();
+
+		int visible = 0;
+		long start = TimeUtils.nanoTime();
+		for (int run = 0; run < RUNS; run++) {
+			visible = 0;
+			for (int i = 0; i < instances.size; i++)
+				if (isVisible(instances.get(i))) visible++;
+		}
+		long instanceTime = (TimeUtils.nanoTime() - start) / RUNS;
+		Array<ModelInstance> out = new Array<ModelInstance>();
+		start = TimeUtils.nanoTime();
+		for (int run = 0; run < RUNS; run++) {
+			out.clear();
+			hierarchy.getVisible(camera.frustum, out);
+		}
+		long hierarchyTime = (TimeUtils.nanoTime() - start) / RUNS;
+		Gdx.app.log("BVHCullingTest", visible + " of " + instances.size + " boxes visible, per frame: every instance "
+			+ instanceTime / 1000 + " us, hierarchy " + hierarchyTime / 1000 + " us, " + hierarchy.nodesTested + " nodes tested");
+	}
+
+	/** Checks the hierarchy and the batch against testing the world bounds of every instance. */
+	private void check () {
+		ObjectSet<ModelInstance> expected = new ObjectSet<ModelInstance>();
+		for (ModelInstance instance : instances)
+			if (isVisible(instance)) expected.add(instance);
+
+		Array<ModelInstance> visible = hierarchy.getVisible(camera.frustum, new Array<ModelInstance>());
+		if (visible.size != expected.size) throw new GdxRuntimeException("Hierarchy found " + visible.size + " of " + expected.size);
+		for (ModelInstance instance : visible)
+			if (!expected.contains(instance)) throw new GdxRuntimeException("Hierarchy found an instance outside the frustum");
+
+		modelBatch.frustumCulling = false;
+		render();
+		if (modelBatch.submittedCount != instances.size || modelBatch.culledCount != 0)
+			throw new GdxRuntimeException("Culled without frustumCulling: " + modelBatch.culledCount);
+		modelBatch.frustumCulling = true;
+		render();
+		if (modelBatch.submittedCount != expected.size || modelBatch.culledCount != instances.size - expected.size)
+			throw new GdxRuntimeException("Batch submitted " + modelBatch.submittedCount + " of " + expected.size);
+		modelBatch.begin(camera);
+		modelBatch.render(hierarchy);
+		modelBatch.end();
+		if (modelBatch.submittedCount != expected.size) throw new GdxRuntimeException("Batch submitted from the hierarchy "
+			+ modelBatch.submittedCount + " of " + expected.size);
+	}
+
+	/** @return Whether any corner of the world bounds is inside every plane of the frustum. */
+	private boolean isVisible (ModelInstance instance) {
+		return camera.frustum.boundsInFrustum(instance.getWorldBoundingBox(bounds));
+	}
+
+	@Override
+	public void render () {
+		modelBatch.begin(camera);
+		for (int i = 0; i < instances.size; i++)
+			modelBatch.render(instances.get(i));
+		modelBatch.end();
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch.dispose();
+		model.dispose();
+	}
+}
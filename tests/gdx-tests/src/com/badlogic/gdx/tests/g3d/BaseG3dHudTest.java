@@ -30,6 +30,7 @@ public abstract class BaseG3dHudTest extends BaseG3dTest {
 	@Override
 	public void create () {
 		super.create();
+		modelBatch.frustumCulling = true;
 
 		createHUD();
 
@@ -65,6 +66,7 @@ public abstract class BaseG3dHudTest extends BaseG3dTest {
 	
 	protected void getStatus(final StringBuilder stringBuilder) {
 		stringBuilder.append("FPS: ").append(Gdx.graphics.getFramesPerSecond());
+		stringBuilder.append(" Submitted: ").append(modelBatch.submittedCount).append(" Culled: ").append(modelBatch.culledCount);
 		if (loading)
 			stringBuilder.append(" loading...");
 	}
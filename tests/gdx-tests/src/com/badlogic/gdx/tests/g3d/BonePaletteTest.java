@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import java.util.Comparator;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelBatch;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.Renderable;
+import com.badlogic.gdx.graphics.g3d.Shader;
+import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
+import com.badlogic.gdx.graphics.g3d.shaders.DefaultShader;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultShaderProvider;
+import com.badlogic.gdx.graphics.g3d.utils.DefaultTextureBinder;
+import com.badlogic.gdx.graphics.g3d.utils.RenderContext;
+import com.badlogic.gdx.graphics.g3d.utils.RenderableSorter;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.tests.utils.PerspectiveCamController;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.UBJsonReader;
+
+/** Renders 100 walking knights, first each at its own point in the walk cycle and then all in step, and logs the skinned draws and
+ * the bone uploads of the {@link DefaultShader}s per frame. The renderables are sorted by mesh part, so the same part of all
+ * knights is drawn after each other, and knights in step have the same bones and skip the upload. */
+public class BonePaletteTest extends GdxTest {
+	static final int KNIGHTS = 100, RUNS = 20;
+
+	/** Draws the same part of all knights after each other. */
+	static class MeshPartSorter implements RenderableSorter, Comparator<Renderable> {
+		@Override
+		public void sort (Camera camera, Array<Renderable> renderables) {
+			renderables.sort(this);
+		}
+
+		@Override
+		public int compare (Renderable o1, Renderable o2) {
+			return o1.meshPartOffset - o2.meshPartOffset;
+		}
+	}
+
+	/** Keeps the created shaders, to read their counters. */
+	static class CountingShaderProvider extends DefaultShaderProvider {
+		Array<Shader> getShaders () {
+			return shaders;
+		}
+	}
+
+	PerspectiveCamera camera;
+	PerspectiveCamController camController;
+	CountingShaderProvider shaderProvider;
+	ModelBatch modelBatch;
+	Model model;
+	ModelInstance[] knights = new ModelInstance[KNIGHTS];
+	AnimationController[] controllers = new AnimationController[KNIGHTS];
+
+	@Override
+	public boolean needsGL20 () {
+		return true;
+	}
+
+	@Override
+	public void create () {
+		camera = new PerspectiveCamera(67, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		camera.position.set(0, 20, 40);
+		camera.lookAt(0, 0, 0);
+		camera.near = 0.1f;
+		camera.far = 300;
+		camera.update();
+		camController = new PerspectiveCamController(camera);
+		Gdx.input.setInputProcessor(camController);
+
+		shaderProvider = new CountingShaderProvider();
+		modelBatch = new ModelBatch(new RenderContext(new DefaultTextureBinder(DefaultTextureBinder.ROUNDROBIN, 1)),
+			shaderProvider, new MeshPartSorter());
+		modelBatch.frustumCulling = false;
+		model = new G3dModelLoader(new UBJsonReader()).loadModel(Gdx.files.internal("data/g3d/knight.g3db"));
+		for (int i = 0; i < KNIGHTS; i++) {
+			knights[i] = new ModelInstance(model, (i % 10 - 5) * 4f, 0, (i / 10 - 5) * 4f);
+			controllers[i] = new AnimationController(knights[i]);
+			controllers[i].setAnimation("Walk", -1, 1f, null);
+			controllers[i].update(i * 0.1f);
+		}
+
+		for (int run = 0; run < RUNS; run++)
+			render(1 / 60f);
+		int ownDraws = draws() / RUNS, ownUploads = uploads() / RUNS;
+		reset();
+
+		for (int i = 0; i < KNIGHTS; i++) {
+			controllers[i] = new AnimationController(knights[i]);
+			controllers[i].setAnimation("Walk", -1, 1f, null);
+		}
+		for (int run = 0; run < RUNS; run++)
+			render(1 / 60f);
+		int stepDraws = draws() / RUNS, stepUploads = uploads() / RUNS;
+		reset();
+
+		if (ownUploads > ownDraws || stepUploads > stepDraws)
+			throw new GdxRuntimeException("More uploads than draws: " + ownUploads + ", " + stepUploads);
+		if (stepUploads >= ownUploads) throw new GdxRuntimeException("Uploads of knights in step not skipped: " + stepUploads);
+		Gdx.app.log("BonePaletteTest", KNIGHTS + " knights per frame, walking on their own: " + ownDraws + " draws, " + ownUploads
+			+ " bone uploads. In step: " + stepDraws + " draws, " + stepUploads + " bone uploads");
+	}
+
+	private void render (float delta) {
+		for (int i = 0; i < KNIGHTS; i++)
+			controllers[i].update(delta);
+		modelBatch.begin(camera);
+		for (int i = 0; i < KNIGHTS; i++)
+			modelBatch.render(knights[i]);
+		modelBatch.end();
+	}
+
+	@Override
+	public void render () {
+		Gdx.gl.glViewport(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+		Gdx.gl.glClear(GL10.GL_COLOR_BUFFER_BIT | GL10.GL_DEPTH_BUFFER_BIT);
+		render(Gdx.graphics.getDeltaTime());
+	}
+
+	/** @return The skinned draws of all shaders since the last reset, each either uploaded its bones or skipped the upload. */
+	private int draws () {
+		int draws = 0;
+		for (Shader shader : shaderProvider.getShaders())
+			if (shader instanceof DefaultShader)
+				draws += ((DefaultShader)shader).boneUploads + ((DefaultShader)shader).boneUploadsSkipped;
+		return draws;
+	}
+
+	/** @return The bone uploads of all shaders since the last reset. */
+	private int uploads () {
+		int uploads = 0;
+		for (Shader shader : shaderProvider.getShaders())
+			if (shader instanceof DefaultShader) uploads += ((DefaultShader)shader).boneUploads;
+		return uploads;
+	}
+
+	private void reset () {
+		for (Shader shader : shaderProvider.getShaders()) {
+			if (shader instanceof DefaultShader) {
+				((DefaultShader)shader).boneUploads = 0;
+				((DefaultShader)shader).boneUploadsSkipped = 0;
+			}
+		}
+	}
+
+	@Override
+	public void dispose () {
+		modelBatch.dispose();
+		model.dispose();
+	}
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.g3d;
+
+import java.util.Arrays;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g3d.Model;
+import com.badlogic.gdx.graphics.g3d.ModelInstance;
+import com.badlogic.gdx.graphics.g3d.loader.G3dModelLoader;
+import com.badlogic.gdx.graphics.g3d.model.Node;
+import com.badlogic.gdx.graphics.g3d.model.NodePart;
+import com.badlogic.gdx.graphics.g3d.utils.AnimationController;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.tests.utils.GdxTest;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.UBJsonReader;
+
+/** Turns the head of 200 skinned knights every frame, and logs the nodes and bones updated and the time per frame when all
+ * transforms are recalculated with {@link ModelInstance#calculateTransforms()} and when only the changed nodes are with
+ * {@link ModelInstance#updateTransforms()}. Checks that both give the same transforms. Also logs the nodes updated per frame
+ * when the knights walk with an {@link AnimationController} that updates only the animated nodes. */
+public class NodeUpdateTest extends GdxTest {
+	static final int KNIGHTS = 200, RUNS = 50;
+
+	Model model;
+	ModelInstance[] knights = new ModelInstance[KNIGHTS];
+	Node[] heads = new Node[KNIGHTS];
+	int nodes, bones;
+
+	@Override
+	public boolean needsGL20 () {
+		return true;
+	}
+
+	@Override
+	public void create () {
+		model = new G3dModelLoader(new UBJsonReader()).loadModel(Gdx.files.internal("data/g3d/knight.g3db"));
+		for (int i = 0; i < KNIGHTS; i++) {
+			knights[i] = new ModelInstance(model, i * 2f, 0, 0);
+			heads[i] = knights[i].getNode("neck");
+		}
+
+		long start = TimeUtils.nanoTime();
+		for (int run = 0; run < RUNS; run++) {
+			for (int i = 0; i < KNIGHTS; i++) {
+				turn(i, run);
+				knights[i].calculateTransforms();
+			}
+		}
+		long fullTime = (TimeUtils.nanoTime() - start) / RUNS;
+		Array<Matrix4> transforms = new Array<Matrix4>();
+		collect(knights[0].nodes, transforms);
+		int fullNodes = KNIGHTS * countNodes(knights[0].nodes), fullBones = KNIGHTS * transforms.size - fullNodes;
+
+		start = TimeUtils.nanoTime();
+		for (int run = 0; run < RUNS; run++) {
+			for (int i = 0; i < KNIGHTS; i++) {
+				turn(i, run + 1);
+				heads[i].invalidate();
+				knights[i].updateTransforms();
+				count(knights[i]);
+			}
+		}
+		long dirtyTime = (TimeUtils.nanoTime() - start) / RUNS;
+		int dirtyNodes = nodes / RUNS, dirtyBones = bones / RUNS;
+		nodes = bones = 0;
+		check();
+
+		AnimationController[] controllers = new AnimationController[KNIGHTS];
+		for (int i = 0; i < KNIGHTS; i++) {
+			controllers[i] = new AnimationController(knights[i]);
+			controllers[i].updateAnimatedOnly = true;
+			controllers[i].setAnimation("Walk", -1, 1f, null);
+		}
+		start = TimeUtils.nanoTime();
+		for (int run = 0; run < RUNS; run++) {
+			for (int i = 0; i < KNIGHTS; i++) {
+				controllers[i].update(1 / 60f);
+				count(knights[i]);
+			}
+		}
+		long walkTime = (TimeUtils.nanoTime() - start) / RUNS;
+		int walkNodes = nodes / RUNS, walkBones = bones / RUNS;
+		check();
+
+		Gdx.app.log("NodeUpdateTest", KNIGHTS + " knights turning their head, per frame: all nodes " + fullNodes + " nodes, "
+			+ fullBones + " bones, " + fullTime / 1000 + " us. Changed nodes: " + dirtyNodes + " nodes, " + dirtyBones + " bones, "
+			+ dirtyTime / 1000 + " us. Walking: " + walkNodes + " nodes, " + walkBones + " bones, " + walkTime / 1000 + " us");
+	}
+
+	private void turn (int knight, int run) {
+		heads[knight].rotation.set(Vector3.Y, (run % 90) - 45);
+	}
+
+	private void count (ModelInstance knight) {
+		nodes += knight.nodesUpdated;
+		bones += knight.bonesUpdated;
+	}
+
+	/** Checks that recalculating all transforms doesn't change any of the transforms updated so far. */
+	private void check () {
+		for (int i = 0; i < KNIGHTS; i++) {
+			Array<Matrix4> before = new Array<Matrix4>();
+			collect(knights[i].nodes, before);
+			knights[i].calculateTransforms();
+			Array<Matrix4> after = new Array<Matrix4>();
+			collect(knights[i].nodes, after);
+			for (int j = 0; j < before.size; j++)
+				if (!Arrays.equals(before.get(j).val, after.get(j).val))
+					throw new GdxRuntimeException("Transforms differ: " + i + ", " + j);
+		}
+	}
+
+	private int countNodes (Array<Node> nodes) {
+		int count = nodes.size;
+		for (Node node : nodes)
+			count += countNodes(node.children);
+		return count;
+	}
+
+	private void collect (Array<Node> nodes, Array<Matrix4> out) {
+		for (Node node : nodes) {
+			out.add(node.globalTransform.cpy());
+			for (NodePart part : node.parts)
+				if (part.bones != null) for (Matrix4 bone : part.bones)
+					out.add(bone.cpy());
+			collect(node.children, out);
+		}
+	}
+
+	@Override
+	public void dispose () {
+		model.dispose();
+	}
+}
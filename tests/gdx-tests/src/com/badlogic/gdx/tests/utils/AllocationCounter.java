@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.tests.utils;
+
+import java.lang.reflect.Method;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Reads the bytes allocated by the current thread from com.sun.management.ThreadMXBean via reflection, so the tests still run on
+ * VMs without it. */
+public class AllocationCounter {
+	Object bean;
+	Method method;
+	final Object[] args = new Object[1];
+
+	public AllocationCounter () {
+		try {
+			bean = Class.forName("java.lang.management.ManagementFactory").getMethod("getThreadMXBean").invoke(null);
+			method = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+			args[0] = Thread.currentThread().getId();
+			if (get() < 0) method = null;
+		} catch (Throwable ex) {
+			method = null;
+		}
+	}
+
+	public boolean isAvailable () {
+		return method != null;
+	}
+
+	/** @return the bytes allocated by the thread that created this counter. */
+	public long get () {
+		try {
+			return ((Long)method.invoke(bean, args)).longValue();
+		} catch (Exception ex) {
+			throw new GdxRuntimeException(ex);
+		}
+	}
+}